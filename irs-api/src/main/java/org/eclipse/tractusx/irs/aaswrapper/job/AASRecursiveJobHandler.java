@@ -38,8 +38,11 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
 
     private final TreeRecursiveLogic logic;
 
-    public AASRecursiveJobHandler(final TreeRecursiveLogic logic) {
+    private final PartialResultAggregator partialResults;
+
+    public AASRecursiveJobHandler(final TreeRecursiveLogic logic, final PartialResultAggregator partialResults) {
         this.logic = logic;
+        this.partialResults = partialResults;
     }
 
     @Override
@@ -47,6 +50,7 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
         log.info("Initiating request for job {}", job.getJobIdString());
         final var partId = job.getGlobalAssetId();
         final var bpn = job.getJobParameter().getBpn();
+        partialResults.start(job.getJobIdString());
         final var dataRequest = ItemDataRequest.rootNode(
                 PartChainIdentificationKey.builder().globalAssetId(partId).bpn(bpn).build());
         return Stream.of(dataRequest);
@@ -55,6 +59,7 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
     @Override
     public Stream<ItemDataRequest> recurse(final MultiTransferJob job, final AASTransferProcess transferProcess) {
         log.info("Starting recursive request for job {}", job.getJobIdString());
+        partialResults.merge(job.getJobIdString(), transferProcess.getId());
 
         return transferProcess.getIdsToProcess()
                               .stream()
@@ -67,6 +72,12 @@ public class AASRecursiveJobHandler implements RecursiveJobHandler<ItemDataReque
         final var completedTransfers = job.getCompletedTransfers();
         final var targetBlobName = job.getJob().getId();
         logic.assemblePartialItemGraphBlobs(completedTransfers, targetBlobName.toString());
+        partialResults.remove(job.getJobIdString());
+    }
+
+    @Override
+    public void cleanup(final MultiTransferJob job) {
+        partialResults.remove(job.getJobIdString());
     }
 
 }
@@ -25,9 +25,9 @@ package org.eclipse.tractusx.irs.aaswrapper.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 import lombok.extern.slf4j.Slf4j;
@@ -39,7 +39,7 @@ import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
 import org.eclipse.tractusx.irs.connector.job.TransferInitiateResponse;
 import org.eclipse.tractusx.irs.connector.job.TransferProcessManager;
-import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 /**
@@ -55,11 +55,18 @@ public class AASTransferProcessManager implements TransferProcessManager<ItemDat
 
     private final AbstractDelegate abstractDelegate;
 
+    private final BlobCodec blobCodec;
+
+    private final PartialResultAggregator partialResults;
+
     public AASTransferProcessManager(final AbstractDelegate abstractDelegate, final ExecutorService executor,
-            @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore) {
+            @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore, final BlobCodec blobCodec,
+            final PartialResultAggregator partialResults) {
         this.abstractDelegate = abstractDelegate;
         this.executor = executor;
         this.blobStore = blobStore;
+        this.blobCodec = blobCodec;
+        this.partialResults = partialResults;
     }
 
     @Override
@@ -70,7 +77,13 @@ public class AASTransferProcessManager implements TransferProcessManager<ItemDat
         final String processId = UUID.randomUUID().toString();
         preExecutionHandler.accept(processId);
 
-        executor.execute(getRunnable(dataRequest, completionCallback, processId, jobData));
+        try {
+            executor.execute(getRunnable(dataRequest, completionCallback, processId, jobData));
+        } catch (RejectedExecutionException e) {
+            // a full queue is waited for, so this only happens on shutdown or interrupt
+            log.warn("Transfer process {} for item {} was rejected", processId, dataRequest.getItemId(), e);
+            return new TransferInitiateResponse(processId, ResponseStatus.ERROR_RETRY);
+        }
 
         return new TransferInitiateResponse(processId, ResponseStatus.OK);
     }
@@ -89,14 +102,18 @@ public class AASTransferProcessManager implements TransferProcessManager<ItemDat
                     aasTransferProcess, itemId);
             storeItemContainer(processId, itemContainer);
 
-            transferProcessCompleted.accept(aasTransferProcess);
+            partialResults.stage(processId, itemContainer);
+            try {
+                transferProcessCompleted.accept(aasTransferProcess);
+            } finally {
+                partialResults.unstage(processId);
+            }
         };
     }
 
     private void storeItemContainer(final String processId, final ItemContainer itemContainer) {
         try {
-            final JsonUtil jsonUtil = new JsonUtil();
-            blobStore.putBlob(processId, jsonUtil.asString(itemContainer).getBytes(StandardCharsets.UTF_8));
+            blobStore.putBlob(processId, blobCodec.encode(itemContainer));
         } catch (BlobPersistenceException e) {
             log.error("Unable to store AAS result", e);
         }
@@ -23,59 +23,146 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.Bpn;
-import org.eclipse.tractusx.irs.component.Relationship;
-import org.eclipse.tractusx.irs.component.Shell;
-import org.eclipse.tractusx.irs.component.Submodel;
-import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.data.JsonParseException;
 
 /**
  * Assembles multiple partial item graphs into one overall item graph.
+ * The item graph is written as a stream: the elements of each partial graph are serialized into
+ * per-field temporary files as soon as the partial graph is consumed, and the files are copied to
+ * the generator section by section. Only the digests of the relationships and the BPNs are held
+ * in memory.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ItemTreesAssembler {
 
     /**
-     * Assembles multiple partial item graphs into one overall item graph.
+     * Assembles multiple partial item graphs into one overall item graph and writes it to the
+     * generator. Relationships are deduplicated by a digest of their serialized form.
      *
      * @param partialGraph partial item graph.
-     * @return An item graph containing all the items from {@code partialGraph}, with deduplication.
+     * @param generator    the generator to write the item graph to. Its codec is used to serialize
+     *                     the elements.
      */
-    /* package */ ItemContainer retrieveItemGraph(final Stream<ItemContainer> partialGraph) {
-        final var relationships = new LinkedHashSet<Relationship>();
+    /* package */ void writeItemGraph(final Stream<ItemContainer> partialGraph, final JsonGenerator generator) {
+        final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
         final var numberOfPartialTrees = new AtomicInteger();
-        final ArrayList<Tombstone> tombstones = new ArrayList<>();
-        final ArrayList<Shell> shells = new ArrayList<>();
-        final ArrayList<Submodel> submodels = new ArrayList<>();
+        final Set<ByteBuffer> relationshipDigests = new HashSet<>();
         final Set<Bpn> bpns = new HashSet<>();
 
-        partialGraph.forEachOrdered(itemGraph -> {
-            relationships.addAll(itemGraph.getRelationships());
-            numberOfPartialTrees.incrementAndGet();
-            tombstones.addAll(itemGraph.getTombstones());
-            shells.addAll(itemGraph.getShells());
-            submodels.addAll(itemGraph.getSubmodels());
-            bpns.addAll(itemGraph.getBpnsWithManufacturerName());
-        });
+        try (ElementBuffer relationships = new ElementBuffer(mapper);
+             ElementBuffer tombstones = new ElementBuffer(mapper);
+             ElementBuffer shells = new ElementBuffer(mapper);
+             ElementBuffer submodels = new ElementBuffer(mapper);
+             ElementBuffer metrics = new ElementBuffer(mapper)) {
+
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            partialGraph.forEachOrdered(itemGraph -> {
+                numberOfPartialTrees.incrementAndGet();
+                itemGraph.getRelationships().forEach(relationship -> {
+                    final byte[] serialized = serialize(mapper, relationship);
+                    if (relationshipDigests.add(ByteBuffer.wrap(digest.digest(serialized)))) {
+                        relationships.add(relationship);
+                    }
+                });
+                itemGraph.getTombstones().forEach(tombstones::add);
+                itemGraph.getShells().forEach(shells::add);
+                itemGraph.getSubmodels().forEach(submodels::add);
+                itemGraph.getMetrics().forEach(metrics::add);
+                bpns.addAll(itemGraph.getBpnsWithManufacturerName());
+            });
+
+            generator.writeStartObject();
+            relationships.writeArray("relationships", generator);
+            tombstones.writeArray("tombstones", generator);
+            shells.writeArray("shells", generator);
+            submodels.writeArray("submodels", generator);
+            metrics.writeArray("metrics", generator);
+            generator.writeArrayFieldStart("bpns");
+            for (final Bpn bpn : bpns) {
+                generator.writeObject(bpn);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new JsonParseException(e);
+        }
 
         log.info("Assembled item graph from {} partial graphs", numberOfPartialTrees);
+    }
+
+    private static byte[] serialize(final ObjectMapper mapper, final Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Temporary file holding the serialized elements of one array of the item graph as a sequence
+     * of root level values. The file is deleted when the buffer is closed.
+     */
+    private static final class ElementBuffer implements AutoCloseable {
+        private final JsonFactory factory;
+        private final Path file;
+        private final JsonGenerator elements;
+
+        /* package */ ElementBuffer(final ObjectMapper mapper) throws IOException {
+            this.factory = mapper.getFactory();
+            this.file = Files.createTempFile("irs-item-graph-", ".tmp");
+            try {
+                this.elements = factory.createGenerator(Files.newOutputStream(file));
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        }
+
+        /* package */ void add(final Object element) {
+            try {
+                elements.writeObject(element);
+            } catch (IOException e) {
+                throw new JsonParseException(e);
+            }
+        }
+
+        /* package */ void writeArray(final String fieldName, final JsonGenerator generator) throws IOException {
+            elements.flush();
+            generator.writeArrayFieldStart(fieldName);
+            try (JsonParser parser = factory.createParser(file.toFile())) {
+                while (parser.nextToken() != null) {
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            generator.writeEndArray();
+        }
 
-        return ItemContainer.builder()
-                            .relationships(relationships)
-                            .tombstones(tombstones)
-                            .shells(shells)
-                            .submodels(submodels)
-                            .bpns(bpns)
-                            .build();
+        @Override
+        public void close() throws IOException {
+            try {
+                elements.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
     }
 }
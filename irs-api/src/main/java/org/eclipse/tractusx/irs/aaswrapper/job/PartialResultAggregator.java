@@ -0,0 +1,233 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
+import org.eclipse.tractusx.irs.component.Bpn;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.component.Submodel;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Incrementally merged partial results of each running job. The result of a transfer is merged
+ * into the aggregate of its job as soon as the transfer completes, so the partial results and the
+ * summary of a running job can be served without reading the result blob of every transfer. The
+ * items of a job are kept up to a configurable number; beyond that only the summary counts are kept
+ * and the items are read from the stored transfer results on demand. The aggregate of a job is
+ * dropped as soon as the job reaches a final state.
+ */
+@Slf4j
+public class PartialResultAggregator {
+
+    private final Map<String, ItemContainer> stagedResults = new ConcurrentHashMap<>();
+    private final Map<String, PartialResult> resultsByJobId = new ConcurrentHashMap<>();
+    private final int maxItemsPerJob;
+
+    /**
+     * @param maxItemsPerJob maximum number of relationships, tombstones, shells and submodels kept per
+     *                       job, 0 keeps only the summary counts
+     */
+    public PartialResultAggregator(final int maxItemsPerJob) {
+        this.maxItemsPerJob = maxItemsPerJob;
+    }
+
+    /**
+     * Starts an empty aggregate for the job.
+     *
+     * @param jobId the job identifier
+     */
+    /* package */ void start(final String jobId) {
+        resultsByJobId.put(jobId, new PartialResult(maxItemsPerJob));
+    }
+
+    /**
+     * Hands over a transfer result until it is merged into the aggregate of its job.
+     *
+     * @param processId     the transfer process identifier
+     * @param itemContainer the result of the transfer
+     */
+    /* package */ void stage(final String processId, final ItemContainer itemContainer) {
+        stagedResults.put(processId, itemContainer);
+    }
+
+    /**
+     * Drops the staged result of a transfer if it was not merged, e.g. because the job is no
+     * longer running.
+     *
+     * @param processId the transfer process identifier
+     */
+    /* package */ void unstage(final String processId) {
+        stagedResults.remove(processId);
+    }
+
+    /**
+     * Merges the staged result of the transfer into the aggregate of the job.
+     *
+     * @param jobId     the job identifier
+     * @param processId the transfer process identifier
+     */
+    /* package */ void merge(final String jobId, final String processId) {
+        final ItemContainer transferResult = stagedResults.remove(processId);
+        final PartialResult partialResult = resultsByJobId.get(jobId);
+        if (transferResult == null || partialResult == null) {
+            log.debug("No partial result to merge for transfer {} of job {}", processId, jobId);
+            return;
+        }
+        partialResult.add(transferResult);
+    }
+    /**
+     * Removes the aggregate of the job.
+     *
+     * @param jobId the job identifier
+     */
+    public void remove(final String jobId) {
+        resultsByJobId.remove(jobId);
+    }
+
+    /**
+     * Removes the aggregate of a job which reached a final state.
+     *
+     * @param jobEvent the event of the finished job
+     */
+    @EventListener
+    public void handleJobProcessingFinishedEvent(final JobProcessingFinishedEvent jobEvent) {
+        remove(jobEvent.jobId());
+    }
+
+    /**
+     * @param jobId the job identifier
+     * @return the aggregate of the job, empty if no aggregate is maintained for the job
+     */
+    public Optional<PartialResult> find(final String jobId) {
+        return Optional.ofNullable(resultsByJobId.get(jobId));
+    }
+
+    /**
+     * Merged results of the completed transfers of one job.
+     */
+    public static final class PartialResult {
+        private final List<Relationship> relationships = new ArrayList<>();
+        private final List<Tombstone> tombstones = new ArrayList<>();
+        private final List<Shell> shells = new ArrayList<>();
+        private final List<Submodel> submodels = new ArrayList<>();
+        private final List<RequestMetric> metrics = new ArrayList<>();
+        private final List<Bpn> bpns = new ArrayList<>();
+        private final int maxItems;
+        private int items;
+        private boolean itemsDropped;
+        private int bpnLookupsCompleted;
+        private int bpnLookupsFailed;
+        private final Object lock = new Object();
+
+        private PartialResult(final int maxItems) {
+            this.maxItems = maxItems;
+        }
+
+        /**
+         * @param itemContainer the merged results of the transfers of a job
+         * @return the summary counts of the given results, not maintained by the aggregator
+         */
+        public static PartialResult from(final ItemContainer itemContainer) {
+            final PartialResult partialResult = new PartialResult(0);
+            partialResult.add(itemContainer);
+            return partialResult;
+        }
+
+        private void add(final ItemContainer itemContainer) {
+            final int transferItems = itemContainer.getRelationships().size() + itemContainer.getTombstones().size()
+                    + itemContainer.getShells().size() + itemContainer.getSubmodels().size();
+            synchronized (lock) {
+                itemContainer.getMetrics()
+                             .stream()
+                             .filter(metric -> metric.getType() == RequestMetric.RequestType.BPDM)
+                             .forEach(metric -> {
+                                 bpnLookupsCompleted += metric.getCompleted();
+                                 bpnLookupsFailed += metric.getFailed();
+                             });
+                items += transferItems;
+                if (itemsDropped || items > maxItems) {
+                    dropItems();
+                    return;
+                }
+                relationships.addAll(itemContainer.getRelationships());
+                tombstones.addAll(itemContainer.getTombstones());
+                shells.addAll(itemContainer.getShells());
+                submodels.addAll(itemContainer.getSubmodels());
+                metrics.addAll(itemContainer.getMetrics());
+                bpns.addAll(itemContainer.getBpnsWithManufacturerName());
+            }
+        }
+
+        private void dropItems() {
+            itemsDropped = true;
+            relationships.clear();
+            tombstones.clear();
+            shells.clear();
+            submodels.clear();
+            metrics.clear();
+            bpns.clear();
+        }
+
+        /**
+         * @return the merged items of the completed transfers, empty if the job exceeded the maximum
+         *         number of items kept in memory
+         */
+        public Optional<ItemContainer> getItemGraph() {
+            synchronized (lock) {
+                if (itemsDropped) {
+                    return Optional.empty();
+                }
+                return Optional.of(ItemContainer.builder()
+                                                .relationships(relationships)
+                                                .tombstones(tombstones)
+                                                .shells(shells)
+                                                .submodels(submodels)
+                                                .metrics(metrics)
+                                                .bpns(bpns)
+                                                .build());
+            }
+        }
+
+        public int getBpnLookupsCompleted() {
+            synchronized (lock) {
+                return bpnLookupsCompleted;
+            }
+        }
+
+        public int getBpnLookupsFailed() {
+            synchronized (lock) {
+                return bpnLookupsFailed;
+            }
+        }
+    }
+}
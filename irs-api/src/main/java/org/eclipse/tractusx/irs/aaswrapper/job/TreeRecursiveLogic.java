@@ -25,14 +25,28 @@ package org.eclipse.tractusx.irs.aaswrapper.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.connector.job.TransferProcess;
-import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 /**
@@ -46,28 +60,40 @@ import org.springframework.beans.factory.annotation.Qualifier;
  * by querying multiple IRS API instances.
  */
 @Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
 public class TreeRecursiveLogic {
 
+    /**
+     * Maximum number of partial item graphs downloaded ahead of the assembly.
+     */
+    private static final int PREFETCH_SIZE = 8;
+
     /**
      * Blob store API.
      */
 
     private final BlobPersistence blobStoreApi;
     /**
-     * Json Converter.
+     * Blob Converter.
      */
-    private final JsonUtil jsonUtil;
+    private final BlobCodec blobCodec;
 
     /**
      * Assembles partial parts trees.
      */
     private final ItemTreesAssembler assembler;
 
+    /**
+     * Executor used to download partial item graphs ahead of assembly.
+     */
+    private final ExecutorService executor;
+
     public TreeRecursiveLogic(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStoreApi,
-            final JsonUtil jsonUtil, final ItemTreesAssembler assembler) {
+            final BlobCodec blobCodec, final ItemTreesAssembler assembler, final ExecutorService executor) {
         this.blobStoreApi = blobStoreApi;
-        this.jsonUtil = jsonUtil;
+        this.blobCodec = blobCodec;
         this.assembler = assembler;
+        this.executor = executor;
     }
 
     /**
@@ -79,21 +105,76 @@ public class TreeRecursiveLogic {
      */
     /* package */ void assemblePartialItemGraphBlobs(final List<TransferProcess> completedTransfers,
             final String targetBlobName) {
-        final var partialTrees = completedTransfers.stream()
-                                                   .map(this::downloadPartialItemGraphBlobs)
-                                                   .map(payload -> jsonUtil.fromString(
-                                                           new String(payload, StandardCharsets.UTF_8),
-                                                           ItemContainer.class));
-        final var assembledTree = assembler.retrieveItemGraph(partialTrees);
-        final String json = jsonUtil.asString(assembledTree);
-        final var blob = json.getBytes(StandardCharsets.UTF_8);
-
-        log.info("Uploading assembled item graph to {}", targetBlobName);
+        final var partialTrees = prefetch(completedTransfers);
+        Path blob = null;
         try {
-            blobStoreApi.putBlob(targetBlobName, blob);
+            blob = Files.createTempFile("irs-item-graph-", ".blob");
+            blobCodec.encode(generator -> assembler.writeItemGraph(partialTrees, generator),
+                    Files.newOutputStream(blob));
+
+            log.info("Uploading assembled item graph to {}", targetBlobName);
+            try (InputStream input = Files.newInputStream(blob)) {
+                blobStoreApi.putBlob(targetBlobName, input, Files.size(blob));
+            }
         } catch (BlobPersistenceException e) {
             log.error("Could not store blob", e);
+        } catch (IOException e) {
+            log.error("Could not write assembled item graph to temporary file", e);
+        } finally {
+            deleteTemporaryFile(blob);
+        }
+    }
+
+    private static void deleteTemporaryFile(final Path file) {
+        if (file == null) {
+            return;
         }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", file, e);
+        }
+    }
+
+    /**
+     * Downloads and parses the partial item graphs in parallel, keeping at most {@link #PREFETCH_SIZE}
+     * partial graphs in flight. The graphs are returned in the order of the transfers.
+     */
+    private Stream<ItemContainer> prefetch(final List<TransferProcess> completedTransfers) {
+        final Iterator<TransferProcess> transfers = completedTransfers.iterator();
+        final Deque<CompletableFuture<ItemContainer>> window = new ArrayDeque<>();
+
+        final Iterator<ItemContainer> partialTrees = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                fillWindow();
+                return !window.isEmpty();
+            }
+
+            @Override
+            public ItemContainer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return window.poll().join();
+                } catch (CompletionException e) {
+                    window.forEach(future -> future.cancel(true));
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+
+            private void fillWindow() {
+                while (window.size() < PREFETCH_SIZE && transfers.hasNext()) {
+                    final TransferProcess transfer = transfers.next();
+                    window.add(CompletableFuture.supplyAsync(
+                            () -> blobCodec.decode(downloadPartialItemGraphBlobs(transfer), ItemContainer.class),
+                            executor));
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliterator(partialTrees, completedTransfers.size(),
+                Spliterator.ORDERED), false);
     }
 
     private byte[] downloadPartialItemGraphBlobs(final TransferProcess transfer) {
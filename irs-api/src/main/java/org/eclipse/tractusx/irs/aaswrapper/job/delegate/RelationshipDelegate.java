@@ -110,6 +110,7 @@ public class RelationshipDelegate extends AbstractDelegate {
                     relationshipAspect.getDirection());
 
             log.info("Processing Relationships with {} items", idsToProcess.size());
+            resolveConnectorEndpoints(idsToProcess);
 
             aasTransferProcess.addIdsToProcess(idsToProcess);
             itemContainerBuilder.relationships(relationships);
@@ -134,6 +135,29 @@ public class RelationshipDelegate extends AbstractDelegate {
         }
     }
 
+    /**
+     * Resolves the connector endpoints of all BPNs of the next level with one discovery request, so
+     * that the items of the next level find them in the cache of the
+     * {@link ConnectorEndpointsService}.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void resolveConnectorEndpoints(final List<PartChainIdentificationKey> idsToProcess) {
+        final List<String> bpns = idsToProcess.stream()
+                                              .map(PartChainIdentificationKey::getBpn)
+                                              .filter(StringUtils::isNotBlank)
+                                              .distinct()
+                                              .toList();
+        if (bpns.isEmpty()) {
+            return;
+        }
+        try {
+            connectorEndpointsService.fetchConnectorEndpoints(bpns);
+        } catch (RuntimeException e) {
+            // the items of the next level resolve their connector endpoints on their own
+            log.warn("Could not resolve connector endpoints of the next level for BPNs {}", bpns, e);
+        }
+    }
+
     private static List<Bpn> getBpnsFrom(final List<Relationship> relationships) {
         return relationships.stream()
                             .map(Relationship::getBpn)
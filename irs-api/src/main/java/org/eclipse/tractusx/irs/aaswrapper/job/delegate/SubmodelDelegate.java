@@ -23,19 +23,32 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import io.github.resilience4j.retry.RetryRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
+import org.eclipse.tractusx.irs.aaswrapper.job.ExtractDataFromProtocolInformation;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
 import org.eclipse.tractusx.irs.component.JobParameter;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.Submodel;
 import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.Endpoint;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.SubmodelDescriptor;
 import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.data.JsonParseException;
@@ -44,6 +57,7 @@ import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
 import org.eclipse.tractusx.irs.edc.client.exceptions.UsagePolicyException;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
+import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.services.validation.InvalidSchemaException;
 import org.eclipse.tractusx.irs.services.validation.JsonValidatorService;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
@@ -56,8 +70,13 @@ import org.springframework.web.client.RestClientException;
  * Builds submodels array for AAShell from previous steps.
  * All submodels are being retrieved from EDC's components.
  * Additionally submodel descriptors from shell are being filtered to requested aspect types.
+ * The submodels of a shell are requested in parallel on the given executor, while the number of
+ * concurrent requests per connector is limited to protect the data providers. Requests beyond the
+ * limit of their connector are queued without occupying a thread and are dispatched as soon as a
+ * running request of the same connector completes.
  */
 @Slf4j
+@SuppressWarnings("PMD.ExcessiveImports")
 public class SubmodelDelegate extends AbstractDelegate {
 
     private final EdcSubmodelFacade submodelFacade;
@@ -65,16 +84,25 @@ public class SubmodelDelegate extends AbstractDelegate {
     private final JsonValidatorService jsonValidatorService;
     private final JsonUtil jsonUtil;
     private final ConnectorEndpointsService connectorEndpointsService;
+    private final Executor executor;
+    private final int maxConcurrentRequestsPerConnector;
+    private final MeterRegistryService meterRegistryService;
+    private final Map<String, ConnectorQueue> connectorQueues = new ConcurrentHashMap<>();
 
+    @SuppressWarnings("PMD.ExcessiveParameterList")
     public SubmodelDelegate(final EdcSubmodelFacade submodelFacade, final SemanticsHubFacade semanticsHubFacade,
             final JsonValidatorService jsonValidatorService, final JsonUtil jsonUtil,
-            final ConnectorEndpointsService connectorEndpointsService) {
+            final ConnectorEndpointsService connectorEndpointsService, final Executor executor,
+            final int maxConcurrentRequestsPerConnector, final MeterRegistryService meterRegistryService) {
         super(null); // no next step
         this.submodelFacade = submodelFacade;
         this.semanticsHubFacade = semanticsHubFacade;
         this.jsonValidatorService = jsonValidatorService;
         this.jsonUtil = jsonUtil;
         this.connectorEndpointsService = connectorEndpointsService;
+        this.executor = executor;
+        this.maxConcurrentRequestsPerConnector = maxConcurrentRequestsPerConnector;
+        this.meterRegistryService = meterRegistryService;
     }
 
     @Override
@@ -92,9 +120,8 @@ public class SubmodelDelegate extends AbstractDelegate {
 
             if (jobData.isCollectAspects()) {
                 log.info("Collecting Submodels.");
-                filteredSubmodelDescriptorsByAspectType.forEach(submodelDescriptor -> itemContainerBuilder.submodels(
-                        getSubmodels(submodelDescriptor, itemContainerBuilder, itemId.getGlobalAssetId(),
-                                itemId.getBpn(), jobData.isAuditContractNegotiation())));
+                getSubmodels(filteredSubmodelDescriptorsByAspectType, itemId.getGlobalAssetId(), itemId.getBpn(),
+                        jobData.isAuditContractNegotiation()).forEach(result -> result.addTo(itemContainerBuilder));
             }
             log.debug("Unfiltered SubmodelDescriptor: {}", aasSubmodelDescriptors);
             log.debug("Filtered SubmodelDescriptor: {}", filteredSubmodelDescriptorsByAspectType);
@@ -106,57 +133,121 @@ public class SubmodelDelegate extends AbstractDelegate {
         return next(itemContainerBuilder, jobData, aasTransferProcess, itemId);
     }
 
-    private List<Submodel> getSubmodels(final SubmodelDescriptor submodelDescriptor,
-            final ItemContainer.ItemContainerBuilder itemContainerBuilder, final String itemId, final String bpn,
-            final boolean auditContractNegotiation) {
-        final List<Submodel> submodels = new ArrayList<>();
-        submodelDescriptor.getEndpoints().forEach(endpoint -> {
-
+    /**
+     * Requests the submodels of all descriptor endpoints in parallel. The results are returned in
+     * the order of the descriptors, so the item container is filled the same way as by a sequential
+     * retrieval.
+     */
+    private List<SubmodelResult> getSubmodels(final List<SubmodelDescriptor> submodelDescriptors,
+            final String itemId, final String bpn, final boolean auditContractNegotiation) {
+        final List<CompletableFuture<SubmodelResult>> requests = new ArrayList<>();
+        submodelDescriptors.forEach(submodelDescriptor -> submodelDescriptor.getEndpoints().forEach(endpoint -> {
             if (StringUtils.isBlank(bpn)) {
                 log.warn("Could not process item with id {} because no BPN was provided. Creating Tombstone.", itemId);
-                itemContainerBuilder.tombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(),
-                        "Can't get submodel without a BPN", retryCount, ProcessStep.SUBMODEL_REQUEST));
+                requests.add(CompletableFuture.completedFuture(SubmodelResult.ofTombstone(
+                        Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(),
+                                "Can't get submodel without a BPN", retryCount, ProcessStep.SUBMODEL_REQUEST))));
                 return;
             }
+            requests.add(requestSubmodelAsync(submodelDescriptor, endpoint, itemId, bpn, auditContractNegotiation));
+        }));
 
-            try {
-                final String jsonSchema = semanticsHubFacade.getModelJsonSchema(submodelDescriptor.getAspectType());
-                final org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor submodel = requestSubmodel(
-                        submodelFacade, connectorEndpointsService, endpoint, bpn);
-                final String submodelRawPayload = submodel.getPayload();
-                final String contractAgreementId = getContractAgreementId(auditContractNegotiation, submodel);
-
-                final ValidationResult validationResult = jsonValidatorService.validate(jsonSchema, submodelRawPayload);
-
-                if (validationResult.isValid()) {
-                    submodels.add(Submodel.from(submodelDescriptor.getId(), submodelDescriptor.getAspectType(),
-                            contractAgreementId, jsonUtil.fromString(submodelRawPayload, Map.class)));
-                } else {
-                    final String errors = String.join(", ", validationResult.getValidationErrors());
-                    itemContainerBuilder.tombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(),
-                            new IllegalArgumentException("Submodel payload validation failed. " + errors), 0,
-                            ProcessStep.SCHEMA_VALIDATION));
-                }
-            } catch (final JsonParseException e) {
-                itemContainerBuilder.tombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e,
-                        RetryRegistry.ofDefaults().getDefaultConfig().getMaxAttempts(), ProcessStep.SCHEMA_VALIDATION));
-                log.info("Submodel payload did not match the expected AspectType. Creating Tombstone.");
-            } catch (final SchemaNotFoundException | InvalidSchemaException | RestClientException e) {
-                itemContainerBuilder.tombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e, 0,
-                        ProcessStep.SCHEMA_REQUEST));
-                log.info("Cannot load JSON schema for validation. Creating Tombstone.");
-            } catch (final UsagePolicyException e) {
-                log.info("Encountered usage policy exception: {}. Creating Tombstone.", e.getMessage());
-                itemContainerBuilder.tombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e, 0,
-                        ProcessStep.USAGE_POLICY_VALIDATION, e.getBusinessPartnerNumber(),
-                        jsonUtil.asMap(e.getPolicy())));
-            } catch (final EdcClientException e) {
-                log.info("Submodel Endpoint could not be retrieved for Item: {}. Creating Tombstone.", itemId);
-                itemContainerBuilder.tombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e, 0,
-                        ProcessStep.SUBMODEL_REQUEST));
+        try {
+            return requests.stream().map(CompletableFuture::join).toList();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-        });
-        return submodels;
+            throw e;
+        }
+    }
+
+    private CompletableFuture<SubmodelResult> requestSubmodelAsync(final SubmodelDescriptor submodelDescriptor,
+            final Endpoint endpoint, final String itemId, final String bpn, final boolean auditContractNegotiation) {
+        final ConnectorQueue connectorQueue = connectorQueues.computeIfAbsent(connectorKey(endpoint, bpn),
+                key -> new ConnectorQueue());
+        return connectorQueue.submit(
+                () -> timedSubmodelRequest(submodelDescriptor, endpoint, itemId, bpn, auditContractNegotiation));
+    }
+
+    private SubmodelResult timedSubmodelRequest(final SubmodelDescriptor submodelDescriptor, final Endpoint endpoint,
+            final String itemId, final String bpn, final boolean auditContractNegotiation) {
+        final long start = System.nanoTime();
+        try {
+            return getSubmodel(submodelDescriptor, endpoint, itemId, bpn, auditContractNegotiation);
+        } finally {
+            meterRegistryService.recordSubmodelRequestDuration(submodelDescriptor.getAspectType(),
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private SubmodelResult getSubmodel(final SubmodelDescriptor submodelDescriptor, final Endpoint endpoint,
+            final String itemId, final String bpn, final boolean auditContractNegotiation) {
+        try {
+            final String jsonSchema = semanticsHubFacade.getModelJsonSchema(submodelDescriptor.getAspectType());
+            final org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor submodel = requestSubmodel(
+                    submodelFacade, connectorEndpointsService, endpoint, bpn);
+            final String contractAgreementId = getContractAgreementId(auditContractNegotiation, submodel);
+
+            // the payload is parsed once and the same tree is validated and converted to the submodel payload
+            final JsonNode submodelPayload = readPayload(submodel.getPayload());
+            final ValidationResult validationResult = jsonValidatorService.validate(
+                    submodelDescriptor.getAspectType(), jsonSchema, submodelPayload);
+
+            if (validationResult.isValid()) {
+                return SubmodelResult.ofSubmodel(
+                        Submodel.from(submodelDescriptor.getId(), submodelDescriptor.getAspectType(),
+                                contractAgreementId, jsonUtil.fromTree(submodelPayload, Map.class)));
+            } else {
+                final String errors = String.join(", ", validationResult.getValidationErrors());
+                return SubmodelResult.ofTombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(),
+                        new IllegalArgumentException("Submodel payload validation failed. " + errors), 0,
+                        ProcessStep.SCHEMA_VALIDATION));
+            }
+        } catch (final JsonParseException e) {
+            log.info("Submodel payload did not match the expected AspectType. Creating Tombstone.");
+            return SubmodelResult.ofTombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e,
+                    RetryRegistry.ofDefaults().getDefaultConfig().getMaxAttempts(), ProcessStep.SCHEMA_VALIDATION));
+        } catch (final SchemaNotFoundException | InvalidSchemaException | RestClientException e) {
+            log.info("Cannot load JSON schema for validation. Creating Tombstone.");
+            return SubmodelResult.ofTombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e, 0,
+                    ProcessStep.SCHEMA_REQUEST));
+        } catch (final UsagePolicyException e) {
+            log.info("Encountered usage policy exception: {}. Creating Tombstone.", e.getMessage());
+            return SubmodelResult.ofTombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e, 0,
+                    ProcessStep.USAGE_POLICY_VALIDATION, e.getBusinessPartnerNumber(),
+                    jsonUtil.asMap(e.getPolicy())));
+        } catch (final EdcClientException e) {
+            log.info("Submodel Endpoint could not be retrieved for Item: {}. Creating Tombstone.", itemId);
+            return SubmodelResult.ofTombstone(Tombstone.from(itemId, endpoint.getProtocolInformation().getHref(), e, 0,
+                    ProcessStep.SUBMODEL_REQUEST));
+        }
+    }
+
+    /**
+     * Parses the submodel payload. A payload which is not valid JSON is returned as missing node, so it
+     * fails the validation like an empty payload.
+     */
+    private JsonNode readPayload(final String payload) {
+        if (payload == null) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return jsonUtil.readTree(payload);
+        } catch (final JsonParseException e) {
+            log.warn("Unable to parse submodel payload", e);
+            return MissingNode.getInstance();
+        }
+    }
+
+    /**
+     * Requests are limited per connector. If the endpoint does not name its connector, the
+     * connectors are discovered by BPN, so the BPN is used to group the requests instead.
+     */
+    private static String connectorKey(final Endpoint endpoint, final String bpn) {
+        return Optional.ofNullable(endpoint.getProtocolInformation().getSubprotocolBody())
+                       .flatMap(ExtractDataFromProtocolInformation::extractDspEndpoint)
+                       .orElse(bpn);
     }
 
     @Nullable
@@ -165,4 +256,90 @@ public class SubmodelDelegate extends AbstractDelegate {
         return auditContractNegotiation ? submodel.getCid() : null;
     }
 
+    /**
+     * Requests of one connector. At most maxConcurrentRequestsPerConnector requests run on the
+     * executor at the same time. Further requests wait in the queue without blocking a thread, a
+     * completing request dispatches the next one.
+     */
+    private final class ConnectorQueue {
+        private final Queue<QueuedRequest> pending = new ArrayDeque<>();
+        private int running;
+
+        private CompletableFuture<SubmodelResult> submit(final Supplier<SubmodelResult> request) {
+            final QueuedRequest queuedRequest = new QueuedRequest(request, new CompletableFuture<>());
+            synchronized (this) {
+                if (running >= maxConcurrentRequestsPerConnector) {
+                    pending.add(queuedRequest);
+                    return queuedRequest.result();
+                }
+                running++;
+            }
+            dispatch(queuedRequest);
+            return queuedRequest.result();
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void dispatch(final QueuedRequest queuedRequest) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        queuedRequest.result().complete(queuedRequest.request().get());
+                    } catch (final RuntimeException e) {
+                        queuedRequest.result().completeExceptionally(e);
+                    } finally {
+                        dispatchNext();
+                    }
+                });
+            } catch (final RuntimeException e) {
+                queuedRequest.result().completeExceptionally(e);
+                dispatchNext();
+            }
+        }
+
+        private void dispatchNext() {
+            final QueuedRequest next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+            }
+            dispatch(next);
+        }
+    }
+
+    /**
+     * @param request the submodel request
+     * @param result  the result of the request, completed by the executor
+     */
+    private record QueuedRequest(Supplier<SubmodelResult> request, CompletableFuture<SubmodelResult> result) {
+    }
+
+    /**
+     * Outcome of a single submodel request, either the submodel or the tombstone describing the
+     * failure.
+     *
+     * @param submodel  the retrieved submodel, may be null
+     * @param tombstone the tombstone of a failed request, may be null
+     */
+    private record SubmodelResult(Submodel submodel, Tombstone tombstone) {
+
+        /* package */ static SubmodelResult ofSubmodel(final Submodel submodel) {
+            return new SubmodelResult(submodel, null);
+        }
+
+        /* package */ static SubmodelResult ofTombstone(final Tombstone tombstone) {
+            return new SubmodelResult(null, tombstone);
+        }
+
+        /* package */ void addTo(final ItemContainer.ItemContainerBuilder itemContainerBuilder) {
+            if (submodel != null) {
+                itemContainerBuilder.submodel(submodel);
+            } else {
+                itemContainerBuilder.tombstone(tombstone);
+            }
+        }
+    }
+
 }
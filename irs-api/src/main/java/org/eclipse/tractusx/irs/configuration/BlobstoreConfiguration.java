@@ -25,6 +25,7 @@ package org.eclipse.tractusx.irs.configuration;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,4 +41,6 @@ public class BlobstoreConfiguration {
     private String accessKey;
     private String secretKey;
     private String bucketName;
+    private BlobCodec.Format format = BlobCodec.Format.JSON;
+    private BlobCodec.Compression compression = BlobCodec.Compression.NONE;
 }
@@ -0,0 +1,73 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Config values for the adaptive per-host bulkhead of the EDC and DTR requests
+ */
+@Configuration
+@ConfigurationProperties(prefix = "irs.job.execution.bulkhead")
+@Getter
+@Setter
+@Slf4j
+public class BulkheadConfiguration {
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final int DEFAULT_GLOBAL_LIMIT = 1000;
+    private static final int DEFAULT_LATENCY_THRESHOLD_SECONDS = 30;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private boolean enabled = true;
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = 1;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private int globalLimit = DEFAULT_GLOBAL_LIMIT;
+    private Duration latencyThreshold = Duration.ofSeconds(DEFAULT_LATENCY_THRESHOLD_SECONDS);
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private Duration maxWait = Duration.ofMinutes(1);
+
+    /**
+     * Caps the maximum limit at the connection pool of the limited rest template, as requests beyond
+     * the pool size would only wait for a pooled connection instead of a request slot.
+     *
+     * @param maxConnectionsPerRoute the maximum number of pooled connections per host
+     * @return the effective maximum limit of a host
+     */
+    public int maxLimitFor(final int maxConnectionsPerRoute) {
+        if (maxLimit > maxConnectionsPerRoute) {
+            log.warn("Bulkhead maxLimit {} exceeds the {} pooled connections per host, using {}", maxLimit,
+                    maxConnectionsPerRoute, maxConnectionsPerRoute);
+            return maxConnectionsPerRoute;
+        }
+        return maxLimit;
+    }
+}
@@ -0,0 +1,163 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.common.util.concurrent.AdaptiveConcurrencyLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Limits the number of concurrent requests per remote host with an adaptive bulkhead. Callers wait
+ * until a request slot of the host is free, and fail if none gets free within the maximum wait
+ * time, so one slow supplier can not occupy all threads. Timeouts and the overload responses 429
+ * and 503 shrink the limit of the host, successful requests let it grow again. The request slot is
+ * held until the response is closed, as the connection is busy until its body is read.
+ */
+@Slf4j
+/* package */ class HostConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Duration maxWait;
+
+    /* package */ HostConcurrencyLimitInterceptor(final AdaptiveConcurrencyLimiter limiter, final Duration maxWait) {
+        this.limiter = limiter;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+            final ClientHttpRequestExecution execution) throws IOException {
+        final String host = request.getURI().getAuthority();
+        final AdaptiveConcurrencyLimiter.Permit permit = acquire(host);
+        boolean responseReceived = false;
+        try {
+            final ClientHttpResponse response = execution.execute(request, body);
+            final boolean overloaded = isOverloaded(response.getStatusCode());
+            if (overloaded) {
+                log.debug("Host {} responded with {}, reducing its concurrency limit", host,
+                        response.getStatusCode());
+            }
+            responseReceived = true;
+            return new PermitReleasingResponse(response, permit, overloaded);
+        } catch (SocketTimeoutException e) {
+            permit.onDropped();
+            throw e;
+        } finally {
+            if (!responseReceived) {
+                permit.onIgnored();
+            }
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter.Permit acquire(final String host) throws IOException {
+        final Optional<AdaptiveConcurrencyLimiter.Permit> permit;
+        try {
+            permit = limiter.tryAcquire(host, maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException interrupted = new InterruptedIOException(
+                    "Interrupted while waiting for a request slot of host " + host);
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+        return permit.orElseThrow(() -> new IOException(
+                "No request slot of host " + host + " got free within " + maxWait + ", limit is "
+                        + limiter.getLimit(host)));
+    }
+
+    private static boolean isOverloaded(final HttpStatusCode statusCode) {
+        return statusCode.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS) || statusCode.isSameCodeAs(
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Completes the permit of the request once the response is closed.
+     */
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AdaptiveConcurrencyLimiter.Permit permit;
+        private final boolean overloaded;
+
+        /* package */ PermitReleasingResponse(final ClientHttpResponse delegate,
+                final AdaptiveConcurrencyLimiter.Permit permit, final boolean overloaded) {
+            this.delegate = delegate;
+            this.permit = permit;
+            this.overloaded = overloaded;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        @Deprecated
+        @SuppressWarnings("removal")
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (overloaded) {
+                    permit.onDropped();
+                } else {
+                    permit.onSuccess();
+                }
+            }
+        }
+    }
+}
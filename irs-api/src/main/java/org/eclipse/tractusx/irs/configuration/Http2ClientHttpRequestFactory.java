@@ -0,0 +1,212 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Request factory based on the JDK {@link HttpClient}, which negotiates HTTP/2 via TLS ALPN and
+ * multiplexes all requests to a host over one connection. Plain http URIs use HTTP/1.1, since the
+ * h2c upgrade is not supported by most proxies and ingresses. Timeouts are reported as
+ * {@link SocketTimeoutException} like by the other request factories, so the timeout metrics of the
+ * rest templates keep working.
+ */
+@Slf4j
+/* package */ class Http2ClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private static final String SCHEME_HTTP = "http";
+
+    /**
+     * Headers which are set by the JDK client itself and must not be set by the caller.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(Set.of(HttpHeaders.CONNECTION, HttpHeaders.CONTENT_LENGTH, HttpHeaders.EXPECT,
+                HttpHeaders.HOST, HttpHeaders.UPGRADE));
+    }
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+
+    /* package */ Http2ClientHttpRequestFactory(final Duration connectTimeout, final Duration readTimeout) {
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                                                     .version(HttpClient.Version.HTTP_2)
+                                                     .followRedirects(HttpClient.Redirect.NORMAL);
+        if (connectTimeout != null) {
+            builder.connectTimeout(connectTimeout);
+        }
+        this.httpClient = builder.build();
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(final URI uri, final HttpMethod httpMethod) {
+        return new Http2ClientHttpRequest(uri, httpMethod);
+    }
+
+    /**
+     * Buffers the request body and sends the request on {@link #execute()}.
+     */
+    private final class Http2ClientHttpRequest implements ClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        /* package */ Http2ClientHttpRequest(final URI uri, final HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            final HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
+            if (SCHEME_HTTP.equalsIgnoreCase(uri.getScheme())) {
+                builder.version(HttpClient.Version.HTTP_1_1);
+            }
+            if (readTimeout != null) {
+                builder.timeout(readTimeout);
+            }
+            headers.forEach((name, values) -> {
+                if (!RESTRICTED_HEADERS.contains(name)) {
+                    values.forEach(value -> builder.header(name, value));
+                }
+            });
+            final HttpRequest.BodyPublisher bodyPublisher = body.size() == 0
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofByteArray(body.toByteArray());
+            builder.method(method.name(), bodyPublisher);
+
+            try {
+                return new Http2ClientHttpResponse(
+                        httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream()));
+            } catch (HttpTimeoutException e) {
+                final SocketTimeoutException timeout = new SocketTimeoutException(e.getMessage());
+                timeout.initCause(e);
+                throw timeout;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException interrupted = new InterruptedIOException(
+                        "Interrupted while waiting for the response of " + uri);
+                interrupted.initCause(e);
+                throw interrupted;
+            }
+        }
+    }
+
+    /**
+     * Exposes the response of the JDK client.
+     */
+    private static final class Http2ClientHttpResponse implements ClientHttpResponse {
+
+        private final HttpResponse<InputStream> response;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        /* package */ Http2ClientHttpResponse(final HttpResponse<InputStream> response) {
+            this.response = response;
+            response.headers().map().forEach(headers::addAll);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.statusCode());
+        }
+
+        @Override
+        @Deprecated
+        @SuppressWarnings("removal")
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            final HttpStatus status = HttpStatus.resolve(response.statusCode());
+            return status == null ? "" : status.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.body();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.body().close();
+            } catch (IOException e) {
+                log.debug("Could not close response body, the connection is released by the client anyway", e);
+            }
+        }
+    }
+}
@@ -25,17 +25,19 @@ package org.eclipse.tractusx.irs.configuration;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 
 import io.github.resilience4j.retry.RetryRegistry;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASRecursiveJobHandler;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcessManager;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemDataRequest;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemTreesAssembler;
+import org.eclipse.tractusx.irs.aaswrapper.job.PartialResultAggregator;
 import org.eclipse.tractusx.irs.aaswrapper.job.TreeRecursiveLogic;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.BpdmDelegate;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DigitalTwinDelegate;
@@ -46,6 +48,9 @@ import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
+import org.eclipse.tractusx.irs.common.util.concurrent.BoundedThreadPoolExecutor;
+import org.eclipse.tractusx.irs.common.util.concurrent.ExecutionMode;
+import org.eclipse.tractusx.irs.common.util.concurrent.TimerWheelScheduler;
 import org.eclipse.tractusx.irs.connector.job.JobOrchestrator;
 import org.eclipse.tractusx.irs.connector.job.JobStore;
 import org.eclipse.tractusx.irs.connector.job.JobTTL;
@@ -59,6 +64,7 @@ import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClient;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClientImpl;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelClientLocalStub;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
+import org.eclipse.tractusx.irs.edc.client.NegotiationCoalescer;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.registryclient.DigitalTwinRegistryService;
 import org.eclipse.tractusx.irs.registryclient.central.DigitalTwinRegistryClient;
@@ -67,6 +73,7 @@ import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsServi
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.services.validation.JsonValidatorService;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -84,7 +91,12 @@ import org.springframework.context.annotation.Profile;
 })
 public class JobConfiguration {
     public static final String JOB_BLOB_PERSISTENCE = "JobPersistence";
-    public static final int EXECUTOR_CORE_POOL_SIZE = 5;
+    public static final String SUBMODEL_REQUEST_EXECUTOR = "SubmodelRequestExecutor";
+    public static final String TRANSFER_EXECUTOR = "TransferExecutor";
+    public static final String TRANSFER_DOWNLOAD_EXECUTOR = "TransferDownloadExecutor";
+    private static final String TRANSFER_EXECUTOR_NAME = "transfer";
+    private static final String EXECUTION_MODE = "${irs.job.execution.mode:PLATFORM}";
+    private static final String SUBMODEL_PARALLELISM = "${irs.job.submodel.parallelism:0}";
     private static final Integer EXPIRE_AFTER_DAYS = 7;
 
     @Bean
@@ -94,25 +106,67 @@ public class JobConfiguration {
     }
 
     @Bean
+    @SuppressWarnings("PMD.ExcessiveParameterList")
     public JobOrchestrator<ItemDataRequest, AASTransferProcess> jobOrchestrator(
             final DigitalTwinDelegate digitalTwinDelegate,
             @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore, final JobStore jobStore,
             final MeterRegistryService meterService, final ApplicationEventPublisher applicationEventPublisher,
+            final BlobCodec blobCodec, final PartialResultAggregator partialResultAggregator,
+            @Qualifier(TRANSFER_EXECUTOR) final ExecutorService transferExecutor,
+            @Qualifier(TRANSFER_DOWNLOAD_EXECUTOR) final ExecutorService downloadExecutor,
             @Value("${irs.job.jobstore.ttl.failed:}") final Duration ttlFailedJobs,
             @Value("${irs.job.jobstore.ttl.completed:}") final Duration ttlCompletedJobs) {
 
-        final var manager = new AASTransferProcessManager(digitalTwinDelegate, Executors.newCachedThreadPool(),
-                blobStore);
-        final var logic = new TreeRecursiveLogic(blobStore, new JsonUtil(), new ItemTreesAssembler());
-        final var handler = new AASRecursiveJobHandler(logic);
+        final var manager = new AASTransferProcessManager(digitalTwinDelegate, transferExecutor, blobStore,
+                blobCodec, partialResultAggregator);
+        final var logic = new TreeRecursiveLogic(blobStore, blobCodec, new ItemTreesAssembler(), downloadExecutor);
+        final var handler = new AASRecursiveJobHandler(logic, partialResultAggregator);
         final JobTTL jobTTL = new JobTTL(ttlCompletedJobs, ttlFailedJobs);
 
         return new JobOrchestrator<>(manager, jobStore, handler, meterService, applicationEventPublisher, jobTTL);
     }
 
+    @Bean(TRANSFER_EXECUTOR)
+    public ExecutorService transferExecutor(final TransferExecutorConfiguration config,
+            final MeterRegistry meterRegistry,
+            @Value(EXECUTION_MODE) final ExecutionMode executionMode) {
+        if (executionMode == ExecutionMode.VIRTUAL && ExecutionMode.isVirtualThreadSupported()) {
+            // every transfer gets its own virtual thread, so there is neither a queue nor a bound to report
+            return ExecutorServiceMetrics.monitor(meterRegistry, executionMode.newExecutorService(),
+                    TRANSFER_EXECUTOR_NAME);
+        }
+        final BoundedThreadPoolExecutor executor = new BoundedThreadPoolExecutor(TRANSFER_EXECUTOR_NAME,
+                config.getCorePoolSize(), config.getMaxPoolSize(), config.getQueueCapacity(), config.getKeepAlive(),
+                config.getMinBackoff(), config.getMaxBackoff());
+        Gauge.builder("executor.overflow", executor, BoundedThreadPoolExecutor::getOverflowSize)
+             .description("Transfers of transfer threads waiting for room in the queue")
+             .tag("name", TRANSFER_EXECUTOR_NAME)
+             .register(meterRegistry);
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, TRANSFER_EXECUTOR_NAME);
+    }
+
+    @Bean(name = TRANSFER_DOWNLOAD_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService transferDownloadExecutor(final TransferExecutorConfiguration config,
+            @Value(EXECUTION_MODE) final ExecutionMode executionMode) {
+        // the item graph is assembled on a transfer thread,
+        // so the downloads must not wait for the transfer executor
+        return executionMode.newExecutorService("transfer-download", config.getDownloadThreads());
+    }
+
+    @Bean
+    public PartialResultAggregator partialResultAggregator(
+            @Value("${irs.job.partialResults.maxItemsPerJob:10000}") final int maxItemsPerJob) {
+        return new PartialResultAggregator(maxItemsPerJob);
+    }
+
     @Bean
-    public ScheduledExecutorService scheduledExecutorService() {
-        return Executors.newScheduledThreadPool(EXECUTOR_CORE_POOL_SIZE);
+    public TimerWheelScheduler scheduledExecutorService(
+            @Value("${irs.job.polling.tickDuration:PT0.05S}") final Duration tickDuration,
+            @Value("${irs.job.polling.ticksPerWheel:512}") final int ticksPerWheel,
+            @Value("${irs.job.polling.ioThreads:50}") final int ioThreads,
+            @Value(EXECUTION_MODE) final ExecutionMode executionMode) {
+        return new TimerWheelScheduler("polling", tickDuration, ticksPerWheel,
+                executionMode.newExecutorService("polling-io", ioThreads));
     }
 
     @Bean
@@ -127,6 +181,11 @@ public class JobConfiguration {
                 config.getBucketName(), EXPIRE_AFTER_DAYS);
     }
 
+    @Bean
+    public BlobCodec blobCodec(final BlobstoreConfiguration config) {
+        return new BlobCodec(config.getFormat(), config.getCompression());
+    }
+
     @Bean
     public JsonUtil jsonUtil() {
         return new JsonUtil();
@@ -158,9 +217,34 @@ public class JobConfiguration {
     @Bean
     public SubmodelDelegate submodelDelegate(final EdcSubmodelFacade submodelFacade,
             final SemanticsHubFacade semanticsHubFacade, final JsonValidatorService jsonValidatorService,
-            final ConnectorEndpointsService connectorEndpointsService) {
+            final ConnectorEndpointsService connectorEndpointsService,
+            @Qualifier(SUBMODEL_REQUEST_EXECUTOR) final ExecutorService submodelRequestExecutor,
+            final TransferExecutorConfiguration transferConfig,
+            @Value(SUBMODEL_PARALLELISM) final int parallelism,
+            @Value("${irs.job.submodel.maxConcurrentRequestsPerConnector:0}") final int maxConcurrentRequestsPerConnector,
+            final MeterRegistryService meterRegistryService) {
+        // by default a single connector may use half of the submodel threads
+        final int connectorLimit = maxConcurrentRequestsPerConnector > 0
+                ? maxConcurrentRequestsPerConnector
+                : Math.max(1, submodelParallelism(transferConfig, parallelism) / 2);
         return new SubmodelDelegate(submodelFacade, semanticsHubFacade, jsonValidatorService, jsonUtil(),
-                connectorEndpointsService);
+                connectorEndpointsService, submodelRequestExecutor, connectorLimit, meterRegistryService);
+    }
+
+    @Bean(SUBMODEL_REQUEST_EXECUTOR)
+    public ExecutorService submodelRequestExecutor(final TransferExecutorConfiguration transferConfig,
+            @Value(SUBMODEL_PARALLELISM) final int parallelism,
+            @Value(EXECUTION_MODE) final ExecutionMode executionMode) {
+        return executionMode.newExecutorService("submodel-request", submodelParallelism(transferConfig, parallelism));
+    }
+
+    /**
+     * Every transfer thread waits for the submodels of its item, so by default there is one
+     * submodel thread per core transfer thread.
+     */
+    private static int submodelParallelism(final TransferExecutorConfiguration transferConfig,
+            final int parallelism) {
+        return parallelism > 0 ? parallelism : transferConfig.getCorePoolSize();
     }
 
     @Profile({ "local",
@@ -185,8 +269,10 @@ public class JobConfiguration {
             final ContractNegotiationService contractNegotiationService, final EdcDataPlaneClient edcDataPlaneClient,
             final AsyncPollingService pollingService, final RetryRegistry retryRegistry,
             final EDCCatalogFacade catalogFacade,
-            final EndpointDataReferenceCacheService endpointDataReferenceCacheService) {
+            final EndpointDataReferenceCacheService endpointDataReferenceCacheService,
+            final NegotiationCoalescer negotiationCoalescer) {
         return new EdcSubmodelClientImpl(edcConfiguration, contractNegotiationService, edcDataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService,
+                negotiationCoalescer);
     }
 }
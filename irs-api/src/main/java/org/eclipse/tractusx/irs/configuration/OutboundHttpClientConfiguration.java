@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connection settings of the HTTP clients used by the outbound rest templates.
+ * Automatically populated by Spring from application.yml and other configuration sources.
+ */
+@Component
+@ConfigurationProperties(prefix = "irs.http-client")
+@Data
+public class OutboundHttpClientConfiguration {
+
+    private static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 200;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Settings used by all rest templates without own settings.
+     */
+    private ClientConfig defaults = new ClientConfig();
+
+    /**
+     * Settings per rest template bean name. These replace the defaults completely.
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap") // only written while binding the configuration
+    private Map<String, ClientConfig> templates = new HashMap<>();
+
+    public ClientConfig forTemplate(final String templateName) {
+        return templates.getOrDefault(templateName, defaults);
+    }
+
+    /**
+     * Connection settings of one HTTP client.
+     */
+    @Data
+    public static class ClientConfig {
+
+        /**
+         * Maximum number of pooled connections over all hosts.
+         */
+        private int maxTotalConnections = DEFAULT_MAX_TOTAL_CONNECTIONS;
+
+        /**
+         * Maximum number of pooled connections per host.
+         */
+        private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+        /**
+         * Maximum time to wait for a free connection of the pool.
+         */
+        private Duration connectionRequestTimeout = DEFAULT_TIMEOUT;
+
+        /**
+         * Time a connection is kept alive for reuse if the server does not send a keep-alive timeout.
+         */
+        private Duration keepAlive = DEFAULT_TIMEOUT;
+
+        /**
+         * Idle time after which pooled connections are closed.
+         */
+        private Duration idleEviction = Duration.ofMinutes(1);
+
+        /**
+         * Inactivity after which a pooled connection is checked for being stale before it is reused.
+         */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+        /**
+         * Use the JDK HTTP client which negotiates HTTP/2 instead of the connection pool.
+         * The pool settings do not apply in this case.
+         */
+        private boolean http2;
+    }
+}
@@ -0,0 +1,148 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
+import org.eclipse.tractusx.irs.configuration.OutboundHttpClientConfiguration.ClientConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the request factories of the outbound rest templates. Each rest template gets its own
+ * connection pool, so TLS connections to the same host are reused. Connections are kept alive as long
+ * as the server allows with its Keep-Alive header, are validated before reuse after being inactive
+ * and are evicted when idle or expired. The pool usage is exported as
+ * {@code http.client.connections} gauges. Rest templates configured for HTTP/2 use the JDK HTTP
+ * client instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+/* package */ class PooledClientHttpRequestFactories implements DisposableBean {
+
+    private final OutboundHttpClientConfiguration configuration;
+    private final OutboundMeterRegistryService meterRegistryService;
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates the request factory of a rest template.
+     *
+     * @param templateName the bean name of the rest template, used to look up its settings and as
+     *                     metric tag
+     * @param settings     the timeouts configured on the rest template builder
+     * @return the request factory
+     */
+    @SuppressWarnings("PMD.CloseResource") // the connection manager is closed with its http client
+    /* package */ ClientHttpRequestFactory create(final String templateName,
+            final ClientHttpRequestFactorySettings settings) {
+        final ClientConfig config = configuration.forTemplate(templateName);
+        if (config.isHttp2()) {
+            log.info("Using HTTP/2 client for {}", templateName);
+            return new Http2ClientHttpRequestFactory(settings.connectTimeout(), settings.readTimeout());
+        }
+
+        final PoolingHttpClientConnectionManager connectionManager = connectionManager(config, settings);
+        final RequestConfig requestConfig = RequestConfig.custom()
+                                                         .setConnectionRequestTimeout(
+                                                                 timeout(config.getConnectionRequestTimeout()))
+                                                         // only used if the server sends no keep-alive timeout
+                                                         .setConnectionKeepAlive(
+                                                                 timeValue(config.getKeepAlive()))
+                                                         .build();
+        final CloseableHttpClient httpClient = HttpClients.custom()
+                                                          .setConnectionManager(connectionManager)
+                                                          .setDefaultRequestConfig(requestConfig)
+                                                          .setKeepAliveStrategy(
+                                                                  DefaultConnectionKeepAliveStrategy.INSTANCE)
+                                                          .evictExpiredConnections()
+                                                          .evictIdleConnections(
+                                                                  timeValue(config.getIdleEviction()))
+                                                          // requests are retried by the resilience4j retries
+                                                          .disableAutomaticRetries()
+                                                          .build();
+        httpClients.add(httpClient);
+
+        meterRegistryService.registerConnectionPoolGauges(templateName,
+                () -> connectionManager.getTotalStats().getLeased(),
+                () -> connectionManager.getTotalStats().getPending(),
+                () -> connectionManager.getTotalStats().getAvailable());
+        log.info("Using connection pool with {} connections ({} per host) for {}", config.getMaxTotalConnections(),
+                config.getMaxConnectionsPerRoute(), templateName);
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(final ClientConfig config,
+            final ClientHttpRequestFactorySettings settings) {
+        final ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+        connectionConfig.setValidateAfterInactivity(timeValue(config.getValidateAfterInactivity()));
+        final SocketConfig.Builder socketConfig = SocketConfig.custom();
+        if (settings.connectTimeout() != null) {
+            connectionConfig.setConnectTimeout(timeout(settings.connectTimeout()));
+        }
+        if (settings.readTimeout() != null) {
+            connectionConfig.setSocketTimeout(timeout(settings.readTimeout()));
+            socketConfig.setSoTimeout(timeout(settings.readTimeout()));
+        }
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                                                        .setMaxConnTotal(config.getMaxTotalConnections())
+                                                        .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+                                                        .setDefaultConnectionConfig(connectionConfig.build())
+                                                        .setDefaultSocketConfig(socketConfig.build())
+                                                        .build();
+    }
+
+    private static Timeout timeout(final Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(final Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    @Override
+    public void destroy() {
+        httpClients.forEach(httpClient -> httpClient.close(CloseMode.GRACEFUL));
+    }
+}
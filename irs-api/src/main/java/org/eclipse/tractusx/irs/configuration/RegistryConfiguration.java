@@ -23,6 +23,13 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.eclipse.tractusx.irs.common.util.concurrent.ExecutionMode;
+
 import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
@@ -34,6 +41,7 @@ import org.eclipse.tractusx.irs.registryclient.decentral.DecentralDigitalTwinReg
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcEndpointReferenceRetriever;
 import org.eclipse.tractusx.irs.registryclient.decentral.EdcRetrieverException;
 import org.eclipse.tractusx.irs.registryclient.decentral.EndpointDataForConnectorsService;
+import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsCacheSettings;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClient;
 import org.eclipse.tractusx.irs.registryclient.discovery.DiscoveryFinderClientImpl;
@@ -51,6 +59,9 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RegistryConfiguration {
 
+    public static final String DISCOVERY_EXECUTOR = "DiscoveryExecutor";
+    private static final String DISCOVERY_EXECUTOR_NAME = "connector-discovery";
+
     @Bean
     @ConditionalOnProperty(prefix = "digitalTwinRegistry", name = "type", havingValue = "central")
     public CentralDigitalTwinRegistryService centralDigitalTwinRegistryService(final DigitalTwinRegistryClient client) {
@@ -97,8 +108,24 @@ public class RegistryConfiguration {
     @Bean
     public ConnectorEndpointsService connectorEndpointsService(
             @Qualifier(RestTemplateConfig.DTR_REST_TEMPLATE) final RestTemplate dtrRestTemplate,
-            @Value("${digitalTwinRegistry.discovery.discoveryFinderUrl:}") final String finderUrl) {
-        return new ConnectorEndpointsService(discoveryFinderClient(dtrRestTemplate, finderUrl));
+            @Value("${digitalTwinRegistry.discovery.discoveryFinderUrl:}") final String finderUrl,
+            @Value("${irs-edc-client.connectorEndpointService.cacheTTL:PT24H}") final Duration cacheTtl,
+            @Value("${irs-edc-client.connectorEndpointService.emptyResultCacheTTL:PT10M}") final Duration emptyResultTtl,
+            @Value("${irs-edc-client.connectorEndpointService.cacheTTLJitter:0.1}") final double jitter,
+            @Value("${irs-edc-client.connectorEndpointService.refreshAhead:0.8}") final double refreshAhead,
+            @Qualifier(DISCOVERY_EXECUTOR) final ExecutorService discoveryExecutor) {
+        return new ConnectorEndpointsService(discoveryFinderClient(dtrRestTemplate, finderUrl),
+                new ConnectorEndpointsCacheSettings(cacheTtl, emptyResultTtl, jitter, refreshAhead),
+                discoveryExecutor);
+    }
+
+    @Bean(DISCOVERY_EXECUTOR)
+    public ExecutorService discoveryExecutor(
+            @Value("${irs-edc-client.connectorEndpointService.discoveryThreads:8}") final int discoveryThreads,
+            final MeterRegistry meterRegistry) {
+        return ExecutorServiceMetrics.monitor(meterRegistry,
+                ExecutionMode.PLATFORM.newExecutorService(DISCOVERY_EXECUTOR_NAME, discoveryThreads),
+                DISCOVERY_EXECUTOR_NAME);
     }
 
     @Bean
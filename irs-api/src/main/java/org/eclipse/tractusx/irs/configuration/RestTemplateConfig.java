@@ -35,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
 import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
+import org.eclipse.tractusx.irs.common.util.concurrent.AdaptiveConcurrencyLimiter;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -75,16 +76,20 @@ public class RestTemplateConfig {
     public static final String NO_ERROR_REST_TEMPLATE = "noErrorRestTemplate";
     public static final String DISCOVERY_REST_TEMPLATE = "discoveryRestTemplate";
     public static final String EDC_REST_TEMPLATE = "edcClientRestTemplate";
+    private static final String EDC_BULKHEAD_NAME = "edc";
 
     private final OAuth2AuthorizedClientService oAuth2AuthorizedClientService;
     private final ClientRegistrationRepository clientRegistrationRepository;
+    private final PooledClientHttpRequestFactories requestFactories;
 
     private RestTemplateBuilder oAuthRestTemplate(final RestTemplateBuilder restTemplateBuilder,
-            final Duration readTimeout, final Duration connectTimeout, final String clientRegistrationId) {
+            final Duration readTimeout, final Duration connectTimeout, final String clientRegistrationId,
+            final String templateName) {
         final var clientRegistration = clientRegistrationRepository.findByRegistrationId(clientRegistrationId);
 
         return restTemplateBuilder.additionalInterceptors(
                                           new OAuthClientCredentialsRestTemplateInterceptor(authorizedClientManager(), clientRegistration))
+                                  .requestFactory(settings -> requestFactories.create(templateName, settings))
                                   .setReadTimeout(readTimeout)
                                   .setConnectTimeout(connectTimeout);
     }
@@ -96,8 +101,8 @@ public class RestTemplateConfig {
             @Value("${digitalTwinRegistry.oAuthClientId}") final String clientRegistrationId,
             final OutboundMeterRegistryService meterRegistryService) {
 
-        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout,
-                clientRegistrationId).additionalInterceptors(getRegistryInterceptor(meterRegistryService)).build();
+        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId,
+                DTR_REST_TEMPLATE).additionalInterceptors(getRegistryInterceptor(meterRegistryService)).build();
     }
 
     @NotNull
@@ -118,7 +123,8 @@ public class RestTemplateConfig {
             @Value("${semanticshub.timeout.read}") final Duration readTimeout,
             @Value("${semanticshub.timeout.connect}") final Duration connectTimeout,
             @Value("${semanticshub.oAuthClientId}") final String clientRegistrationId) {
-        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId).build();
+        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId,
+                SEMHUB_REST_TEMPLATE).build();
     }
 
     @Bean(BPDM_REST_TEMPLATE)
@@ -126,7 +132,8 @@ public class RestTemplateConfig {
             @Value("${bpdm.timeout.read}") final Duration readTimeout,
             @Value("${bpdm.timeout.connect}") final Duration connectTimeout,
             @Value("${bpdm.oAuthClientId}") final String clientRegistrationId) {
-        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId).build();
+        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId,
+                BPDM_REST_TEMPLATE).build();
     }
 
     @Bean(DISCOVERY_REST_TEMPLATE)
@@ -134,7 +141,8 @@ public class RestTemplateConfig {
             @Value("${digitalTwinRegistry.discovery.timeout.read}") final Duration readTimeout,
             @Value("${digitalTwinRegistry.discovery.timeout.connect}") final Duration connectTimeout,
             @Value("${digitalTwinRegistry.discovery.oAuthClientId}") final String clientRegistrationId) {
-        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId).build();
+        return oAuthRestTemplate(restTemplateBuilder, readTimeout, connectTimeout, clientRegistrationId,
+                DISCOVERY_REST_TEMPLATE).build();
     }
 
     @Bean(NO_ERROR_REST_TEMPLATE)
@@ -177,12 +185,19 @@ public class RestTemplateConfig {
         /* package */ RestTemplate edcRestTemplate(final RestTemplateBuilder restTemplateBuilder,
             @Value("${irs-edc-client.submodel.timeout.read}") final Duration readTimeout,
             @Value("${irs-edc-client.submodel.timeout.connect}") final Duration connectTimeout,
+            final BulkheadConfiguration bulkheadConfig, final AdaptiveConcurrencyLimiter edcBulkhead,
             final OutboundMeterRegistryService meterRegistryService) {
-        final RestTemplate restTemplate = restTemplateBuilder.setReadTimeout(readTimeout)
-                                                             .setConnectTimeout(connectTimeout)
-                                                             .additionalInterceptors(
-                                                                     getEdcInterceptor(meterRegistryService))
-                                                             .build();
+        RestTemplateBuilder builder = restTemplateBuilder.setReadTimeout(readTimeout)
+                                                         .setConnectTimeout(connectTimeout)
+                                                         .requestFactory(settings -> requestFactories.create(
+                                                                 EDC_REST_TEMPLATE, settings))
+                                                         .additionalInterceptors(
+                                                                 getEdcInterceptor(meterRegistryService));
+        if (bulkheadConfig.isEnabled()) {
+            builder = builder.additionalInterceptors(
+                    new HostConcurrencyLimitInterceptor(edcBulkhead, bulkheadConfig.getMaxWait()));
+        }
+        final RestTemplate restTemplate = builder.build();
         final List<HttpMessageConverter<?>> messageConverters = restTemplate.getMessageConverters();
         for (final HttpMessageConverter<?> converter : messageConverters) {
             if (converter instanceof final MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter) {
@@ -194,6 +209,19 @@ public class RestTemplateConfig {
         return restTemplate;
     }
 
+    @Bean
+        /* package */ AdaptiveConcurrencyLimiter edcBulkhead(final BulkheadConfiguration config,
+            final OutboundHttpClientConfiguration httpClientConfig) {
+        final OutboundHttpClientConfiguration.ClientConfig pool = httpClientConfig.forTemplate(EDC_REST_TEMPLATE);
+        // the HTTP/2 client multiplexes requests and is not limited by a connection pool
+        final int maxLimit = pool.isHttp2()
+                ? config.getMaxLimit()
+                : config.maxLimitFor(pool.getMaxConnectionsPerRoute());
+        return new AdaptiveConcurrencyLimiter(EDC_BULKHEAD_NAME, Math.min(config.getInitialLimit(), maxLimit),
+                config.getMinLimit(), maxLimit, config.getGlobalLimit(), config.getLatencyThreshold(),
+                config.getBackoffRatio());
+    }
+
     @NotNull
     private static ClientHttpRequestInterceptor getEdcInterceptor(
             final OutboundMeterRegistryService meterRegistryService) {
@@ -0,0 +1,54 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Config values for the executor running the transfer processes of all jobs
+ */
+@Configuration
+@ConfigurationProperties(prefix = "irs.job.transfer")
+@Getter
+@Setter
+public class TransferExecutorConfiguration {
+    private static final int DEFAULT_CORE_POOL_SIZE = 100;
+    private static final int DEFAULT_MAX_POOL_SIZE = 200;
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_DOWNLOAD_THREADS = 10;
+    private static final int DEFAULT_MIN_BACKOFF_MILLIS = 10;
+
+    private int corePoolSize = DEFAULT_CORE_POOL_SIZE;
+    private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private Duration keepAlive = Duration.ofMinutes(1);
+    private Duration minBackoff = Duration.ofMillis(DEFAULT_MIN_BACKOFF_MILLIS);
+    private Duration maxBackoff = Duration.ofSeconds(1);
+    private int downloadThreads = DEFAULT_DOWNLOAD_THREADS;
+}
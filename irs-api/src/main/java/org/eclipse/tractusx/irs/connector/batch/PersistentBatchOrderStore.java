@@ -25,7 +25,6 @@ package org.eclipse.tractusx.irs.connector.batch;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -36,7 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.data.JsonParseException;
-import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -49,13 +48,14 @@ public class PersistentBatchOrderStore implements BatchOrderStore {
 
     private static final String BATCH_ORDER_PREFIX = "order:";
 
-    private final JsonUtil json = new JsonUtil();
-
-
     private final BlobPersistence blobStore;
 
-    public PersistentBatchOrderStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore) {
+    private final BlobCodec blobCodec;
+
+    public PersistentBatchOrderStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore,
+            final BlobCodec blobCodec) {
         this.blobStore = blobStore;
+        this.blobCodec = blobCodec;
     }
 
     @Override
@@ -91,7 +91,7 @@ public class PersistentBatchOrderStore implements BatchOrderStore {
 
     private Optional<BatchOrder> toBatchOrder(final byte[] blob) {
         try {
-            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), BatchOrder.class));
+            return Optional.of(blobCodec.decode(blob, BatchOrder.class));
         } catch (JsonParseException exception) {
             log.warn("Stored Batch Order could not be parsed to Batch Order object.");
             return Optional.empty();
@@ -99,8 +99,7 @@ public class PersistentBatchOrderStore implements BatchOrderStore {
     }
 
     private byte[] toBlob(final BatchOrder batchOrder) {
-        final String batchOrderString = this.json.asString(batchOrder);
-        return batchOrderString.getBytes(StandardCharsets.UTF_8);
+        return blobCodec.encode(batchOrder);
     }
 
     private String toBlobId(final String batchOrderId) {
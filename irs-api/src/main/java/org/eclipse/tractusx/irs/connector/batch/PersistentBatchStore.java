@@ -25,7 +25,6 @@ package org.eclipse.tractusx.irs.connector.batch;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -36,7 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.data.JsonParseException;
-import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -49,12 +48,14 @@ public class PersistentBatchStore implements BatchStore {
 
     private static final String BATCH_PREFIX = "batch:";
 
-    private final JsonUtil json = new JsonUtil();
-
     private final BlobPersistence blobStore;
 
-    public PersistentBatchStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore) {
+    private final BlobCodec blobCodec;
+
+    public PersistentBatchStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore,
+            final BlobCodec blobCodec) {
         this.blobStore = blobStore;
+        this.blobCodec = blobCodec;
     }
 
     @Override
@@ -90,7 +91,7 @@ public class PersistentBatchStore implements BatchStore {
 
     private Optional<Batch> toBatch(final byte[] blob) {
         try {
-            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), Batch.class));
+            return Optional.of(blobCodec.decode(blob, Batch.class));
         } catch (JsonParseException exception) {
             log.warn("Stored Batch could not be parsed to Batch object.");
             return Optional.empty();
@@ -98,8 +99,7 @@ public class PersistentBatchStore implements BatchStore {
     }
 
     private byte[] toBlob(final Batch batch) {
-        final String batchString = this.json.asString(batch);
-        return batchString.getBytes(StandardCharsets.UTF_8);
+        return blobCodec.encode(batch);
     }
 
     private String toBlobId(final String batchId) {
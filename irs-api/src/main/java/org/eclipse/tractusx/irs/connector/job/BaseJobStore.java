@@ -23,12 +23,17 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.connector.job;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -41,6 +46,11 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class for all JobStores, implementing the Job transition logic and handling locking.
+ * Locking is done per job using a fixed set of lock stripes, so modifications of unrelated jobs
+ * do not block each other.
+ * Lookups by process id, state and completion date use an in-memory index. As the index only knows
+ * the jobs written by this instance, it can be periodically rebuilt from the store to pick up jobs
+ * written by other instances sharing the same store.
  */
 @Slf4j
 @SuppressWarnings("PMD.TooManyMethods")
@@ -52,54 +62,96 @@ public abstract class BaseJobStore implements JobStore {
     private static final int TIMEOUT = 30_000;
 
     /**
-     * A lock to synchronize access to the collection of stored jobs.
+     * The number of lock stripes. Jobs are mapped to a stripe by the hash of their id.
      */
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final int LOCK_STRIPES = 256;
+
+    /**
+     * Minimum age of the index before a lookup miss triggers a rebuild, so a burst of unknown
+     * process ids does not scan the store over and over.
+     */
+    private static final Duration MIN_INDEX_AGE_ON_MISS = Duration.ofSeconds(10);
+
+    /**
+     * Locks to synchronize access to single jobs, see {@link #lockFor(String)}.
+     */
+    private final ReentrantReadWriteLock[] locks = createLocks();
+
+    /**
+     * Secondary indexes over the stored jobs, built lazily from {@link #getAll()} on first use.
+     */
+    private final JobStoreIndex jobStoreIndex = new JobStoreIndex();
+
+    private final AtomicBoolean indexInitialized = new AtomicBoolean();
+
+    /**
+     * Guards the rebuild of the index, so only one thread at a time scans the store.
+     */
+    private final ReentrantLock indexRebuildLock = new ReentrantLock();
+
+    /**
+     * {@link System#nanoTime()} of the last index rebuild.
+     */
+    private final AtomicLong indexBuiltAt = new AtomicLong();
+
+    /**
+     * Interval after which the index is rebuilt from the store. Zero disables the rebuild.
+     */
+    private final Duration indexRefreshInterval;
+
+    protected BaseJobStore() {
+        this(Duration.ZERO);
+    }
+
+    protected BaseJobStore(final Duration indexRefreshInterval) {
+        this.indexRefreshInterval = indexRefreshInterval;
+    }
 
     protected abstract Optional<MultiTransferJob> get(String jobId);
 
     protected abstract Collection<MultiTransferJob> getAll();
 
-    protected abstract void put(String jobId, MultiTransferJob job);
+    /**
+     * Stores the job.
+     *
+     * @param jobId the job identifier
+     * @param job   the job to store
+     * @return true if the job was stored, false if writing it failed and the previously stored
+     *         version of the job is still in effect
+     */
+    protected abstract boolean put(String jobId, MultiTransferJob job);
 
     protected abstract Optional<MultiTransferJob> remove(String jobId);
 
     @Override
     public Optional<MultiTransferJob> find(final String jobId) {
-        return readLock(() -> get(jobId));
+        return readLock(jobId, () -> get(jobId));
     }
 
     @Override
     public List<MultiTransferJob> findByStateAndCompletionDateOlderThan(final JobState jobState,
             final ZonedDateTime dateTime) {
-        return readLock(() -> getAll().stream()
-                                      .filter(hasState(jobState))
-                                      .filter(isCompletionDateBefore(dateTime))
-                                      .toList());
-    }
-
-    private Predicate<MultiTransferJob> hasState(final JobState jobState) {
-        return job -> job.getJob().getState().equals(jobState);
-    }
-
-    private Predicate<MultiTransferJob> isCompletionDateBefore(final ZonedDateTime localDateTime) {
-        return job -> {
-            final ZonedDateTime completed = job.getJob().getCompletedOn();
-            return completed != null && completed.isBefore(localDateTime);
-        };
+        return getIndexed(index().findJobIdsCompletedBefore(jobState, dateTime), hasState(jobState).and(
+                isCompletionDateBefore(dateTime)));
     }
 
     @Override
     public Optional<MultiTransferJob> findByProcessId(final String processId) {
-        return getAll().stream().filter(j -> j.getTransferProcessIds().contains(processId)).findFirst();
+        Optional<String> jobId = index().findJobIdByProcessId(processId);
+        if (jobId.isEmpty() && isIndexOlderThan(MIN_INDEX_AGE_ON_MISS)) {
+            log.debug("Transfer process {} not found in index, rebuilding index from store", processId);
+            rebuildIndex(MIN_INDEX_AGE_ON_MISS);
+            jobId = jobStoreIndex.findJobIdByProcessId(processId);
+        }
+        return jobId.flatMap(this::getIndexed).filter(job -> job.getTransferProcessIds().contains(processId));
     }
 
     @Override
     public void create(final MultiTransferJob job) {
-        writeLock(() -> {
+        writeLock(job.getJobIdString(), () -> {
             final var newJob = job.toBuilder().transitionInitial().build();
             log.info("Adding new job into jobstore: {}", newJob);
-            put(job.getJobIdString(), newJob);
+            store(job.getJobIdString(), newJob);
             return null;
         });
     }
@@ -112,7 +164,7 @@ public abstract class BaseJobStore implements JobStore {
 
     @Override
     public List<MultiTransferJob> findAll() {
-        return readLock(() -> new ArrayList<>(getAll()));
+        return new ArrayList<>(getAll());
     }
 
     @Override
@@ -161,39 +213,136 @@ public abstract class BaseJobStore implements JobStore {
 
     @Override
     public List<MultiTransferJob> findByStates(final List<JobState> jobStates) {
-        return readLock(() -> getAll().stream().filter(hasState(jobStates)).toList());
-    }
-
-    private Predicate<MultiTransferJob> hasState(final List<JobState> jobStates) {
-        return job -> jobStates.contains(job.getJob().getState());
+        return getIndexed(index().findJobIdsByStates(jobStates),
+                job -> jobStates.contains(job.getJob().getState()));
     }
 
     @Override
     public Optional<MultiTransferJob> deleteJob(final String jobId) {
-        return writeLock(() -> remove(jobId));
+        return writeLock(jobId, () -> {
+            final Optional<MultiTransferJob> removed = remove(jobId);
+            index().unindex(jobId);
+            return removed;
+        });
     }
 
     @Override
     public Optional<MultiTransferJob> cancelJob(final String jobId) {
         modifyJob(jobId, job -> job.toBuilder().transitionCancel().build());
 
-        return this.get(jobId);
+        return find(jobId);
     }
 
     private void modifyJob(final String jobId, final UnaryOperator<MultiTransferJob> action) {
-        writeLock(() -> {
+        writeLock(jobId, () -> {
             final var job = get(jobId);
             if (job.isEmpty()) {
                 log.warn("Job not found: {}", jobId);
             } else {
                 final MultiTransferJob multiTransferJob = job.get();
-                put(multiTransferJob.getJobIdString(), action.apply(multiTransferJob));
+                store(multiTransferJob.getJobIdString(), action.apply(multiTransferJob));
             }
             return null;
         });
     }
 
-    private <T> T readLock(final Supplier<T> work) {
+    private void store(final String jobId, final MultiTransferJob job) {
+        if (put(jobId, job)) {
+            index().index(job);
+        }
+    }
+
+    /**
+     * Reads the indexed jobs and checks them against the query again, as the index may lag behind
+     * the store after a rebuild.
+     */
+    private List<MultiTransferJob> getIndexed(final Collection<String> jobIds,
+            final Predicate<MultiTransferJob> query) {
+        return jobIds.stream().map(this::getIndexed).flatMap(Optional::stream).filter(query).toList();
+    }
+
+    private Predicate<MultiTransferJob> hasState(final JobState jobState) {
+        return job -> job.getJob().getState().equals(jobState);
+    }
+
+    private Predicate<MultiTransferJob> isCompletionDateBefore(final ZonedDateTime localDateTime) {
+        return job -> {
+            final ZonedDateTime completed = job.getJob().getCompletedOn();
+            return completed != null && completed.isBefore(localDateTime);
+        };
+    }
+
+    /**
+     * Reads an indexed job from the store. Jobs which vanished from the store in the meantime
+     * (e.g. expired by the storage backend) are dropped from the index.
+     */
+    private Optional<MultiTransferJob> getIndexed(final String jobId) {
+        return readLock(jobId, () -> {
+            final Optional<MultiTransferJob> job = get(jobId);
+            if (job.isEmpty()) {
+                log.debug("Indexed job {} not found in store, removing it from index", jobId);
+                jobStoreIndex.unindex(jobId);
+            }
+            return job;
+        });
+    }
+
+    /**
+     * Returns the index, building it on first use. Once built, an outdated index is rebuilt by
+     * one caller while concurrent callers keep using the current index.
+     */
+    private JobStoreIndex index() {
+        if (!indexInitialized.get()) {
+            rebuildIndex(indexRefreshInterval);
+            return jobStoreIndex;
+        }
+        if (isIndexOlderThan(indexRefreshInterval) && indexRebuildLock.tryLock()) {
+            try {
+                rebuildIndex(indexRefreshInterval);
+            } finally {
+                indexRebuildLock.unlock();
+            }
+        }
+        return jobStoreIndex;
+    }
+
+    private void rebuildIndex(final Duration maxAge) {
+        indexRebuildLock.lock();
+        try {
+            if (indexInitialized.get() && !isIndexOlderThan(maxAge)) {
+                return;
+            }
+            final long snapshotSequence = jobStoreIndex.currentSequence();
+            final Collection<MultiTransferJob> jobs = getAll();
+            log.info("Building job store index from {} stored jobs", jobs.size());
+            jobStoreIndex.rebuild(jobs, snapshotSequence);
+            indexBuiltAt.set(System.nanoTime());
+            indexInitialized.set(true);
+        } finally {
+            indexRebuildLock.unlock();
+        }
+    }
+
+    private boolean isIndexOlderThan(final Duration maxAge) {
+        return isIndexRefreshEnabled() && System.nanoTime() - indexBuiltAt.get() >= maxAge.toNanos();
+    }
+
+    private boolean isIndexRefreshEnabled() {
+        return !indexRefreshInterval.isZero() && !indexRefreshInterval.isNegative();
+    }
+
+    private static ReentrantReadWriteLock[] createLocks() {
+        final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[LOCK_STRIPES];
+        Arrays.setAll(stripes, i -> new ReentrantReadWriteLock());
+        return stripes;
+    }
+
+    private ReentrantReadWriteLock lockFor(final String jobId) {
+        return locks[Math.floorMod(jobId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private <T> T readLock(final String jobId, final Supplier<T> work) {
+        final ReentrantReadWriteLock lock = lockFor(jobId);
         try {
             if (!lock.readLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
                 throw new JobException("Timeout acquiring read lock");
@@ -209,7 +358,8 @@ public abstract class BaseJobStore implements JobStore {
         }
     }
 
-    private <T> T writeLock(final Supplier<T> work) {
+    private <T> T writeLock(final String jobId, final Supplier<T> work) {
+        final ReentrantReadWriteLock lock = lockFor(jobId);
         try {
             if (!lock.writeLock().tryLock(TIMEOUT, TimeUnit.MILLISECONDS)) {
                 throw new JobException("Timeout acquiring write lock");
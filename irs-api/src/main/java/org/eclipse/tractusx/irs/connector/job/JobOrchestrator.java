@@ -224,6 +224,7 @@ public class JobOrchestrator<T extends DataRequest, P extends TransferProcess> {
     private Optional<MultiTransferJob> deleteJobsAndDecreaseJobsInJobStoreMetrics(final String jobId) {
         final Optional<MultiTransferJob> optJob = jobStore.deleteJob(jobId);
         if (optJob.isPresent()) {
+            handler.cleanup(optJob.get());
             meterService.setNumberOfJobsInJobStore((long) jobStore.findAll().size());
         }
         return optJob;
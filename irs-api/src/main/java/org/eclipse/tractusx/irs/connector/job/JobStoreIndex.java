@@ -0,0 +1,205 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.tractusx.irs.component.enums.JobState;
+
+/**
+ * In-memory secondary indexes over the jobs of a {@link BaseJobStore}.
+ * Allows lookups by transfer process id, job state and completion date without
+ * reading every stored job. The index only holds job ids, the jobs themselves
+ * are always read from the underlying store.
+ * Every indexed entry carries a sequence number, so a rebuild from a snapshot of the store does not
+ * overwrite entries which were indexed while the snapshot was taken.
+ */
+@SuppressWarnings("PMD.UseConcurrentHashMap") // all access is synchronized on the lock
+class JobStoreIndex {
+
+    private final Map<String, IndexEntry> entriesByJobId = new HashMap<>();
+    private final Map<String, String> jobIdByProcessId = new HashMap<>();
+    private final Map<JobState, Set<String>> jobIdsByState = new EnumMap<>(JobState.class);
+    private final NavigableSet<CompletionKey> completionDates = new TreeSet<>();
+    private final Object lock = new Object();
+    private long sequence;
+
+    /**
+     * Adds the job to the index, replacing any entries of a previous version of the same job.
+     *
+     * @param job the job to index
+     */
+    /* package */ void index(final MultiTransferJob job) {
+        synchronized (lock) {
+            sequence++;
+            final String jobId = job.getJobIdString();
+            unindex(jobId);
+
+            final ZonedDateTime completedOn = job.getJob().getCompletedOn();
+            final IndexEntry entry = new IndexEntry(job.getJob().getState(),
+                    completedOn == null ? null : completedOn.toInstant(),
+                    Set.copyOf(job.getTransferProcessIds()), sequence);
+
+            add(jobId, entry);
+        }
+    }
+
+    /**
+     * @return the sequence number of the latest indexed entry, to be passed to
+     *         {@link #rebuild(Collection, long)} when taking a snapshot of the store
+     */
+    /* package */ long currentSequence() {
+        synchronized (lock) {
+            return sequence;
+        }
+    }
+
+    /**
+     * Replaces the index with the given snapshot of the store. Entries indexed after the snapshot
+     * was started are newer than the snapshot and therefore kept.
+     *
+     * @param jobs             all jobs of the store
+     * @param snapshotSequence the {@link #currentSequence()} before the snapshot was taken
+     */
+    /* package */ void rebuild(final Collection<MultiTransferJob> jobs, final long snapshotSequence) {
+        synchronized (lock) {
+            final Map<String, IndexEntry> newerEntries = new HashMap<>();
+            entriesByJobId.forEach((jobId, entry) -> {
+                if (entry.sequence() > snapshotSequence) {
+                    newerEntries.put(jobId, entry);
+                }
+            });
+            entriesByJobId.clear();
+            jobIdByProcessId.clear();
+            jobIdsByState.clear();
+            completionDates.clear();
+
+            jobs.stream().filter(job -> !newerEntries.containsKey(job.getJobIdString())).forEach(this::index);
+            newerEntries.forEach(this::add);
+        }
+    }
+
+    private void add(final String jobId, final IndexEntry entry) {
+        synchronized (lock) {
+            entriesByJobId.put(jobId, entry);
+            entry.processIds().forEach(processId -> jobIdByProcessId.put(processId, jobId));
+            jobIdsByState.computeIfAbsent(entry.state(), state -> new LinkedHashSet<>()).add(jobId);
+            if (entry.completedOn() != null) {
+                completionDates.add(new CompletionKey(entry.completedOn(), jobId));
+            }
+        }
+    }
+
+    /**
+     * Removes all index entries of the job.
+     *
+     * @param jobId the job identifier
+     */
+    /* package */ void unindex(final String jobId) {
+        synchronized (lock) {
+            final IndexEntry entry = entriesByJobId.remove(jobId);
+            if (entry == null) {
+                return;
+            }
+            entry.processIds().forEach(processId -> jobIdByProcessId.remove(processId, jobId));
+            final Set<String> jobIds = jobIdsByState.get(entry.state());
+            if (jobIds != null) {
+                jobIds.remove(jobId);
+            }
+            if (entry.completedOn() != null) {
+                completionDates.remove(new CompletionKey(entry.completedOn(), jobId));
+            }
+        }
+    }
+
+    /* package */ Optional<String> findJobIdByProcessId(final String processId) {
+        synchronized (lock) {
+            return Optional.ofNullable(jobIdByProcessId.get(processId));
+        }
+    }
+
+    /* package */ Set<String> findJobIdsByStates(final Collection<JobState> jobStates) {
+        synchronized (lock) {
+            final Set<String> result = new LinkedHashSet<>();
+            jobStates.stream().map(jobIdsByState::get).filter(ids -> ids != null).forEach(result::addAll);
+            return result;
+        }
+    }
+
+    /* package */ List<String> findJobIdsCompletedBefore(final JobState jobState, final ZonedDateTime dateTime) {
+        synchronized (lock) {
+            final Set<String> jobIdsInState = jobIdsByState.getOrDefault(jobState, new HashSet<>());
+            final List<String> result = new ArrayList<>();
+            final CompletionKey upperBound = new CompletionKey(dateTime.toInstant(), "");
+            for (final CompletionKey key : completionDates.headSet(upperBound, false)) {
+                if (jobIdsInState.contains(key.jobId())) {
+                    result.add(key.jobId());
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Index entry of a single job, used to remove stale entries when the job changes.
+     *
+     * @param state       the indexed job state
+     * @param completedOn the indexed completion date, may be null
+     * @param processIds  the indexed open transfer process ids
+     * @param sequence    the sequence number of the index update
+     */
+    private record IndexEntry(JobState state, Instant completedOn, Set<String> processIds, long sequence) {
+    }
+
+    /**
+     * Sort key of the completion date index. The job id makes keys of jobs completed at the same
+     * instant unique.
+     *
+     * @param completedOn the completion date
+     * @param jobId       the job identifier
+     */
+    private record CompletionKey(Instant completedOn, String jobId) implements Comparable<CompletionKey> {
+        private static final Comparator<CompletionKey> ORDER = Comparator.comparing(CompletionKey::completedOn)
+                                                                         .thenComparing(CompletionKey::jobId);
+
+        @Override
+        public int compareTo(final CompletionKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
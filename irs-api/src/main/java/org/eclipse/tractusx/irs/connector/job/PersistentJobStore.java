@@ -25,29 +25,48 @@ package org.eclipse.tractusx.irs.connector.job;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
-import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Stores Job data using persistent blob storage.
+ * Optionally, jobs which are not yet finished are kept in a bounded write-through cache, so modifying
+ * a job does not need to read its blob again, and writes of unfinished jobs are delayed and coalesced
+ * (write-behind), so rapid successive updates of the same job result in a single blob write. Jobs
+ * reaching a final state are always written immediately and evicted from the cache.
+ * The cache is never re-read from the blobstore, so both options must only be enabled when a single
+ * IRS instance uses the blobstore. Otherwise, updates like a cancellation written by another instance
+ * are overwritten with the cached version of the job.
  */
 @Service
 @Slf4j
+@SuppressWarnings("PMD.TooManyMethods")
 public class PersistentJobStore extends BaseJobStore {
 
     /**
@@ -55,23 +74,72 @@ public class PersistentJobStore extends BaseJobStore {
      */
     private static final String JOB_PREFIX = "job:";
 
+    /**
+     * Upper bound of the delay between retries of a failed write-behind.
+     */
+    private static final Duration MAX_WRITE_RETRY_DELAY = Duration.ofMinutes(5);
+
+    /**
+     * The number of lock stripes serializing the blob writes of a job.
+     */
+    private static final int WRITE_LOCK_STRIPES = 64;
+
+    private static final Set<JobState> FINAL_STATES = Set.of(JobState.COMPLETED, JobState.ERROR, JobState.CANCELED);
+
     private final BlobPersistence blobStore;
 
-    private final JsonUtil json = new JsonUtil();
+    private final BlobCodec blobCodec;
 
     private final MeterRegistryService meterService;
 
+    /**
+     * LRU cache of unfinished jobs. A maximum size of zero disables the cache.
+     */
+    private final Map<String, MultiTransferJob> cache;
+
+    /**
+     * Latest versions of jobs which have not been written to the blobstore yet.
+     */
+    private final Map<String, MultiTransferJob> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Last state stored per job, used to record state changes without reading the job first. The
+     * first update of a job stored by another instance is recorded as state change.
+     */
+    private final Map<String, JobState> lastStates = new ConcurrentHashMap<>();
+
+    /**
+     * Locks serializing the blob writes of a job, so an older version never overwrites a newer one.
+     */
+    private final ReentrantLock[] writeLocks = createWriteLocks();
+
+    private final Duration writeBehindDelay;
+
+    /**
+     * Executor of the delayed writes, only present if write-behind is enabled.
+     */
+    private final Optional<ScheduledExecutorService> writeBehindExecutor;
+
     public PersistentJobStore(@Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore,
-            final MeterRegistryService meterService) {
-        super();
+            final MeterRegistryService meterService, final BlobCodec blobCodec,
+            @Value("${irs.job.jobstore.cache.maxSize:0}") final int cacheMaxSize,
+            @Value("${irs.job.jobstore.cache.writeBehindDelay:PT0S}") final Duration writeBehindDelay,
+            @Value("${irs.job.jobstore.index.refreshInterval:PT1M}") final Duration indexRefreshInterval) {
+        super(indexRefreshInterval);
         this.blobStore = blobStore;
         this.meterService = meterService;
+        this.blobCodec = blobCodec;
+        this.cache = Collections.synchronizedMap(new LruMap(cacheMaxSize));
+        this.writeBehindDelay = writeBehindDelay;
+        this.writeBehindExecutor = isWriteBehindEnabled()
+                ? Optional.of(Executors.newSingleThreadScheduledExecutor(PersistentJobStore::newWriteBehindThread))
+                : Optional.empty();
     }
 
     @Override
     protected Optional<MultiTransferJob> get(final String jobId) {
         try {
-            return blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
+            return getCachedOrLoad(jobId);
         } catch (BlobPersistenceException e) {
             log.error("Error while trying to get job from blobstore", e);
             return Optional.empty();
@@ -82,7 +150,14 @@ public class PersistentJobStore extends BaseJobStore {
     protected Collection<MultiTransferJob> getAll() {
         try {
             final Collection<byte[]> allBlobs = blobStore.findBlobByPrefix(JOB_PREFIX);
-            return allBlobs.stream().map(this::toJob).flatMap(Optional::stream).toList();
+            final Map<String, MultiTransferJob> jobs = allBlobs.stream()
+                                                               .map(this::toJob)
+                                                               .flatMap(Optional::stream)
+                                                               .collect(Collectors.toMap(
+                                                                       MultiTransferJob::getJobIdString, j -> j,
+                                                                       (first, second) -> second, LinkedHashMap::new));
+            jobs.putAll(pendingWrites);
+            return List.copyOf(jobs.values());
         } catch (BlobPersistenceException e) {
             log.error("Cannot search for jobs in blobstore", e);
             return Collections.emptyList();
@@ -90,22 +165,22 @@ public class PersistentJobStore extends BaseJobStore {
     }
 
     @Override
-    protected void put(final String jobId, final MultiTransferJob job) {
-        final byte[] blob = toBlob(job);
-        try {
-            if (!isLastStateSameAsCurrentState(jobId, job.getJob().getState())) {
-                meterService.recordJobStateMetric(job.getJob().getState());
-            }
-            blobStore.putBlob(toBlobId(jobId), blob);
-        } catch (BlobPersistenceException e) {
-            log.error("Cannot create job in BlobStore", e);
+    protected boolean put(final String jobId, final MultiTransferJob job) {
+        final JobState state = job.getJob().getState();
+        if (state != lastStates.put(jobId, state)) {
+            meterService.recordJobStateMetric(state);
         }
+
+        return isWriteBehindEnabled() ? writeBehind(jobId, job) : writeAndCache(jobId, job);
     }
 
     @Override
     protected Optional<MultiTransferJob> remove(final String jobId) {
         try {
-            final Optional<MultiTransferJob> job = blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
+            final Optional<MultiTransferJob> job = getCachedOrLoad(jobId);
+            pendingWrites.remove(jobId);
+            cache.remove(jobId);
+            lastStates.remove(jobId);
 
             if (job.isPresent()) {
                 final List<String> ids = Stream.concat(job.get().getTransferProcessIds().stream(),
@@ -121,9 +196,148 @@ public class PersistentJobStore extends BaseJobStore {
         }
     }
 
+    /**
+     * Writes all pending job updates to the blobstore and stops the write-behind executor.
+     */
+    @PreDestroy
+    public void shutdown() {
+        writeBehindExecutor.ifPresent(executor -> {
+            executor.shutdown();
+            Set.copyOf(pendingWrites.keySet()).forEach(jobId -> flush(jobId, writeBehindDelay));
+        });
+    }
+
+    private Optional<MultiTransferJob> getCachedOrLoad(final String jobId) throws BlobPersistenceException {
+        final MultiTransferJob pending = pendingWrites.get(jobId);
+        if (pending != null) {
+            return Optional.of(pending);
+        }
+        final MultiTransferJob cached = cache.get(jobId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final Optional<MultiTransferJob> job = blobStore.getBlob(toBlobId(jobId)).flatMap(this::toJob);
+        job.filter(this::isCacheable).ifPresent(j -> cache.put(jobId, j));
+        return job;
+    }
+
+    /**
+     * Delays the write of unfinished jobs. Jobs in a final state are written immediately and only
+     * left pending for a retry if the write fails.
+     *
+     * @return always true, as failed writes are retried
+     */
+    private boolean writeBehind(final String jobId, final MultiTransferJob job) {
+        if (isCacheable(job)) {
+            cache.put(jobId, job);
+        }
+        // a pending previous version means a flush of the job is already scheduled
+        final boolean flushScheduled = pendingWrites.put(jobId, job) != null;
+        if (!isCacheable(job)) {
+            writePending(jobId);
+        }
+        if (!flushScheduled && pendingWrites.containsKey(jobId)) {
+            scheduleFlush(jobId, writeBehindDelay);
+        }
+        return true;
+    }
+
+    private void scheduleFlush(final String jobId, final Duration delay) {
+        writeBehindExecutor.filter(executor -> !executor.isShutdown())
+                           .ifPresentOrElse(executor -> executor.schedule(() -> flush(jobId, delay), delay.toMillis(),
+                                           TimeUnit.MILLISECONDS),
+                                   () -> log.error("Job store is shut down, dropping pending write of job {}", jobId));
+    }
+
+    /**
+     * Writes the pending version of the job. If the write fails, the job stays pending and the write
+     * is retried with exponential backoff.
+     */
+    private void flush(final String jobId, final Duration delay) {
+        if (writePending(jobId)) {
+            if (pendingWrites.containsKey(jobId)) {
+                // the job was updated again while it was written
+                scheduleFlush(jobId, writeBehindDelay);
+            }
+            return;
+        }
+        final Duration retryDelay = delay.multipliedBy(2).compareTo(MAX_WRITE_RETRY_DELAY) < 0
+                ? delay.multipliedBy(2)
+                : MAX_WRITE_RETRY_DELAY;
+        log.warn("Retrying write of job {} in {}", jobId, retryDelay);
+        scheduleFlush(jobId, retryDelay);
+    }
+
+    /**
+     * Writes the pending version of the job and removes it from the pending writes, unless it was
+     * replaced by a newer version in the meantime. The blob is written outside of the map, so the
+     * write does not block updates of other jobs.
+     *
+     * @return false if the write failed
+     */
+    private boolean writePending(final String jobId) {
+        final ReentrantLock lock = writeLocks[Math.floorMod(jobId.hashCode(), WRITE_LOCK_STRIPES)];
+        lock.lock();
+        try {
+            final MultiTransferJob job = pendingWrites.get(jobId);
+            if (job == null) {
+                return true;
+            }
+            if (!writeAndCache(jobId, job)) {
+                return false;
+            }
+            pendingWrites.remove(jobId, job);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ReentrantLock[] createWriteLocks() {
+        final ReentrantLock[] stripes = new ReentrantLock[WRITE_LOCK_STRIPES];
+        Arrays.setAll(stripes, i -> new ReentrantLock());
+        return stripes;
+    }
+
+    private static Thread newWriteBehindThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, "jobstore-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Writes the job to the blobstore. The cache only holds the job if the write succeeded,
+     * so it never returns data which is not persisted.
+     *
+     * @return true if the job was written
+     */
+    private boolean writeAndCache(final String jobId, final MultiTransferJob job) {
+        try {
+            blobStore.putBlob(toBlobId(jobId), toBlob(job));
+            if (isCacheable(job)) {
+                cache.put(jobId, job);
+            } else {
+                cache.remove(jobId);
+            }
+            return true;
+        } catch (BlobPersistenceException e) {
+            cache.remove(jobId);
+            log.error("Cannot create job in BlobStore", e);
+            return false;
+        }
+    }
+
+    private boolean isWriteBehindEnabled() {
+        return !writeBehindDelay.isZero() && !writeBehindDelay.isNegative();
+    }
+
+    private boolean isCacheable(final MultiTransferJob job) {
+        return !FINAL_STATES.contains(job.getJob().getState());
+    }
+
     private Optional<MultiTransferJob> toJob(final byte[] blob) {
         try {
-            return Optional.of(json.fromString(new String(blob, StandardCharsets.UTF_8), MultiTransferJob.class));
+            return Optional.of(blobCodec.decode(blob, MultiTransferJob.class));
         } catch (JsonParseException exception) {
             log.warn("Stored Job could not be parsed to Job object.");
             return Optional.empty();
@@ -131,17 +345,30 @@ public class PersistentJobStore extends BaseJobStore {
     }
 
     private byte[] toBlob(final MultiTransferJob job) {
-        final String jobString = this.json.asString(job);
-        return jobString.getBytes(StandardCharsets.UTF_8);
+        return blobCodec.encode(job);
     }
 
     private String toBlobId(final String jobId) {
         return JOB_PREFIX + jobId;
     }
 
-    private boolean isLastStateSameAsCurrentState(final String jobId, final JobState state) {
-        final Optional<MultiTransferJob> optJob = get(jobId);
-        return optJob.isPresent() && optJob.get().getJob().getState().equals(state);
-    }
+    /**
+     * Access ordered map evicting the least recently used entry once the maximum size is exceeded.
+     */
+    private static final class LruMap extends LinkedHashMap<String, MultiTransferJob> {
+        private static final long serialVersionUID = 1L;
+        private static final int INITIAL_CAPACITY = 16;
+        private static final float LOAD_FACTOR = 0.75f;
+        private final int maxSize;
+
+        /* package */ LruMap(final int maxSize) {
+            super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+            this.maxSize = maxSize;
+        }
 
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, MultiTransferJob> eldest) {
+            return size() > maxSize;
+        }
+    }
 }
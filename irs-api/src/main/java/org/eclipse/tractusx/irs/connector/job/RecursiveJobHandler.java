@@ -54,4 +54,13 @@ public interface RecursiveJobHandler<T extends DataRequest, P extends TransferPr
      * @param job job definition.
      */
     void complete(MultiTransferJob job);
+
+    /**
+     * Called when the job has been deleted from the job store.
+     *
+     * @param job job definition.
+     */
+    default void cleanup(final MultiTransferJob job) {
+        // nothing to clean up by default
+    }
 }
@@ -27,6 +27,7 @@ import static io.swagger.v3.oas.annotations.enums.ParameterIn.QUERY;
 import static org.eclipse.tractusx.irs.common.ApiConstants.FORBIDDEN_DESC;
 import static org.eclipse.tractusx.irs.common.ApiConstants.UNAUTHORIZED_DESC;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 import java.util.List;
 import java.util.UUID;
@@ -47,22 +48,27 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.IrsApplication;
 import org.eclipse.tractusx.irs.common.auth.IrsRoles;
+import org.eclipse.tractusx.irs.component.CursorPageResult;
 import org.eclipse.tractusx.irs.component.Job;
 import org.eclipse.tractusx.irs.component.JobHandle;
 import org.eclipse.tractusx.irs.component.Jobs;
 import org.eclipse.tractusx.irs.component.PageResult;
 import org.eclipse.tractusx.irs.component.RegisterJob;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Submodel;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.connector.job.IrsTimer;
 import org.eclipse.tractusx.irs.dtos.ErrorResponse;
 import org.eclipse.tractusx.irs.semanticshub.AspectModels;
 import org.eclipse.tractusx.irs.services.IrsItemGraphQueryService;
+import org.eclipse.tractusx.irs.services.JobResultStreamingService;
 import org.eclipse.tractusx.irs.services.SemanticHubService;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -74,6 +80,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Application REST controller.
@@ -84,12 +91,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @SuppressWarnings({ "PMD.AvoidDuplicateLiterals",
                     "PMD.ExcessiveImports",
-                    "PMD.ShortVariable"
+                    "PMD.ShortVariable",
+                    "PMD.TooManyStaticImports"
 })
 public class IrsController {
 
     private final IrsItemGraphQueryService itemJobService;
     private final SemanticHubService semanticHubService;
+    private final JobResultStreamingService jobResultStreamingService;
 
     @Operation(operationId = "registerJobForGlobalAssetId",
                summary = "Register an IRS job to retrieve an item graph for given {globalAssetId}.",
@@ -189,6 +198,155 @@ public class IrsController {
         return ResponseEntity.ok(job);
     }
 
+    @Operation(description = "Stream job with optional item graph result for requested id as NDJSON. "
+            + "The first line contains the job, every following line one element of the item graph.",
+               operationId = "streamJobForJobId",
+               summary = "Stream job with optional item graph result for requested id as NDJSON.",
+               security = @SecurityRequirement(name = "api_key"), tags = { "Item Relationship Service" })
+    @ApiResponses(value = { @ApiResponse(responseCode = "200",
+                                         description = "Stream job with item graph for the requested id.",
+                                         content = { @Content(mediaType = APPLICATION_NDJSON_VALUE) }),
+                            @ApiResponse(responseCode = "206",
+                                         description = "Stream job with current processed item graph for the requested id.",
+                                         content = { @Content(mediaType = APPLICATION_NDJSON_VALUE) }),
+                            @ApiResponse(responseCode = "400", description = "Stream job failed.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-400"))
+                                         }),
+                            @ApiResponse(responseCode = "401", description = UNAUTHORIZED_DESC,
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-401"))
+                                         }),
+                            @ApiResponse(responseCode = "403", description = FORBIDDEN_DESC,
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-403"))
+                                         }),
+                            @ApiResponse(responseCode = "404", description = "Job with the requested jobId not found.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-404"))
+                                         }),
+    })
+    @IrsTimer("streamjob")
+    @GetMapping(value = "/jobs/{id}/stream", produces = APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyAuthority('" + IrsRoles.ADMIN_IRS + "', '" + IrsRoles.VIEW_IRS + "')")
+    public ResponseEntity<StreamingResponseBody> streamJobById(
+            @Parameter(description = "Id of the job.", schema = @Schema(implementation = UUID.class), name = "id",
+                       example = "6c311d29-5753-46d4-b32c-19b918ea93b0") @Size(min = IrsAppConstants.JOB_ID_SIZE,
+                                                                               max = IrsAppConstants.JOB_ID_SIZE) @Valid @PathVariable final UUID id,
+            @Parameter(
+                    description = "\\<true\\> Stream job with current processed item graph. \\<false\\> Stream job with item graph if job is in state COMPLETED, otherwise job.") @Schema(
+                    implementation = Boolean.class, defaultValue = "true") @RequestParam(value = "returnUncompletedJob",
+                                                                                         required = false) final boolean returnUncompletedJob) {
+        final JobResultStreamingService.JobResultStream stream = jobResultStreamingService.streamJobResult(id,
+                returnUncompletedJob);
+        final HttpStatus status = stream.job().getState().equals(JobState.RUNNING)
+                ? HttpStatus.PARTIAL_CONTENT
+                : HttpStatus.OK;
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_NDJSON).body(stream.body());
+    }
+
+    @Operation(description = "Return a page of the relationships of the item graph for requested id.",
+               operationId = "getRelationshipsForJobId",
+               summary = "Return a page of the relationships of the item graph for requested id.",
+               security = @SecurityRequirement(name = "api_key"), tags = { "Item Relationship Service" })
+    @ApiResponses(value = { @ApiResponse(responseCode = "200",
+                                         description = "Page of relationships with the cursor of the next page.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE) }),
+                            @ApiResponse(responseCode = "400", description = "Return relationships failed.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-400"))
+                                         }),
+                            @ApiResponse(responseCode = "401", description = UNAUTHORIZED_DESC,
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-401"))
+                                         }),
+                            @ApiResponse(responseCode = "403", description = FORBIDDEN_DESC,
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-403"))
+                                         }),
+                            @ApiResponse(responseCode = "404", description = "Job with the requested jobId not found.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-404"))
+                                         }),
+    })
+    @IrsTimer("getjobrelationships")
+    @GetMapping("/jobs/{id}/relationships")
+    @PreAuthorize("hasAnyAuthority('" + IrsRoles.ADMIN_IRS + "', '" + IrsRoles.VIEW_IRS + "')")
+    public CursorPageResult<Relationship> getRelationshipsByJobId(
+            @Parameter(description = "Id of the job.", schema = @Schema(implementation = UUID.class), name = "id",
+                       example = "6c311d29-5753-46d4-b32c-19b918ea93b0") @Size(min = IrsAppConstants.JOB_ID_SIZE,
+                                                                               max = IrsAppConstants.JOB_ID_SIZE) @Valid @PathVariable final UUID id,
+            @Parameter(description = "Cursor of the requested page, as returned with the previous page.") @RequestParam(
+                    value = "cursor", required = false) final String cursor,
+            @Parameter(description = "Maximum number of elements of the page.") @RequestParam(value = "limit",
+                                                                                            required = false,
+                                                                                            defaultValue = "100") final int limit) {
+        return jobResultStreamingService.getRelationships(id, cursor, limit);
+    }
+
+    @Operation(description = "Return a page of the submodels of the item graph for requested id.",
+               operationId = "getSubmodelsForJobId",
+               summary = "Return a page of the submodels of the item graph for requested id.",
+               security = @SecurityRequirement(name = "api_key"), tags = { "Item Relationship Service" })
+    @ApiResponses(value = { @ApiResponse(responseCode = "200",
+                                         description = "Page of submodels with the cursor of the next page.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE) }),
+                            @ApiResponse(responseCode = "400", description = "Return submodels failed.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-400"))
+                                         }),
+                            @ApiResponse(responseCode = "401", description = UNAUTHORIZED_DESC,
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-401"))
+                                         }),
+                            @ApiResponse(responseCode = "403", description = FORBIDDEN_DESC,
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-403"))
+                                         }),
+                            @ApiResponse(responseCode = "404", description = "Job with the requested jobId not found.",
+                                         content = { @Content(mediaType = APPLICATION_JSON_VALUE,
+                                                              schema = @Schema(implementation = ErrorResponse.class),
+                                                              examples = @ExampleObject(name = "error",
+                                                                                        ref = "#/components/examples/error-response-404"))
+                                         }),
+    })
+    @IrsTimer("getjobsubmodels")
+    @GetMapping("/jobs/{id}/submodels")
+    @PreAuthorize("hasAnyAuthority('" + IrsRoles.ADMIN_IRS + "', '" + IrsRoles.VIEW_IRS + "')")
+    public CursorPageResult<Submodel> getSubmodelsByJobId(
+            @Parameter(description = "Id of the job.", schema = @Schema(implementation = UUID.class), name = "id",
+                       example = "6c311d29-5753-46d4-b32c-19b918ea93b0") @Size(min = IrsAppConstants.JOB_ID_SIZE,
+                                                                               max = IrsAppConstants.JOB_ID_SIZE) @Valid @PathVariable final UUID id,
+            @Parameter(description = "Cursor of the requested page, as returned with the previous page.") @RequestParam(
+                    value = "cursor", required = false) final String cursor,
+            @Parameter(description = "Maximum number of elements of the page.") @RequestParam(value = "limit",
+                                                                                            required = false,
+                                                                                            defaultValue = "100") final int limit) {
+        return jobResultStreamingService.getSubmodels(id, cursor, limit);
+    }
+
     @Operation(description = "Cancel job for requested jobId.", operationId = "cancelJobByJobId",
                summary = "Cancel job for requested jobId.", security = @SecurityRequirement(name = "api_key"),
                tags = { "Item Relationship Service" })
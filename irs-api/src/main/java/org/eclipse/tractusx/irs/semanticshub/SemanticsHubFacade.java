@@ -29,6 +29,7 @@ import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.services.validation.JsonValidatorService;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -46,6 +47,7 @@ public class SemanticsHubFacade {
     private static final String SEMANTICS_HUB_MODEL_CACHE_NAME = "model_cache";
 
     private final SemanticsHubClient semanticsHubClient;
+    private final JsonValidatorService jsonValidatorService;
 
     /**
      * Returning requested Schema model and putting result into cache
@@ -59,11 +61,12 @@ public class SemanticsHubFacade {
     }
 
     /**
-     * Clearing cache from all values
+     * Clearing cache from all values, including the schemas compiled from them
      */
     @CacheEvict(value = SEMANTICS_HUB_CACHE_NAME, allEntries = true)
     public void evictAllCacheValues() {
         log.debug("Clearing Semantics Hub Cache.");
+        jsonValidatorService.evictSchemaCache();
     }
 
     /**
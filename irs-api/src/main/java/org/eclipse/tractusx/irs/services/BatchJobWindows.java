@@ -0,0 +1,233 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.connector.batch.Batch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sliding windows of jobs in flight per batch order. Instead of starting a batch only after the
+ * previous batch finished, the jobs of all batches of an order are started in batch order as soon
+ * as a job of the order finishes, so a single slow job no longer idles the whole order.
+ * Disabled if the window size is 0.
+ */
+@Slf4j
+@Service
+public class BatchJobWindows {
+
+    private final int maxJobsInFlight;
+    private final Map<UUID, Window> windowsByOrderId = new ConcurrentHashMap<>();
+    private final Map<UUID, Window> windowsByBatchId = new ConcurrentHashMap<>();
+
+    public BatchJobWindows(@Value("${irs.job.batch.maxJobsInFlight:0}") final int maxJobsInFlight) {
+        this.maxJobsInFlight = maxJobsInFlight;
+    }
+
+    /**
+     * @return whether batch orders are executed with a sliding window of jobs
+     */
+    public boolean isEnabled() {
+        return maxJobsInFlight > 0;
+    }
+
+    /**
+     * Opens the window of a batch order and starts the first jobs.
+     *
+     * @param batchOrderId the batch order
+     * @param batches      all batches of the order
+     * @param starter      starts the given jobs of the batch order, see {@link JobStarter}
+     */
+    /* package */ void open(final UUID batchOrderId, final List<Batch> batches, final JobStarter starter) {
+        final Window window = new Window(batchOrderId, batches);
+        windowsByOrderId.put(batchOrderId, window);
+        batches.forEach(batch -> windowsByBatchId.put(batch.getBatchId(), window));
+        log.info("Opened window of {} jobs for BatchOrderId: {}", maxJobsInFlight, batchOrderId);
+        window.fill(starter);
+    }
+
+    /**
+     * Frees the slot of a finished job and starts the next jobs of its batch order. Jobs of batches
+     * which are not executed with a window are ignored.
+     *
+     * @param batchId the batch of the finished job
+     * @param starter starts the given jobs of the batch order, see {@link JobStarter}
+     */
+    /* package */ void release(final UUID batchId, final JobStarter starter) {
+        final Window window = windowsByBatchId.get(batchId);
+        if (window != null) {
+            window.release(starter);
+        }
+    }
+
+    /**
+     * Closes the window of a batch order, so its jobs which are not started yet are never started.
+     *
+     * @param batchOrderId the batch order
+     */
+    public void cancel(final UUID batchOrderId) {
+        final Window window = windowsByOrderId.get(batchOrderId);
+        if (window != null) {
+            log.info("Closing window of BatchOrderId: {}, not started jobs are dropped", batchOrderId);
+            window.close();
+        }
+    }
+
+    private void remove(final Window window) {
+        windowsByOrderId.remove(window.batchOrderId);
+        window.batchIds.forEach(windowsByBatchId::remove);
+    }
+
+    /**
+     * Job of a batch which is not started yet.
+     *
+     * @param batchId      the batch
+     * @param index        index of the job in the job progress list of the batch
+     * @param firstOfBatch whether this is the first started job of the batch
+     * @param lastOfBatch  whether all jobs of the batch are started with this job
+     */
+    /* package */ record PendingJob(UUID batchId, int index, boolean firstOfBatch, boolean lastOfBatch) {
+    }
+
+    /**
+     * Starts jobs of a batch order. Called without holding the lock of the window, but by only one
+     * thread at a time per batch order, so the jobs of a batch are never started concurrently.
+     */
+    @FunctionalInterface
+    /* package */ interface JobStarter {
+
+        /**
+         * @param batchOrderId the batch order
+         * @param jobs         the jobs to start
+         * @return the number of jobs which could not be started, their slots are freed again
+         */
+        int start(UUID batchOrderId, List<PendingJob> jobs);
+    }
+
+    /**
+     * Pending jobs and jobs in flight of one batch order. The jobs are taken under the lock and
+     * started outside of it. While a thread is starting jobs, other threads only free their slots
+     * and the starting thread fills them once its jobs are started.
+     */
+    private final class Window {
+
+        private final Object lock = new Object();
+        private final UUID batchOrderId;
+        private final List<UUID> batchIds = new ArrayList<>();
+        private final Deque<PendingJob> pendingJobs = new ArrayDeque<>();
+        private int jobsInFlight;
+        private boolean starting;
+
+        /* package */ Window(final UUID batchOrderId, final List<Batch> batches) {
+            this.batchOrderId = batchOrderId;
+            batches.stream().sorted(Comparator.comparing(Batch::getBatchNumber)).forEach(batch -> {
+                batchIds.add(batch.getBatchId());
+                final int size = batch.getJobProgressList().size();
+                for (int index = 0; index < size; index++) {
+                    pendingJobs.add(new PendingJob(batch.getBatchId(), index, index == 0, index == size - 1));
+                }
+            });
+        }
+
+        /* package */ void release(final JobStarter starter) {
+            synchronized (lock) {
+                jobsInFlight--;
+            }
+            fill(starter);
+        }
+
+        /* package */ void fill(final JobStarter starter) {
+            List<PendingJob> jobsToStart;
+            synchronized (lock) {
+                if (starting) {
+                    return;
+                }
+                jobsToStart = takeJobsToStart(0);
+            }
+            while (!jobsToStart.isEmpty()) {
+                boolean startFailed = true;
+                int jobsNotStarted;
+                try {
+                    jobsNotStarted = starter.start(batchOrderId, jobsToStart);
+                    startFailed = false;
+                } finally {
+                    if (startFailed) {
+                        stopStarting(jobsToStart.size());
+                    }
+                }
+                synchronized (lock) {
+                    // jobs which could not be started free their slots for the next pending jobs
+                    jobsToStart = takeJobsToStart(jobsNotStarted);
+                }
+            }
+        }
+
+        /**
+         * Takes the jobs for the free slots. If there are none, the starting thread is done and
+         * the window is closed once all jobs finished. Must be called while holding the lock.
+         */
+        private List<PendingJob> takeJobsToStart(final int jobsNotStarted) {
+            jobsInFlight -= jobsNotStarted;
+            final List<PendingJob> jobsToStart = new ArrayList<>();
+            while (hasFreeSlot()) {
+                jobsToStart.add(pendingJobs.poll());
+                jobsInFlight++;
+            }
+            starting = !jobsToStart.isEmpty();
+            if (!starting && pendingJobs.isEmpty() && jobsInFlight <= 0) {
+                log.info("All jobs of BatchOrderId: {} finished, closing window", batchOrderId);
+                remove(this);
+            }
+            return jobsToStart;
+        }
+
+        private void stopStarting(final int jobsNotStarted) {
+            synchronized (lock) {
+                jobsInFlight -= jobsNotStarted;
+                starting = false;
+            }
+        }
+
+        private boolean hasFreeSlot() {
+            return jobsInFlight < maxJobsInFlight && !pendingJobs.isEmpty();
+        }
+
+        /* package */ void close() {
+            synchronized (lock) {
+                pendingJobs.clear();
+                remove(this);
+            }
+        }
+    }
+}
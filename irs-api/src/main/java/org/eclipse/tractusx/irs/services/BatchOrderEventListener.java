@@ -25,10 +25,15 @@ package org.eclipse.tractusx.irs.services;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
 import org.eclipse.tractusx.irs.component.JobHandle;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.component.RegisterBpnInvestigationJob;
@@ -56,6 +61,9 @@ import org.springframework.stereotype.Service;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@SuppressWarnings({ "PMD.ExcessiveImports",
+                    "PMD.TooManyMethods"
+})
 public class BatchOrderEventListener {
 
     private final BatchOrderStore batchOrderStore;
@@ -64,20 +72,30 @@ public class BatchOrderEventListener {
     private final EssService essService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final TimeoutSchedulerBatchProcessingService timeoutScheduler;
+    private final BatchJobWindows jobWindows;
+    private final JobEventLinkedQueueListener jobEventLinkedQueueListener;
 
     @Async
     @EventListener
     public void handleBatchOrderRegisteredEvent(final BatchOrderRegisteredEvent batchOrderRegisteredEvent) {
         log.info("Listener received BatchOrderRegisteredEvent with BatchOrderId: {}.",
                 batchOrderRegisteredEvent.batchOrderId());
-        batchOrderStore.find(batchOrderRegisteredEvent.batchOrderId())
-                       .ifPresent(batchOrder -> batchStore.findAll()
-                                                          .stream()
-                                                          .filter(batch -> batch.getBatchOrderId()
-                                                                                .equals(batchOrder.getBatchOrderId()))
-                                                          .filter(batch -> batch.getBatchNumber().equals(1))
-                                                          .findFirst()
-                                                          .ifPresent(batch -> startBatch(batchOrder, batch)));
+        batchOrderStore.find(batchOrderRegisteredEvent.batchOrderId()).ifPresent(batchOrder -> {
+            final List<Batch> batches = batchStore.findAll()
+                                                  .stream()
+                                                  .filter(batch -> batch.getBatchOrderId()
+                                                                        .equals(batchOrder.getBatchOrderId()))
+                                                  .toList();
+            if (jobWindows.isEnabled()) {
+                jobWindows.open(batchOrder.getBatchOrderId(), batches,
+                        (batchOrderId, jobs) -> startJobs(batchOrder, jobs));
+            } else {
+                batches.stream()
+                       .filter(batch -> batch.getBatchNumber().equals(1))
+                       .findFirst()
+                       .ifPresent(batch -> startBatch(batchOrder, batch));
+            }
+        });
     }
 
     @Async
@@ -100,7 +118,7 @@ public class BatchOrderEventListener {
                 applicationEventPublisher.publishEvent(
                         new BatchOrderProcessingFinishedEvent(batchOrder.getBatchOrderId(),
                                 batchOrder.getBatchOrderState(), batchOrder.getCallbackUrl()));
-            } else {
+            } else if (!jobWindows.isEnabled()) {
                 batchStore.findAll()
                           .stream()
                           .filter(batch -> batch.getBatchOrderId().equals(batchOrder.getBatchOrderId()))
@@ -111,6 +129,90 @@ public class BatchOrderEventListener {
         });
     }
 
+    @Async
+    @EventListener
+    public void handleJobProcessingFinishedEvent(final JobProcessingFinishedEvent jobEvent) {
+        jobEvent.batchId()
+                .ifPresent(batchId -> jobWindows.release(batchId,
+                        (batchOrderId, jobs) -> batchOrderStore.find(batchOrderId)
+                                                               .map(batchOrder -> startJobs(batchOrder, jobs))
+                                                               .orElse(jobs.size())));
+    }
+
+    /**
+     * @return the number of jobs which could not be started
+     */
+    private int startJobs(final BatchOrder batchOrder, final List<BatchJobWindows.PendingJob> jobs) {
+        return jobs.stream()
+                   .collect(Collectors.groupingBy(BatchJobWindows.PendingJob::batchId, LinkedHashMap::new,
+                           Collectors.toList()))
+                   .entrySet()
+                   .stream()
+                   .mapToInt(jobsOfBatch -> batchStore.find(jobsOfBatch.getKey())
+                                                      .map(batch -> startJobsOfBatch(batchOrder, batch,
+                                                              jobsOfBatch.getValue()))
+                                                      .orElse(jobsOfBatch.getValue().size()))
+                   .sum();
+    }
+
+    /**
+     * Starts the jobs of a batch. Jobs which fail to start are marked as {@link JobState#ERROR}.
+     *
+     * @return the number of jobs which could not be started
+     */
+    private int startJobsOfBatch(final BatchOrder batchOrder, final Batch batch,
+            final List<BatchJobWindows.PendingJob> jobs) {
+        final List<JobProgress> progressList = new ArrayList<>(batch.getJobProgressList());
+        final List<UUID> jobIds = new ArrayList<>();
+        jobs.forEach(job -> {
+            final PartChainIdentificationKey identificationKey = progressList.get(job.index())
+                                                                             .getIdentificationKey();
+            final JobProgress jobProgress = tryStartJob(batchOrder, batch, identificationKey);
+            progressList.set(job.index(), jobProgress);
+            if (jobProgress.getJobId() != null) {
+                jobIds.add(jobProgress.getJobId());
+            }
+        });
+        batch.setJobProgressList(progressList);
+        // the batch timeout starts with its first job, as its last job may never be started
+        if (jobs.stream().anyMatch(BatchJobWindows.PendingJob::firstOfBatch)) {
+            batch.setStartedOn(ZonedDateTime.now(ZoneOffset.UTC));
+            timeoutScheduler.registerBatchTimeout(batch.getBatchId(), batchOrder.getTimeout());
+        }
+        batchStore.save(batch.getBatchId(), batch);
+        log.info("Started {} jobs of BatchId: {}", jobIds.size(), batch.getBatchId());
+
+        timeoutScheduler.registerJobsTimeout(jobIds, batchOrder.getJobTimeout());
+        final int jobsNotStarted = jobs.size() - jobIds.size();
+        if (jobsNotStarted > 0) {
+            jobEventLinkedQueueListener.handleJobsNotStarted(batch.getBatchId(), jobsNotStarted);
+        }
+        return jobsNotStarted;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private JobProgress tryStartJob(final BatchOrder batchOrder, final Batch batch,
+            final PartChainIdentificationKey identificationKey) {
+        try {
+            return startJob(batchOrder, batch, identificationKey);
+        } catch (RuntimeException e) {
+            log.error("Could not start job for {} of BatchId: {}", identificationKey, batch.getBatchId(), e);
+            return JobProgress.builder().identificationKey(identificationKey).jobState(JobState.ERROR).build();
+        }
+    }
+
+    private JobProgress startJob(final BatchOrder batchOrder, final Batch batch,
+            final PartChainIdentificationKey identificationKey) {
+        if (batchOrder.getJobType().equals(BatchOrder.JobType.ESS)) {
+            final RegisterBpnInvestigationJob registerJob = createRegisterBpnInvestigationBatchOrder(batchOrder,
+                    identificationKey);
+            return createJobProgress(essService.startIrsJob(registerJob, batch.getBatchId()), registerJob.getKey());
+        }
+        final RegisterJob registerJob = createRegisterJob(batchOrder, identificationKey);
+        return createJobProgress(irsItemGraphQueryService.registerItemJob(registerJob, batch.getBatchId()),
+                registerJob.getKey());
+    }
+
     private void startBatch(final BatchOrder batchOrder, final Batch batch) {
         final List<PartChainIdentificationKey> keyStream = batch.getJobProgressList()
                                                                                          .stream()
@@ -25,7 +25,8 @@ package org.eclipse.tractusx.irs.services;
 
 import static org.eclipse.tractusx.irs.configuration.JobConfiguration.JOB_BLOB_PERSISTENCE;
 
-import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -42,6 +43,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemDataRequest;
+import org.eclipse.tractusx.irs.aaswrapper.job.PartialResultAggregator;
+import org.eclipse.tractusx.irs.aaswrapper.job.PartialResultAggregator.PartialResult;
 import org.eclipse.tractusx.irs.aaswrapper.job.RequestMetric;
 import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
@@ -73,7 +76,7 @@ import org.eclipse.tractusx.irs.connector.job.TransferProcess;
 import org.eclipse.tractusx.irs.semanticshub.AspectModel;
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
-import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -93,7 +96,8 @@ import org.springframework.web.server.ResponseStatusException;
 @Slf4j
 @Service
 @SuppressWarnings({ "PMD.ExcessiveImports",
-                    "PMD.TooManyMethods"
+                    "PMD.TooManyMethods",
+                    "PMD.GodClass"
 })
 public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
 
@@ -109,12 +113,17 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
 
     private final ApplicationEventPublisher applicationEventPublisher;
 
+    private final PartialResultAggregator partialResultAggregator;
+
+    private final BlobCodec blobCodec;
+
     private final String bpdmUrl;
 
     public IrsItemGraphQueryService(final JobOrchestrator<ItemDataRequest, AASTransferProcess> orchestrator,
             final JobStore jobStore, @Qualifier(JOB_BLOB_PERSISTENCE) final BlobPersistence blobStore,
             final MeterRegistryService meterRegistryService, final SemanticsHubFacade semanticsHubFacade,
             final ApplicationEventPublisher applicationEventPublisher,
+            final PartialResultAggregator partialResultAggregator, final BlobCodec blobCodec,
             @Value("${bpdm.bpnEndpoint:}") final String bpdmUrl) {
         this.orchestrator = orchestrator;
         this.jobStore = jobStore;
@@ -122,6 +131,8 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
         this.meterRegistryService = meterRegistryService;
         this.semanticsHubFacade = semanticsHubFacade;
         this.applicationEventPublisher = applicationEventPublisher;
+        this.partialResultAggregator = partialResultAggregator;
+        this.blobCodec = blobCodec;
         this.bpdmUrl = bpdmUrl;
     }
 
@@ -219,6 +230,7 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
         final String idAsString = String.valueOf(jobId);
 
         final Optional<MultiTransferJob> canceled = this.jobStore.cancelJob(idAsString);
+        canceled.ifPresent(cancelledJob -> partialResultAggregator.remove(cancelledJob.getJobIdString()));
         canceled.ifPresent(cancelledJob -> applicationEventPublisher.publishEvent(
                 new JobProcessingFinishedEvent(cancelledJob.getJobIdString(), cancelledJob.getJob().getState().name(),
                         cancelledJob.getJobParameter().getCallbackUrl(), cancelledJob.getBatchId())));
@@ -241,46 +253,85 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
     }
 
     public Jobs getJobForJobId(final MultiTransferJob multiJob, final boolean includePartialResults) {
-        final var relationships = new ArrayList<Relationship>();
-        final var tombstones = new ArrayList<Tombstone>();
-        final var shells = new ArrayList<Shell>();
-        final var submodels = new ArrayList<Submodel>();
-        final var bpns = new ArrayList<Bpn>();
-
-        if (multiJob.jobIsCompleted()) {
-            final var container = retrieveJobResultRelationships(multiJob.getJob().getId());
-            relationships.addAll(container.getRelationships());
-            tombstones.addAll(container.getTombstones());
-            shells.addAll(container.getShells());
-            submodels.addAll(container.getSubmodels());
-            bpns.addAll(container.getBpns());
-        } else if (includePartialResults) {
-            final var container = retrievePartialResults(multiJob);
-            relationships.addAll(container.getRelationships());
-            tombstones.addAll(container.getTombstones());
-            shells.addAll(container.getShells());
-            submodels.addAll(container.getSubmodels());
-            bpns.addAll(container.getBpns());
-        }
+        final Optional<ItemContainer> itemGraph = retrieveItemGraph(multiJob, includePartialResults);
+        final ItemContainer container = itemGraph.orElseGet(() -> ItemContainer.builder().build());
+        final PartialResult partialResult = findPartialResult(multiJob, itemGraph);
 
         log.info("Found job with id {} in status {} with {} relationships, {} tombstones and {} submodels", multiJob.getJob().getId(),
-                multiJob.getJob().getState(), relationships.size(), tombstones.size(), submodels.size());
+                multiJob.getJob().getState(), container.getRelationships().size(), container.getTombstones().size(),
+                container.getSubmodels().size());
 
         return Jobs.builder()
                    .job(multiJob.getJob()
                                 .toBuilder()
                                 .summary(buildSummary(multiJob.getCompletedTransfers().size(),
-                                        multiJob.getTransferProcessIds().size(), tombstones.size(),
-                                        retrievePartialResults(multiJob)))
+                                        multiJob.getTransferProcessIds().size(), container.getTombstones().size(),
+                                        partialResult))
                                 .build())
-                   .relationships(relationships)
-                   .tombstones(tombstones)
-                   .shells(shells)
-                   .submodels(submodels)
-                   .bpns(bpns)
+                   .relationships(new ArrayList<>(container.getRelationships()))
+                   .tombstones(new ArrayList<>(container.getTombstones()))
+                   .shells(new ArrayList<>(container.getShells()))
+                   .submodels(new ArrayList<>(container.getSubmodels()))
+                   .bpns(new ArrayList<>(container.getBpns()))
                    .build();
     }
 
+    /**
+     * Returns the blobs holding the item graph of the job, without reading them. Completed jobs
+     * have a single blob. Jobs which are not completed return the partial results if requested,
+     * either from the aggregate merged in memory or from the stored results of the completed
+     * transfers, which are opened one after another. Otherwise no blob is returned.
+     *
+     * @param multiJob              the job
+     * @param includePartialResults whether to include the partial results of jobs which are not
+     *                              completed
+     * @return the item graph blobs, readable with {@link BlobCodec}
+     */
+    public List<ItemGraphBlob> getItemGraphBlobs(final MultiTransferJob multiJob,
+            final boolean includePartialResults) {
+        if (multiJob.jobIsCompleted()) {
+            final UUID jobId = multiJob.getJob().getId();
+            return List.of(() -> Optional.of(openJobResultBlob(jobId)));
+        }
+        if (!includePartialResults) {
+            return List.of();
+        }
+        final Optional<ItemContainer> partialItemGraph = partialResultAggregator.find(multiJob.getJobIdString())
+                                                                                .flatMap(PartialResult::getItemGraph);
+        if (partialItemGraph.isPresent()) {
+            final byte[] blob = blobCodec.encode(partialItemGraph.get());
+            return List.of(() -> Optional.of(new ByteArrayInputStream(blob)));
+        }
+        return multiJob.getCompletedTransfers()
+                       .stream()
+                       .map(TransferProcess::getId)
+                       .<ItemGraphBlob>map(transferId -> () -> openTransferResultBlob(transferId))
+                       .toList();
+    }
+
+    /**
+     * Returns the job including its summary, without the item graph.
+     *
+     * @param multiJob              the job
+     * @param includePartialResults whether the item graph holds the partial results of a job which
+     *                              is not completed
+     * @param tombstonesSize        the number of tombstones of the item graph
+     * @param metrics               the metrics of the item graph
+     * @return the job
+     */
+    public Job getJobWithSummary(final MultiTransferJob multiJob, final boolean includePartialResults,
+            final int tombstonesSize, final List<RequestMetric> metrics) {
+        final Optional<ItemContainer> itemGraph = multiJob.jobIsCompleted() || includePartialResults
+                ? Optional.of(ItemContainer.builder().metrics(metrics).build())
+                : Optional.empty();
+        return multiJob.getJob()
+                       .toBuilder()
+                       .summary(buildSummary(multiJob.getCompletedTransfers().size(),
+                               multiJob.getTransferProcessIds().size(), tombstonesSize,
+                               findPartialResult(multiJob, itemGraph)))
+                       .build();
+    }
+
     @Scheduled(cron = "${irs.job.jobstore.cron.expression}")
     public void updateJobsInJobStoreMetrics() {
         final List<MultiTransferJob> jobs = jobStore.findAll();
@@ -301,9 +352,9 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
     }
 
     private Summary buildSummary(final int completedTransfersSize, final int runningSize, final int tombstonesSize,
-            final ItemContainer itemContainer) {
-        final Integer bpnLookupCompleted = getBpnLookupMetric(itemContainer, RequestMetric::getCompleted);
-        final Integer bpnLookupFailed = getBpnLookupMetric(itemContainer, RequestMetric::getFailed);
+            final PartialResult partialResult) {
+        final int bpnLookupCompleted = partialResult.getBpnLookupsCompleted();
+        final int bpnLookupFailed = partialResult.getBpnLookupsFailed();
         return Summary.builder()
                       .asyncFetchedItems(AsyncFetchedItems.builder()
                                                           .completed(completedTransfersSize)
@@ -314,14 +365,39 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
                       .build();
     }
 
-    private Integer getBpnLookupMetric(final ItemContainer itemContainer,
-            final Function<RequestMetric, Integer> requestMetricIntegerFunction) {
-        return itemContainer.getMetrics()
-                            .stream()
-                            .filter(metric -> metric.getType().equals(RequestMetric.RequestType.BPDM))
-                            .map(requestMetricIntegerFunction)
-                            .reduce(Integer::sum)
-                            .orElse(0);
+    /**
+     * Returns the item graph of completed jobs, and the partial item graph of other jobs if
+     * requested.
+     */
+    private Optional<ItemContainer> retrieveItemGraph(final MultiTransferJob multiJob,
+            final boolean includePartialResults) {
+        if (multiJob.jobIsCompleted()) {
+            return Optional.of(retrieveJobResultRelationships(multiJob.getJob().getId()));
+        }
+        return includePartialResults ? Optional.of(retrievePartialItemGraph(multiJob)) : Optional.empty();
+    }
+
+    /**
+     * Returns the partial item graph merged by the aggregator. Jobs without an aggregate, e.g. jobs
+     * started by another instance, or jobs with more items than the aggregator keeps, read the partial
+     * item graph from the stored results of the completed transfers.
+     */
+    private ItemContainer retrievePartialItemGraph(final MultiTransferJob multiJob) {
+        return partialResultAggregator.find(multiJob.getJobIdString())
+                                      .flatMap(PartialResult::getItemGraph)
+                                      .orElseGet(() -> retrievePartialResults(multiJob));
+    }
+
+    /**
+     * Returns the summary counts of the job. Running jobs use the counts merged by the aggregator.
+     * Other jobs, e.g. completed jobs or jobs started by another instance, take the counts from the
+     * given item graph, or from the stored results of the completed transfers if no item graph was
+     * read.
+     */
+    private PartialResult findPartialResult(final MultiTransferJob multiJob, final Optional<ItemContainer> itemGraph) {
+        return partialResultAggregator.find(multiJob.getJobIdString())
+                                      .orElseGet(() -> PartialResult.from(
+                                              itemGraph.orElseGet(() -> retrievePartialResults(multiJob))));
     }
 
     private ItemContainer retrievePartialResults(final MultiTransferJob multiJob) {
@@ -363,16 +439,29 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
                             .build();
     }
 
+    private Optional<InputStream> openTransferResultBlob(final String transferId) {
+        try {
+            return blobStore.getBlobStream(transferId);
+        } catch (BlobPersistenceException e) {
+            meterRegistryService.incrementException();
+            log.error("Unable to read transfer result", e);
+            return Optional.empty();
+        }
+    }
+
     private ItemContainer toItemContainer(final byte[] blob) {
-        return new JsonUtil().fromString(new String(blob, StandardCharsets.UTF_8), ItemContainer.class);
+        return blobCodec.decode(blob, ItemContainer.class);
     }
 
     private ItemContainer retrieveJobResultRelationships(final UUID jobId) {
+        return toItemContainer(retrieveJobResultBlob(jobId));
+    }
+
+    private byte[] retrieveJobResultBlob(final UUID jobId) {
         try {
             final Optional<byte[]> blob = blobStore.getBlob(jobId.toString());
-            final byte[] bytes = blob.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+            return blob.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                     "Could not find stored data for multiJob with id " + jobId));
-            return toItemContainer(bytes);
         } catch (BlobPersistenceException e) {
             log.error("Unable to read blob", e);
             meterRegistryService.incrementException();
@@ -381,4 +470,28 @@ public class IrsItemGraphQueryService implements IIrsItemGraphQueryService {
         }
     }
 
+    private InputStream openJobResultBlob(final UUID jobId) {
+        try {
+            return blobStore.getBlobStream(jobId.toString())
+                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                    "Could not find stored data for multiJob with id " + jobId));
+        } catch (BlobPersistenceException e) {
+            log.error("Unable to read blob", e);
+            meterRegistryService.incrementException();
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Could not load stored data for multiJob with id " + jobId, e);
+        }
+    }
+
+    /**
+     * A stored blob holding the item graph of a job or a part of it.
+     */
+    @FunctionalInterface
+    public interface ItemGraphBlob {
+        /**
+         * @return the content of the blob, to be closed by the caller, or empty if the blob is not
+         *         stored
+         */
+        Optional<InputStream> open();
+    }
 }
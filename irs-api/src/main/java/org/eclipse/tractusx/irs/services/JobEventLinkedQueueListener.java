@@ -64,6 +64,19 @@ public class JobEventLinkedQueueListener {
         queueMap.put(batchId, new LimitedJobEventQueue(new ConcurrentLinkedQueue<>(), size));
     }
 
+    /**
+     * Counts jobs of a batch which could not be started, so the batch completes without waiting
+     * for their events. Must be called after the failed jobs are saved to the batch.
+     *
+     * @param batchId        the batch
+     * @param jobsNotStarted the number of jobs which could not be started
+     */
+    public void handleJobsNotStarted(final UUID batchId, final int jobsNotStarted) {
+        Optional.ofNullable(queueMap.computeIfPresent(batchId,
+                        (id, queue) -> new LimitedJobEventQueue(queue.linkedQueue, queue.limit - jobsNotStarted)))
+                .ifPresent(queue -> checkIfIsCompleted(batchId, queue));
+    }
+
     @Async
     @EventListener
     public void handleJobProcessingFinishedEvent(final JobProcessingFinishedEvent jobEvent) {
@@ -95,9 +108,11 @@ public class JobEventLinkedQueueListener {
     private List<JobProgress> updateProgressOfJobsInBatch(final LimitedJobEventQueue queue, final Batch batch) {
         final List<JobProgress> progressList = batch.getJobProgressList();
         queue.linkedQueue.forEach(event -> progressList.stream()
-                                                       .filter(jobProgress -> jobProgress.getJobId()
-                                                                                         .toString()
-                                                                                         .equals(event.jobId()))
+                                                       // jobs which could not be started have no id
+                                                       .filter(jobProgress -> jobProgress.getJobId() != null
+                                                               && jobProgress.getJobId()
+                                                                             .toString()
+                                                                             .equals(event.jobId()))
                                                        .findFirst()
                                                        .ifPresent(jobProgress -> jobProgress.setJobState(
                                                                JobState.valueOf(event.jobState()))));
@@ -0,0 +1,453 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.aaswrapper.job.RequestMetric;
+import org.eclipse.tractusx.irs.component.CursorPageResult;
+import org.eclipse.tractusx.irs.component.Job;
+import org.eclipse.tractusx.irs.component.LinkedItem;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Submodel;
+import org.eclipse.tractusx.irs.connector.job.JobStore;
+import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+import org.eclipse.tractusx.irs.services.IrsItemGraphQueryService.ItemGraphBlob;
+import org.eclipse.tractusx.irs.util.BlobCodec;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Serves the item graph of a job directly from its stored blobs, either as a stream of NDJSON lines
+ * or in cursor-based pages. The blobs are read as streams and the elements of the item graph are
+ * copied from them token by token, so neither the blob nor the item graph is held in memory as a
+ * whole.
+ * Pages are only served for completed jobs, whose stored item graph no longer changes. The cursor
+ * holds the position, the offset in the decoded blob and the key of the last element of the
+ * previous page. The next page of JSON blobs is read from that offset without parsing the preceding
+ * elements, Smile blobs are parsed from their start. A cursor whose element does not match its key
+ * is resolved by the key.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@SuppressWarnings("PMD.ExcessiveImports")
+public class JobResultStreamingService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String RELATIONSHIPS = "relationships";
+    private static final String TOMBSTONES = "tombstones";
+    private static final String SUBMODELS = "submodels";
+    private static final String METRICS = "metrics";
+
+    /**
+     * Item graph fields of the blob and the line type they are streamed as. Other fields are
+     * skipped.
+     */
+    private static final Map<String, String> LINE_TYPES = Map.of(RELATIONSHIPS, "relationship", TOMBSTONES,
+            "tombstone", "shells", "shell", SUBMODELS, "submodel", "bpns", "bpn");
+
+    private final JobStore jobStore;
+    private final IrsItemGraphQueryService itemJobService;
+    private final ObjectMapper objectMapper;
+    private final BlobCodec blobCodec;
+
+    /**
+     * Prepares the NDJSON stream of the job. The first line holds the job including its summary,
+     * every following line holds one element of the item graph, e.g.
+     * {@code {"relationship": {...}}}.
+     *
+     * @param jobId                 the job identifier
+     * @param includePartialResults whether to stream the partial results of jobs which are not
+     *                              completed
+     * @return the job and the body streaming the job result
+     */
+    public JobResultStream streamJobResult(final UUID jobId, final boolean includePartialResults) {
+        final MultiTransferJob multiJob = findJob(jobId);
+        final List<ItemGraphBlob> itemGraph = itemJobService.getItemGraphBlobs(multiJob, includePartialResults);
+        final ItemGraphSummary summary = summarize(itemGraph);
+        final Job job = itemJobService.getJobWithSummary(multiJob, includePartialResults, summary.tombstonesSize(),
+                summary.metrics());
+        return new JobResultStream(job, out -> writeLines(job, itemGraph, out));
+    }
+
+    public CursorPageResult<Relationship> getRelationships(final UUID jobId, final String cursor, final int limit) {
+        return getPage(jobId, RELATIONSHIPS, Relationship.class, JobResultStreamingService::relationshipKey, cursor,
+                limit);
+    }
+
+    public CursorPageResult<Submodel> getSubmodels(final UUID jobId, final String cursor, final int limit) {
+        return getPage(jobId, SUBMODELS, Submodel.class, Submodel::getIdentification, cursor, limit);
+    }
+
+    private <T> CursorPageResult<T> getPage(final UUID jobId, final String field, final Class<T> type,
+            final Function<T, String> keyFunction, final String cursor, final int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Page size must be between 1 and %d, but was %d", MAX_PAGE_SIZE, limit));
+        }
+        final MultiTransferJob multiJob = findJob(jobId);
+        if (!multiJob.jobIsCompleted()) {
+            throw new IllegalStateException(String.format(
+                    "Job %s is not completed yet. Pages are only served for completed jobs, partial results can be "
+                            + "streamed instead.", jobId));
+        }
+        final PageCursor pageCursor = PageCursor.decode(cursor);
+        final ItemGraphBlob itemGraph = itemJobService.getItemGraphBlobs(multiJob, false).get(0);
+        final ElementReader<T> reader = new ElementReader<>(itemGraph, field, type, keyFunction);
+
+        return reader.readPage(pageCursor, limit)
+                     .orElseGet(() -> reader.readPage(reader.resolve(pageCursor), limit)
+                                            .orElseThrow(() -> invalidCursor(cursor)));
+    }
+
+    private MultiTransferJob findJob(final UUID jobId) {
+        return jobStore.find(jobId.toString())
+                       .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                               "No job exists with id " + jobId));
+    }
+
+    private void writeLines(final Job job, final List<ItemGraphBlob> itemGraph, final OutputStream outputStream)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            generator.writeStartObject();
+            generator.writeObjectField("job", job);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            for (final ItemGraphBlob blob : itemGraph) {
+                forEachElement(blob, (field, index, parser) -> {
+                    final String lineType = LINE_TYPES.get(field);
+                    if (lineType == null) {
+                        parser.skipChildren();
+                    } else {
+                        generator.writeStartObject();
+                        generator.writeFieldName(lineType);
+                        generator.copyCurrentStructure(parser);
+                        generator.writeEndObject();
+                        generator.writeRaw('\n');
+                    }
+                    return true;
+                });
+            }
+        }
+    }
+
+    /**
+     * Counts the tombstones and reads the metrics of the item graph in a single pass over its blobs.
+     */
+    private ItemGraphSummary summarize(final List<ItemGraphBlob> itemGraph) {
+        final AtomicInteger tombstonesSize = new AtomicInteger();
+        final List<RequestMetric> metrics = new ArrayList<>();
+        for (final ItemGraphBlob blob : itemGraph) {
+            forEachElement(blob, (field, index, parser) -> {
+                if (METRICS.equals(field)) {
+                    metrics.add(parser.readValueAs(RequestMetric.class));
+                    return true;
+                }
+                if (TOMBSTONES.equals(field)) {
+                    tombstonesSize.incrementAndGet();
+                }
+                parser.skipChildren();
+                return true;
+            });
+        }
+        return new ItemGraphSummary(tombstonesSize.get(), metrics);
+    }
+
+    /**
+     * Visits the elements of all array fields of the item graph blob in blob order until the
+     * visitor stops. Blobs which are not stored are skipped.
+     */
+    private void forEachElement(final ItemGraphBlob blob, final ElementVisitor visitor) {
+        blob.open().ifPresent(content -> forEachElement(content, visitor));
+    }
+
+    private void forEachElement(final InputStream content, final ElementVisitor visitor) {
+        try (JsonParser parser = blobCodec.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Item graph is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                int index = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (!visitor.visit(field, index, parser)) {
+                        return;
+                    }
+                    index++;
+                }
+            }
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private static String relationshipKey(final Relationship relationship) {
+        final LinkedItem linkedItem = relationship.getLinkedItem();
+        return relationship.getCatenaXId() + "/" + (linkedItem == null ? null : linkedItem.getChildCatenaXId());
+    }
+
+    private static IllegalArgumentException invalidCursor(final String cursor) {
+        return new IllegalArgumentException("Invalid cursor " + cursor);
+    }
+
+    /**
+     * Reads pages of the elements of one array field of the item graph.
+     */
+    @RequiredArgsConstructor
+    private final class ElementReader<T> {
+        private final ItemGraphBlob itemGraph;
+        private final String field;
+        private final Class<T> type;
+        private final Function<T, String> keyFunction;
+
+        /**
+         * Reads the page following the cursor. Cursors holding an offset are read from the offset,
+         * other cursors by scanning the item graph from its start.
+         *
+         * @return the page, or empty if the element before the cursor position does not have the key of
+         *         the cursor
+         */
+        private Optional<CursorPageResult<T>> readPage(final PageCursor cursor, final int limit) {
+            if (cursor.position() > 0 && cursor.offset() >= 0) {
+                final Optional<CursorPageResult<T>> page = readPageFromOffset(cursor, limit);
+                if (page.isPresent()) {
+                    return page;
+                }
+            }
+            final PageCollector collector = new PageCollector(cursor, limit);
+            forEachElement(itemGraph, (elementField, index, parser) -> field.equals(elementField)
+                    ? collector.visit(index, BlobCodec.offsetOf(parser), parser)
+                    : skip(parser));
+            return collector.result();
+        }
+
+        /**
+         * Reads the page starting at the offset of the element before the cursor position.
+         *
+         * @return the page, or empty if the item graph cannot be read from the offset or the element
+         *         at the offset does not have the key of the cursor
+         */
+        private Optional<CursorPageResult<T>> readPageFromOffset(final PageCursor cursor, final int limit) {
+            final Optional<InputStream> content = itemGraph.open();
+            if (content.isEmpty()) {
+                return Optional.empty();
+            }
+            final PageCollector collector = new PageCollector(cursor, limit);
+            try {
+                final Optional<BlobCodec.ElementParser> elementParser = blobCodec.createElementParser(
+                        content.get(), cursor.offset());
+                if (elementParser.isEmpty()) {
+                    return Optional.empty();
+                }
+                try (JsonParser parser = elementParser.get().parser()) {
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        return Optional.empty();
+                    }
+                    int index = cursor.position() - 1;
+                    while (parser.nextToken() != JsonToken.END_ARRAY && collector.visit(index,
+                            elementParser.get().currentOffset(), parser)) {
+                        index++;
+                    }
+                }
+            } catch (IOException | JsonParseException e) {
+                log.debug("Cannot read item graph from offset of cursor {}", cursor.encode(), e);
+                return Optional.empty();
+            }
+            return collector.result();
+        }
+
+        /**
+         * Resolves the position and offset of the cursor by the key of its element.
+         */
+        private PageCursor resolve(final PageCursor cursor) {
+            final List<PageCursor> resolved = new ArrayList<>(1);
+            forEachElement(itemGraph, (elementField, index, parser) -> {
+                if (!field.equals(elementField)) {
+                    return skip(parser);
+                }
+                final long offset = BlobCodec.offsetOf(parser);
+                if (cursor.key().equals(keyOf(parser.readValueAs(type)))) {
+                    resolved.add(new PageCursor(index + 1, offset, cursor.key()));
+                    return false;
+                }
+                return true;
+            });
+            if (resolved.isEmpty()) {
+                throw invalidCursor(cursor.encode());
+            }
+            return resolved.get(0);
+        }
+
+        private boolean skip(final JsonParser parser) throws IOException {
+            parser.skipChildren();
+            return true;
+        }
+
+        private String keyOf(final T element) {
+            return String.valueOf(keyFunction.apply(element));
+        }
+
+        /**
+         * Collects the elements of a page while the elements of the field are visited in order.
+         */
+        private final class PageCollector {
+            private final PageCursor cursor;
+            private final int limit;
+            private final List<T> content;
+            private boolean cursorMatches;
+            private boolean hasNextPage;
+            private long lastOffset;
+
+            private PageCollector(final PageCursor cursor, final int limit) {
+                this.cursor = cursor;
+                this.limit = limit;
+                this.content = new ArrayList<>(limit);
+                this.cursorMatches = cursor.position() == 0;
+            }
+
+            /**
+             * @return whether the following elements are needed for the page
+             */
+            private boolean visit(final int index, final long offset, final JsonParser parser) throws IOException {
+                if (index < cursor.position() - 1) {
+                    return skip(parser);
+                }
+                if (index == cursor.position() - 1) {
+                    cursorMatches = cursor.key().equals(keyOf(parser.readValueAs(type)));
+                    return cursorMatches;
+                }
+                if (content.size() < limit) {
+                    content.add(parser.readValueAs(type));
+                    lastOffset = offset;
+                    return true;
+                }
+                hasNextPage = true;
+                return false;
+            }
+
+            private Optional<CursorPageResult<T>> result() {
+                if (!cursorMatches) {
+                    return Optional.empty();
+                }
+                final String nextCursor = hasNextPage
+                        ? new PageCursor(cursor.position() + limit, lastOffset, keyOf(content.get(limit - 1))).encode()
+                        : null;
+                return Optional.of(new CursorPageResult<>(content, nextCursor));
+            }
+        }
+    }
+
+    /**
+     * Cursor of a page.
+     *
+     * @param position the number of elements before the page
+     * @param offset   the offset of the last element before the page in the decoded blob, -1 if
+     *                 unknown
+     * @param key      the key of the last element before the page
+     */
+    private record PageCursor(int position, long offset, String key) {
+        private static final char SEPARATOR = ':';
+
+        private static PageCursor decode(final String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return new PageCursor(0, -1, null);
+            }
+            try {
+                final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                final int positionEnd = decoded.indexOf(SEPARATOR);
+                final int offsetEnd = decoded.indexOf(SEPARATOR, positionEnd + 1);
+                final int position = Integer.parseInt(decoded.substring(0, positionEnd));
+                final long offset = Long.parseLong(decoded.substring(positionEnd + 1, offsetEnd));
+                if (position <= 0 || offset < -1) {
+                    throw invalidCursor(cursor);
+                }
+                return new PageCursor(position, offset, decoded.substring(offsetEnd + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+            }
+        }
+
+        private String encode() {
+            return Base64.getUrlEncoder()
+                         .withoutPadding()
+                         .encodeToString((position + String.valueOf(SEPARATOR) + offset + SEPARATOR + key).getBytes(
+                                 StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * @param tombstonesSize the number of tombstones of the item graph
+     * @param metrics        the metrics of the item graph
+     */
+    private record ItemGraphSummary(int tombstonesSize, List<RequestMetric> metrics) {
+    }
+
+    /**
+     * Visits one element of an array field of the item graph. The visitor must consume the element,
+     * either by reading or copying it or by skipping its children.
+     */
+    @FunctionalInterface
+    private interface ElementVisitor {
+        boolean visit(String field, int index, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * The job and the body streaming its result.
+     *
+     * @param job  the job including its summary
+     * @param body the NDJSON body
+     */
+    public record JobResultStream(Job job, StreamingResponseBody body) {
+    }
+}
@@ -23,13 +23,16 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.services;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.util.JobMetrics;
@@ -46,6 +49,7 @@ public class MeterRegistryService {
     private static final String JOB_STATE_TAG = "jobstate";
     private static final String JOB_TIMER_TAG = "jobtimer";
     private static final String JOB_SNAPSHOT_TAG = "jobsnapshot";
+    private static final String ASPECT_TYPE_TAG = "aspecttype";
 
     private final AtomicLong numbersOfJobsInJobStore = new AtomicLong();
     private final AtomicLong jobExecutionDuration = new AtomicLong();
@@ -185,6 +189,21 @@ public class MeterRegistryService {
 
     }
 
+    /**
+     * Records the duration of a single submodel request, including schema retrieval and payload
+     * validation.
+     *
+     * @param aspectType the aspect type of the requested submodel
+     * @param duration   the duration of the request
+     */
+    public void recordSubmodelRequestDuration(final String aspectType, final Duration duration) {
+        Timer.builder("submodel.request.time")
+             .description("Measure time to request and validate a submodel")
+             .tag(ASPECT_TYPE_TAG, Objects.requireNonNullElse(aspectType, "unknown"))
+             .register(meterRegistry)
+             .record(duration);
+    }
+
     public void setStateSnapShot(final JobState state, final long value) {
         log.trace("Update State {} snapshot to {} ", state, value);
         switch (state) {
@@ -34,6 +34,7 @@ import org.eclipse.tractusx.irs.component.enums.ProcessingState;
 import org.eclipse.tractusx.irs.connector.batch.Batch;
 import org.eclipse.tractusx.irs.connector.batch.BatchStore;
 import org.eclipse.tractusx.irs.connector.batch.JobProgress;
+import org.eclipse.tractusx.irs.services.BatchJobWindows;
 import org.eclipse.tractusx.irs.services.IrsItemGraphQueryService;
 import org.springframework.stereotype.Service;
 
@@ -47,6 +48,7 @@ public class CancelBatchProcessingService {
 
     private final IrsItemGraphQueryService irsItemGraphQueryService;
     private final BatchStore batchStore;
+    private final BatchJobWindows jobWindows;
 
     public void cancelNotFinishedJobs(final List<UUID> jobIds) {
         log.info("Start scheduled timeout process for jobIds: {}", jobIds.toString());
@@ -75,6 +77,7 @@ public class CancelBatchProcessingService {
 
     public void cancelNotFinishedJobsInBatchOrder(final UUID batchOrderId) {
         log.info("Canceling processing of jobs in order with id: {}", batchOrderId.toString());
+        jobWindows.cancel(batchOrderId);
         final List<Batch> batches = batchStore.findAll()
                                               .stream()
                                               .filter(batch -> batch.getBatchOrderId().equals(batchOrderId))
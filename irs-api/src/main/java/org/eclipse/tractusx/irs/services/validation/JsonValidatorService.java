@@ -24,8 +24,11 @@
 package org.eclipse.tractusx.irs.services.validation;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.networknt.schema.InputFormat;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
@@ -38,11 +41,13 @@ import org.springframework.stereotype.Service;
 
 /**
  * Service to validate JSON payloads against JSON schemas.
+ * Schemas of aspect types are compiled once and kept until the cache is evicted.
  */
 @Service
 @Slf4j
 public class JsonValidatorService {
     private final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+    private final Map<String, CompiledSchema> schemaCache = new ConcurrentHashMap<>();
 
     /**
      * Validate the payload against the schema.
@@ -69,6 +74,49 @@ public class JsonValidatorService {
         }
     }
 
+    /**
+     * Validate the already parsed payload against the schema of the aspect type.
+     * The compiled schema is cached by aspect type and recompiled if the schema source changed.
+     *
+     * @param aspectType  the aspect type URN the schema belongs to
+     * @param jsonSchema  the JSON schema
+     * @param jsonPayload the parsed JSON payload to validate
+     * @return the validation result, containing the validation errors if applicable
+     */
+    public ValidationResult validate(final String aspectType, final String jsonSchema, final JsonNode jsonPayload)
+            throws InvalidSchemaException {
+        log.debug("Trying to validate JSON ({}) with schema of aspect type {}", jsonPayload, aspectType);
+
+        if (jsonPayload == null || jsonPayload.isMissingNode()) {
+            return ValidationResult.builder()
+                                   .valid(false)
+                                   .validationError("Illegal JSON payload, cannot be validated")
+                                   .build();
+        }
+
+        final Set<ValidationMessage> errors = getCompiledSchema(aspectType, jsonSchema).validate(jsonPayload);
+        return createValidationResult(errors.stream().map(ValidationMessage::getMessage).toList());
+    }
+
+    /**
+     * Clearing the compiled schemas. Called whenever the cached JSON schemas are evicted.
+     */
+    public void evictSchemaCache() {
+        log.debug("Clearing compiled JSON schema cache.");
+        schemaCache.clear();
+    }
+
+    private JsonSchema getCompiledSchema(final String aspectType, final String jsonSchema)
+            throws InvalidSchemaException {
+        final CompiledSchema cached = schemaCache.get(aspectType);
+        if (cached != null && cached.source().equals(jsonSchema)) {
+            return cached.schema();
+        }
+        final JsonSchema schema = loadSchema(jsonSchema);
+        schemaCache.put(aspectType, new CompiledSchema(jsonSchema, schema));
+        return schema;
+    }
+
     private ValidationResult createValidationResult(final List<String> errors) {
         if (errors.isEmpty()) {
             log.debug("Validation was successful");
@@ -86,4 +134,13 @@ public class JsonValidatorService {
             throw new InvalidSchemaException("Cannot load JSON schema for validation", e);
         }
     }
+
+    /**
+     * Compiled schema together with the source it was compiled from.
+     *
+     * @param source the JSON schema
+     * @param schema the compiled schema
+     */
+    private record CompiledSchema(String source, JsonSchema schema) {
+    }
 }
@@ -0,0 +1,313 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+
+/**
+ * Encodes and decodes objects stored as blobs (jobs, batches and item containers).
+ * The format used for writing is configurable. When reading, the format is detected from the
+ * leading bytes of the blob (GZIP magic number, Smile header or plain JSON), so blobs written
+ * with a different configuration - including all existing JSON blobs - stay readable.
+ */
+@Slf4j
+@SuppressWarnings("PMD.TooManyMethods")
+public class BlobCodec {
+
+    private static final ObjectMapper JSON_MAPPER = JsonUtil.configure(new ObjectMapper());
+    private static final ObjectMapper SMILE_MAPPER = JsonUtil.configure(new ObjectMapper(new SmileFactory()));
+
+    private static final byte[] GZIP_HEADER = { (byte) 0x1f, (byte) 0x8b };
+    private static final byte[] SMILE_HEADER = { ':', ')', '\n' };
+    private static final byte[] JSON_START_ARRAY = { '[' };
+
+    @Getter
+    private final Format format;
+
+    @Getter
+    private final Compression compression;
+
+    /**
+     * Creates a codec writing uncompressed JSON.
+     */
+    public BlobCodec() {
+        this(Format.JSON, Compression.NONE);
+    }
+
+    public BlobCodec(final Format format, final Compression compression) {
+        this.format = format;
+        this.compression = compression;
+    }
+
+    /**
+     * Serialize an object into a blob using the configured format and compression.
+     *
+     * @param input the object to serialize.
+     * @return the blob
+     * @throws JsonParseException on serialization error.
+     */
+    public byte[] encode(final Object input) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression == Compression.GZIP ? new GZIPOutputStream(bytes) : bytes) {
+            mapperFor(format).writeValue(out, input);
+        } catch (IOException e) {
+            log.error("Error serializing blob", e);
+            throw new JsonParseException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Serialize a blob by streaming it into a generator using the configured format and
+     * compression. The generator's codec can be used to serialize nested objects.
+     *
+     * @param writer writes the content of the blob to the generator.
+     * @return the blob
+     * @throws JsonParseException on serialization error.
+     */
+    public byte[] encode(final StreamingWriter writer) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        encode(writer, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Serialize a blob by streaming it into a generator using the configured format and
+     * compression, writing the blob to the given output stream instead of holding it in memory.
+     *
+     * @param writer writes the content of the blob to the generator.
+     * @param output the stream to write the blob to. It is closed when the blob is written.
+     * @throws JsonParseException on serialization error.
+     */
+    public void encode(final StreamingWriter writer, final OutputStream output) {
+        try (OutputStream out = compression == Compression.GZIP ? new GZIPOutputStream(output) : output;
+             JsonGenerator generator = mapperFor(format).getFactory().createGenerator(out)) {
+            writer.write(generator);
+        } catch (IOException e) {
+            log.error("Error serializing blob", e);
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Deserialize an object from a blob written in any of the supported formats.
+     *
+     * @param blob the blob to deserialize.
+     * @param type the type to return.
+     * @param <T>  the type to return.
+     * @return deserialized object.
+     * @throws JsonParseException on deserialization error.
+     */
+    public <T> T decode(final byte[] blob, final Class<T> type) {
+        try {
+            if (startsWith(blob, GZIP_HEADER)) {
+                try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(blob))) {
+                    return decode(input.readAllBytes(), type);
+                }
+            }
+            final Format detected = startsWith(blob, SMILE_HEADER) ? Format.SMILE : Format.JSON;
+            return mapperFor(detected).readValue(blob, type);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Create a streaming parser over a blob written in any of the supported formats. Compressed
+     * blobs are decompressed while parsing. The parser's codec can be used to read nested objects.
+     *
+     * @param blob the blob to parse.
+     * @return the parser, to be closed by the caller
+     * @throws JsonParseException if the parser cannot be created.
+     */
+    public JsonParser createParser(final byte[] blob) {
+        try {
+            if (startsWith(blob, GZIP_HEADER)) {
+                return createParser(new ByteArrayInputStream(blob));
+            }
+            final Format detected = startsWith(blob, SMILE_HEADER) ? Format.SMILE : Format.JSON;
+            return mapperFor(detected).createParser(blob);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Create a streaming parser over a blob stream written in any of the supported formats.
+     * Compressed blobs are decompressed while parsing.
+     *
+     * @param blob the blob to parse, closed with the parser.
+     * @return the parser, to be closed by the caller
+     * @throws JsonParseException if the parser cannot be created.
+     */
+    @SuppressWarnings("PMD.CloseResource") // the blob is closed with the parser
+    public JsonParser createParser(final InputStream blob) {
+        try {
+            final InputStream decoded = decompress(blob);
+            return mapperFor(detectFormat(decoded)).createParser(decoded);
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Returns the offset of the current token of a blob parser in the decoded blob, to parse the
+     * blob from this token later on with {@link #createElementParser(InputStream, long)}. Smile
+     * parsers do not report reliable offsets for streamed input, so Smile blobs have no offsets.
+     *
+     * @param parser a parser created by this codec
+     * @return the offset, or -1 if the blob cannot be parsed from an offset
+     */
+    public static long offsetOf(final JsonParser parser) {
+        return parser instanceof SmileParser ? -1 : parser.currentTokenLocation().getByteOffset();
+    }
+
+    /**
+     * Create a streaming parser over the elements of an array of a blob, starting at the element
+     * at the given offset of the decoded blob. The bytes before the element are skipped without
+     * parsing them. The parser returns a start array token followed by the element and all
+     * following elements of the array, up to the end of the array.
+     *
+     * @param blob   the blob to parse, closed with the parser.
+     * @param offset the offset of an array element in the decoded blob, see
+     *               {@link #offsetOf(JsonParser)}
+     * @return the parser, or empty if the blob cannot be parsed from an offset
+     * @throws JsonParseException if the parser cannot be created.
+     */
+    @SuppressWarnings("PMD.CloseResource") // the blob is closed with the parser
+    public Optional<ElementParser> createElementParser(final InputStream blob, final long offset) {
+        try {
+            final InputStream decoded = decompress(blob);
+            if (detectFormat(decoded) != Format.JSON) {
+                decoded.close();
+                return Optional.empty();
+            }
+            decoded.skipNBytes(offset);
+            final JsonParser parser = JSON_MAPPER.createParser(
+                    new SequenceInputStream(new ByteArrayInputStream(JSON_START_ARRAY), decoded));
+            return Optional.of(new ElementParser(parser, offset - JSON_START_ARRAY.length));
+        } catch (IOException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private static InputStream decompress(final InputStream blob) throws IOException {
+        final InputStream input = new BufferedInputStream(blob);
+        return startsWith(peek(input, GZIP_HEADER.length), GZIP_HEADER)
+                ? new BufferedInputStream(new GZIPInputStream(input))
+                : input;
+    }
+
+    private static Format detectFormat(final InputStream decoded) throws IOException {
+        return startsWith(peek(decoded, SMILE_HEADER.length), SMILE_HEADER) ? Format.SMILE : Format.JSON;
+    }
+
+    private static byte[] peek(final InputStream input, final int length) throws IOException {
+        input.mark(length);
+        final byte[] header = input.readNBytes(length);
+        input.reset();
+        return header;
+    }
+
+    private static ObjectMapper mapperFor(final Format format) {
+        return format == Format.SMILE ? SMILE_MAPPER : JSON_MAPPER;
+    }
+
+    private static boolean startsWith(final byte[] blob, final byte[] header) {
+        if (blob.length < header.length) {
+            return false;
+        }
+        for (int i = 0; i < header.length; i++) {
+            if (blob[i] != header[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parser over the elements of an array of a blob, read from the offset of an element.
+     *
+     * @param parser      the parser, to be closed by the caller
+     * @param offsetShift the difference between the offsets in the decoded blob and the token
+     *                    locations of the parser
+     */
+    public record ElementParser(JsonParser parser, long offsetShift) {
+
+        /**
+         * @return the offset of the current token in the decoded blob
+         */
+        public long currentOffset() {
+            return offsetShift + offsetOf(parser);
+        }
+    }
+
+    /**
+     * Writes the content of a blob to a {@link JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface StreamingWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Serialization format of blobs.
+     */
+    public enum Format {
+        /**
+         * Plain UTF-8 encoded JSON.
+         */
+        JSON,
+        /**
+         * Binary JSON (Smile), see https://github.com/FasterXML/smile-format-specification.
+         */
+        SMILE
+    }
+
+    /**
+     * Compression applied to the serialized blob.
+     */
+    public enum Compression {
+        NONE,
+        GZIP
+    }
+}
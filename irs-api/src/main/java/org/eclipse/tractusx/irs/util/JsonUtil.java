@@ -28,6 +28,7 @@ import java.util.Map;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -49,7 +50,7 @@ public class JsonUtil {
     /**
      * JSON object mapper implementation.
      */
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectMapper MAPPER = configure(new ObjectMapper());
 
     /**
      * Map Type Reference helper
@@ -57,15 +58,22 @@ public class JsonUtil {
     private static final class MapTypeReference extends TypeReference<Map<String, Object>> {
     }
 
-    static {
+    /**
+     * Applies the IRS modules and settings to the given mapper.
+     *
+     * @param mapper the mapper to configure
+     * @return the configured mapper
+     */
+    /* package */ static ObjectMapper configure(final ObjectMapper mapper) {
         final SimpleModule simpleModule = new SimpleModule().addAbstractTypeMapping(TransferProcess.class,
                 AASTransferProcess.class);
 
-        MAPPER.registerModule(simpleModule);
-        MAPPER.registerModule(new Jdk8Module());
-        MAPPER.registerModule(new JavaTimeModule());
-        MAPPER.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerModule(simpleModule);
+        mapper.registerModule(new Jdk8Module());
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
     }
 
     /**
@@ -110,4 +118,36 @@ public class JsonUtil {
             throw new JsonParseException(e);
         }
     }
+
+    /**
+     * Parse a JSON {@link String} into a tree.
+     *
+     * @param input the JSON string to parse.
+     * @return the root node, a missing node if the input is empty.
+     * @throws RuntimeException on parse error.
+     */
+    public JsonNode readTree(final String input) {
+        try {
+            return MAPPER.readTree(input);
+        } catch (JsonProcessingException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    /**
+     * Deserialize an object from an already parsed JSON tree.
+     *
+     * @param input the JSON tree to deserialize.
+     * @param type  the type to return.
+     * @param <T>   the type to return.
+     * @return deserialized object.
+     * @throws RuntimeException on deserialization error.
+     */
+    public <T> T fromTree(final JsonNode input, final Class<T> type) {
+        try {
+            return MAPPER.treeToValue(input, type);
+        } catch (JsonProcessingException e) {
+            throw new JsonParseException(e);
+        }
+    }
 }
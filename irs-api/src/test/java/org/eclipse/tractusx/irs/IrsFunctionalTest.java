@@ -24,7 +24,7 @@
 package org.eclipse.tractusx.irs;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.oauth2.jwt.JwtClaimNames.SUB;
 
@@ -98,7 +98,7 @@ class IrsFunctionalTest {
     @Test
     void shouldStartJobAndRetrieveResult() {
         final RegisterJob registerJob = TestMother.registerJobWithoutDepth();
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
 
         thereIsAuthentication();
@@ -128,7 +128,7 @@ class IrsFunctionalTest {
     @Test
     void shouldFillSummaryWithoutBPNLookup() {
         final RegisterJob registerJob = TestMother.registerJobWithoutDepth();
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
 
         thereIsAuthentication();
@@ -155,7 +155,7 @@ class IrsFunctionalTest {
     @Test
     void shouldFillSummaryWithBPNLookup() {
         final RegisterJob registerJob = TestMother.registerJobWithLookupBPNs();
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
         thereIsAuthentication();
 
@@ -26,18 +26,21 @@ package org.eclipse.tractusx.irs.aaswrapper.job;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.irs.util.TestMother.jobParameter;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.tractusx.irs.InMemoryBlobStore;
 import org.eclipse.tractusx.irs.aaswrapper.job.delegate.DigitalTwinDelegate;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
 import org.eclipse.tractusx.irs.connector.job.ResponseStatus;
 import org.eclipse.tractusx.irs.connector.job.TransferInitiateResponse;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.eclipse.tractusx.irs.util.TestMother;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,7 +55,7 @@ class AASTransferProcessManagerTest {
     ExecutorService pool = mock(ExecutorService.class);
 
     final AASTransferProcessManager manager = new AASTransferProcessManager(digitalTwinProcessor, pool,
-            new InMemoryBlobStore());
+            new InMemoryBlobStore(), new BlobCodec(), new PartialResultAggregator(100));
 
     @Test
     void shouldExecuteThreadForProcessing() {
@@ -85,4 +88,20 @@ class AASTransferProcessManagerTest {
         assertThat(initiateResponse.getStatus()).isEqualTo(ResponseStatus.OK);
     }
 
+    @Test
+    void shouldReturnErrorStatusIfTransferIsRejected() {
+        // given
+        final ItemDataRequest itemDataRequest = ItemDataRequest.rootNode(
+                PartChainIdentificationKey.builder().globalAssetId(UUID.randomUUID().toString()).bpn("bpn123").build());
+        doThrow(new RejectedExecutionException("shut down")).when(pool).execute(any(Runnable.class));
+
+        // when
+        final TransferInitiateResponse initiateResponse = manager.initiateRequest(itemDataRequest, s -> {
+        }, aasTransferProcess -> {
+        }, jobParameter());
+
+        // then
+        assertThat(initiateResponse.getStatus()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
 }
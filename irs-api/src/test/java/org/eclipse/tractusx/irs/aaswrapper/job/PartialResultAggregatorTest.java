@@ -0,0 +1,135 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.eclipse.tractusx.irs.aaswrapper.job.PartialResultAggregator.PartialResult;
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
+import org.eclipse.tractusx.irs.component.enums.JobState;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.junit.jupiter.api.Test;
+
+class PartialResultAggregatorTest {
+
+    private static final String JOB_ID = "job";
+
+    private final PartialResultAggregator aggregator = new PartialResultAggregator(2);
+
+    @Test
+    void shouldMergeStagedTransferCountsIntoJobAggregate() {
+        aggregator.start(JOB_ID);
+
+        givenTransferCompleted("process-1", bpnLookup(2, 1));
+        givenTransferCompleted("process-2", bpnLookup(1, 0));
+
+        final PartialResult partialResult = aggregator.find(JOB_ID).orElseThrow();
+        assertThat(partialResult.getBpnLookupsCompleted()).isEqualTo(3);
+        assertThat(partialResult.getBpnLookupsFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMergeTransferResultsIntoItemGraphOfJob() {
+        aggregator.start(JOB_ID);
+
+        givenTransferCompleted("process-1", bpnLookup(1, 0));
+        givenTransferCompleted("process-2", bpnLookup(0, 1));
+
+        final ItemContainer itemGraph = aggregator.find(JOB_ID).flatMap(PartialResult::getItemGraph).orElseThrow();
+        assertThat(itemGraph.getRelationships()).hasSize(2);
+        assertThat(itemGraph.getMetrics()).hasSize(2);
+    }
+
+    @Test
+    void shouldKeepOnlyCountsOfJobExceedingMaxItems() {
+        aggregator.start(JOB_ID);
+
+        givenTransferCompleted("process-1", bpnLookup(1, 0));
+        givenTransferCompleted("process-2", bpnLookup(1, 0));
+        givenTransferCompleted("process-3", bpnLookup(1, 0));
+
+        final PartialResult partialResult = aggregator.find(JOB_ID).orElseThrow();
+        assertThat(partialResult.getItemGraph()).isEmpty();
+        assertThat(partialResult.getBpnLookupsCompleted()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldIgnoreUnstagedAndUnknownTransfers() {
+        aggregator.start(JOB_ID);
+        aggregator.stage("process-1", ItemContainer.builder().metric(bpnLookup(1, 0)).build());
+        aggregator.unstage("process-1");
+
+        aggregator.merge(JOB_ID, "process-1");
+        givenTransferCompleted("other-job", "process-2", bpnLookup(1, 0));
+
+        final PartialResult partialResult = aggregator.find(JOB_ID).orElseThrow();
+        assertThat(partialResult.getBpnLookupsCompleted()).isZero();
+        assertThat(aggregator.find("other-job")).isEmpty();
+    }
+
+    @Test
+    void shouldDropAggregateWhenJobIsFinished() {
+        aggregator.start(JOB_ID);
+        givenTransferCompleted("process-1", bpnLookup(1, 1));
+
+        aggregator.handleJobProcessingFinishedEvent(
+                new JobProcessingFinishedEvent(JOB_ID, JobState.ERROR.name(), "", Optional.empty()));
+        givenTransferCompleted("process-2", bpnLookup(1, 0));
+
+        assertThat(aggregator.find(JOB_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveJobAggregate() {
+        aggregator.start(JOB_ID);
+
+        aggregator.remove(JOB_ID);
+
+        assertThat(aggregator.find(JOB_ID)).isEmpty();
+    }
+
+    private void givenTransferCompleted(final String processId, final RequestMetric metric) {
+        givenTransferCompleted(JOB_ID, processId, metric);
+    }
+
+    private void givenTransferCompleted(final String jobId, final String processId, final RequestMetric metric) {
+        aggregator.stage(processId,
+                ItemContainer.builder().relationship(TestMother.relationship()).metric(metric).build());
+        aggregator.merge(jobId, processId);
+    }
+
+    private static RequestMetric bpnLookup(final int completed, final int failed) {
+        final RequestMetric metric = new RequestMetric();
+        metric.setType(RequestMetric.RequestType.BPDM);
+        for (int i = 0; i < completed; i++) {
+            metric.incrementCompleted();
+        }
+        for (int i = 0; i < failed; i++) {
+            metric.incrementFailed();
+        }
+        return metric;
+    }
+}
@@ -0,0 +1,159 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.aaswrapper.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.irs.InMemoryBlobStore;
+import org.eclipse.tractusx.irs.component.Bpn;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.connector.job.TransferProcess;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+import org.eclipse.tractusx.irs.util.BlobCodec;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class TreeRecursiveLogicTest {
+
+    private final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlobCodec.Format.class)
+    void shouldAssemblePartialItemGraphsWithoutDuplicateRelationships(final BlobCodec.Format format) {
+        // given
+        final BlobCodec blobCodec = new BlobCodec(format, BlobCodec.Compression.GZIP);
+        final TreeRecursiveLogic sut = new TreeRecursiveLogic(blobStore, blobCodec, new ItemTreesAssembler(),
+                executor);
+        final Relationship sharedRelationship = TestMother.relationship();
+        final List<TransferProcess> transfers = IntStream.range(0, 20)
+                                                         .mapToObj(i -> storePartialGraph(blobCodec,
+                                                                 ItemContainer.builder()
+                                                                              .relationship(sharedRelationship)
+                                                                              .relationship(TestMother.relationship())
+                                                                              .bpn(Bpn.withManufacturerId("BPNL0000000" + i % 2)
+                                                                                      .updateManufacturerName("name"))
+                                                                              .build()))
+                                                         .toList();
+
+        // when
+        sut.assemblePartialItemGraphBlobs(transfers, "target");
+
+        // then
+        final ItemContainer assembled = blobCodec.decode(blobStore.getBlob("target").orElseThrow(),
+                ItemContainer.class);
+        assertThat(assembled.getRelationships()).hasSize(21).containsOnlyOnce(sharedRelationship);
+        assertThat(assembled.getBpns()).hasSize(2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlobCodec.Format.class)
+    void shouldWriteMetricsOfPartialItemGraphs(final BlobCodec.Format format) {
+        // given
+        final BlobCodec blobCodec = new BlobCodec(format, BlobCodec.Compression.NONE);
+        final TreeRecursiveLogic sut = new TreeRecursiveLogic(blobStore, blobCodec, new ItemTreesAssembler(),
+                executor);
+        final List<TransferProcess> transfers = List.of(
+                storePartialGraph(blobCodec, ItemContainer.builder().metric(metric(RequestMetric.RequestType.BPDM)).build()),
+                storePartialGraph(blobCodec,
+                        ItemContainer.builder().metric(metric(RequestMetric.RequestType.SUBMODEL)).build()));
+
+        // when
+        sut.assemblePartialItemGraphBlobs(transfers, "target");
+
+        // then
+        final ItemContainer assembled = blobCodec.decode(blobStore.getBlob("target").orElseThrow(),
+                ItemContainer.class);
+        assertThat(assembled.getMetrics()).extracting(RequestMetric::getType, RequestMetric::getCompleted)
+                                          .containsExactly(tuple(RequestMetric.RequestType.BPDM, 1),
+                                                  tuple(RequestMetric.RequestType.SUBMODEL, 1));
+    }
+
+    @Test
+    void shouldKeepOrderOfPartialItemGraphs() {
+        // given
+        final BlobCodec blobCodec = new BlobCodec();
+        final TreeRecursiveLogic sut = new TreeRecursiveLogic(blobStore, blobCodec, new ItemTreesAssembler(),
+                executor);
+        final List<Relationship> relationships = IntStream.range(0, 30).mapToObj(i -> TestMother.relationship()).toList();
+        final List<TransferProcess> transfers = relationships.stream()
+                                                             .map(relationship -> storePartialGraph(blobCodec,
+                                                                     ItemContainer.builder()
+                                                                                  .relationship(relationship)
+                                                                                  .build()))
+                                                             .toList();
+
+        // when
+        sut.assemblePartialItemGraphBlobs(transfers, "target");
+
+        // then
+        final Optional<byte[]> blob = blobStore.getBlob("target");
+        assertThat(blob).isPresent();
+        assertThat(blobCodec.decode(blob.get(), ItemContainer.class).getRelationships()).containsExactlyElementsOf(
+                relationships);
+    }
+
+    @Test
+    void shouldThrowWhenPartialItemGraphIsMissing() {
+        // given
+        final TreeRecursiveLogic sut = new TreeRecursiveLogic(blobStore, new BlobCodec(), new ItemTreesAssembler(),
+                executor);
+        final List<TransferProcess> transfers = List.of(new AASTransferProcess(UUID.randomUUID().toString(), 0));
+
+        // when / then
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(
+                () -> sut.assemblePartialItemGraphBlobs(transfers, "target"));
+        assertThat(blobStore.getBlob("target")).isEmpty();
+    }
+
+    private static RequestMetric metric(final RequestMetric.RequestType type) {
+        final RequestMetric metric = new RequestMetric();
+        metric.setType(type);
+        metric.incrementCompleted();
+        return metric;
+    }
+
+    private TransferProcess storePartialGraph(final BlobCodec blobCodec, final ItemContainer partialGraph) {
+        final AASTransferProcess transfer = new AASTransferProcess(UUID.randomUUID().toString(), 0);
+        blobStore.putBlob(transfer.getId(), blobCodec.encode(partialGraph));
+        return transfer;
+    }
+}
@@ -26,6 +26,7 @@ package org.eclipse.tractusx.irs.aaswrapper.job.delegate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -56,7 +57,7 @@ class AbstractDelegateTest {
 
     @BeforeEach
     void setUp() {
-        submodelDelegate = new SubmodelDelegate(null, null, null, null, null);
+        submodelDelegate = new SubmodelDelegate(null, null, null, null, null, null, 1, null);
     }
 
     @Test
@@ -88,7 +89,7 @@ class AbstractDelegateTest {
         when(submodelFacade.getSubmodelPayload(eq(connector1), any(), any(), any())).thenThrow(
                 new EdcClientException("test"));
         when(submodelFacade.getSubmodelPayload(eq(connector2), any(), any(), any())).thenReturn(new SubmodelDescriptor("cid", "test"));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of(connector1, connector2));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(connector1, connector2));
         final String dataplaneUrl = "http://dataplane.test/123";
         final Endpoint endpoint = Endpoint.builder()
                                           .protocolInformation(ProtocolInformation.builder()
@@ -115,7 +116,7 @@ class AbstractDelegateTest {
         final String connector1 = "http://edc.test1";
         final String connector2 = "http://edc.test2";
         when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(new EdcClientException("test"));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of(connector1, connector2));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(connector1, connector2));
         final String dataplaneUrl = "http://dataplane.test/123";
         final Endpoint endpoint = Endpoint.builder()
                                           .protocolInformation(ProtocolInformation.builder()
@@ -32,8 +32,10 @@ import static org.eclipse.tractusx.irs.util.TestMother.singleLevelBomAsBuiltAspe
 import static org.eclipse.tractusx.irs.util.TestMother.singleLevelUsageAsBuiltAspectName;
 import static org.eclipse.tractusx.irs.util.TestMother.submodelDescriptorWithDspEndpoint;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -70,7 +72,7 @@ class RelationshipDelegateTest {
         final String payload = Files.readString(
                 Paths.get(Objects.requireNonNull(getClass().getResource("/singleLevelBomAsBuilt.json")).toURI()));
         when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(new SubmodelDescriptor("cid", payload));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("http://localhost"));
 
         final ItemContainer.ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
                                                                                        .shell(shell("", shellDescriptor(
@@ -97,7 +99,7 @@ class RelationshipDelegateTest {
         final String payload = Files.readString(
                 Paths.get(Objects.requireNonNull(getClass().getResource("/singleLevelUsageAsBuilt.json")).toURI()));
         when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(new SubmodelDescriptor("cid", payload));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("http://localhost"));
 
         final ItemContainer.ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
                                                                                        .shell(shell("", shellDescriptor(
@@ -118,6 +120,39 @@ class RelationshipDelegateTest {
         assertThat(aasTransferProcess.getIdsToProcess().get(0).getBpn()).isNotEmpty();
     }
 
+    @Test
+    void shouldResolveConnectorEndpointsOfAllBpnsOfNextLevelAtOnce()
+            throws EdcClientException, URISyntaxException, IOException {
+        // given
+        final String payload = Files.readString(
+                Paths.get(Objects.requireNonNull(getClass().getResource("/singleLevelUsageAsBuilt.json")).toURI()));
+        when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenReturn(new SubmodelDescriptor("cid", payload));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenThrow(
+                new IllegalStateException("discovery unavailable"));
+
+        final ItemContainer.ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
+                                                                                       .shell(shell("", shellDescriptor(
+                                                                                               List.of(submodelDescriptorWithDspEndpoint(
+                                                                                                       singleLevelUsageAsBuiltAspectName,
+                                                                                                       "address")))));
+        final AASTransferProcess aasTransferProcess = new AASTransferProcess();
+
+        // when
+        final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameterUpward(),
+                aasTransferProcess, createKey());
+
+        // then
+        final List<String> nextLevelBpns = aasTransferProcess.getIdsToProcess()
+                                                         .stream()
+                                                         .map(PartChainIdentificationKey::getBpn)
+                                                         .distinct()
+                                                         .toList();
+        assertThat(nextLevelBpns).isNotEmpty();
+        verify(connectorEndpointsService).fetchConnectorEndpoints(nextLevelBpns);
+        assertThat(result.getRelationships()).isNotEmpty();
+        assertThat(result.getTombstones()).isEmpty();
+    }
+
     @Test
     void shouldPutTombstoneForMissingBpn() {
         final ItemContainer.ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
@@ -142,7 +177,7 @@ class RelationshipDelegateTest {
         // given
         when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenThrow(
                 new EdcClientException("Unable to call endpoint"));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("http://localhost"));
 
         final ItemContainer.ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
                                                                                        .shell(shell("", shellDescriptor(
@@ -167,7 +202,7 @@ class RelationshipDelegateTest {
         // given
         when(submodelFacade.getSubmodelPayload(anyString(), anyString(), anyString(), any())).thenThrow(
                 new EdcClientException(new Exception("Payload did not match expected submodel")));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("http://localhost"));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("http://localhost"));
         final ItemContainer.ItemContainerBuilder itemContainerWithShell = ItemContainer.builder()
                                                                                        .shell(shell("", shellDescriptor(
                                                                                                List.of(submodelDescriptorWithDspEndpoint(
@@ -198,7 +233,7 @@ class RelationshipDelegateTest {
 
         // when
         when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(new UsagePolicyException("itemId", null, businessPartnerNumber));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("connector.endpoint.nl"));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("connector.endpoint.nl"));
         final ItemContainer result = relationshipDelegate.process(itemContainerWithShell, jobParameter(),
                 new AASTransferProcess(), createKey());
 
@@ -33,14 +33,24 @@ import static org.eclipse.tractusx.irs.util.TestMother.singleLevelBomAsBuiltAspe
 import static org.eclipse.tractusx.irs.util.TestMother.submodelDescriptor;
 import static org.eclipse.tractusx.irs.util.TestMother.submodelDescriptorWithDspEndpoint;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.Submodel;
 import org.eclipse.tractusx.irs.component.enums.ProcessStep;
 import org.eclipse.tractusx.irs.data.JsonParseException;
 import org.eclipse.tractusx.irs.edc.client.EdcSubmodelFacade;
@@ -50,11 +60,13 @@ import org.eclipse.tractusx.irs.edc.client.exceptions.UsagePolicyException;
 import org.eclipse.tractusx.irs.edc.client.model.SubmodelDescriptor;
 import org.eclipse.tractusx.irs.registryclient.discovery.ConnectorEndpointsService;
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
+import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.services.validation.InvalidSchemaException;
 import org.eclipse.tractusx.irs.services.validation.JsonValidatorService;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
 import org.eclipse.tractusx.irs.services.validation.ValidationResult;
 import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.client.RestClientException;
 
@@ -64,8 +76,14 @@ class SubmodelDelegateTest {
     final SemanticsHubFacade semanticsHubFacade = mock(SemanticsHubFacade.class);
     final JsonValidatorService jsonValidatorService = mock(JsonValidatorService.class);
     final ConnectorEndpointsService connectorEndpointsService = mock(ConnectorEndpointsService.class);
-    final SubmodelDelegate submodelDelegate = new SubmodelDelegate(submodelFacade, semanticsHubFacade,
-            jsonValidatorService, new JsonUtil(), connectorEndpointsService);
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final SubmodelDelegate submodelDelegate = createSubmodelDelegate(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
 
     @Test
     void shouldFilterSubmodelDescriptorsByAspectTypeFilter() {
@@ -114,6 +132,32 @@ class SubmodelDelegateTest {
                 ProcessStep.SCHEMA_VALIDATION);
     }
 
+    @Test
+    void shouldPutTombstoneWithValidationErrorForIllegalJsonPayload()
+            throws EdcClientException, InvalidSchemaException {
+        // given
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithOneSubmodel = ItemContainer.builder()
+                                                                                                  .shell(shell("", shellDescriptor(
+                                                                                                          List.of(submodelDescriptorWithDspEndpoint(
+                                                                                                                  serialPartAspectName,
+                                                                                                                  "testSerialPartEndpoint")))));
+
+        // when
+        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenReturn(
+                new SubmodelDescriptor("cid", "{ not json"));
+        when(jsonValidatorService.validate(any(), any(), any())).thenCallRealMethod();
+        final ItemContainer result = submodelDelegate.process(itemContainerShellWithOneSubmodel,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+
+        // then
+        assertThat(result.getSubmodels()).isEmpty();
+        assertThat(result.getTombstones()).hasSize(1);
+        assertThat(result.getTombstones().get(0).getProcessingError().getProcessStep()).isEqualTo(
+                ProcessStep.SCHEMA_VALIDATION);
+        assertThat(result.getTombstones().get(0).getProcessingError().getErrorDetail()).contains(
+                "Illegal JSON payload, cannot be validated");
+    }
+
     @Test
     void shouldPutTombstoneForMissingBpn() {
         final ItemContainer.ItemContainerBuilder itemContainerShellWithTwoSubmodels = ItemContainer.builder()
@@ -153,7 +197,7 @@ class SubmodelDelegateTest {
 
         // when
         when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenThrow(new UsagePolicyException("itemId", null, businessPartnerNumber));
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("connector.endpoint.nl"));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("connector.endpoint.nl"));
         final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels,
                 jobParameterCollectAspects(), new AASTransferProcess(), createKey());
 
@@ -181,8 +225,8 @@ class SubmodelDelegateTest {
                 new ItemNotFoundInCatalogException("test", "itemId")).thenReturn(new SubmodelDescriptor("cid", """
                 {"test": "test"}
                 """));
-        when(jsonValidatorService.validate(any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("connector.endpoint.n1", "connector.endpoint.n2"));
         final ItemContainer result = submodelDelegate.process(itemContainerShellWithOneSubmodel,
                 jobParameterCollectAspects(), new AASTransferProcess(), createKey());
@@ -221,6 +265,151 @@ class SubmodelDelegateTest {
                 ProcessStep.SCHEMA_REQUEST);
     }
 
+    @Test
+    void shouldRequestSubmodelsOfDifferentConnectorsInParallel() throws EdcClientException, InvalidSchemaException {
+        // given
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithTwoSubmodels = ItemContainer.builder()
+                                                                                                   .shell(shell("", shellDescriptor(
+                                                                                                           List.of(submodelDescriptor(
+                                                                                                                           serialPartAspectName,
+                                                                                                                           "testSerialPartEndpoint",
+                                                                                                                           "dspEndpoint=http://edc.one"),
+                                                                                                                   submodelDescriptor(
+                                                                                                                           singleLevelBomAsBuiltAspectName,
+                                                                                                                           "testSingleLevelBomAsBuiltEndpoint",
+                                                                                                                           "dspEndpoint=http://edc.two")))));
+        final CountDownLatch bothRequestsStarted = new CountDownLatch(2);
+
+        // when
+        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenAnswer(invocation -> {
+            bothRequestsStarted.countDown();
+            if (!bothRequestsStarted.await(5, TimeUnit.SECONDS)) {
+                throw new EdcClientException("Requests were not executed in parallel");
+            }
+            return new SubmodelDescriptor("cid", "{}");
+        });
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        final ItemContainer result = submodelDelegate.process(itemContainerShellWithTwoSubmodels,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+
+        // then
+        assertThat(result.getTombstones()).isEmpty();
+        assertThat(result.getSubmodels()).extracting(Submodel::getAspectType)
+                                         .containsExactly(serialPartAspectName, singleLevelBomAsBuiltAspectName);
+    }
+
+    @Test
+    void shouldLimitConcurrentRequestsPerConnector() throws EdcClientException, InvalidSchemaException {
+        // given
+        final SubmodelDelegate singleRequestDelegate = createSubmodelDelegate(1);
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithTwoSubmodels = ItemContainer.builder()
+                                                                                                   .shell(shell("", shellDescriptor(
+                                                                                                           List.of(submodelDescriptorWithDspEndpoint(
+                                                                                                                           serialPartAspectName,
+                                                                                                                           "testSerialPartEndpoint"),
+                                                                                                                   submodelDescriptorWithDspEndpoint(
+                                                                                                                           singleLevelBomAsBuiltAspectName,
+                                                                                                                           "testSingleLevelBomAsBuiltEndpoint")))));
+        final AtomicInteger runningRequests = new AtomicInteger();
+        final AtomicInteger maxRunningRequests = new AtomicInteger();
+
+        // when
+        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenAnswer(invocation -> {
+            maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            runningRequests.decrementAndGet();
+            return new SubmodelDescriptor("cid", "{}");
+        });
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        final ItemContainer result = singleRequestDelegate.process(itemContainerShellWithTwoSubmodels,
+                jobParameterCollectAspects(), new AASTransferProcess(), createKey());
+
+        // then
+        assertThat(result.getSubmodels()).hasSize(2);
+        assertThat(maxRunningRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldQueueRequestsOfBusyConnectorWithoutBlockingOtherConnectors()
+            throws EdcClientException, InvalidSchemaException {
+        // given
+        final ExecutorService twoThreadExecutor = Executors.newFixedThreadPool(2);
+        final SubmodelDelegate singleRequestDelegate = new SubmodelDelegate(submodelFacade, semanticsHubFacade,
+                jsonValidatorService, new JsonUtil(), connectorEndpointsService, twoThreadExecutor, 1,
+                new MeterRegistryService(meterRegistry));
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithThreeSubmodels = ItemContainer.builder()
+                                                                                                     .shell(shell("", shellDescriptor(
+                                                                                                             List.of(submodelDescriptor(
+                                                                                                                             serialPartAspectName,
+                                                                                                                             "busyConnectorEndpoint1",
+                                                                                                                             "dspEndpoint=http://busy.control.plane/"),
+                                                                                                                     submodelDescriptor(
+                                                                                                                             serialPartAspectName,
+                                                                                                                             "busyConnectorEndpoint2",
+                                                                                                                             "dspEndpoint=http://busy.control.plane/"),
+                                                                                                                     submodelDescriptor(
+                                                                                                                             singleLevelBomAsBuiltAspectName,
+                                                                                                                             "otherConnectorEndpoint",
+                                                                                                                             "dspEndpoint=http://other.control.plane/")))));
+        final CountDownLatch otherConnectorRequested = new CountDownLatch(1);
+
+        // when
+        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenAnswer(invocation -> {
+            if ("otherConnectorEndpoint".equals(invocation.getArgument(1))) {
+                otherConnectorRequested.countDown();
+            } else if (!otherConnectorRequested.await(5, TimeUnit.SECONDS)) {
+                throw new EdcClientException("Request of other connector was blocked");
+            }
+            return new SubmodelDescriptor("cid", "{}");
+        });
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        final ItemContainer result;
+        try {
+            result = singleRequestDelegate.process(itemContainerShellWithThreeSubmodels, jobParameterCollectAspects(),
+                    new AASTransferProcess(), createKey());
+        } finally {
+            twoThreadExecutor.shutdownNow();
+        }
+
+        // then
+        assertThat(result.getTombstones()).isEmpty();
+        assertThat(result.getSubmodels()).hasSize(3);
+    }
+
+    @Test
+    void shouldRecordRequestDurationPerAspectType() throws EdcClientException, InvalidSchemaException {
+        // given
+        final ItemContainer.ItemContainerBuilder itemContainerShellWithTwoSubmodels = ItemContainer.builder()
+                                                                                                   .shell(shell("", shellDescriptor(
+                                                                                                           List.of(submodelDescriptorWithDspEndpoint(
+                                                                                                                           serialPartAspectName,
+                                                                                                                           "testSerialPartEndpoint"),
+                                                                                                                   submodelDescriptorWithDspEndpoint(
+                                                                                                                           singleLevelBomAsBuiltAspectName,
+                                                                                                                           "testSingleLevelBomAsBuiltEndpoint")))));
+
+        // when
+        when(submodelFacade.getSubmodelPayload(any(), any(), any(), any())).thenReturn(
+                new SubmodelDescriptor("cid", "{}"));
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        submodelDelegate.process(itemContainerShellWithTwoSubmodels, jobParameterCollectAspects(),
+                new AASTransferProcess(), createKey());
+
+        // then
+        assertThat(meterRegistry.get("submodel.request.time").tag("aspecttype", serialPartAspectName).timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("submodel.request.time")
+                                .tag("aspecttype", singleLevelBomAsBuiltAspectName)
+                                .timer()
+                                .count()).isEqualTo(1);
+    }
+
+    private SubmodelDelegate createSubmodelDelegate(final int maxConcurrentRequestsPerConnector) {
+        return new SubmodelDelegate(submodelFacade, semanticsHubFacade, jsonValidatorService, new JsonUtil(),
+                connectorEndpointsService, executor, maxConcurrentRequestsPerConnector,
+                new MeterRegistryService(meterRegistry));
+    }
+
     private static PartChainIdentificationKey createKey() {
         return PartChainIdentificationKey.builder().globalAssetId("itemId").bpn("bpn123").build();
     }
@@ -0,0 +1,217 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.irs.common.util.concurrent.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+class HostConcurrencyLimitInterceptorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger runningRequests = new AtomicInteger();
+    private final AtomicInteger maxRunningRequests = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldLimitConcurrentRequestsToSameHost() throws Exception {
+        // given
+        final HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(limiter(1, 1),
+                Duration.ofSeconds(5));
+        final ClientHttpRequestExecution execution = (request, body) -> {
+            maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            runningRequests.decrementAndGet();
+            return ok();
+        };
+
+        // when
+        final List<Future<ClientHttpResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(executor.submit(intercept(interceptor, "https://edc.one/api/" + i, execution)));
+        }
+        for (final Future<ClientHttpResponse> response : responses) {
+            response.get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(maxRunningRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotLimitRequestsToDifferentHosts() throws Exception {
+        // given
+        final HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(limiter(1, 1),
+                Duration.ofSeconds(5));
+        final CountDownLatch bothRequestsStarted = new CountDownLatch(2);
+        final ClientHttpRequestExecution execution = (request, body) -> {
+            bothRequestsStarted.countDown();
+            try {
+                assertThat(bothRequestsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ok();
+        };
+
+        // when
+        final Future<ClientHttpResponse> first = executor.submit(
+                intercept(interceptor, "https://edc.one/api", execution));
+        final Future<ClientHttpResponse> second = executor.submit(
+                intercept(interceptor, "https://edc.two/api", execution));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldFailWhenNoRequestSlotGetsFree() throws Exception {
+        // given
+        final HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(limiter(1, 1),
+                Duration.ofMillis(10));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Future<ClientHttpResponse> blocking = executor.submit(
+                intercept(interceptor, "https://edc.one/api", (request, body) -> {
+                    started.countDown();
+                    try {
+                        assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ok();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        final Callable<ClientHttpResponse> waiting = intercept(interceptor, "https://edc.one/api",
+                (request, body) -> ok());
+
+        // then
+        try {
+            assertThatThrownBy(waiting::call).isInstanceOf(IOException.class).hasMessageContaining("edc.one");
+        } finally {
+            release.countDown();
+            blocking.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void shouldReduceLimitOnOverloadResponsesAndTimeouts() throws Exception {
+        // given
+        final AdaptiveConcurrencyLimiter limiter = limiter(8, 1);
+        final HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(limiter,
+                Duration.ofSeconds(5));
+        final ClientHttpResponse unavailable = mock(ClientHttpResponse.class);
+        when(unavailable.getStatusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE);
+        final ClientHttpRequestExecution timingOut = (request, body) -> {
+            throw new SocketTimeoutException("Read timed out");
+        };
+
+        // when
+        intercept(interceptor, "https://edc.one/api", (request, body) -> unavailable).call();
+        assertThatThrownBy(() -> intercept(interceptor, "https://edc.one/api", timingOut).call()).isInstanceOf(
+                SocketTimeoutException.class);
+
+        // then
+        assertThat(limiter.getLimit("edc.one")).isEqualTo(2);
+        assertThat(limiter.getInFlight("edc.one")).isZero();
+    }
+
+    @Test
+    void shouldHoldRequestSlotUntilResponseIsClosed() throws Exception {
+        // given
+        final AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        final HostConcurrencyLimitInterceptor interceptor = new HostConcurrencyLimitInterceptor(limiter,
+                Duration.ofMillis(10));
+        final HttpRequest request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create("https://edc.one/api"));
+        final ClientHttpResponse delegate = ok();
+
+        // when
+        final ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                (httpRequest, body) -> delegate);
+
+        // then
+        assertThat(limiter.getInFlight("edc.one")).isEqualTo(1);
+        response.close();
+        verify(delegate).close();
+        assertThat(limiter.getInFlight("edc.one")).isZero();
+    }
+
+    private static ClientHttpResponse ok() throws IOException {
+        final ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+        return response;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(final int initialLimit, final int minLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, minLimit, initialLimit, 100,
+                Duration.ofSeconds(5), 0.5);
+    }
+
+    private static Callable<ClientHttpResponse> intercept(final HostConcurrencyLimitInterceptor interceptor,
+            final String uri, final ClientHttpRequestExecution execution) {
+        final HttpRequest request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create(uri));
+        return () -> {
+            try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution)) {
+                return response;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.configuration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.common.OutboundMeterRegistryService;
+import org.eclipse.tractusx.irs.configuration.OutboundHttpClientConfiguration.ClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@WireMockTest
+class PooledClientHttpRequestFactoriesTest {
+
+    private static final String TEMPLATE_NAME = "testRestTemplate";
+    private static final ClientHttpRequestFactorySettings SETTINGS = ClientHttpRequestFactorySettings.DEFAULTS
+            .withConnectTimeout(Duration.ofSeconds(1))
+            .withReadTimeout(Duration.ofSeconds(10));
+
+    private final OutboundHttpClientConfiguration configuration = new OutboundHttpClientConfiguration();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledClientHttpRequestFactories factories;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp(final WireMockRuntimeInfo wireMockRuntimeInfo) {
+        factories = new PooledClientHttpRequestFactories(configuration,
+                new OutboundMeterRegistryService(meterRegistry, RetryRegistry.ofDefaults()));
+        baseUrl = wireMockRuntimeInfo.getHttpBaseUrl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factories.destroy();
+    }
+
+    @Test
+    void shouldUseConnectionPoolAndRegisterGauges() {
+        // Arrange
+        stubFor(get(urlEqualTo("/test")).willReturn(aResponse().withStatus(200).withBody("pooled")));
+
+        // Act
+        final var requestFactory = factories.create(TEMPLATE_NAME, SETTINGS);
+        final ResponseEntity<String> response = new RestTemplate(requestFactory).getForEntity(baseUrl + "/test",
+                String.class);
+
+        // Assert
+        assertThat(requestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        assertThat(response.getBody()).isEqualTo("pooled");
+        assertThat(meterRegistry.get("http.client.connections")
+                                .tag("client", TEMPLATE_NAME)
+                                .tag("state", "available")
+                                .gauge()
+                                .value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUseHttp2ClientWhenConfiguredForTemplate() {
+        // Arrange
+        final ClientConfig http2Config = new ClientConfig();
+        http2Config.setHttp2(true);
+        configuration.setTemplates(Map.of(TEMPLATE_NAME, http2Config));
+        stubFor(post(urlEqualTo("/test")).willReturn(
+                aResponse().withStatus(201).withHeader("Content-Type", "text/plain").withBody("created")));
+
+        // Act
+        final var requestFactory = factories.create(TEMPLATE_NAME, SETTINGS);
+        final ResponseEntity<String> response = new RestTemplate(requestFactory).postForEntity(baseUrl + "/test",
+                "payload", String.class);
+
+        // Assert
+        assertThat(requestFactory).isInstanceOf(Http2ClientHttpRequestFactory.class);
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+        assertThat(response.getBody()).isEqualTo("created");
+        verify(postRequestedFor(urlEqualTo("/test")).withRequestBody(equalTo("payload")));
+    }
+
+    @Test
+    void shouldMapHttp2RequestTimeoutToSocketTimeout() {
+        // Arrange
+        final ClientConfig http2Config = new ClientConfig();
+        http2Config.setHttp2(true);
+        configuration.setDefaults(http2Config);
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(15_000)));
+        final RestTemplate restTemplate = new RestTemplate(
+                factories.create(TEMPLATE_NAME, SETTINGS.withReadTimeout(Duration.ofMillis(500))));
+
+        // Act & Assert
+        assertThatThrownBy(() -> restTemplate.getForEntity(baseUrl + "/slow", String.class)).isInstanceOf(
+                ResourceAccessException.class).hasCauseInstanceOf(SocketTimeoutException.class);
+    }
+}
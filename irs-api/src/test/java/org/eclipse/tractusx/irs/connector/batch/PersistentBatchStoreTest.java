@@ -39,6 +39,7 @@ import java.util.UUID;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.component.enums.ProcessingState;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -48,7 +49,7 @@ class PersistentBatchStoreTest {
     private final UUID BATCH_ID = UUID.randomUUID();
     private final BlobPersistence blobStore = Mockito.mock(BlobPersistence.class);
     private final JsonUtil json = new JsonUtil();
-    private final PersistentBatchStore store = new PersistentBatchStore(blobStore);
+    private final PersistentBatchStore store = new PersistentBatchStore(blobStore, new BlobCodec());
 
     @Test
     void shouldSaveBatch() throws BlobPersistenceException {
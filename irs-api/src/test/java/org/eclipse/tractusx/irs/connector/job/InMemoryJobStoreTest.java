@@ -32,6 +32,11 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import net.datafaker.Faker;
 import org.assertj.core.api.SoftAssertions;
@@ -284,6 +289,77 @@ class InMemoryJobStoreTest {
         assertTrue(Optional.ofNullable(job.getJob().getCompletedOn()).isPresent());
     }
 
+    @Test
+    void findByProcessId_WhenTransferCompleted() {
+        sut.create(job);
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+        sut.addTransferProcess(job.getJobIdString(), processId2);
+        sut.completeTransferProcess(job.getJobIdString(), process1);
+
+        assertThat(sut.findByProcessId(processId1)).isEmpty();
+        assertThat(sut.findByProcessId(processId2)).isPresent();
+    }
+
+    @Test
+    void findByProcessId_WhenJobStoredBeforeIndexWasBuilt() {
+        final MultiTransferJob storedJob = job.toBuilder().transferProcessId(processId1).build();
+        sut.put(storedJob.getJobIdString(), storedJob);
+
+        assertThat(sut.findByProcessId(processId1)).contains(storedJob);
+    }
+
+    @Test
+    void shouldNotFindDeletedJobByStateOrProcessId() {
+        sut.create(job);
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+
+        sut.deleteJob(job.getJobIdString());
+
+        assertThat(sut.findByProcessId(processId1)).isEmpty();
+        assertThat(sut.findByStates(List.of(JobState.RUNNING))).isEmpty();
+    }
+
+    @Test
+    void shouldNotBlockOtherJobsWhileJobIsModified() throws Exception {
+        // Arrange
+        final MultiTransferJob lockedJob = createJob("00000000-0000-0000-0000-000000000001");
+        final MultiTransferJob otherJob = createJob("00000000-0000-0000-0000-000000000002");
+        sut.create(lockedJob);
+        sut.create(otherJob);
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> sut.completeJob(lockedJob.getJobIdString(), job -> {
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            CompletableFuture.runAsync(() -> sut.addTransferProcess(otherJob.getJobIdString(), processId1))
+                             .get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(sut.find(otherJob.getJobIdString())).isPresent()
+                                                            .get()
+                                                            .extracting(j -> j.getJob().getState())
+                                                            .isEqualTo(JobState.RUNNING);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     void shouldFindCompletedJobsOlderThanFiveHours() {
         // Arrange
@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.irs.component.enums.JobState;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of the job store throughput depending on the number of concurrently modified jobs.
+ * Several threads modify and look up randomly chosen running jobs, so with a single job all threads
+ * contend for the same lock, while with many jobs they spread over the lock stripes.
+ * Completing a running job leaves it unchanged, but still stores and indexes it under its write lock.
+ * Not executed by surefire, run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class JobStoreBenchmark {
+
+    @Param({ "1", "16", "256" })
+    private int concurrentJobs;
+
+    private JobStore jobStore;
+    private List<String> jobIds;
+    private List<String> processIds;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JobStoreBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final TestMother generate = new TestMother();
+        jobStore = new InMemoryJobStore();
+        final List<MultiTransferJob> jobs = IntStream.range(0, concurrentJobs)
+                                                     .mapToObj(i -> generate.job(JobState.UNSAVED))
+                                                     .toList();
+        jobIds = jobs.stream().map(MultiTransferJob::getJobIdString).toList();
+        processIds = jobs.stream().map(job -> {
+            final String processId = generate.transfer().getId();
+            jobStore.create(job);
+            jobStore.addTransferProcess(job.getJobIdString(), processId);
+            return processId;
+        }).toList();
+    }
+
+    @Benchmark
+    public void modifyJob() {
+        jobStore.completeJob(jobIds.get(ThreadLocalRandom.current().nextInt(concurrentJobs)), job -> {
+        });
+    }
+
+    @Benchmark
+    public Optional<MultiTransferJob> findByProcessId() {
+        return jobStore.findByProcessId(processIds.get(ThreadLocalRandom.current().nextInt(concurrentJobs)));
+    }
+}
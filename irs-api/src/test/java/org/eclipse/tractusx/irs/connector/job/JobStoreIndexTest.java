@@ -0,0 +1,112 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.connector.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.eclipse.tractusx.irs.component.enums.JobState;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.junit.jupiter.api.Test;
+
+class JobStoreIndexTest {
+
+    private final JobStoreIndex sut = new JobStoreIndex();
+    private final TestMother generate = new TestMother();
+
+    @Test
+    void shouldFindJobIdByOpenProcessId() {
+        final MultiTransferJob job = generate.job(JobState.RUNNING).toBuilder().transferProcessId("process").build();
+
+        sut.index(job);
+
+        assertThat(sut.findJobIdByProcessId("process")).contains(job.getJobIdString());
+        assertThat(sut.findJobIdByProcessId("unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceEntriesOfPreviousJobVersion() {
+        final MultiTransferJob running = generate.job(JobState.RUNNING).toBuilder().transferProcessId("process").build();
+        final MultiTransferJob completed = running.toBuilder()
+                                                  .clearTransferProcessIds()
+                                                  .job(running.getJob().toBuilder().state(JobState.COMPLETED).build())
+                                                  .build();
+
+        sut.index(running);
+        sut.index(completed);
+
+        assertThat(sut.findJobIdByProcessId("process")).isEmpty();
+        assertThat(sut.findJobIdsByStates(List.of(JobState.RUNNING))).isEmpty();
+        assertThat(sut.findJobIdsByStates(List.of(JobState.COMPLETED))).containsExactly(running.getJobIdString());
+    }
+
+    @Test
+    void shouldFindJobsInStateCompletedBeforeDate() {
+        final ZonedDateTime now = ZonedDateTime.now();
+        final MultiTransferJob old = withCompletion(JobState.COMPLETED, now.minusHours(2));
+        final MultiTransferJob recent = withCompletion(JobState.COMPLETED, now.plusHours(1));
+        final MultiTransferJob failed = withCompletion(JobState.ERROR, now.minusHours(2));
+        List.of(old, recent, failed).forEach(sut::index);
+
+        assertThat(sut.findJobIdsCompletedBefore(JobState.COMPLETED, now)).containsExactly(old.getJobIdString());
+        assertThat(sut.findJobIdsCompletedBefore(JobState.ERROR, now)).containsExactly(failed.getJobIdString());
+    }
+
+    @Test
+    void shouldRemoveAllEntriesOnUnindex() {
+        final MultiTransferJob job = generate.job(JobState.ERROR).toBuilder().transferProcessId("process").build();
+        sut.index(job);
+
+        sut.unindex(job.getJobIdString());
+
+        assertThat(sut.findJobIdByProcessId("process")).isEmpty();
+        assertThat(sut.findJobIdsByStates(List.of(JobState.ERROR))).isEmpty();
+        assertThat(sut.findJobIdsCompletedBefore(JobState.ERROR, ZonedDateTime.now().plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void shouldKeepEntriesIndexedDuringRebuildSnapshot() {
+        final MultiTransferJob running = generate.job(JobState.RUNNING).toBuilder().transferProcessId("process").build();
+        final MultiTransferJob completed = running.toBuilder()
+                                                  .clearTransferProcessIds()
+                                                  .job(running.getJob().toBuilder().state(JobState.COMPLETED).build())
+                                                  .build();
+        final MultiTransferJob otherJob = generate.job(JobState.RUNNING);
+        final long snapshotSequence = sut.currentSequence();
+        sut.index(completed);
+
+        sut.rebuild(List.of(running, otherJob), snapshotSequence);
+
+        assertThat(sut.findJobIdByProcessId("process")).isEmpty();
+        assertThat(sut.findJobIdsByStates(List.of(JobState.COMPLETED))).containsExactly(running.getJobIdString());
+        assertThat(sut.findJobIdsByStates(List.of(JobState.RUNNING))).containsExactly(otherJob.getJobIdString());
+    }
+
+    private MultiTransferJob withCompletion(final JobState state, final ZonedDateTime completedOn) {
+        final MultiTransferJob job = generate.job(state);
+        return job.toBuilder().job(job.getJob().toBuilder().completedOn(completedOn).build()).build();
+    }
+}
@@ -25,24 +25,29 @@ package org.eclipse.tractusx.irs.connector.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.tractusx.irs.util.TestMother.jobParameter;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import net.datafaker.Faker;
 import org.assertj.core.api.SoftAssertions;
+import org.eclipse.tractusx.irs.InMemoryBlobStore;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
 import org.eclipse.tractusx.irs.component.Job;
@@ -50,6 +55,7 @@ import org.eclipse.tractusx.irs.component.JobErrorDetails;
 import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.services.MeterRegistryService;
 import org.eclipse.tractusx.irs.testing.containers.MinioContainer;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.eclipse.tractusx.irs.util.TestMother;
 import org.junit.jupiter.api.AfterAll;
@@ -97,7 +103,8 @@ class PersistentJobStoreTest {
         final MinioBlobPersistence blobStore = new MinioBlobPersistence("http://" + minioContainer.getHostAddress(),
                 ACCESS_KEY, SECRET_KEY, "testbucket", 1);
         blobStoreSpy = Mockito.spy(blobStore);
-        sut = new PersistentJobStore(blobStoreSpy, meterRegistryService);
+        sut = new PersistentJobStore(blobStoreSpy, meterRegistryService, new BlobCodec(), 1000, Duration.ZERO,
+                Duration.ZERO);
     }
 
     @Test
@@ -486,6 +493,102 @@ class PersistentJobStoreTest {
         job2 = sut.find(job2.getJobIdString()).get();
     }
 
+    @Test
+    void shouldNotReadBlobWhenModifyingCachedJob() throws BlobPersistenceException {
+        // Arrange
+        final InMemoryBlobStore inMemoryBlobStore = Mockito.spy(new InMemoryBlobStore());
+        final PersistentJobStore cachingStore = new PersistentJobStore(inMemoryBlobStore, meterRegistryService,
+                new BlobCodec(), 10, Duration.ZERO, Duration.ZERO);
+        cachingStore.create(job);
+
+        // Act
+        cachingStore.addTransferProcess(job.getJobIdString(), processId1);
+        cachingStore.completeTransferProcess(job.getJobIdString(), process1);
+
+        // Assert
+        verify(inMemoryBlobStore, never()).getBlob(anyString());
+        verify(inMemoryBlobStore, times(3)).putBlob(anyString(), any());
+        assertThat(cachingStore.find(job.getJobIdString())).isPresent()
+                                                          .get()
+                                                          .extracting(j -> j.getJob().getState())
+                                                          .isEqualTo(JobState.TRANSFERS_FINISHED);
+    }
+
+    @Test
+    void shouldNotReadBlobBeforeWritingJobWithoutCache() throws BlobPersistenceException {
+        // Arrange
+        final InMemoryBlobStore inMemoryBlobStore = Mockito.spy(new InMemoryBlobStore());
+        final PersistentJobStore uncachedStore = new PersistentJobStore(inMemoryBlobStore, meterRegistryService,
+                new BlobCodec(), 0, Duration.ZERO, Duration.ZERO);
+
+        // Act
+        uncachedStore.create(job);
+        uncachedStore.addTransferProcess(job.getJobIdString(), processId1);
+
+        // Assert
+        verify(inMemoryBlobStore, times(1)).getBlob(anyString());
+        verify(inMemoryBlobStore, times(2)).putBlob(anyString(), any());
+    }
+
+    @Test
+    void shouldCoalesceWritesOfRunningJobWithWriteBehind() throws BlobPersistenceException {
+        // Arrange
+        final InMemoryBlobStore inMemoryBlobStore = Mockito.spy(new InMemoryBlobStore());
+        final PersistentJobStore cachingStore = new PersistentJobStore(inMemoryBlobStore, meterRegistryService,
+                new BlobCodec(), 10, Duration.ofHours(1), Duration.ZERO);
+
+        // Act
+        cachingStore.create(job);
+        cachingStore.addTransferProcess(job.getJobIdString(), processId1);
+        cachingStore.addTransferProcess(job.getJobIdString(), processId2);
+
+        // Assert
+        verify(inMemoryBlobStore, never()).putBlob(anyString(), any());
+        assertThat(cachingStore.find(job.getJobIdString())).isPresent();
+        assertThat(cachingStore.findAll()).hasSize(1);
+
+        cachingStore.markJobInError(job.getJobIdString(), errorDetail, errorDetail);
+        verify(inMemoryBlobStore, times(1)).putBlob(anyString(), any());
+        cachingStore.shutdown();
+    }
+
+    @Test
+    void shouldRetryFailedWriteBehind() throws BlobPersistenceException {
+        // Arrange
+        final InMemoryBlobStore inMemoryBlobStore = Mockito.spy(new InMemoryBlobStore());
+        doThrow(new BlobPersistenceException("test", new RuntimeException())).doCallRealMethod()
+                                                                             .when(inMemoryBlobStore)
+                                                                             .putBlob(anyString(), any());
+        final PersistentJobStore cachingStore = new PersistentJobStore(inMemoryBlobStore, meterRegistryService,
+                new BlobCodec(), 10, Duration.ofMillis(10), Duration.ZERO);
+
+        // Act
+        cachingStore.create(job);
+
+        // Assert
+        await().atMost(5, TimeUnit.SECONDS)
+               .untilAsserted(() -> assertThat(inMemoryBlobStore.getBlob("job:" + job.getJobIdString())).isPresent());
+        verify(inMemoryBlobStore, times(2)).putBlob(anyString(), any());
+        cachingStore.shutdown();
+    }
+
+    @Test
+    void shouldFlushPendingWritesOnShutdown() throws BlobPersistenceException {
+        // Arrange
+        final InMemoryBlobStore inMemoryBlobStore = Mockito.spy(new InMemoryBlobStore());
+        final PersistentJobStore cachingStore = new PersistentJobStore(inMemoryBlobStore, meterRegistryService,
+                new BlobCodec(), 10, Duration.ofHours(1), Duration.ZERO);
+        cachingStore.create(job);
+        cachingStore.addTransferProcess(job.getJobIdString(), processId1);
+
+        // Act
+        cachingStore.shutdown();
+
+        // Assert
+        verify(inMemoryBlobStore, times(1)).putBlob(anyString(), any());
+        assertThat(inMemoryBlobStore.getBlob("job:" + job.getJobIdString())).isPresent();
+    }
+
     @Test
     void shouldThrowExceptionWhenCreatingJob() throws BlobPersistenceException {
         // Arrange
@@ -499,6 +602,41 @@ class PersistentJobStoreTest {
         assertThat(sut.find(job.getJobIdString())).isEmpty();
     }
 
+    @Test
+    void shouldNotIndexJobWhenWriteFails() throws BlobPersistenceException {
+        // Arrange
+        sut.create(job);
+        doThrow(new BlobPersistenceException("test", new RuntimeException())).when(blobStoreSpy)
+                                                                             .putBlob(any(), any());
+
+        // Act
+        sut.addTransferProcess(job.getJobIdString(), processId1);
+
+        // Assert
+        assertThat(sut.findByProcessId(processId1)).isEmpty();
+        assertThat(sut.findByStates(List.of(JobState.RUNNING))).isEmpty();
+        assertThat(sut.findByStates(List.of(JobState.INITIAL))).hasSize(1);
+    }
+
+    @Test
+    void shouldFindJobsWrittenByOtherInstanceAfterIndexRefresh() {
+        // Arrange
+        final InMemoryBlobStore sharedBlobStore = new InMemoryBlobStore();
+        final PersistentJobStore thisInstance = new PersistentJobStore(sharedBlobStore, meterRegistryService,
+                new BlobCodec(), 10, Duration.ZERO, Duration.ofNanos(1));
+        final PersistentJobStore otherInstance = new PersistentJobStore(sharedBlobStore, meterRegistryService,
+                new BlobCodec(), 10, Duration.ZERO, Duration.ofNanos(1));
+        assertThat(thisInstance.findByStates(List.of(JobState.RUNNING))).isEmpty();
+
+        // Act
+        otherInstance.create(job);
+        otherInstance.addTransferProcess(job.getJobIdString(), processId1);
+
+        // Assert
+        assertThat(thisInstance.findByProcessId(processId1)).isPresent();
+        assertThat(thisInstance.findByStates(List.of(JobState.RUNNING))).hasSize(1);
+    }
+
     @Test
     void jobStateIsInProgress() {
         sut.create(job);
@@ -43,6 +43,7 @@ import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -57,6 +58,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.eclipse.tractusx.irs.ControllerTest;
 import org.eclipse.tractusx.irs.TestConfig;
 import org.eclipse.tractusx.irs.common.auth.IrsRoles;
+import org.eclipse.tractusx.irs.component.CursorPageResult;
 import org.eclipse.tractusx.irs.component.Job;
 import org.eclipse.tractusx.irs.component.JobHandle;
 import org.eclipse.tractusx.irs.component.JobStatusResult;
@@ -68,6 +70,7 @@ import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.semanticshub.AspectModel;
 import org.eclipse.tractusx.irs.semanticshub.AspectModels;
 import org.eclipse.tractusx.irs.services.IrsItemGraphQueryService;
+import org.eclipse.tractusx.irs.services.JobResultStreamingService;
 import org.eclipse.tractusx.irs.services.SemanticHubService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -105,6 +108,8 @@ class IrsControllerTest extends ControllerTest {
     private IrsItemGraphQueryService service;
     @MockBean
     private SemanticHubService semanticHubService;
+    @MockBean
+    private JobResultStreamingService jobResultStreamingService;
 
     @LocalServerPort
     private int port;
@@ -205,6 +210,31 @@ class IrsControllerTest extends ControllerTest {
                        "yyyy-MM-dd'T'HH:mm:ss.SSS"))));
     }
 
+    @Test
+    void streamJobById() {
+        authenticateWith(IrsRoles.VIEW_IRS);
+
+        final Job runningJob = Job.builder().id(jobId).state(JobState.RUNNING).build();
+        Mockito.when(jobResultStreamingService.streamJobResult(jobId, true)).thenReturn(
+                new JobResultStreamingService.JobResultStream(runningJob,
+                        out -> out.write("{\"job\":{}}\n".getBytes(StandardCharsets.UTF_8))));
+
+        given().port(port).queryParam("returnUncompletedJob", true).get("/irs/jobs/" + jobId + "/stream")
+               .then().statusCode(PARTIAL_CONTENT.value()).contentType("application/x-ndjson")
+               .body(containsString("{\"job\":{}}"));
+    }
+
+    @Test
+    void getRelationshipsByJobId() {
+        authenticateWith(IrsRoles.VIEW_IRS);
+
+        Mockito.when(jobResultStreamingService.getRelationships(jobId, "MTA", 10)).thenReturn(
+                new CursorPageResult<>(List.of(), "MjA"));
+
+        given().port(port).queryParam("cursor", "MTA").queryParam("limit", 10).get("/irs/jobs/" + jobId + "/relationships")
+               .then().statusCode(OK.value()).body("nextCursor", is("MjA"));
+    }
+
     @Test
     void cancelJobById() {
         authenticateWith(IrsRoles.VIEW_IRS);
@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.tractusx.irs.ess.service.EdcRegistration.ASSET_ID_REQUEST_RECURSIVE;
 import static org.eclipse.tractusx.irs.util.TestMother.shell;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -34,11 +35,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
 import org.eclipse.tractusx.irs.component.GlobalAssetIdentification;
@@ -69,6 +73,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 class InvestigationJobProcessingEventListenerTest {
@@ -100,7 +105,8 @@ class InvestigationJobProcessingEventListenerTest {
     void shouldSendEdcNotificationWhenJobCompleted() throws EdcClientException {
         // given
         final String edcBaseUrl = "http://edc-server-url.com";
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(List.of(edcBaseUrl)));
         when(edcSubmodelFacade.sendNotification(anyString(), anyString(), any(EdcNotification.class), any())).thenReturn(
                 () -> true);
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
@@ -120,7 +126,8 @@ class InvestigationJobProcessingEventListenerTest {
         createMockForJobIdAndShell(jobId, "bpn",
                 List.of(createRelationship("asPlanned", null, "testParent", "testChild")));
         final String edcBaseUrl = "http://edc-server-url.com";
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(List.of(edcBaseUrl)));
         when(edcSubmodelFacade.sendNotification(anyString(), anyString(), any(EdcNotification.class), any())).thenReturn(
                 () -> true);
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
@@ -141,7 +148,8 @@ class InvestigationJobProcessingEventListenerTest {
                 List.of(createRelationship("asPlanned", "BPN1", "parentId1", "childId1"),
                         createRelationship("asPlanned", null, "parentId2", "childId2")));
         final String edcBaseUrl = "http://edc-server-url.com";
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(List.of(edcBaseUrl)));
         when(edcSubmodelFacade.sendNotification(anyString(), anyString(), any(EdcNotification.class), any())).thenReturn(
                 () -> true);
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
@@ -163,7 +171,8 @@ class InvestigationJobProcessingEventListenerTest {
         final String edcBaseUrl = "http://edc-server-url.com";
         when(edcSubmodelFacade.sendNotification(anyString(), anyString(), any(EdcNotification.class), any())).thenReturn(
                 () -> true);
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(List.of(edcBaseUrl)));
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
                 JobState.COMPLETED.name(), "", Optional.empty());
 
@@ -184,7 +193,8 @@ class InvestigationJobProcessingEventListenerTest {
     @Test
     void shouldStopProcessingIfNoEdcAddressIsDiscovered() throws EdcClientException {
         // given
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(Collections.emptyList());
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(Collections.emptyList()));
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
                 JobState.COMPLETED.name(), "", Optional.empty());
 
@@ -199,7 +209,8 @@ class InvestigationJobProcessingEventListenerTest {
     void shouldSendCallbackIfNoMoreRelationshipsAreFound() throws EdcClientException {
         // given
         createMockForJobIdAndShell(jobId, "bpn", List.of());
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(Collections.emptyList());
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(Collections.emptyList()));
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
                 JobState.COMPLETED.name(), "", Optional.empty());
 
@@ -217,8 +228,8 @@ class InvestigationJobProcessingEventListenerTest {
         // given
         createMockForJobIdAndShells(jobId, List.of("BPN123", "BPN456"));
         final String edcBaseUrl = "http://edc-server-url.com";
-        when(connectorEndpointsService.fetchConnectorEndpoints("BPN123")).thenReturn(Collections.emptyList());
-        when(connectorEndpointsService.fetchConnectorEndpoints("BPN456")).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenReturn(
+                Map.of("BPN123", Collections.emptyList(), "BPN456", List.of(edcBaseUrl)));
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
                 JobState.COMPLETED.name(), "", Optional.empty());
 
@@ -237,7 +248,8 @@ class InvestigationJobProcessingEventListenerTest {
                         "urn:uuid:52207a60-e541-4bea-8ec4-3172f09e6dbb",
                         "urn:uuid:86f69643-3b90-4e34-90bf-789edcf40e7e")));
         final String edcBaseUrl = "http://edc-server-url.com";
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(List.of(edcBaseUrl)));
         when(edcSubmodelFacade.sendNotification(anyString(), anyString(), any(EdcNotification.class), any())).thenReturn(
                 () -> true);
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(
@@ -261,7 +273,8 @@ class InvestigationJobProcessingEventListenerTest {
         final String edcBaseUrl = "http://edc-server-url.com";
         when(edcSubmodelFacade.sendNotification(anyString(), anyString(), any(EdcNotification.class), any())).thenReturn(
                 () -> true);
-        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of(edcBaseUrl));
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyCollection())).thenAnswer(
+                resolveAllTo(List.of(edcBaseUrl)));
         final JobProcessingFinishedEvent jobProcessingFinishedEvent = new JobProcessingFinishedEvent(jobId.toString(),
                 JobState.COMPLETED.name(), "", Optional.empty());
 
@@ -317,6 +330,12 @@ class InvestigationJobProcessingEventListenerTest {
         assertThat(job.get().getJobSnapshot().getTombstones().get(0).getProcessingError().getErrorDetail()).isEqualTo("'PartSiteInformationAsPlanned' exists, but catenaXSiteId could not be found.");
     }
 
+    private static Answer<Map<String, List<String>>> resolveAllTo(final List<String> connectorEndpoints) {
+        return invocation -> invocation.<Collection<String>>getArgument(0)
+                                       .stream()
+                                       .collect(Collectors.toMap(Function.identity(), bpn -> connectorEndpoints));
+    }
+
     private void createMockForJobIdAndShell(final UUID mockedJobId, final String mockedShell,
             final List<Relationship> relationships, final List<String> incindentBPNSs) {
         createMockForJobIdAndShell(mockedJobId, mockedShell, relationships, incindentBPNSs,
@@ -0,0 +1,140 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.irs.connector.batch.Batch;
+import org.eclipse.tractusx.irs.connector.batch.JobProgress;
+import org.junit.jupiter.api.Test;
+
+class BatchJobWindowsTest {
+
+    private static final UUID BATCH_ORDER_ID = UUID.randomUUID();
+    private static final UUID BATCH_ID = UUID.randomUUID();
+
+    private final BatchJobWindows jobWindows = new BatchJobWindows(1);
+    private final List<Integer> startedJobs = new CopyOnWriteArrayList<>();
+    private final AtomicInteger runningStarts = new AtomicInteger();
+    private final AtomicInteger maxRunningStarts = new AtomicInteger();
+
+    @Test
+    void shouldStartJobsOutsideOfTheWindowLockOneThreadAtATime() throws InterruptedException {
+        // given
+        final Thread[] releasingThread = new Thread[1];
+        final BatchJobWindows.JobStarter starter = (batchOrderId, jobs) -> {
+            maxRunningStarts.accumulateAndGet(runningStarts.incrementAndGet(), Math::max);
+            jobs.forEach(job -> startedJobs.add(job.index()));
+            if (releasingThread[0] == null) {
+                // the first job finishes while it is still being started
+                releasingThread[0] = new Thread(() -> jobWindows.release(BATCH_ID, (id, pending) -> {
+                    throw new IllegalStateException("Jobs must be started by the starting thread");
+                }));
+                releasingThread[0].start();
+                join(releasingThread[0]);
+            }
+            runningStarts.decrementAndGet();
+            return 0;
+        };
+
+        // when
+        jobWindows.open(BATCH_ORDER_ID, List.of(batch(3)), starter);
+
+        // then
+        assertThat(releasingThread[0].isAlive()).isFalse();
+        assertThat(startedJobs).containsExactly(0, 1);
+        assertThat(maxRunningStarts.get()).isEqualTo(1);
+
+        jobWindows.release(BATCH_ID, starter);
+        assertThat(startedJobs).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void shouldFreeSlotsOfJobsWhichCouldNotBeStarted() {
+        // given
+        final BatchJobWindows.JobStarter starter = (batchOrderId, jobs) -> {
+            jobs.forEach(job -> startedJobs.add(job.index()));
+            // only the first job fails to start
+            return isFirstJob(jobs.get(0).index()) ? 1 : 0;
+        };
+
+        // when
+        jobWindows.open(BATCH_ORDER_ID, List.of(batch(3)), starter);
+
+        // then
+        assertThat(startedJobs).containsExactly(0, 1);
+    }
+
+    @Test
+    void shouldKeepStartingJobsAfterStarterFailed() {
+        // given
+        final BatchJobWindows twoJobWindows = new BatchJobWindows(2);
+        final BatchJobWindows.JobStarter starter = (batchOrderId, jobs) -> {
+            jobs.forEach(job -> startedJobs.add(job.index()));
+            if (jobs.get(0).index() == 2) {
+                throw new IllegalStateException("store not available");
+            }
+            return 0;
+        };
+        twoJobWindows.open(BATCH_ORDER_ID, List.of(batch(4)), starter);
+
+        // when
+        try {
+            twoJobWindows.release(BATCH_ID, starter);
+        } catch (IllegalStateException e) {
+            // the job is dropped and its slot freed
+        }
+        twoJobWindows.release(BATCH_ID, starter);
+
+        // then
+        assertThat(startedJobs).containsExactly(0, 1, 2, 3);
+    }
+
+    private static boolean isFirstJob(final int index) {
+        return index == 0;
+    }
+
+    private static Batch batch(final int jobs) {
+        return Batch.builder()
+                    .batchId(BATCH_ID)
+                    .batchNumber(1)
+                    .batchOrderId(BATCH_ORDER_ID)
+                    .jobProgressList(IntStream.range(0, jobs).mapToObj(i -> JobProgress.builder().build()).toList())
+                    .build();
+    }
+
+    private static void join(final Thread thread) {
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -23,21 +23,26 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.services;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.eclipse.tractusx.irs.common.JobProcessingFinishedEvent;
 import org.eclipse.tractusx.irs.component.JobHandle;
 import org.eclipse.tractusx.irs.component.PartChainIdentificationKey;
+import org.eclipse.tractusx.irs.component.enums.JobState;
 import org.eclipse.tractusx.irs.component.enums.ProcessingState;
 import org.eclipse.tractusx.irs.connector.batch.Batch;
 import org.eclipse.tractusx.irs.connector.batch.BatchOrder;
@@ -67,6 +72,7 @@ class BatchOrderEventListenerTest {
     private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
     private final TimeoutSchedulerBatchProcessingService timeoutScheduler = mock(
             TimeoutSchedulerBatchProcessingService.class);
+    private final JobEventLinkedQueueListener jobEventLinkedQueueListener = mock(JobEventLinkedQueueListener.class);
 
     private BatchOrderEventListener eventListener;
 
@@ -75,7 +81,8 @@ class BatchOrderEventListenerTest {
         batchOrderStore = new InMemoryBatchOrderStore();
         batchStore = new InMemoryBatchStore();
         eventListener = new BatchOrderEventListener(batchOrderStore, batchStore, irsItemGraphQueryService,
-                essService, applicationEventPublisher, timeoutScheduler);
+                essService, applicationEventPublisher, timeoutScheduler, new BatchJobWindows(0),
+                jobEventLinkedQueueListener);
     }
 
     @Test
@@ -200,6 +207,126 @@ class BatchOrderEventListenerTest {
         verify(applicationEventPublisher, times(1)).publishEvent(any(BatchOrderProcessingFinishedEvent.class));
     }
 
+    @Test
+    void shouldStartJobsOfFollowingBatchesUpToWindowSize() {
+        // given
+        final int timeout = 60;
+        final BatchOrderEventListener windowedListener = givenWindowedOrder(15, timeout);
+
+        // when
+        windowedListener.handleBatchOrderRegisteredEvent(new BatchOrderRegisteredEvent(BATCH_ORDER_ID));
+
+        // then
+        verify(irsItemGraphQueryService, times(10)).registerItemJob(any(), eq(FIRST_BATCH_ID));
+        verify(irsItemGraphQueryService, times(5)).registerItemJob(any(), eq(SECOND_BATCH_ID));
+        verify(timeoutScheduler, times(1)).registerBatchTimeout(FIRST_BATCH_ID, timeout);
+        verify(timeoutScheduler, times(1)).registerBatchTimeout(SECOND_BATCH_ID, timeout);
+        assertThat(batchStore.find(SECOND_BATCH_ID).orElseThrow().getJobProgressList()).filteredOn(
+                jobProgress -> jobProgress.getJobId() != null).hasSize(5);
+    }
+
+    @Test
+    void shouldStartNextJobWhenJobOfWindowFinished() {
+        // given
+        final int timeout = 60;
+        final BatchOrderEventListener windowedListener = givenWindowedOrder(15, timeout);
+        windowedListener.handleBatchOrderRegisteredEvent(new BatchOrderRegisteredEvent(BATCH_ORDER_ID));
+
+        // when
+        windowedListener.handleJobProcessingFinishedEvent(
+                new JobProcessingFinishedEvent(UUID.randomUUID().toString(), "COMPLETED", "",
+                        Optional.of(FIRST_BATCH_ID)));
+
+        // then
+        verify(irsItemGraphQueryService, times(6)).registerItemJob(any(), eq(SECOND_BATCH_ID));
+        verify(timeoutScheduler, times(1)).registerBatchTimeout(eq(SECOND_BATCH_ID), any());
+    }
+
+    @Test
+    void shouldMarkJobAsErrorAndStartNextJobWhenJobFailsToStart() {
+        // given
+        final BatchOrderEventListener windowedListener = givenWindowedOrder(15, 60);
+        given(irsItemGraphQueryService.registerItemJob(any(), eq(FIRST_BATCH_ID))).willThrow(
+                new IllegalStateException("job store unavailable"))
+                .willAnswer(invocation -> JobHandle.builder().id(UUID.randomUUID()).build());
+
+        // when
+        windowedListener.handleBatchOrderRegisteredEvent(new BatchOrderRegisteredEvent(BATCH_ORDER_ID));
+
+        // then
+        final JobProgress failedJob = batchStore.find(FIRST_BATCH_ID).orElseThrow().getJobProgressList().get(0);
+        assertThat(failedJob.getJobState()).isEqualTo(JobState.ERROR);
+        assertThat(failedJob.getJobId()).isNull();
+        verify(irsItemGraphQueryService, times(6)).registerItemJob(any(), eq(SECOND_BATCH_ID));
+        verify(jobEventLinkedQueueListener).handleJobsNotStarted(FIRST_BATCH_ID, 1);
+    }
+
+    @Test
+    void shouldNotStartNextBatchWhenPreviousFinishedInWindowedMode() {
+        // given
+        final BatchOrderEventListener windowedListener = givenWindowedOrder(15, 60);
+
+        // when
+        windowedListener.handleBatchProcessingFinishedEvent(
+                new BatchProcessingFinishedEvent(BATCH_ORDER_ID, FIRST_BATCH_ID, ProcessingState.PARTIAL,
+                        ProcessingState.COMPLETED, 1, ""));
+
+        // then
+        verify(irsItemGraphQueryService, never()).registerItemJob(any(), any());
+    }
+
+    @Test
+    void shouldNotStartJobsOfCancelledOrder() {
+        // given
+        final BatchJobWindows jobWindows = new BatchJobWindows(15);
+        final BatchOrderEventListener windowedListener = givenWindowedOrder(jobWindows, 60);
+        windowedListener.handleBatchOrderRegisteredEvent(new BatchOrderRegisteredEvent(BATCH_ORDER_ID));
+
+        // when
+        jobWindows.cancel(BATCH_ORDER_ID);
+        windowedListener.handleJobProcessingFinishedEvent(
+                new JobProcessingFinishedEvent(UUID.randomUUID().toString(), "CANCELED", "",
+                        Optional.of(FIRST_BATCH_ID)));
+
+        // then
+        verify(irsItemGraphQueryService, times(5)).registerItemJob(any(), eq(SECOND_BATCH_ID));
+    }
+
+    private BatchOrderEventListener givenWindowedOrder(final int maxJobsInFlight, final int timeout) {
+        return givenWindowedOrder(new BatchJobWindows(maxJobsInFlight), timeout);
+    }
+
+    private BatchOrderEventListener givenWindowedOrder(final BatchJobWindows jobWindows, final int timeout) {
+        final BatchOrder batchOrder = BatchOrder.builder()
+                                                .batchOrderId(BATCH_ORDER_ID)
+                                                .batchOrderState(ProcessingState.INITIALIZED)
+                                                .collectAspects(Boolean.TRUE)
+                                                .timeout(timeout)
+                                                .jobTimeout(timeout)
+                                                .lookupBPNs(Boolean.TRUE)
+                                                .jobType(BatchOrder.JobType.REGULAR)
+                                                .build();
+        batchOrderStore.save(BATCH_ORDER_ID, batchOrder);
+        batchStore.save(FIRST_BATCH_ID, Batch.builder()
+                                             .batchId(FIRST_BATCH_ID)
+                                             .batchState(ProcessingState.INITIALIZED)
+                                             .batchNumber(1)
+                                             .batchOrderId(BATCH_ORDER_ID)
+                                             .jobProgressList(createJobProgressList())
+                                             .build());
+        batchStore.save(SECOND_BATCH_ID, Batch.builder()
+                                              .batchId(SECOND_BATCH_ID)
+                                              .batchState(ProcessingState.INITIALIZED)
+                                              .batchNumber(2)
+                                              .batchOrderId(BATCH_ORDER_ID)
+                                              .jobProgressList(createJobProgressList())
+                                              .build());
+        given(irsItemGraphQueryService.registerItemJob(any(), any())).willAnswer(
+                invocation -> JobHandle.builder().id(UUID.randomUUID()).build());
+        return new BatchOrderEventListener(batchOrderStore, batchStore, irsItemGraphQueryService, essService,
+                applicationEventPublisher, timeoutScheduler, jobWindows, jobEventLinkedQueueListener);
+    }
+
     private List<JobProgress> createJobProgressList() {
         return IntStream.range(0, 10)
                         .boxed()
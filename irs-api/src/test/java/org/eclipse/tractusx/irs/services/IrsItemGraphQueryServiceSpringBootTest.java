@@ -36,6 +36,7 @@ import static org.eclipse.tractusx.irs.util.TestMother.singleLevelBomAsBuiltAspe
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
@@ -115,7 +116,7 @@ class IrsItemGraphQueryServiceSpringBootTest {
     void registerJobWithoutDepthShouldBuildFullTree() {
         // given
         final RegisterJob registerJob = registerJobWithoutDepth();
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
 
         // when
@@ -131,8 +132,8 @@ class IrsItemGraphQueryServiceSpringBootTest {
     @Test
     void registerJobWithCollectAspectsShouldIncludeSubmodels() throws InvalidSchemaException {
         // given
-        when(jsonValidatorService.validate(any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(true).build());
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("https://connector.endpoint.nl"));
         final RegisterJob registerJob = registerJob("urn:uuid:1398cd56-682b-4c94-93ac-4807f9bfca41", 100,
                 List.of(serialPartAspectName, productDescriptionAspectName, singleLevelBomAsBuiltAspectName),
@@ -153,8 +154,8 @@ class IrsItemGraphQueryServiceSpringBootTest {
     @Test
     void registerJobShouldCreateTombstonesWhenNotPassingJsonSchemaValidation() throws InvalidSchemaException {
         // given
-        when(jsonValidatorService.validate(any(), any())).thenReturn(ValidationResult.builder().valid(false).build());
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(jsonValidatorService.validate(any(), any(), any())).thenReturn(ValidationResult.builder().valid(false).build());
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("https://connector.endpoint.nl"));
 
         final RegisterJob registerJob = registerJobWithDepthAndAspectAndCollectAspects(3,
@@ -176,7 +177,7 @@ class IrsItemGraphQueryServiceSpringBootTest {
     void registerJobWithDepthShouldBuildTreeUntilGivenDepth() {
         // given
         final RegisterJob registerJob = registerJobWithDepthAndAspect(1, List.of());
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
 
         // when
@@ -194,7 +195,7 @@ class IrsItemGraphQueryServiceSpringBootTest {
         // given
         final RegisterJob registerJob = registerJobWithDirection("urn:uuid:1398cd56-682b-4c94-93ac-4807f9bfca41",
                 Direction.UPWARD);
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
 
         // when
@@ -245,7 +246,7 @@ class IrsItemGraphQueryServiceSpringBootTest {
     void registerJobWithoutAspectsShouldUseDefault() {
         // given
         final RegisterJob registerJob = registerJobWithDepthAndAspect(10, List.of());
-        when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(
+        when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(
                 List.of("http://localhost/discovery"));
 
         // when
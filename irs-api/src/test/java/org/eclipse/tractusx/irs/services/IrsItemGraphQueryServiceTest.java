@@ -29,9 +29,15 @@ import static org.eclipse.tractusx.irs.util.TestMother.registerJobWithLookupBPNs
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -40,6 +46,9 @@ import java.util.UUID;
 
 import org.eclipse.tractusx.irs.aaswrapper.job.AASTransferProcess;
 import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.aaswrapper.job.PartialResultAggregator;
+import org.eclipse.tractusx.irs.aaswrapper.job.PartialResultAggregator.PartialResult;
+import org.eclipse.tractusx.irs.aaswrapper.job.RequestMetric;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
 import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
 import org.eclipse.tractusx.irs.component.Job;
@@ -53,6 +62,7 @@ import org.eclipse.tractusx.irs.semanticshub.AspectModel;
 import org.eclipse.tractusx.irs.semanticshub.AspectModels;
 import org.eclipse.tractusx.irs.semanticshub.SemanticsHubFacade;
 import org.eclipse.tractusx.irs.services.validation.SchemaNotFoundException;
+import org.eclipse.tractusx.irs.util.BlobCodec;
 import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.eclipse.tractusx.irs.util.TestMother;
 import org.junit.jupiter.api.Test;
@@ -60,6 +70,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
@@ -81,6 +92,12 @@ class IrsItemGraphQueryServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private PartialResultAggregator partialResultAggregator = new PartialResultAggregator(100);
+
+    @Spy
+    private BlobCodec blobCodec = new BlobCodec();
+
     @InjectMocks
     private IrsItemGraphQueryService testee;
 
@@ -106,6 +123,102 @@ class IrsItemGraphQueryServiceTest {
         assertThat(jobs.getRelationships()).hasSize(2);
     }
 
+    @Test
+    void shouldServeSummaryOfCompletedJobWithoutReadingTransferResults() throws Exception {
+        // given
+        final AASTransferProcess transfer = generate.aasTransferProcess();
+        final MultiTransferJob job = MultiTransferJob.builder()
+                                                     .completedTransfers(List.of(transfer))
+                                                     .job(generate.fakeJob(JobState.COMPLETED))
+                                                     .build();
+        final ItemContainer jobResult = ItemContainer.builder()
+                                                     .relationship(generate.relationship())
+                                                     .metric(bpnLookup())
+                                                     .build();
+        when(blobStore.getBlob(job.getJobIdString())).thenReturn(Optional.of(toBlob(jobResult)));
+
+        // when
+        final Jobs jobs = testee.getJobForJobId(job, false);
+
+        // then
+        assertThat(jobs.getRelationships()).hasSize(1);
+        assertThat(jobs.getJob().getSummary().getBpnLookups().getCompleted()).isEqualTo(1);
+        verify(blobStore, never()).getBlob(transfer.getId());
+    }
+
+    @Test
+    void shouldBuildSummaryFromAggregateWithoutReadingTransferResults() throws Exception {
+        // given
+        final MultiTransferJob job = MultiTransferJob.builder()
+                                                     .completedTransfers(List.of(generate.aasTransferProcess()))
+                                                     .job(generate.fakeJob(JobState.RUNNING))
+                                                     .build();
+        doReturn(Optional.of(PartialResult.from(ItemContainer.builder().metric(bpnLookup()).build())))
+                .when(partialResultAggregator).find(job.getJobIdString());
+
+        // when
+        final Jobs jobs = testee.getJobForJobId(job, false);
+
+        // then
+        assertThat(jobs.getJob().getSummary().getBpnLookups().getCompleted()).isEqualTo(1);
+        verify(blobStore, never()).getBlob(any());
+    }
+
+    @Test
+    void shouldServePartialResultsFromAggregateWithoutReadingTransferResults() throws Exception {
+        // given
+        final MultiTransferJob job = MultiTransferJob.builder()
+                                                     .completedTransfers(List.of(generate.aasTransferProcess()))
+                                                     .job(generate.fakeJob(JobState.RUNNING))
+                                                     .build();
+        final PartialResult partialResult = mock(PartialResult.class);
+        when(partialResult.getItemGraph()).thenReturn(
+                Optional.of(ItemContainer.builder().relationship(generate.relationship()).build()));
+        doReturn(Optional.of(partialResult)).when(partialResultAggregator).find(job.getJobIdString());
+
+        // when
+        final Jobs jobs = testee.getJobForJobId(job, true);
+
+        // then
+        assertThat(jobs.getRelationships()).hasSize(1);
+        verify(blobStore, never()).getBlob(any());
+    }
+
+    @Test
+    void shouldOpenTransferResultsOfRunningJobOneAfterAnother() throws Exception {
+        // given
+        final BlobCodec configuredCodec = new BlobCodec(BlobCodec.Format.SMILE, BlobCodec.Compression.GZIP);
+        final AASTransferProcess transfer1 = generate.aasTransferProcess();
+        final AASTransferProcess transfer2 = generate.aasTransferProcess();
+        final MultiTransferJob job = MultiTransferJob.builder()
+                                                     .completedTransfers(List.of(transfer1, transfer2))
+                                                     .job(generate.fakeJob(JobState.RUNNING))
+                                                     .build();
+        final byte[] transferResult = configuredCodec.encode(
+                ItemContainer.builder().relationship(generate.relationship()).build());
+        when(blobStore.getBlobStream(transfer1.getId())).thenReturn(
+                Optional.of(new ByteArrayInputStream(transferResult)));
+
+        // when
+        final List<IrsItemGraphQueryService.ItemGraphBlob> itemGraph = testee.getItemGraphBlobs(job, true);
+
+        // then
+        assertThat(itemGraph).hasSize(2);
+        verify(blobStore, never()).getBlobStream(any());
+        try (InputStream blob = itemGraph.get(0).open().orElseThrow()) {
+            assertThat(configuredCodec.decode(blob.readAllBytes(), ItemContainer.class).getRelationships()).hasSize(
+                    1);
+        }
+        assertThat(itemGraph.get(1).open()).isEmpty();
+    }
+
+    private static RequestMetric bpnLookup() {
+        final RequestMetric bpnLookup = new RequestMetric();
+        bpnLookup.setType(RequestMetric.RequestType.BPDM);
+        bpnLookup.incrementCompleted();
+        return bpnLookup;
+    }
+
     private void givenRunningJobHasFinishedTransfers(final UUID jobId, final AASTransferProcess... transfers) {
         final MultiTransferJob job = MultiTransferJob.builder()
                                                      .completedTransfers(Arrays.asList(transfers))
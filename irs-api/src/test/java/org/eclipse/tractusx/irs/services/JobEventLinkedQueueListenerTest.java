@@ -98,4 +98,32 @@ class JobEventLinkedQueueListenerTest {
         assertThat(eventCaptor.getValue().batchId()).isEqualTo(BATCH_ID);
         assertThat(eventCaptor.getValue().batchState()).isEqualTo(ProcessingState.COMPLETED);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCompleteBatchWithoutEventsOfJobsNotStarted() {
+        // given
+        final UUID startedJob = UUID.randomUUID();
+
+        eventListener.addQueueForBatch(BATCH_ID, 2);
+        batchStore.save(BATCH_ID, Batch.builder()
+                                       .batchId(BATCH_ID)
+                                       .batchOrderId(BATCH_ORDER_ID)
+                                       .jobProgressList(List.of(
+                                               JobProgress.builder().jobId(startedJob).jobState(JobState.INITIAL).build(),
+                                               JobProgress.builder().jobState(JobState.ERROR).build()))
+                                       .build());
+
+        batchOrderStore.save(BATCH_ORDER_ID, BatchOrder.builder().batchOrderId(BATCH_ORDER_ID).batchOrderState(
+                ProcessingState.PROCESSING).build());
+
+        // when
+        eventListener.handleJobsNotStarted(BATCH_ID, 1);
+        eventListener.handleJobProcessingFinishedEvent(
+                new JobProcessingFinishedEvent(startedJob.toString(), JobState.COMPLETED.name(), "", Optional.of(BATCH_ID)));
+
+        // then
+        final Batch batch = batchStore.find(BATCH_ID).orElseThrow();
+        assertThat(batch.getBatchState()).isEqualTo(ProcessingState.PARTIAL);
+        assertThat(batch.getJobProgressList().get(0).getJobState()).isEqualTo(JobState.COMPLETED);
+    }
+}
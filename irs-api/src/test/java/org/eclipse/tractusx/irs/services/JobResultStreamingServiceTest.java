@@ -0,0 +1,212 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.component.CursorPageResult;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.irs.component.enums.JobState;
+import org.eclipse.tractusx.irs.connector.job.JobStore;
+import org.eclipse.tractusx.irs.connector.job.MultiTransferJob;
+import org.eclipse.tractusx.irs.util.BlobCodec;
+import org.eclipse.tractusx.irs.util.TestMother;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.web.server.ResponseStatusException;
+
+class JobResultStreamingServiceTest {
+
+    private final TestMother generate = new TestMother();
+    private final JobStore jobStore = mock(JobStore.class);
+    private final IrsItemGraphQueryService itemJobService = mock(IrsItemGraphQueryService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final BlobCodec blobCodec = new BlobCodec(BlobCodec.Format.SMILE, BlobCodec.Compression.GZIP);
+
+    private final JobResultStreamingService sut = new JobResultStreamingService(jobStore, itemJobService,
+            objectMapper, blobCodec);
+
+    private final MultiTransferJob job = generate.job(JobState.COMPLETED);
+    private final List<Relationship> relationships = IntStream.range(0, 5)
+                                                              .mapToObj(i -> TestMother.relationship())
+                                                              .toList();
+
+    @BeforeEach
+    void setUp() {
+        when(jobStore.find(job.getJobIdString())).thenReturn(Optional.of(job));
+        givenItemGraphWrittenWith(blobCodec);
+    }
+
+    private void givenItemGraphWrittenWith(final BlobCodec codec) {
+        final ItemContainer itemGraph = ItemContainer.builder()
+                                                     .relationships(relationships)
+                                                     .tombstone(Tombstone.builder().catenaXId("tombstone").build())
+                                                     .build();
+        final byte[] blob = codec.encode(itemGraph);
+        when(itemJobService.getItemGraphBlobs(any(), anyBoolean())).thenReturn(
+                List.of(() -> Optional.of(new ByteArrayInputStream(blob))));
+    }
+
+    @Test
+    void shouldStreamJobFollowedByOneLinePerElement() throws Exception {
+        when(itemJobService.getJobWithSummary(job, false, 1, List.of())).thenReturn(job.getJob());
+
+        final JobResultStreamingService.JobResultStream stream = sut.streamJobResult(job.getJob().getId(), false);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream.body().writeTo(out);
+
+        final List<JsonNode> lines = new ArrayList<>();
+        for (final String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).hasSize(7);
+        assertThat(lines.get(0).get("job").get("id").asText()).isEqualTo(job.getJobIdString());
+        assertThat(lines.get(1).get("relationship").get("catenaXId").asText()).isEqualTo(
+                relationships.get(0).getCatenaXId().getGlobalAssetId());
+        assertThat(lines.get(6).get("tombstone").get("catenaXId").asText()).isEqualTo("tombstone");
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlobCodec.Format.class)
+    void shouldPageThroughRelationshipsWithCursor(final BlobCodec.Format format) {
+        givenItemGraphWrittenWith(new BlobCodec(format, BlobCodec.Compression.NONE));
+
+        final CursorPageResult<Relationship> first = sut.getRelationships(job.getJob().getId(), null, 2);
+        final CursorPageResult<Relationship> second = sut.getRelationships(job.getJob().getId(), first.nextCursor(),
+                2);
+        final CursorPageResult<Relationship> last = sut.getRelationships(job.getJob().getId(), second.nextCursor(),
+                2);
+
+        final List<Relationship> pagedRelationships = new ArrayList<>();
+        pagedRelationships.addAll(first.content());
+        pagedRelationships.addAll(second.content());
+        pagedRelationships.addAll(last.content());
+        assertThat(pagedRelationships).usingRecursiveComparison().isEqualTo(relationships);
+        assertThat(last.content()).hasSize(1);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldReadNextPageOfJsonBlobFromOffsetOfCursorInOnePass() {
+        final BlobCodec jsonCodec = new BlobCodec(BlobCodec.Format.JSON, BlobCodec.Compression.GZIP);
+        givenItemGraphWrittenWith(jsonCodec);
+        final CursorPageResult<Relationship> first = sut.getRelationships(job.getJob().getId(), null, 2);
+        final AtomicInteger opened = new AtomicInteger();
+        final byte[] blob = jsonCodec.encode(ItemContainer.builder().relationships(relationships).build());
+        when(itemJobService.getItemGraphBlobs(any(), anyBoolean())).thenReturn(List.of(() -> {
+            opened.incrementAndGet();
+            return Optional.of(new ByteArrayInputStream(blob));
+        }));
+
+        final CursorPageResult<Relationship> second = sut.getRelationships(job.getJob().getId(), first.nextCursor(),
+                2);
+
+        assertThat(second.content()).usingRecursiveComparison().isEqualTo(relationships.subList(2, 4));
+        assertThat(opened).hasValue(1);
+    }
+
+    @Test
+    void shouldResolveCursorByKeyWhenPositionDoesNotMatch() {
+        final Relationship lastOfPreviousPage = relationships.get(2);
+        final String cursor = Base64.getUrlEncoder()
+                                    .encodeToString(("1:0:" + lastOfPreviousPage.getCatenaXId() + "/"
+                                            + lastOfPreviousPage.getLinkedItem().getChildCatenaXId()).getBytes(
+                                            StandardCharsets.UTF_8));
+
+        final CursorPageResult<Relationship> page = sut.getRelationships(job.getJob().getId(), cursor, 10);
+
+        assertThat(page.content()).usingRecursiveComparison().isEqualTo(relationships.subList(3, 5));
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectCursorWithUnknownKey() {
+        final UUID jobId = job.getJob().getId();
+        final String cursor = Base64.getUrlEncoder().encodeToString("2:0:unknown".getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(
+                () -> sut.getRelationships(jobId, cursor, 10));
+    }
+
+    @Test
+    void shouldRejectPagesOfRunningJob() {
+        final MultiTransferJob runningJob = generate.job(JobState.RUNNING);
+        when(jobStore.find(runningJob.getJobIdString())).thenReturn(Optional.of(runningJob));
+        final UUID jobId = runningJob.getJob().getId();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(
+                () -> sut.getRelationships(jobId, null, 10));
+    }
+
+    @Test
+    void shouldReturnEmptyPageWithoutCursorWhenFieldIsMissing() {
+        final CursorPageResult<?> page = sut.getSubmodels(job.getJob().getId(), null, 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectInvalidCursorAndPageSize() {
+        final UUID jobId = job.getJob().getId();
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(
+                () -> sut.getRelationships(jobId, "not a cursor", 10));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(
+                () -> sut.getRelationships(jobId, null, JobResultStreamingService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void shouldThrowNotFoundForUnknownJob() {
+        final UUID unknownJobId = UUID.randomUUID();
+
+        assertThatExceptionOfType(ResponseStatusException.class).isThrownBy(
+                () -> sut.streamJobResult(unknownJobId, true));
+        assertThatExceptionOfType(ResponseStatusException.class).isThrownBy(
+                () -> sut.getRelationships(unknownJobId, null, 10));
+    }
+}
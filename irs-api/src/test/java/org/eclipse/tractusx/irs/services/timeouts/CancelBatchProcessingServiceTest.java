@@ -39,6 +39,7 @@ import org.eclipse.tractusx.irs.connector.batch.Batch;
 import org.eclipse.tractusx.irs.connector.batch.BatchStore;
 import org.eclipse.tractusx.irs.connector.batch.InMemoryBatchStore;
 import org.eclipse.tractusx.irs.connector.batch.JobProgress;
+import org.eclipse.tractusx.irs.services.BatchJobWindows;
 import org.eclipse.tractusx.irs.services.IrsItemGraphQueryService;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -47,7 +48,7 @@ class CancelBatchProcessingServiceTest {
 
     private final IrsItemGraphQueryService irsItemGraphQueryService = mock(IrsItemGraphQueryService.class);
     private final BatchStore batchStore = new InMemoryBatchStore();
-    private final CancelBatchProcessingService cancelBatchProcessingService = new CancelBatchProcessingService(irsItemGraphQueryService, batchStore);
+    private final CancelBatchProcessingService cancelBatchProcessingService = new CancelBatchProcessingService(irsItemGraphQueryService, batchStore, new BatchJobWindows(0));
 
     @Test
     void shouldCancelOnlyNotCompletedJob() {
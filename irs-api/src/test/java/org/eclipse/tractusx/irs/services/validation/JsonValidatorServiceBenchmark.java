@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.services.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.eclipse.tractusx.irs.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing the submodel validation with a schema compiled per payload and a payload parsed twice
+ * against the cached schema and single parse path.
+ * Batch shares the structure of SerialPart and is used as its representative.
+ * Not executed by surefire, run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class JsonValidatorServiceBenchmark {
+
+    private final JsonUtil jsonUtil = new JsonUtil();
+
+    @Param({ "Batch", "SingleLevelBomAsBuilt" })
+    private String aspect;
+
+    private JsonValidatorService validatorService;
+    private String jsonSchema;
+    private String jsonPayload;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonValidatorServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        validatorService = new JsonValidatorService();
+        if ("Batch".equals(aspect)) {
+            jsonSchema = readFile("/__files/semantichub/batch-3.0.0-schema.json");
+            jsonPayload = readFile("/__files/integrationtesting/batch-1.json");
+        } else {
+            jsonSchema = readFile("/__files/semantichub/singleLevelBomAsBuilt-3.0.0-schema.json");
+            jsonPayload = readFile("/__files/integrationtesting/singleLevelBomAsBuilt-1.json");
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> compileSchemaAndParseTwice() throws InvalidSchemaException {
+        final ValidationResult result = validatorService.validate(jsonSchema, jsonPayload);
+        return result.isValid() ? jsonUtil.fromString(jsonPayload, Map.class) : Map.of();
+    }
+
+    @Benchmark
+    public Map<String, Object> cachedSchemaAndSingleParse() throws InvalidSchemaException {
+        final JsonNode payload = jsonUtil.readTree(jsonPayload);
+        final ValidationResult result = validatorService.validate(aspect, jsonSchema, payload);
+        return result.isValid() ? jsonUtil.fromTree(payload, Map.class) : Map.of();
+    }
+
+    private String readFile(final String path) throws IOException {
+        try (InputStream resource = getClass().getResourceAsStream(path)) {
+            Objects.requireNonNull(resource);
+            return new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
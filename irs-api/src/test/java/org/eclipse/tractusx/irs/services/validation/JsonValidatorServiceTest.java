@@ -33,10 +33,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import org.eclipse.tractusx.irs.util.JsonUtil;
 import org.junit.jupiter.api.Test;
 
 class JsonValidatorServiceTest {
 
+    private static final String ASPECT_TYPE = "urn:bamm:io.catenax.assembly_part_relationship:1.1.0";
+
     private final JsonValidatorService testee = new JsonValidatorService();
 
     @Test
@@ -88,6 +92,49 @@ class JsonValidatorServiceTest {
         assertThatThrownBy(() -> testee.validate(schema, payload)).isInstanceOf(InvalidSchemaException.class);
     }
 
+    @Test
+    void shouldValidateParsedPayloadWithCompiledSchema() throws Exception {
+        final String schema = readFile("/json-schema/assemblyPartRelationship-v1.1.0.json");
+        final JsonNode payload = new JsonUtil().readTree(readFile("/__files/assemblyPartRelationship.json"));
+
+        final ValidationResult first = testee.validate(ASPECT_TYPE, schema, payload);
+        final ValidationResult second = testee.validate(ASPECT_TYPE, schema, payload);
+
+        assertThat(first.isValid()).isTrue();
+        assertThat(second.isValid()).isTrue();
+    }
+
+    @Test
+    void shouldRecompileSchemaWhenSourceChanged() throws Exception {
+        final String schema = readFile("/json-schema/assemblyPartRelationship-v1.1.0.json");
+        final String otherSchema = readFile("/json-schema/slab-v3.0.0.json");
+        final JsonNode payload = new JsonUtil().readTree(readFile("/__files/assemblyPartRelationship.json"));
+
+        testee.validate(ASPECT_TYPE, schema, payload);
+        final ValidationResult result = testee.validate(ASPECT_TYPE, otherSchema, payload);
+
+        assertThat(result.isValid()).isFalse();
+    }
+
+    @Test
+    void shouldNotValidateMissingPayload() throws Exception {
+        final String schema = readFile("/json-schema/assemblyPartRelationship-v1.1.0.json");
+        final JsonNode payload = new JsonUtil().readTree("");
+
+        final ValidationResult result = testee.validate(ASPECT_TYPE, schema, payload);
+
+        assertThat(result.isValid()).isFalse();
+    }
+
+    @Test
+    void shouldThrowExceptionOnIllegalCachedSchema() throws Exception {
+        final String schema = readFile("/json-schema/invalid.json");
+        final JsonNode payload = new JsonUtil().readTree("{}");
+
+        assertThatThrownBy(() -> testee.validate(ASPECT_TYPE, schema, payload)).isInstanceOf(
+                InvalidSchemaException.class);
+    }
+
     private String readFile(final String path) throws IOException, URISyntaxException {
         final URL resource = getClass().getResource(path);
         Objects.requireNonNull(resource);
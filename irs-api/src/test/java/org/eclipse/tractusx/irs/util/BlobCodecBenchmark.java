@@ -0,0 +1,117 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.component.Submodel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of encoding and decoding a transfer result blob in the supported formats and
+ * compressions. The item container holds one relationship and one serial part submodel per node,
+ * like the result of a transfer process with collected aspects. The size of the encoded blob is
+ * printed once per trial, as it is the other half of the trade-off.
+ * Not executed by surefire, run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlobCodecBenchmark {
+
+    @Param({ "JSON", "SMILE" })
+    private BlobCodec.Format format;
+
+    @Param({ "NONE", "GZIP" })
+    private BlobCodec.Compression compression;
+
+    @Param({ "10", "1000" })
+    private int nodes;
+
+    private BlobCodec blobCodec;
+    private ItemContainer itemContainer;
+    private byte[] blob;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BlobCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        blobCodec = new BlobCodec(format, compression);
+        itemContainer = itemContainer(nodes);
+        blob = blobCodec.encode(itemContainer);
+        System.out.printf("%n%s/%s with %d nodes: %d bytes%n", format, compression, nodes, blob.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return blobCodec.encode(itemContainer);
+    }
+
+    @Benchmark
+    public ItemContainer decode() {
+        return blobCodec.decode(blob, ItemContainer.class);
+    }
+
+    private static ItemContainer itemContainer(final int numberOfNodes) {
+        final ItemContainer.ItemContainerBuilder builder = ItemContainer.builder();
+        IntStream.range(0, numberOfNodes).forEach(i -> {
+            builder.relationship(TestMother.relationship());
+            builder.submodel(Submodel.builder()
+                                     .identification(UUID.randomUUID().toString())
+                                     .aspectType("urn:samm:io.catenax.serial_part:1.0.0#SerialPart")
+                                     .contractAgreementId(UUID.randomUUID().toString())
+                                     .payload(Map.of("catenaXId", UUID.randomUUID().toString(), "localIdentifiers",
+                                             List.of(Map.of("key", "manufacturerId", "value", "BPNL00000003AYRE")),
+                                             "partTypeInformation",
+                                             Map.of("nameAtManufacturer", "Vehicle Hybrid", "classification",
+                                                     "product")))
+                                     .build());
+        });
+        return builder.build();
+    }
+}
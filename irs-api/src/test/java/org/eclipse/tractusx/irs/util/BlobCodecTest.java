@@ -0,0 +1,193 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.eclipse.tractusx.irs.aaswrapper.job.ItemContainer;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Submodel;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BlobCodecTest {
+
+    private final ItemContainer itemContainer = itemContainer(100);
+
+    static Stream<Arguments> codecs() {
+        return Stream.of(BlobCodec.Format.values())
+                     .flatMap(format -> Stream.of(BlobCodec.Compression.values())
+                                              .map(compression -> Arguments.of(format, compression)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void shouldDecodeEncodedItemContainer(final BlobCodec.Format format, final BlobCodec.Compression compression) {
+        final BlobCodec sut = new BlobCodec(format, compression);
+
+        final ItemContainer decoded = sut.decode(sut.encode(itemContainer), ItemContainer.class);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(itemContainer);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void shouldDecodeBlobsWrittenWithOtherConfiguration(final BlobCodec.Format format,
+            final BlobCodec.Compression compression) {
+        final byte[] blob = new BlobCodec(format, compression).encode(itemContainer);
+
+        final ItemContainer decoded = new BlobCodec().decode(blob, ItemContainer.class);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(itemContainer);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void shouldParseBlobsWrittenWithAnyConfiguration(final BlobCodec.Format format,
+            final BlobCodec.Compression compression) throws IOException {
+        final byte[] blob = new BlobCodec(format, compression).encode(itemContainer);
+
+        try (JsonParser parser = new BlobCodec().createParser(blob)) {
+            final ItemContainer parsed = parser.readValueAs(ItemContainer.class);
+
+            assertThat(parsed).usingRecursiveComparison().isEqualTo(itemContainer);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlobCodec.Compression.class)
+    void shouldParseArrayElementsOfJsonBlobFromTheirOffset(final BlobCodec.Compression compression)
+            throws IOException {
+        final BlobCodec sut = new BlobCodec(BlobCodec.Format.JSON, compression);
+        final byte[] blob = sut.encode(itemContainer);
+        final long offset = offsetOfRelationship(sut, blob, 98);
+
+        final BlobCodec.ElementParser elementParser = sut.createElementParser(new ByteArrayInputStream(blob), offset)
+                                                         .orElseThrow();
+
+        try (JsonParser parser = elementParser.parser()) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+            assertThat(elementParser.currentOffset()).isEqualTo(offset);
+            assertThat(parser.readValueAs(Relationship.class)).usingRecursiveComparison()
+                                                               .isEqualTo(itemContainer.getRelationships().get(98));
+            parser.nextToken();
+            parser.readValueAs(Relationship.class);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.END_ARRAY);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlobCodec.Compression.class)
+    void shouldNotParseSmileBlobFromOffset(final BlobCodec.Compression compression) throws IOException {
+        final BlobCodec sut = new BlobCodec(BlobCodec.Format.SMILE, compression);
+        final byte[] blob = sut.encode(itemContainer);
+
+        try (JsonParser parser = sut.createParser(new ByteArrayInputStream(blob))) {
+            parser.nextToken();
+            assertThat(BlobCodec.offsetOf(parser)).isEqualTo(-1);
+        }
+        assertThat(sut.createElementParser(new ByteArrayInputStream(blob), 4)).isEmpty();
+    }
+
+    @Test
+    void shouldDecodeLegacyJsonBlob() {
+        final byte[] legacyBlob = new JsonUtil().asString(itemContainer).getBytes(StandardCharsets.UTF_8);
+
+        final ItemContainer decoded = new BlobCodec(BlobCodec.Format.SMILE, BlobCodec.Compression.GZIP).decode(
+                legacyBlob, ItemContainer.class);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(itemContainer);
+    }
+
+    @Test
+    void shouldWriteSmallerBlobsWithBinaryFormatAndCompression() {
+        final int json = new BlobCodec().encode(itemContainer).length;
+        final int smile = new BlobCodec(BlobCodec.Format.SMILE, BlobCodec.Compression.NONE).encode(itemContainer).length;
+        final int smileGzip = new BlobCodec(BlobCodec.Format.SMILE, BlobCodec.Compression.GZIP).encode(
+                itemContainer).length;
+
+        assertThat(smile).isLessThan(json);
+        assertThat(smileGzip).isLessThan(smile);
+    }
+
+    @Test
+    void shouldThrowOnInvalidBlob() {
+        final byte[] blob = "{".getBytes(StandardCharsets.UTF_8);
+        final BlobCodec sut = new BlobCodec();
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> sut.decode(blob, ItemContainer.class));
+    }
+
+    private static long offsetOfRelationship(final BlobCodec codec, final byte[] blob, final int index)
+            throws IOException {
+        try (JsonParser parser = codec.createParser(new ByteArrayInputStream(blob))) {
+            while (parser.nextToken() != null) {
+                if ("relationships".equals(parser.currentName()) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    for (int i = 0; i < index; i++) {
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                    parser.nextToken();
+                    return BlobCodec.offsetOf(parser);
+                }
+            }
+        }
+        throw new IllegalStateException("No relationships in blob");
+    }
+
+    private static ItemContainer itemContainer(final int numberOfNodes) {
+        final ItemContainer.ItemContainerBuilder builder = ItemContainer.builder();
+        IntStream.range(0, numberOfNodes).forEach(i -> {
+            builder.relationship(TestMother.relationship());
+            builder.submodel(Submodel.builder()
+                                     .identification(UUID.randomUUID().toString())
+                                     .aspectType("urn:samm:io.catenax.serial_part:1.0.0#SerialPart")
+                                     .contractAgreementId(UUID.randomUUID().toString())
+                                     .payload(Map.of("catenaXId", UUID.randomUUID().toString(), "localIdentifiers",
+                                             List.of(Map.of("key", "manufacturerId", "value", "BPNL00000003AYRE")),
+                                             "partTypeInformation",
+                                             Map.of("nameAtManufacturer", "Vehicle Hybrid", "classification",
+                                                     "product")))
+                                     .build());
+        });
+        return builder.build();
+    }
+}
@@ -25,9 +25,11 @@ package org.eclipse.tractusx.irs.common;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import io.github.resilience4j.retry.RetryRegistry;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 
@@ -71,6 +73,29 @@ public class OutboundMeterRegistryService {
 
     }
 
+    /**
+     * Registers gauges for the connection pool of an outbound HTTP client.
+     *
+     * @param client    the name of the HTTP client
+     * @param leased    supplier of the number of connections in use
+     * @param pending   supplier of the number of requests waiting for a connection
+     * @param available supplier of the number of idle connections
+     */
+    public void registerConnectionPoolGauges(final String client, final Supplier<Number> leased,
+            final Supplier<Number> pending, final Supplier<Number> available) {
+        registerConnectionPoolGauge(client, "leased", leased);
+        registerConnectionPoolGauge(client, "pending", pending);
+        registerConnectionPoolGauge(client, "available", available);
+    }
+
+    private void registerConnectionPoolGauge(final String client, final String state, final Supplier<Number> value) {
+        Gauge.builder("http.client.connections", value)
+             .description("The number of connections of the outbound HTTP client by state.")
+             .tag("client", client)
+             .tag("state", state)
+             .register(meterRegistry);
+    }
+
     public void incrementRegistryTimeoutCounter() {
         counterTimeoutsRegistry.increment();
     }
@@ -24,6 +24,9 @@
 
 package org.eclipse.tractusx.irs.common.persistence;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -38,8 +41,38 @@ public interface BlobPersistence {
 
     void putBlob(String targetBlobName, byte[] blob) throws BlobPersistenceException;
 
+    /**
+     * Stores a blob read from a stream, so large blobs do not need to be held in memory.
+     * The default implementation reads the whole stream into memory.
+     *
+     * @param targetBlobName the name of the blob
+     * @param blob           the content of the blob, read to its end but not closed
+     * @param size           the size of the blob in bytes
+     * @throws BlobPersistenceException if the blob cannot be read or stored
+     */
+    default void putBlob(final String targetBlobName, final InputStream blob, final long size)
+            throws BlobPersistenceException {
+        try {
+            putBlob(targetBlobName, blob.readAllBytes());
+        } catch (IOException e) {
+            throw new BlobPersistenceException("Cannot read blob " + targetBlobName, e);
+        }
+    }
+
     Optional<byte[]> getBlob(String sourceBlobName) throws BlobPersistenceException;
 
+    /**
+     * Opens a blob as a stream, so large blobs do not need to be held in memory.
+     * The default implementation reads the whole blob into memory.
+     *
+     * @param sourceBlobName the name of the blob
+     * @return the content of the blob, to be closed by the caller, or empty if the blob does not exist
+     * @throws BlobPersistenceException if the blob cannot be opened
+     */
+    default Optional<InputStream> getBlobStream(final String sourceBlobName) throws BlobPersistenceException {
+        return getBlob(sourceBlobName).map(ByteArrayInputStream::new);
+    }
+
     Map<String, byte[]> getAllBlobs() throws BlobPersistenceException;
 
     Collection<byte[]> findBlobByPrefix(String prefix) throws BlobPersistenceException;
@@ -25,6 +25,7 @@ package org.eclipse.tractusx.irs.common.persistence;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
@@ -137,12 +138,17 @@ public class MinioBlobPersistence implements BlobPersistence {
 
     @Override
     public void putBlob(final String targetBlobName, final byte[] blob) throws BlobPersistenceException {
+        putBlob(targetBlobName, new ByteArrayInputStream(blob), blob.length);
+    }
+
+    @Override
+    public void putBlob(final String targetBlobName, final InputStream blob, final long size)
+            throws BlobPersistenceException {
         try {
-            final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(blob);
             minioClient.putObject(PutObjectArgs.builder()
                                                .bucket(bucketName)
                                                .object(targetBlobName)
-                                               .stream(byteArrayInputStream, byteArrayInputStream.available(), -1)
+                                               .stream(blob, size, -1)
                                                .build());
             log.debug("Saving to bucket name {} with object name {}", bucketName, targetBlobName);
         } catch (ServerException | InsufficientDataException | ErrorResponseException | IOException
@@ -154,9 +160,26 @@ public class MinioBlobPersistence implements BlobPersistence {
 
     @Override
     public Optional<byte[]> getBlob(final String sourceBlobName) throws BlobPersistenceException {
-        final GetObjectResponse response;
+        final Optional<GetObjectResponse> response = getObject(sourceBlobName);
+        if (response.isEmpty()) {
+            return Optional.empty();
+        }
+        try (GetObjectResponse content = response.get()) {
+            return Optional.ofNullable(content.readAllBytes());
+        } catch (IOException e) {
+            throw createLoadFailedException(e);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> getBlobStream(final String sourceBlobName) throws BlobPersistenceException {
+        return getObject(sourceBlobName).map(InputStream.class::cast);
+    }
+
+    private Optional<GetObjectResponse> getObject(final String sourceBlobName) throws BlobPersistenceException {
         try {
-            response = minioClient.getObject(GetObjectArgs.builder().bucket(bucketName).object(sourceBlobName).build());
+            return Optional.of(
+                    minioClient.getObject(GetObjectArgs.builder().bucket(bucketName).object(sourceBlobName).build()));
         } catch (ErrorResponseException e) {
             if ("NoSuchKey".equals(e.errorResponse().code())) {
                 return Optional.empty();
@@ -166,11 +189,6 @@ public class MinioBlobPersistence implements BlobPersistence {
                  | InvalidKeyException | InvalidResponseException | XmlParserException | InternalException e) {
             throw createLoadFailedException(e);
         }
-        try (response) {
-            return Optional.ofNullable(response.readAllBytes());
-        } catch (IOException e) {
-            throw createLoadFailedException(e);
-        }
     }
 
     /**
@@ -0,0 +1,328 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulkhead limiting the number of concurrent calls per key (e.g. per remote host) and in total.
+ * The limit of each key adapts to the observed behaviour of the callee (AIMD): it grows by one per
+ * round trip while calls succeed within the latency threshold and the limit is in use, and it is
+ * multiplied by the back-off ratio when a call is dropped (timeout, overload response) or exceeds
+ * the latency threshold. The global limit is fixed.
+ * <p>
+ * When bound to a meter registry, the number of calls in flight and the current limit are exposed
+ * per key as {@code bulkhead.inflight} and {@code bulkhead.limit}, and in total as
+ * {@code bulkhead.global.inflight} and {@code bulkhead.global.limit}.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final String TAG_BULKHEAD = "bulkhead";
+
+    private final String name;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int globalLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoTime;
+
+    private final Semaphore globalPermits;
+    private final Map<String, KeyLimit> limits = new ConcurrentHashMap<>();
+    private final AtomicReference<MeterRegistry> meterRegistry = new AtomicReference<>();
+
+    /**
+     * Creates the limiter.
+     *
+     * @param name             name of the limiter, used as tag of the metrics
+     * @param initialLimit     limit of a key before the first call completed
+     * @param minLimit         lower bound of the limit of a key
+     * @param maxLimit         upper bound of the limit of a key
+     * @param globalLimit      maximum number of concurrent calls of all keys
+     * @param latencyThreshold calls taking longer are treated like dropped calls
+     * @param backoffRatio     factor between 0 and 1 the limit is multiplied with on dropped calls
+     */
+    public AdaptiveConcurrencyLimiter(final String name, final int initialLimit, final int minLimit,
+            final int maxLimit, final int globalLimit, final Duration latencyThreshold, final double backoffRatio) {
+        this(name, initialLimit, minLimit, maxLimit, globalLimit, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    /* package */ AdaptiveConcurrencyLimiter(final String name, final int initialLimit, final int minLimit,
+            final int maxLimit, final int globalLimit, final Duration latencyThreshold, final double backoffRatio,
+            final LongSupplier nanoTime) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit || globalLimit < 1) {
+            throw new IllegalArgumentException(
+                    "Limits must satisfy 1 <= min <= initial <= max and global >= 1, but were " + minLimit + ", "
+                            + initialLimit + ", " + maxLimit + " and " + globalLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Back-off ratio must be between 0 and 1, but was " + backoffRatio);
+        }
+        this.name = name;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.globalLimit = globalLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoTime = nanoTime;
+        this.globalPermits = new Semaphore(globalLimit);
+    }
+
+    /**
+     * Waits for a free slot of the key and of the global limit.
+     *
+     * @param key     the key, e.g. the remote host
+     * @param maxWait maximum time to wait for a free slot
+     * @return the permit, which must be completed once the call is done, or empty if no slot got
+     *         free within the maximum wait time
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public Optional<Permit> tryAcquire(final String key, final Duration maxWait) throws InterruptedException {
+        final long deadline = nanoTime.getAsLong() + maxWait.toNanos();
+        final KeyLimit limit = limits.computeIfAbsent(key, this::createLimit);
+        if (!limit.tryAcquire(deadline)) {
+            log.debug("Limit {} of '{}' in bulkhead {} reached", limit.getLimit(), key, name);
+            return Optional.empty();
+        }
+        final long remainingNanos = Math.max(0, deadline - nanoTime.getAsLong());
+        if (!globalPermits.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS)) {
+            log.debug("Global limit {} of bulkhead {} reached", globalLimit, name);
+            limit.release();
+            return Optional.empty();
+        }
+        return Optional.of(new Permit(limit, nanoTime.getAsLong()));
+    }
+
+    /**
+     * @param key the key
+     * @return the current limit of the key
+     */
+    public int getLimit(final String key) {
+        final KeyLimit limit = limits.get(key);
+        return limit == null ? initialLimit : limit.getLimit();
+    }
+
+    /**
+     * @param key the key
+     * @return the number of calls of the key in flight
+     */
+    public int getInFlight(final String key) {
+        final KeyLimit limit = limits.get(key);
+        return limit == null ? 0 : limit.getInFlight();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        meterRegistry.set(registry);
+        Gauge.builder("bulkhead.global.inflight", globalPermits, permits -> globalLimit - permits.availablePermits())
+             .description("Number of calls in flight")
+             .tag(TAG_BULKHEAD, name)
+             .register(registry);
+        Gauge.builder("bulkhead.global.limit", () -> globalLimit)
+             .description("Maximum number of calls in flight")
+             .tag(TAG_BULKHEAD, name)
+             .register(registry);
+        limits.forEach((key, limit) -> registerGauges(registry, key, limit));
+    }
+
+    private KeyLimit createLimit(final String key) {
+        final KeyLimit limit = new KeyLimit(initialLimit);
+        final MeterRegistry registry = meterRegistry.get();
+        if (registry != null) {
+            registerGauges(registry, key, limit);
+        }
+        return limit;
+    }
+
+    private void registerGauges(final MeterRegistry registry, final String key, final KeyLimit limit) {
+        Gauge.builder("bulkhead.inflight", limit, KeyLimit::getInFlight)
+             .description("Number of calls in flight per key")
+             .tag(TAG_BULKHEAD, name)
+             .tag("key", key)
+             .register(registry);
+        Gauge.builder("bulkhead.limit", limit, KeyLimit::getLimit)
+             .description("Current adaptive limit of calls in flight per key")
+             .tag(TAG_BULKHEAD, name)
+             .tag("key", key)
+             .register(registry);
+    }
+
+    /**
+     * Slot of a call. Exactly one of the completion methods must be called once the call is done,
+     * further calls are ignored.
+     */
+    public final class Permit {
+
+        private final KeyLimit limit;
+        private final long startNanos;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permit(final KeyLimit limit, final long startNanos) {
+            this.limit = limit;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Completes a successful call. The limit grows if the call was within the latency threshold
+         * and shrinks otherwise.
+         */
+        public void onSuccess() {
+            if (complete()) {
+                if (nanoTime.getAsLong() - startNanos > latencyThresholdNanos) {
+                    limit.decrease();
+                } else {
+                    limit.increase();
+                }
+            }
+        }
+
+        /**
+         * Completes a call which was dropped or rejected by the callee because of overload.
+         */
+        public void onDropped() {
+            if (complete()) {
+                limit.decrease();
+            }
+        }
+
+        /**
+         * Completes a call whose outcome says nothing about the load of the callee.
+         */
+        public void onIgnored() {
+            complete();
+        }
+
+        private boolean complete() {
+            if (completed.compareAndSet(false, true)) {
+                limit.release();
+                globalPermits.release();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Adaptive limit and calls in flight of one key.
+     */
+    private final class KeyLimit {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition slotAvailable = lock.newCondition();
+        private double limit;
+        private int inFlight;
+
+        /* package */ KeyLimit(final int initialLimit) {
+            this.limit = initialLimit;
+        }
+
+        /* package */ boolean tryAcquire(final long deadline) throws InterruptedException {
+            lock.lock();
+            try {
+                while (inFlight >= (int) limit) {
+                    final long remainingNanos = deadline - nanoTime.getAsLong();
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    slotAvailable.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /* package */ void release() {
+            lock.lock();
+            try {
+                inFlight--;
+                slotAvailable.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /* package */ void increase() {
+            lock.lock();
+            try {
+                // grow only while the limit is in use, otherwise an idle key would reach the maximum
+                if (inFlight * 2 >= (int) limit) {
+                    final int previous = (int) limit;
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                    if ((int) limit > previous) {
+                        slotAvailable.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /* package */ void decrease() {
+            lock.lock();
+            try {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /* package */ int getLimit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /* package */ int getInFlight() {
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
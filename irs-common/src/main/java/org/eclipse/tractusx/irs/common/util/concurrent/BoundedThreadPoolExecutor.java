@@ -0,0 +1,196 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ThreadPoolExecutor} with a bounded number of named threads and a bounded queue. Tasks
+ * which do not fit into the queue are not rejected. Instead, the submitting thread waits with
+ * exponential back-off until the queue has room again, which slows down the producers of tasks to
+ * the pace of the pool. Tasks submitted by a thread of the pool itself must not wait, as the pool
+ * threads could block each other. They are parked in an unbounded overflow queue instead and moved
+ * to the queue whenever a pool thread finishes a task. The overflow holds the follow-up tasks of
+ * running tasks only, so it is limited by the work already accepted by the pool.
+ * <p>
+ * Tasks are rejected with a {@link RejectedExecutionException} once the executor is shut down or if
+ * the submitting thread is interrupted.
+ */
+@Slf4j
+public class BoundedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private static final ThreadLocal<BoundedThreadPoolExecutor> CURRENT_POOL = new ThreadLocal<>();
+
+    private final Deque<Runnable> overflow = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Creates the executor. The core threads are started on demand.
+     *
+     * @param name          name of the executor, used as prefix of the thread names
+     * @param corePoolSize  number of threads kept alive while idle
+     * @param maxPoolSize   maximum number of threads, additional threads are only started when
+     *                      the queue is full
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param keepAlive     idle time after which threads exceeding the core pool size are stopped
+     * @param minBackoff    first wait time of a submitting thread if the queue is full
+     * @param maxBackoff    maximum wait time of a submitting thread between two attempts
+     */
+    public BoundedThreadPoolExecutor(final String name, final int corePoolSize, final int maxPoolSize,
+            final int queueCapacity, final Duration keepAlive, final Duration minBackoff,
+            final Duration maxBackoff) {
+        super(corePoolSize, maxPoolSize, keepAlive.toNanos(), TimeUnit.NANOSECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreadFactory(name),
+                new BackoffPolicy(name, minBackoff, maxBackoff));
+        if (minBackoff.isNegative() || minBackoff.isZero() || maxBackoff.compareTo(minBackoff) < 0) {
+            throw new IllegalArgumentException(
+                    "Back-off must be positive and the maximum must not be less than the minimum, but was "
+                            + minBackoff + " and " + maxBackoff);
+        }
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        CURRENT_POOL.set(this);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+        CURRENT_POOL.remove();
+        moveOverflowToQueue();
+        super.afterExecute(runnable, throwable);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> notStarted = new ArrayList<>(super.shutdownNow());
+        Runnable parked = overflow.poll();
+        while (parked != null) {
+            notStarted.add(parked);
+            parked = overflow.poll();
+        }
+        return notStarted;
+    }
+
+    /**
+     * @return the number of tasks submitted by pool threads which are waiting for room in the queue
+     */
+    public int getOverflowSize() {
+        return overflow.size();
+    }
+
+    /**
+     * Parks a task of a pool thread which did not fit into the queue. The submitting thread moves
+     * it to the queue itself once its current task is finished, so a parked task is never left
+     * behind without a thread which picks it up.
+     */
+    private void park(final Runnable runnable) {
+        overflow.add(runnable);
+        log.debug("Queue is full, parked task of pool thread {}", Thread.currentThread().getName());
+    }
+
+    private void moveOverflowToQueue() {
+        Runnable parked = overflow.poll();
+        while (parked != null) {
+            if (!getQueue().offer(parked)) {
+                // the queue is full again, a thread finishing one of the queued tasks continues
+                overflow.addFirst(parked);
+                return;
+            }
+            parked = overflow.poll();
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(final String name) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+    }
+
+    /**
+     * Waits for room in the queue instead of rejecting the task. Tasks of pool threads are parked
+     * in the overflow queue instead of waiting.
+     */
+    private static final class BackoffPolicy implements RejectedExecutionHandler {
+
+        private final String name;
+        private final long minBackoffNanos;
+        private final long maxBackoffNanos;
+
+        /* package */ BackoffPolicy(final String name, final Duration minBackoff, final Duration maxBackoff) {
+            this.name = name;
+            this.minBackoffNanos = minBackoff.toNanos();
+            this.maxBackoffNanos = maxBackoff.toNanos();
+        }
+
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            final BoundedThreadPoolExecutor currentPool = CURRENT_POOL.get();
+            if (executor.equals(currentPool) && !executor.isShutdown()) {
+                currentPool.park(runnable);
+                return;
+            }
+
+            long backoffNanos = minBackoffNanos;
+            while (!executor.isShutdown()) {
+                try {
+                    if (executor.getQueue().offer(runnable, backoffNanos, TimeUnit.NANOSECONDS)) {
+                        rejectIfShutDown(runnable, executor);
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException(
+                            "Interrupted while waiting for room in the queue of executor " + name, e);
+                }
+                log.debug("Queue of executor {} is still full after waiting {} ms", name,
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+                backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+            }
+            throw new RejectedExecutionException("Executor " + name + " has been shut down");
+        }
+
+        /**
+         * Takes the task back out of the queue if the executor was shut down while waiting, like
+         * {@link ThreadPoolExecutor#execute(Runnable)} does.
+         */
+        private void rejectIfShutDown(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown() && executor.remove(runnable)) {
+                throw new RejectedExecutionException("Executor " + name + " has been shut down");
+            }
+        }
+    }
+}
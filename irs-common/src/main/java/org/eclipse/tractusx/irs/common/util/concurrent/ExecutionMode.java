@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Thread model used for blocking work like transfer processes and polling actions.
+ * {@link #VIRTUAL} uses one virtual thread per task, which requires a Java 21 runtime.
+ * On older runtimes the mode falls back to {@link #PLATFORM} threads.
+ */
+@Slf4j
+public enum ExecutionMode {
+    /**
+     * Platform threads from a cached thread pool.
+     */
+    PLATFORM,
+    /**
+     * One virtual thread per task.
+     */
+    VIRTUAL;
+
+    private static final String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * Creates a new executor for this execution mode. The caller is responsible for shutting it down.
+     *
+     * @return the executor
+     */
+    public ExecutorService newExecutorService() {
+        if (this == VIRTUAL) {
+            final Optional<ExecutorService> virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            log.warn("Virtual threads are not supported by Java runtime {}. Falling back to platform threads.",
+                    Runtime.version());
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Creates a new executor for this execution mode, which uses a fixed number of named platform threads
+     * instead of a cached thread pool. The caller is responsible for shutting it down.
+     *
+     * @param threadNamePrefix prefix of the names of the platform threads
+     * @param platformThreads  number of platform threads, not used by virtual threads
+     * @return the executor
+     */
+    public ExecutorService newExecutorService(final String threadNamePrefix, final int platformThreads) {
+        if (this == VIRTUAL) {
+            final Optional<ExecutorService> virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            log.warn("Virtual threads are not supported by Java runtime {}. Falling back to platform threads.",
+                    Runtime.version());
+        }
+        return Executors.newFixedThreadPool(platformThreads, namedThreadFactory(threadNamePrefix));
+    }
+
+    private static ThreadFactory namedThreadFactory(final String threadNamePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+    }
+
+    /**
+     * @return true if the Java runtime supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        if (!isVirtualThreadSupported()) {
+            return Optional.empty();
+        }
+        try {
+            // looked up reflectively, the code base is compiled for Java 17
+            return Optional.of(
+                    (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD).invoke(null));
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            log.warn("Could not create virtual thread executor.", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ScheduledExecutorService} based on a hashed timer wheel. A single thread advances the
+ * wheel tick by tick and hands the due tasks over to an executor, so scheduling stays cheap for
+ * many pending timers and blocking tasks do not delay other timers. Delays are rounded up to the
+ * next tick.
+ * <p>
+ * Shutting down cancels all pending timers and shuts down the executor. When bound to a meter
+ * registry, the number of scheduled and queued tasks is exposed as {@code scheduler.tasks} and
+ * the delay of the ticks as {@code scheduler.tick.lag}.
+ */
+@Slf4j
+@SuppressWarnings({ "PMD.TooManyMethods",
+                    "PMD.GodClass"
+})
+public class TimerWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService, MeterBinder {
+
+    private static final int NOT_IN_WHEEL = -1;
+
+    private final String name;
+    private final long tickNanos;
+    private final List<Set<WheelTask<?>>> wheel;
+    private final int mask;
+    private final ExecutorService executor;
+    private final Queue<WheelTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledTasks = new AtomicInteger();
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final AtomicReference<Timer> tickLag = new AtomicReference<>();
+    private final Object stopLock = new Object();
+    private final long startTime;
+    private final Thread worker;
+
+    /**
+     * Creates the scheduler and starts its wheel thread.
+     *
+     * @param name          name of the scheduler, used for the wheel thread and as metric tag
+     * @param tickDuration  duration of one tick, the resolution of the scheduled delays
+     * @param ticksPerWheel number of buckets of the wheel, rounded up to a power of two
+     * @param executor      executor running the due tasks
+     */
+    public TimerWheelScheduler(final String name, final Duration tickDuration, final int ticksPerWheel,
+            final ExecutorService executor) {
+        super();
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive, but was " + tickDuration);
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("Ticks per wheel must be positive, but was " + ticksPerWheel);
+        }
+        this.name = name;
+        this.tickNanos = tickDuration.toNanos();
+        this.executor = executor;
+
+        final int wheelSize = roundUpToPowerOfTwo(ticksPerWheel);
+        this.mask = wheelSize - 1;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new HashSet<>());
+        }
+
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::runWheel, name + "-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private static int roundUpToPowerOfTwo(final int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("scheduler.tasks", scheduledTasks, AtomicInteger::get)
+             .description("Number of tasks waiting for their delay to expire")
+             .tag("scheduler", name)
+             .tag("state", "scheduled")
+             .register(registry);
+        Gauge.builder("scheduler.tasks", queuedTasks, AtomicInteger::get)
+             .description("Number of due tasks waiting for a free thread of the executor")
+             .tag("scheduler", name)
+             .tag("state", "queued")
+             .register(registry);
+        tickLag.set(Timer.builder("scheduler.tick.lag")
+                       .description("Delay of the ticks of the timer wheel")
+                       .tag("scheduler", name)
+                       .register(registry));
+    }
+
+    /**
+     * @return the number of tasks waiting for their delay to expire
+     */
+    public int getScheduledTaskCount() {
+        return scheduledTasks.get();
+    }
+
+    /**
+     * @return the number of due tasks waiting for a free thread of the executor
+     */
+    public int getQueuedTaskCount() {
+        return queuedTasks.get();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return enqueue(new WheelTask<Void>(command, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return enqueue(new WheelTask<>(callable, deadline(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period,
+            final TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive, but was " + period);
+        }
+        return enqueue(new WheelTask<Void>(command, deadline(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+            final long delay, final TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive, but was " + delay);
+        }
+        return enqueue(new WheelTask<Void>(command, deadline(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (stopped.get()) {
+            throw new RejectedExecutionException("Scheduler " + name + " has been shut down");
+        }
+        executor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        stopWheel().forEach(task -> task.cancel(false));
+        executor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<WheelTask<?>> pending = stopWheel();
+        pending.forEach(task -> task.cancel(false));
+        final List<Runnable> notExecuted = new ArrayList<>(pending);
+        notExecuted.addAll(executor.shutdownNow());
+        return notExecuted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return stopped.get();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return stopped.get() && !worker.isAlive() && executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return stopped.get() && executor.awaitTermination(timeout, unit);
+    }
+
+    private static long deadline(final long delay, final TimeUnit unit) {
+        return System.nanoTime() + Math.max(0, unit.toNanos(delay));
+    }
+
+    private <V> WheelTask<V> enqueue(final WheelTask<V> task) {
+        if (stopped.get()) {
+            throw new RejectedExecutionException("Scheduler " + name + " has been shut down");
+        }
+        scheduledTasks.incrementAndGet();
+        newTasks.add(task);
+        if (stopped.get() && newTasks.remove(task)) {
+            scheduledTasks.decrementAndGet();
+            throw new RejectedExecutionException("Scheduler " + name + " has been shut down");
+        }
+        return task;
+    }
+
+    /**
+     * Stops the wheel thread and removes all pending tasks from the wheel.
+     *
+     * @return the tasks which were not due yet
+     */
+    private List<WheelTask<?>> stopWheel() {
+        synchronized (stopLock) {
+            stopped.set(true);
+            if (!Thread.currentThread().equals(worker)) {
+                LockSupport.unpark(worker);
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            final List<WheelTask<?>> pending = new ArrayList<>(newTasks);
+            newTasks.clear();
+            wheel.forEach(bucket -> {
+                pending.addAll(bucket);
+                bucket.clear();
+            });
+            cancelledTasks.clear();
+            scheduledTasks.set(0);
+            return pending;
+        }
+    }
+
+    private void runWheel() {
+        long tick = 0;
+        while (awaitTick(tick)) {
+            transferNewTasks(tick);
+            removeCancelledTasks();
+            expireTasks(wheel.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    /**
+     * Waits until the end of the given tick.
+     *
+     * @return false if the scheduler has been shut down in the meantime
+     */
+    private boolean awaitTick(final long tick) {
+        final long tickEnd = startTime + (tick + 1) * tickNanos;
+        long remaining = tickEnd - System.nanoTime();
+        while (remaining > 0) {
+            if (stopped.get()) {
+                return false;
+            }
+            LockSupport.parkNanos(this, remaining);
+            remaining = tickEnd - System.nanoTime();
+        }
+        final Timer lag = tickLag.get();
+        if (lag != null) {
+            lag.record(-remaining, TimeUnit.NANOSECONDS);
+        }
+        return !stopped.get();
+    }
+
+    private void transferNewTasks(final long tick) {
+        WheelTask<?> task = newTasks.poll();
+        while (task != null) {
+            if (task.isCancelled()) {
+                scheduledTasks.decrementAndGet();
+            } else {
+                final long dueTick = Math.max(0, task.deadline.get() - startTime) / tickNanos;
+                task.remainingRounds = (dueTick - tick) / wheel.size();
+                task.bucketIndex = (int) (Math.max(dueTick, tick) & mask);
+                wheel.get(task.bucketIndex).add(task);
+            }
+            task = newTasks.poll();
+        }
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task = cancelledTasks.poll();
+        while (task != null) {
+            if (task.bucketIndex != NOT_IN_WHEEL) {
+                wheel.get(task.bucketIndex).remove(task);
+                task.bucketIndex = NOT_IN_WHEEL;
+                scheduledTasks.decrementAndGet();
+            }
+            task = cancelledTasks.poll();
+        }
+    }
+
+    private void expireTasks(final Set<WheelTask<?>> bucket) {
+        final Iterator<WheelTask<?>> tasks = bucket.iterator();
+        while (tasks.hasNext()) {
+            final WheelTask<?> task = tasks.next();
+            if (task.isCancelled() || task.remainingRounds <= 0) {
+                tasks.remove();
+                task.bucketIndex = NOT_IN_WHEEL;
+                scheduledTasks.decrementAndGet();
+                if (!task.isCancelled()) {
+                    dispatch(task);
+                }
+            } else {
+                task.remainingRounds--;
+            }
+        }
+    }
+
+    private void dispatch(final WheelTask<?> task) {
+        queuedTasks.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                queuedTasks.decrementAndGet();
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            queuedTasks.decrementAndGet();
+            log.warn("Executor of scheduler {} rejected a due task, cancelling it", name, e);
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Task in the wheel. Periodic tasks are put back into the wheel after each run.
+     *
+     * @param <V> the result type
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * Positive for a fixed rate, negative for a fixed delay and zero for one-shot tasks.
+         */
+        private final long period;
+        private final AtomicLong deadline;
+        // only accessed by the wheel thread
+        private long remainingRounds;
+        private int bucketIndex = NOT_IN_WHEEL;
+
+        /* package */ WheelTask(final Callable<V> callable, final long deadline) {
+            super(callable);
+            this.deadline = new AtomicLong(deadline);
+            this.period = 0;
+        }
+
+        /* package */ WheelTask(final Runnable runnable, final long deadline, final long period) {
+            super(runnable, null);
+            this.deadline = new AtomicLong(deadline);
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(deadline.get() - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (isPeriodic()) {
+                if (runAndReset() && !stopped.get()) {
+                    deadline.set(period > 0 ? deadline.get() + period : System.nanoTime() - period);
+                    try {
+                        enqueue(this);
+                    } catch (RejectedExecutionException e) {
+                        cancel(false);
+                    }
+                }
+            } else {
+                super.run();
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+    }
+}
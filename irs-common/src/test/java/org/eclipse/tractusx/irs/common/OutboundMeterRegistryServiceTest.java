@@ -81,4 +81,22 @@ class OutboundMeterRegistryServiceTest {
 
         assertThat(testee.getCounterRetriesSubmodel().get("testTarget").count()).isOne();
     }
-}
\ No newline at end of file
+
+    @Test
+    void registerConnectionPoolGauges() {
+        testee.registerConnectionPoolGauges("testClient", () -> 3, () -> 2, () -> 1);
+
+        assertThat(meterRegistry.get("http.client.connections")
+                                .tags("client", "testClient", "state", "leased")
+                                .gauge()
+                                .value()).isEqualTo(3);
+        assertThat(meterRegistry.get("http.client.connections")
+                                .tags("client", "testClient", "state", "pending")
+                                .gauge()
+                                .value()).isEqualTo(2);
+        assertThat(meterRegistry.get("http.client.connections")
+                                .tags("client", "testClient", "state", "available")
+                                .gauge()
+                                .value()).isEqualTo(1);
+    }
+}
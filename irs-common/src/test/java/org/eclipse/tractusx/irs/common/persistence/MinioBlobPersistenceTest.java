@@ -28,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -149,6 +150,20 @@ class MinioBlobPersistenceTest {
         assertThat(result).isPresent().get().isEqualTo(blob);
     }
 
+    @Test
+    void shouldOpenBlobStreamWithClient() throws Exception {
+        // arrange
+        final GetObjectResponse response = mock(GetObjectResponse.class);
+        when(client.getObject(any())).thenReturn(response);
+
+        // act
+        final Optional<InputStream> result = testee.getBlobStream("testBlobName");
+
+        // assert
+        assertThat(result).containsSame(response);
+        verify(response, never()).readAllBytes();
+    }
+
     @Test
     void shouldThrowCorrectExceptionWhenRetrievingBlob() throws Exception {
         // arrange
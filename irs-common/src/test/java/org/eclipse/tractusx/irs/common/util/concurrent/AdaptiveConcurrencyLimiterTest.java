@@ -0,0 +1,125 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String HOST = "edc.one";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 4, 10,
+            Duration.ofSeconds(1), 0.5, nanoTime::get);
+
+    @Test
+    void shouldRejectWhenLimitOfKeyIsReached() throws Exception {
+        acquire(HOST, 2);
+
+        assertThat(limiter.tryAcquire(HOST, Duration.ZERO)).isEmpty();
+        assertThat(limiter.tryAcquire("edc.two", Duration.ZERO)).isPresent();
+        assertThat(limiter.getInFlight(HOST)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectWhenGlobalLimitIsReached() throws Exception {
+        final AdaptiveConcurrencyLimiter globallyLimited = new AdaptiveConcurrencyLimiter("test", 2, 1, 4, 1,
+                Duration.ofSeconds(1), 0.5, nanoTime::get);
+        assertThat(globallyLimited.tryAcquire(HOST, Duration.ZERO)).isPresent();
+
+        assertThat(globallyLimited.tryAcquire("edc.two", Duration.ZERO)).isEmpty();
+        assertThat(globallyLimited.getInFlight("edc.two")).isZero();
+    }
+
+    @Test
+    void shouldFreeSlotWhenPermitIsCompleted() throws Exception {
+        final List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(HOST, 2);
+
+        permits.get(0).onIgnored();
+        permits.get(0).onIgnored();
+
+        assertThat(limiter.getInFlight(HOST)).isEqualTo(1);
+        assertThat(limiter.tryAcquire(HOST, Duration.ZERO)).isPresent();
+        assertThat(limiter.tryAcquire(HOST, Duration.ZERO)).isEmpty();
+    }
+
+    @Test
+    void shouldIncreaseLimitOnSuccessfulCallsUpToMaximum() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            acquire(HOST, limiter.getLimit(HOST)).forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+        }
+
+        assertThat(limiter.getLimit(HOST)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDecreaseLimitOnDroppedCallsDownToMinimum() throws Exception {
+        acquire(HOST, 2).forEach(AdaptiveConcurrencyLimiter.Permit::onDropped);
+
+        assertThat(limiter.getLimit(HOST)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDecreaseLimitOnCallsExceedingLatencyThreshold() throws Exception {
+        final AdaptiveConcurrencyLimiter.Permit permit = acquire(HOST, 1).get(0);
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        permit.onSuccess();
+
+        assertThat(limiter.getLimit(HOST)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExposeGaugesPerKey() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        acquire(HOST, 1);
+
+        assertThat(registry.get("bulkhead.inflight").tag("key", HOST).gauge().value()).isEqualTo(1);
+        assertThat(registry.get("bulkhead.limit").tag("key", HOST).gauge().value()).isEqualTo(2);
+        assertThat(registry.get("bulkhead.global.inflight").gauge().value()).isEqualTo(1);
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(final String key, final int count)
+            throws InterruptedException {
+        final List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire(key, Duration.ZERO);
+            assertThat(permit).isPresent();
+            permits.add(permit.get());
+        }
+        return permits;
+    }
+}
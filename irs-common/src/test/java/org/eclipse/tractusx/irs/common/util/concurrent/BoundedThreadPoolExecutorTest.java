@@ -0,0 +1,173 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedThreadPoolExecutorTest {
+
+    private final BoundedThreadPoolExecutor executor = new BoundedThreadPoolExecutor("test", 1, 2, 1,
+            Duration.ofSeconds(1), Duration.ofMillis(1), Duration.ofMillis(20));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunTasksOnNamedThreads() throws Exception {
+        final String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                                                   .get(5, TimeUnit.SECONDS);
+
+        assertThat(threadName).isEqualTo("test-1");
+    }
+
+    @Test
+    void shouldNotStartMoreThanMaxPoolSizeThreads() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> await(release));
+        }
+
+        assertThat(executor.getPoolSize()).isEqualTo(2);
+        assertThat(executor.getQueue()).hasSize(1);
+        release.countDown();
+    }
+
+    @Test
+    void shouldWaitForRoomInQueueInsteadOfRejecting() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> await(release));
+        }
+        final CountDownLatch submitted = new CountDownLatch(1);
+        final CountDownLatch executed = new CountDownLatch(1);
+        final Thread producer = new Thread(() -> {
+            executor.execute(executed::countDown);
+            submitted.countDown();
+        });
+        producer.start();
+
+        assertThat(submitted.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+        release.countDown();
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldParkTaskOfPoolThreadIfQueueIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+        final AtomicReference<Throwable> nestedFailure = new AtomicReference<>();
+        final CountDownLatch nestedSubmitted = new CountDownLatch(1);
+        final CountDownLatch nestedExecuted = new CountDownLatch(1);
+
+        // runs on the second thread and submits a task while the queue is full
+        executor.execute(() -> {
+            try {
+                executor.execute(nestedExecuted::countDown);
+            } catch (RejectedExecutionException e) {
+                nestedFailure.set(e);
+            } finally {
+                nestedSubmitted.countDown();
+            }
+        });
+
+        assertThat(nestedSubmitted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(nestedFailure.get()).isNull();
+        assertThat(executor.getOverflowSize()).isEqualTo(1);
+        assertThat(nestedExecuted.getCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(nestedExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getOverflowSize()).isZero();
+    }
+
+    @Test
+    void shouldRunAllTasksSubmittedByPoolThreadsWhileQueueIsFull() throws Exception {
+        final int nestedTasks = 20;
+        final CountDownLatch nestedExecuted = new CountDownLatch(nestedTasks);
+
+        // every nested task submits a further task, so the queue of capacity 1 is full most of the time
+        executor.execute(() -> {
+            for (int i = 0; i < nestedTasks / 2; i++) {
+                executor.execute(() -> {
+                    nestedExecuted.countDown();
+                    executor.execute(nestedExecuted::countDown);
+                });
+            }
+        });
+
+        assertThat(nestedExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getOverflowSize()).isZero();
+    }
+
+    @Test
+    void shouldReturnParkedTasksOnShutdownNow() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch nestedSubmitted = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+        executor.execute(() -> {
+            executor.execute(() -> {
+            });
+            nestedSubmitted.countDown();
+            await(release);
+        });
+        assertThat(nestedSubmitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // the queued task and the parked task have not been started
+        assertThat(executor.shutdownNow()).hasSize(2);
+        assertThat(executor.getOverflowSize()).isZero();
+    }
+
+    @Test
+    void shouldRejectTasksAfterShutdown() {
+        executor.shutdown();
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
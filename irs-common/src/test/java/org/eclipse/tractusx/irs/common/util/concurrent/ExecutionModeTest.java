@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ExecutionModeTest {
+
+    @ParameterizedTest
+    @EnumSource(ExecutionMode.class)
+    void shouldCreateExecutorRunningTasks(final ExecutionMode mode)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        final ExecutorService executor = mode.newExecutorService();
+        try {
+            assertThat(executor.submit(() -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldCreateFixedPoolOfNamedPlatformThreads()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        final ExecutorService executor = ExecutionMode.PLATFORM.newExecutorService("test-io", 2);
+        try {
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS)).startsWith(
+                    "test-io-");
+            assertThat(executor).isInstanceOfSatisfying(ThreadPoolExecutor.class,
+                    pool -> assertThat(pool.getMaximumPoolSize()).isEqualTo(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldDetectVirtualThreadSupportByRuntimeVersion() {
+        final int virtualThreadRelease = 21;
+        assertThat(ExecutionMode.isVirtualThreadSupported()).isEqualTo(
+                Runtime.version().feature() >= virtualThreadRelease);
+    }
+}
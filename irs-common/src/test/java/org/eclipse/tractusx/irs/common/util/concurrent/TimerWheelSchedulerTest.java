@@ -0,0 +1,153 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.common.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelSchedulerTest {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "io-executor"));
+    private final TimerWheelScheduler scheduler = new TimerWheelScheduler("test", TICK, 8, executor);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldRunTaskOnExecutorAfterDelay() throws Exception {
+        final long start = System.nanoTime();
+
+        final String threadName = scheduler.schedule(() -> Thread.currentThread().getName(), 50,
+                TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+
+        assertThat(threadName).isEqualTo("io-executor");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(scheduler.getScheduledTaskCount()).isZero();
+    }
+
+    @Test
+    void shouldRunTaskDueAfterSeveralRotationsOfTheWheel() throws Exception {
+        final long start = System.nanoTime();
+
+        // 8 buckets of 10ms, so the task passes its bucket twice before it is due
+        scheduler.schedule(() -> "done", 200, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void shouldRepeatTaskWithFixedDelayUntilCancelled() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch threeRuns = new CountDownLatch(3);
+
+        final ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(() -> {
+            runs.incrementAndGet();
+            threeRuns.countDown();
+        }, 0, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(threeRuns.await(5, TimeUnit.SECONDS)).isTrue();
+        future.cancel(false);
+        final int runsAfterCancel = runs.get();
+        Thread.sleep(100);
+
+        assertThat(runs.get()).isEqualTo(runsAfterCancel);
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(scheduler.getScheduledTaskCount()).isZero();
+    }
+
+    @Test
+    void shouldNotRunCancelledTask() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ScheduledFuture<?> future = scheduler.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        future.cancel(false);
+        Thread.sleep(150);
+
+        assertThat(runs.get()).isZero();
+        assertThat(scheduler.getScheduledTaskCount()).isZero();
+    }
+
+    @Test
+    void shouldExposeScheduledAndQueuedTasksAndTickLag() throws Exception {
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        scheduler.bindTo(meterRegistry);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        scheduler.schedule(() -> {
+            started.countDown();
+            blocking.await();
+            return null;
+        }, 0, TimeUnit.MILLISECONDS);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final ScheduledFuture<String> queued = scheduler.schedule(() -> "queued", 0, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> "scheduled", 1, TimeUnit.HOURS);
+        Thread.sleep(100);
+
+        assertThat(meterRegistry.get("scheduler.tasks").tag("state", "queued").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.tasks").tag("state", "scheduled").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.tick.lag").tag("scheduler", "test").timer().count()).isPositive();
+
+        blocking.countDown();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(scheduler.getQueuedTaskCount()).isZero();
+    }
+
+    @Test
+    void shouldCancelPendingTasksAndRejectNewTasksOnShutdown() {
+        final ScheduledFuture<?> pending = scheduler.schedule(() -> "pending", 1, TimeUnit.HOURS);
+
+        scheduler.shutdown();
+
+        assertThat(pending.isCancelled()).isTrue();
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThatThrownBy(() -> scheduler.schedule(() -> "rejected", 0, TimeUnit.MILLISECONDS)).isInstanceOf(
+                RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldRejectInvalidTickDuration() {
+        assertThatThrownBy(() -> new TimerWheelScheduler("invalid", Duration.ZERO, 8, executor)).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+}
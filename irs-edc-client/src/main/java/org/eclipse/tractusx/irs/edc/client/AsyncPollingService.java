@@ -24,24 +24,37 @@
 package org.eclipse.tractusx.irs.edc.client;
 
 import java.time.Clock;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
  * Provides scheduling services for asynchronous polling.
+ * The polling actions run on the scheduler. A timer wheel scheduler hands them over to its I/O
+ * executor, so blocking polls do not delay other timers.
  */
 @Service("irsEdcClientAsyncPollingService")
-@RequiredArgsConstructor
 public class AsyncPollingService {
 
     private final Clock clock;
     private final ScheduledExecutorService scheduler;
 
+    public AsyncPollingService(final Clock clock, final ScheduledExecutorService scheduler) {
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
     public <T> PollingJob.PollingJobBuilder<T> createJob() {
         return PollingJob.<T>builder().clock(clock).scheduler(scheduler);
     }
 
-}
+    /**
+     * @return the executor for blocking requests which continue a polling result, i.e. the
+     *         scheduler, which runs them on its I/O executor
+     */
+    public Executor ioExecutor() {
+        return scheduler;
+    }
 
+}
@@ -26,9 +26,9 @@ package org.eclipse.tractusx.irs.edc.client;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,16 +57,59 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service("irsEdcClientContractNegotiationService")
 @RequiredArgsConstructor
+@SuppressWarnings("PMD.TooManyMethods")
 public class ContractNegotiationService {
 
     public static final String EDC_PROTOCOL = "dataspace-protocol-http";
     private final EdcControlPlaneClient edcControlPlaneClient;
     private final PolicyCheckerService policyCheckerService;
     private final EdcConfiguration config;
+    private final AsyncPollingService pollingService;
 
     public NegotiationResponse negotiate(final String providerConnectorUrl, final CatalogItem catalogItem,
             final EndpointDataReferenceStatus endpointDataReferenceStatus, final String bpn)
             throws ContractNegotiationException, UsagePolicyException, TransferProcessException {
+        try {
+            return negotiateAsync(providerConnectorUrl, catalogItem, endpointDataReferenceStatus, bpn).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContractNegotiationException(e);
+        } catch (ExecutionException e) {
+            rethrowCause(e.getCause());
+            throw new ContractNegotiationException(e);
+        }
+    }
+
+    private static void rethrowCause(final Throwable cause)
+            throws ContractNegotiationException, TransferProcessException {
+        if (cause instanceof ContractNegotiationException negotiationException) {
+            throw negotiationException;
+        }
+        if (cause instanceof TransferProcessException transferProcessException) {
+            throw transferProcessException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+    }
+
+    /**
+     * Starts the contract negotiation (if required) and the transfer process without blocking the
+     * calling thread. The negotiation result and the transfer process state are polled with
+     * adaptive back-off, so waiting negotiations do not occupy a thread.
+     *
+     * @param providerConnectorUrl        the provider connector URL
+     * @param catalogItem                 the catalog item to negotiate
+     * @param endpointDataReferenceStatus the status of the cached endpoint data reference
+     * @param bpn                         the BPN of the provider
+     * @return a future completing with the negotiation response, or with null if the contract of an
+     *         expired endpoint data reference was reused. The future fails with a
+     *         {@link ContractNegotiationException} or a {@link TransferProcessException}.
+     * @throws UsagePolicyException if the policy of the catalog item is not accepted
+     */
+    public CompletableFuture<NegotiationResponse> negotiateAsync(final String providerConnectorUrl,
+            final CatalogItem catalogItem, final EndpointDataReferenceStatus endpointDataReferenceStatus,
+            final String bpn) throws UsagePolicyException {
 
         EndpointDataReferenceStatus resultEndpointDataReferenceStatus;
 
@@ -79,15 +122,13 @@ public class ContractNegotiationService {
             resultEndpointDataReferenceStatus = endpointDataReferenceStatus;
         }
 
-        NegotiationResponse negotiationResponse = null;
-        String contractAgreementId;
+        final CompletableFuture<NegotiationResponse> negotiationFuture;
+        final String reusedContractAgreementId;
 
         switch (resultEndpointDataReferenceStatus.tokenStatus()) {
             case REQUIRED_NEW -> {
-                final CompletableFuture<NegotiationResponse> responseFuture = startNewNegotiation(providerConnectorUrl,
-                        catalogItem, bpn);
-                negotiationResponse = Objects.requireNonNull(getNegotiationResponse(responseFuture));
-                contractAgreementId = negotiationResponse.getContractAgreementId();
+                negotiationFuture = negotiateNewContract(providerConnectorUrl, catalogItem, bpn);
+                reusedContractAgreementId = null;
             }
             case EXPIRED -> {
                 final String authCode = resultEndpointDataReferenceStatus.endpointDataReference().getAuthCode();
@@ -95,28 +136,56 @@ public class ContractNegotiationService {
                     throw new IllegalStateException("Missing information about AuthKey.");
                 }
                 log.error("AuthCode to be parsed: " + authCode);
-                contractAgreementId = EDRAuthCode.fromAuthCodeToken(authCode).getCid();
+                reusedContractAgreementId = EDRAuthCode.fromAuthCodeToken(authCode).getCid();
                 log.info(
                         "Cached endpoint data reference has expired token. Refreshing token without new contract negotiation for contractAgreementId: {}",
-                        Masker.mask(contractAgreementId));
+                        Masker.mask(reusedContractAgreementId));
+                negotiationFuture = CompletableFuture.completedFuture(null);
             }
             case VALID -> throw new IllegalStateException(
                     "Token is present and valid. Contract negotiation should not be started.");
             default -> throw new IllegalStateException("Unknown token status.");
         }
 
+        // the transfer process is started with a blocking request,
+        // which must not run on the thread completing the negotiation poll
+        return negotiationFuture.thenComposeAsync(negotiationResponse -> {
+            final String contractAgreementId = negotiationResponse == null
+                    ? reusedContractAgreementId
+                    : negotiationResponse.getContractAgreementId();
+            return startTransferProcess(providerConnectorUrl, catalogItem, contractAgreementId).thenApply(
+                    transferProcessResponse -> negotiationResponse);
+        }, pollingService.ioExecutor());
+    }
+
+    private CompletableFuture<NegotiationResponse> negotiateNewContract(final String providerConnectorUrl,
+            final CatalogItem catalogItem, final String bpn) throws UsagePolicyException {
+        final CompletableFuture<NegotiationResponse> negotiation = startNewNegotiation(providerConnectorUrl,
+                catalogItem, bpn);
+        return withTimeout(negotiation).thenApply(Objects::requireNonNull)
+                                       .exceptionallyCompose(
+                                               e -> failed(new ContractNegotiationException(unwrap(e))));
+    }
+
+    private CompletableFuture<TransferProcessResponse> startTransferProcess(final String providerConnectorUrl,
+            final CatalogItem catalogItem, final String contractAgreementId) {
         final TransferProcessRequest transferProcessRequest = createTransferProcessRequest(providerConnectorUrl,
                 catalogItem, contractAgreementId);
 
         final Response transferProcessId = edcControlPlaneClient.startTransferProcess(transferProcessRequest);
-
         final CompletableFuture<TransferProcessResponse> transferProcessFuture = edcControlPlaneClient.getTransferProcess(
                 transferProcessId);
-        final TransferProcessResponse transferProcessResponse = Objects.requireNonNull(
-                getTransferProcessResponse(transferProcessFuture));
-        log.info("Transfer process completed for transferProcessId: {}", transferProcessResponse.getResponseId());
 
-        return negotiationResponse;
+        return withTimeout(transferProcessFuture).thenApply(Objects::requireNonNull)
+                                                 .exceptionallyCompose(
+                                                         e -> failed(new TransferProcessException(unwrap(e))))
+                                                 .whenComplete((response, e) -> {
+                                                     if (response != null) {
+                                                         log.info(
+                                                                 "Transfer process completed for transferProcessId: {}",
+                                                                 response.getResponseId());
+                                                     }
+                                                 });
     }
 
     private CompletableFuture<NegotiationResponse> startNewNegotiation(final String providerConnectorUrl,
@@ -175,28 +244,17 @@ public class ContractNegotiationService {
                                  .build();
     }
 
-    private NegotiationResponse getNegotiationResponse(final CompletableFuture<NegotiationResponse> negotiationResponse)
-            throws ContractNegotiationException {
-        try {
-            return negotiationResponse.get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        } catch (TimeoutException | ExecutionException e) {
-            throw new ContractNegotiationException(e);
-        }
-        return null;
+    private <T> CompletableFuture<T> withTimeout(final CompletableFuture<T> future) {
+        return future.orTimeout(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
     }
 
-    private TransferProcessResponse getTransferProcessResponse(
-            final CompletableFuture<TransferProcessResponse> transferProcessResponse) throws TransferProcessException {
-        try {
-            return transferProcessResponse.get(config.getAsyncTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        } catch (TimeoutException | ExecutionException e) {
-            throw new TransferProcessException(e);
-        }
-        return null;
+    private static <T> CompletableFuture<T> failed(final Throwable throwable) {
+        return CompletableFuture.failedFuture(throwable);
     }
-}
 
+    private static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -38,21 +38,26 @@ import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequest;
 import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.tractusx.irs.edc.client.cache.catalog.CatalogCache;
 import org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration;
 import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
 import org.springframework.stereotype.Component;
 
 /**
  * EDC Catalog facade which handles pagination of the catalog, aggregation of contract offers
- * and transformation into {@link CatalogItem}.
+ * and transformation into {@link CatalogItem}. Catalogs requested by provider URL are cached in
+ * {@link CatalogCache}.
  */
 @Component("irsEdcClientEdcCatalogFacade")
 @RequiredArgsConstructor
 @Slf4j
 public class EDCCatalogFacade {
 
+    private static final String UNTIL_MATCH_FILTER = "untilMatch";
+
     private final EdcControlPlaneClient controlPlaneClient;
     private final EdcConfiguration config;
+    private final CatalogCache catalogCache;
 
     private static CatalogItem createCatalogItem(final Catalog pageableCatalog, final Dataset dataset) {
         final int maxNumberOfOffers = 1;
@@ -125,6 +130,11 @@ public class EDCCatalogFacade {
      * @return The list of catalog Items up to the point where the target CatalogItem is included.
      */
     public List<CatalogItem> fetchCatalogItemsUntilMatch(final String connectorUrl, final String target) {
+        return catalogCache.get(connectorUrl, UNTIL_MATCH_FILTER, target,
+                () -> requestCatalogItemsUntilMatch(connectorUrl, target));
+    }
+
+    private List<CatalogItem> requestCatalogItemsUntilMatch(final String connectorUrl, final String target) {
         int offset = 0;
         final int pageSize = config.getControlplane().getCatalogPageSize();
 
@@ -157,8 +167,17 @@ public class EDCCatalogFacade {
     }
 
     public List<CatalogItem> fetchCatalogByFilter(final String connectorUrl, final String key, final String value) {
-        final Catalog catalog = controlPlaneClient.getCatalogWithFilter(connectorUrl, key, value);
-        return mapToCatalogItems(catalog);
+        return catalogCache.get(connectorUrl, key, value,
+                () -> mapToCatalogItems(controlPlaneClient.getCatalogWithFilter(connectorUrl, key, value)));
+    }
+
+    /**
+     * Removes the cached catalogs of the provider, so the next request fetches the current offers.
+     *
+     * @param connectorUrl The EDC Connector of the provider
+     */
+    public void invalidateCatalogs(final String connectorUrl) {
+        catalogCache.invalidate(connectorUrl);
     }
 
     private Optional<Dataset> findOfferIfExist(final String target, final Catalog catalog) {
@@ -45,7 +45,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class EdcCallbackController {
 
-    private final EndpointDataReferenceStorage storage;
+    private final EndpointDataReferenceStore storage;
 
     @PostMapping
     public void receiveEdcCallback(final @RequestBody EndpointDataReference dataReference) {
@@ -24,6 +24,8 @@
 package org.eclipse.tractusx.irs.edc.client;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -68,6 +70,10 @@ public class EdcConfiguration {
 
         private ApiKeyConfig apiKey = new ApiKeyConfig();
 
+        private PollingConfig polling = new PollingConfig();
+
+        private CatalogCacheConfig catalogCache = new CatalogCacheConfig();
+
         /**
          * Container for controlplane endpoint config
          */
@@ -85,6 +91,41 @@ public class EdcConfiguration {
 
         }
 
+        /**
+         * Container for the adaptive polling config of contract negotiations and transfer
+         * processes. The poll interval starts at the initial interval and grows by the multiplier
+         * up to the max interval.
+         */
+        @Data
+        public static class PollingConfig {
+            private static final long INITIAL_INTERVAL_MILLIS_DEFAULT = 200;
+            private static final long MAX_INTERVAL_MILLIS_DEFAULT = 5000;
+            private static final double MULTIPLIER_DEFAULT = 1.5;
+
+            private Duration initialInterval = Duration.ofMillis(INITIAL_INTERVAL_MILLIS_DEFAULT);
+            private Duration maxInterval = Duration.ofMillis(MAX_INTERVAL_MILLIS_DEFAULT);
+            private double multiplier = MULTIPLIER_DEFAULT;
+        }
+
+        /**
+         * Container for the catalog cache config. The TTL of a provider can be overridden by its
+         * control plane URL, a TTL of zero disables caching.
+         */
+        @Data
+        public static class CatalogCacheConfig {
+            private static final long TTL_MINUTES_DEFAULT = 10;
+            private static final int MAX_SIZE_DEFAULT = 1000;
+
+            private Duration ttl = Duration.ofMinutes(TTL_MINUTES_DEFAULT);
+            private int maxSize = MAX_SIZE_DEFAULT;
+            @SuppressWarnings("PMD.UseConcurrentHashMap") // only written while binding the configuration
+            private Map<String, Duration> providerTtl = new HashMap<>();
+
+            public Duration getTtl(final String providerUrl) {
+                return providerTtl.getOrDefault(providerUrl, ttl);
+            }
+        }
+
         /**
          * Container for controlplane  apikey config
          */
@@ -167,6 +167,9 @@ public class EdcControlPlaneClient {
                              })
                              .description("wait for negotiation confirmation")
                              .timeToLive(config.getControlplane().getRequestTtl())
+                             .pollInterval(config.getControlplane().getPolling().getInitialInterval())
+                             .maxPollInterval(config.getControlplane().getPolling().getMaxInterval())
+                             .backoffMultiplier(config.getControlplane().getPolling().getMultiplier())
                              .build()
                              .schedule();
 
@@ -228,6 +231,9 @@ public class EdcControlPlaneClient {
                              })
                              .description("wait for transfer process completion")
                              .timeToLive(config.getControlplane().getRequestTtl())
+                             .pollInterval(config.getControlplane().getPolling().getInitialInterval())
+                             .maxPollInterval(config.getControlplane().getPolling().getMaxInterval())
+                             .backoffMultiplier(config.getControlplane().getPolling().getMultiplier())
                              .build()
                              .schedule();
 
@@ -64,7 +64,8 @@ import org.springframework.util.StopWatch;
 @RequiredArgsConstructor
 @SuppressWarnings({ "PMD.TooManyMethods",
                     "PMD.ExcessiveImports",
-                    "PMD.UseObjectForClearerAPI"
+                    "PMD.UseObjectForClearerAPI",
+                    "PMD.GodClass"
 })
 public class EdcSubmodelClientImpl implements EdcSubmodelClient {
 
@@ -75,6 +76,7 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
     private final RetryRegistry retryRegistry;
     private final EDCCatalogFacade catalogFacade;
     private final EndpointDataReferenceCacheService endpointDataReferenceCacheService;
+    private final NegotiationCoalescer negotiationCoalescer;
     private final UrlValidator urlValidator = new UrlValidator(UrlValidator.ALLOW_LOCAL_URLS);
 
     private static void stopWatchOnEdcTask(final StopWatch stopWatch) {
@@ -185,15 +187,17 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         return result;
     }
 
+    /**
+     * Concurrent callers for the same asset of the same provider share one negotiation.
+     */
     private EndpointDataReference getEndpointDataReferenceAndAddToStorage(final String connectorEndpoint,
             final String assetId, final EndpointDataReferenceStatus cachedEndpointDataReference, final String bpn)
             throws EdcClientException {
         try {
-            final EndpointDataReference endpointDataReference = awaitEndpointReferenceForAsset(connectorEndpoint,
-                    NAMESPACE_EDC_ID, assetId, cachedEndpointDataReference, bpn).get();
-            endpointDataReferenceCacheService.putEndpointDataReferenceIntoStorage(assetId, endpointDataReference);
-
-            return endpointDataReference;
+            return negotiationCoalescer.coalesce(connectorEndpoint, assetId, bpn,
+                    () -> awaitEndpointReferenceForAsset(connectorEndpoint, NAMESPACE_EDC_ID, assetId,
+                            cachedEndpointDataReference, bpn).thenApply(
+                                    endpointDataReference -> addToStorage(assetId, endpointDataReference))).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new EdcClientException(e);
@@ -202,6 +206,12 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         }
     }
 
+    private EndpointDataReference addToStorage(final String assetId,
+            final EndpointDataReference endpointDataReference) {
+        endpointDataReferenceCacheService.putEndpointDataReferenceIntoStorage(assetId, endpointDataReference);
+        return endpointDataReference;
+    }
+
     @Override
     public CompletableFuture<EdcNotificationResponse> sendNotification(final String connectorEndpoint,
             final String assetId, final EdcNotification<NotificationContent> notification, final String bpn)
@@ -245,45 +255,54 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
         // We need to process each contract offer in parallel
         // (see src/docs/arc42/cross-cutting/discovery-DTR--multiple-EDCs-with-multiple-DTRs.puml
         // and src/docs/arc42/cross-cutting/discovery-DTR--multiple-EDCs-with-multiple-DTRs--detailed.puml)
-        return contractOffers.stream().map(contractOffer -> {
-
-            final NegotiationResponse negotiationResponse;
-            try {
-                negotiationResponse = negotiateContract(endpointDataReferenceStatus, contractOffer, providerWithSuffix,
-                        bpn);
-
-                final String storageId = getStorageId(endpointDataReferenceStatus, negotiationResponse);
-
-                return pollingService.<EndpointDataReference>createJob()
-                                     .action(() -> retrieveEndpointReference(storageId, stopWatch))
-                                     .timeToLive(config.getSubmodel().getRequestTtl())
-                                     .description("waiting for Endpoint Reference retrieval")
-                                     .build()
-                                     .schedule();
-            } catch (EdcClientException e) {
-                log.warn(("Negotiate contract failed for "
-                        + "endpointDataReferenceStatus = '%s', catalogItem = '%s', providerWithSuffix = '%s' ").formatted(
-                        endpointDataReferenceStatus, contractOffer, providerWithSuffix));
-                return CompletableFuture.<EndpointDataReference>failedFuture(e);
-            }
-
-        }).toList();
+        return contractOffers.stream()
+                             .map(contractOffer -> negotiateAndAwaitEndpointReference(endpointDataReferenceStatus,
+                                     contractOffer, providerWithSuffix, bpn, stopWatch))
+                             .toList();
     }
 
-    private NegotiationResponse negotiateContract(final EndpointDataReferenceStatus endpointDataReferenceStatus,
-            final CatalogItem catalogItem, final String providerWithSuffix, final String bpn)
-            throws EdcClientException {
-        final NegotiationResponse response;
+    /**
+     * Composes contract negotiation, transfer process and endpoint data reference retrieval without
+     * blocking, so the negotiations of all contract offers run concurrently.
+     */
+    private CompletableFuture<EndpointDataReference> negotiateAndAwaitEndpointReference(
+            final EndpointDataReferenceStatus endpointDataReferenceStatus, final CatalogItem catalogItem,
+            final String providerWithSuffix, final String bpn, final StopWatch stopWatch) {
+        final CompletableFuture<NegotiationResponse> negotiation;
         try {
-            response = contractNegotiationService.negotiate(providerWithSuffix, catalogItem,
+            negotiation = contractNegotiationService.negotiateAsync(providerWithSuffix, catalogItem,
                     endpointDataReferenceStatus, bpn);
-        } catch (TransferProcessException | UsagePolicyException | ContractNegotiationException e) {
-            throw new EdcClientException(("Negotiation failed for endpoint '%s', " + "tokenStatus '%s', "
-                    + "providerWithSuffix '%s', catalogItem '%s'").formatted(
-                    endpointDataReferenceStatus.endpointDataReference(), endpointDataReferenceStatus.tokenStatus(),
-                    providerWithSuffix, endpointDataReferenceStatus), e);
+        } catch (UsagePolicyException e) {
+            return CompletableFuture.failedFuture(
+                    negotiationFailed(endpointDataReferenceStatus, catalogItem, providerWithSuffix, e));
         }
-        return response;
+
+        return negotiation.exceptionallyCompose(e -> CompletableFuture.failedFuture(
+                                  negotiationFailed(endpointDataReferenceStatus, catalogItem, providerWithSuffix,
+                                          e instanceof CompletionException ? e.getCause() : e)))
+                          .thenCompose(negotiationResponse -> {
+                              final String storageId = getStorageId(endpointDataReferenceStatus,
+                                      negotiationResponse);
+                              return awaitEndpointReference(storageId, stopWatch);
+                          });
+    }
+
+    /**
+     * The cached catalogs of the provider are invalidated, unless the offer was rejected because of
+     * its policy.
+     */
+    private EdcClientException negotiationFailed(final EndpointDataReferenceStatus endpointDataReferenceStatus,
+            final CatalogItem catalogItem, final String providerWithSuffix, final Throwable cause) {
+        if (!(cause instanceof UsagePolicyException)) {
+            catalogFacade.invalidateCatalogs(providerWithSuffix);
+        }
+        log.warn(("Negotiate contract failed for "
+                + "endpointDataReferenceStatus = '%s', catalogItem = '%s', providerWithSuffix = '%s' ").formatted(
+                endpointDataReferenceStatus, catalogItem, providerWithSuffix));
+        return new EdcClientException(("Negotiation failed for endpoint '%s', " + "tokenStatus '%s', "
+                + "providerWithSuffix '%s', catalogItem '%s'").formatted(
+                endpointDataReferenceStatus.endpointDataReference(), endpointDataReferenceStatus.tokenStatus(),
+                providerWithSuffix, endpointDataReferenceStatus), cause);
     }
 
     private CompletableFuture<EndpointDataReference> awaitEndpointReferenceForAsset(final String endpointAddress,
@@ -296,15 +315,34 @@ public class EdcSubmodelClientImpl implements EdcSubmodelClient {
 
         final List<CatalogItem> items = catalogFacade.fetchCatalogByFilter(providerWithSuffix, filterKey, filterValue);
 
-        final NegotiationResponse response = contractNegotiationService.negotiate(providerWithSuffix,
-                items.stream().findFirst().orElseThrow(), endpointDataReferenceStatus, bpn);
+        final NegotiationResponse response;
+        try {
+            response = contractNegotiationService.negotiate(providerWithSuffix,
+                    items.stream().findFirst().orElseThrow(), endpointDataReferenceStatus, bpn);
+        } catch (ContractNegotiationException | TransferProcessException e) {
+            catalogFacade.invalidateCatalogs(providerWithSuffix);
+            throw e;
+        }
 
         final String storageId = getStorageId(endpointDataReferenceStatus, response);
 
+        return awaitEndpointReference(storageId, stopWatch);
+    }
+
+    /**
+     * Polls the storage until the EDC has called back with the endpoint data reference.
+     * The poll interval grows like the one of the negotiation polls, since the callback
+     * usually arrives shortly after the negotiation.
+     */
+    private CompletableFuture<EndpointDataReference> awaitEndpointReference(final String storageId,
+            final StopWatch stopWatch) {
         return pollingService.<EndpointDataReference>createJob()
                              .action(() -> retrieveEndpointReference(storageId, stopWatch))
                              .timeToLive(config.getSubmodel().getRequestTtl())
                              .description("waiting for Endpoint Reference retrieval")
+                             .pollInterval(config.getControlplane().getPolling().getInitialInterval())
+                             .maxPollInterval(config.getControlplane().getPolling().getMaxInterval())
+                             .backoffMultiplier(config.getControlplane().getPolling().getMultiplier())
                              .build()
                              .schedule();
     }
@@ -0,0 +1,132 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+import org.eclipse.tractusx.irs.data.StringMapper;
+import org.eclipse.tractusx.irs.edc.client.util.Masker;
+
+/**
+ * Encrypts endpoint data references with AES-GCM, so their tokens are never written to a blob store
+ * in plaintext. The storage id is authenticated as associated data, so an encrypted reference cannot
+ * be moved to another storage id.
+ */
+@Slf4j
+/* package */ final class EndpointDataReferenceCipher {
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final String KEY_ALGORITHM = "AES";
+    private static final Set<Integer> KEY_LENGTHS = Set.of(16, 24, 32);
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private final SecretKey key;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private EndpointDataReferenceCipher(final SecretKey key) {
+        this.key = key;
+    }
+
+    /**
+     * @param encodedKey the Base64 encoded AES key of 128, 192 or 256 bits
+     * @return the cipher
+     * @throws IllegalStateException if the key is missing or not a valid AES key
+     */
+    /* package */ static EndpointDataReferenceCipher fromKey(final String encodedKey) {
+        if (StringUtils.isBlank(encodedKey)) {
+            throw new IllegalStateException(
+                    "irs-edc-client.controlplane.datareference.storage.persistence.encryptionKey must be set "
+                            + "to share endpoint data references");
+        }
+        final byte[] key;
+        try {
+            key = Base64.getDecoder().decode(encodedKey);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalStateException("Encryption key of shared endpoint data references is not Base64", e);
+        }
+        if (!KEY_LENGTHS.contains(key.length)) {
+            throw new IllegalStateException(
+                    "Encryption key of shared endpoint data references must have 128, 192 or 256 bits");
+        }
+        return new EndpointDataReferenceCipher(new SecretKeySpec(key, KEY_ALGORITHM));
+    }
+
+    /**
+     * @return the Base64 encoded nonce followed by the ciphertext
+     */
+    /* package */ String encrypt(final String storageId, final EndpointDataReference dataReference)
+            throws GeneralSecurityException {
+        final byte[] nonce = new byte[NONCE_LENGTH];
+        secureRandom.nextBytes(nonce);
+        final Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, nonce));
+        cipher.updateAAD(storageId.getBytes(StandardCharsets.UTF_8));
+        final byte[] encrypted = cipher.doFinal(
+                StringMapper.mapToString(dataReference).getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder()
+                     .encodeToString(ByteBuffer.allocate(nonce.length + encrypted.length)
+                                               .put(nonce)
+                                               .put(encrypted)
+                                               .array());
+    }
+
+    /**
+     * @return the decrypted reference, empty if it cannot be decrypted, e.g. because it was encrypted
+     *         with another key
+     */
+    /* package */ Optional<EndpointDataReference> decrypt(final String storageId, final String encryptedReference) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encryptedReference));
+            final byte[] nonce = new byte[NONCE_LENGTH];
+            buffer.get(nonce);
+            final byte[] encrypted = new byte[buffer.remaining()];
+            buffer.get(encrypted);
+            final Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, nonce));
+            cipher.updateAAD(storageId.getBytes(StandardCharsets.UTF_8));
+            final String decrypted = new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+            return Optional.of(StringMapper.mapFromString(decrypted, EndpointDataReference.class));
+        } catch (final GeneralSecurityException | IllegalArgumentException | BufferUnderflowException
+                       | JsonParseException e) {
+            log.warn("Could not decrypt shared endpoint data reference for {}", Masker.mask(storageId), e);
+            return Optional.empty();
+        }
+    }
+}
@@ -23,63 +23,194 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.edc.client;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.model.StoredEndpointDataReference;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
- * In-memory storage for endpoint data references.
+ * In-memory storage for endpoint data references, the default {@link EndpointDataReferenceStore}.
  * Values are held either by assetId or contractAgreementId.
+ * References are removed after the storage duration, ordered by their expiration. If the storage
+ * exceeds its maximum size, the least recently used reference is evicted.
  */
+@Slf4j
 @Service("irsEdcClientEndpointDataReferenceStorage")
-public class EndpointDataReferenceStorage {
+public class EndpointDataReferenceStorage implements EndpointDataReferenceStore, MeterBinder {
 
-    private final Map<String, ExpiringContainer> storageMap = new ConcurrentHashMap<>();
+    private static final String METRIC_PREFIX = "edc.edr.storage";
+
+    private final Lock lock = new ReentrantLock();
+    @SuppressWarnings("PMD.UseConcurrentHashMap") // guarded by the lock, access order is needed for the eviction
+    private final Map<String, ExpiringContainer> storageMap = new LinkedHashMap<>(16, 0.75f, true);
+    private final PriorityQueue<ExpiringContainer> expirationQueue = new PriorityQueue<>(
+            Comparator.comparing(ExpiringContainer::expiration));
     private final Duration storageDuration;
+    private final int maxSize;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expiredEvictions = new AtomicLong();
+    private final AtomicLong sizeEvictions = new AtomicLong();
 
     public EndpointDataReferenceStorage(
-            @Value("${irs-edc-client.controlplane.datareference.storage.duration}") final Duration storageDuration) {
+            @Value("${irs-edc-client.controlplane.datareference.storage.duration}") final Duration storageDuration,
+            @Value("${irs-edc-client.controlplane.datareference.storage.max-size:10000}") final int maxSize) {
+        this(storageDuration, maxSize, Clock.systemUTC());
+    }
+
+    /* package */ EndpointDataReferenceStorage(final Duration storageDuration, final int maxSize,
+            final Clock clock) {
         this.storageDuration = storageDuration;
+        this.maxSize = maxSize;
+        this.clock = clock;
     }
 
+    @Override
     public void put(final String storageId, final EndpointDataReference dataReference) {
-        storageMap.put(storageId, new ExpiringContainer(Instant.now(), dataReference));
-        cleanup();
+        final Instant now = clock.instant();
+        final ExpiringContainer container = new ExpiringContainer(storageId, now.plus(storageDuration),
+                StoredEndpointDataReference.from(dataReference));
+        lock.lock();
+        try {
+            storageMap.put(storageId, container);
+            expirationQueue.add(container);
+            removeExpired(now);
+            evictLeastRecentlyUsed();
+            compactExpirationQueue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<StoredEndpointDataReference> getStored(final String storageId) {
+        final Instant now = clock.instant();
+        lock.lock();
+        try {
+            final ExpiringContainer container = storageMap.get(storageId);
+            if (container == null || now.isAfter(container.expiration())) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(container.reference());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cleans up all dangling references which were not collected after the storage duration.
+     */
+    @Scheduled(fixedDelayString = "${irs-edc-client.controlplane.datareference.storage.cleanup-interval:PT1M}")
+    public void cleanup() {
+        lock.lock();
+        try {
+            removeExpired(clock.instant());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getStorageDuration() {
+        return storageDuration;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return storageMap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                       .description("Number of endpoint data reference lookups")
+                       .tag("result", "hit")
+                       .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                       .description("Number of endpoint data reference lookups")
+                       .tag("result", "miss")
+                       .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", expiredEvictions, AtomicLong::get)
+                       .description("Number of evicted endpoint data references")
+                       .tag("cause", "expired")
+                       .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", sizeEvictions, AtomicLong::get)
+                       .description("Number of evicted endpoint data references")
+                       .tag("cause", "size")
+                       .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, EndpointDataReferenceStorage::size)
+             .description("Number of stored endpoint data references")
+             .register(registry);
     }
 
     /**
-     * Cleans up all dangling references which were not collected after the STORAGE_DURATION.
+     * Removes the references from the head of the expiration queue until the first one which is not
+     * expired. Queue entries of overwritten or evicted references are skipped.
      */
-    private void cleanup() {
-        final Set<String> keys = new HashSet<>(storageMap.keySet());
-        keys.forEach(key -> {
-            final Instant creationTimestamp = storageMap.get(key).getCreationTimestamp();
-            if (Instant.now().isAfter(creationTimestamp.plus(storageDuration))) {
-                storageMap.remove(key);
+    private void removeExpired(final Instant now) {
+        while (!expirationQueue.isEmpty() && now.isAfter(expirationQueue.peek().expiration())) {
+            final ExpiringContainer expired = expirationQueue.poll();
+            if (storageMap.remove(expired.storageId(), expired)) {
+                expiredEvictions.incrementAndGet();
             }
-        });
+        }
     }
 
-    public Optional<EndpointDataReference> get(final String storageId) {
-        return Optional.ofNullable(storageMap.get(storageId)).map(ExpiringContainer::getDataReference);
+    private void evictLeastRecentlyUsed() {
+        final Iterator<ExpiringContainer> leastRecentlyUsed = storageMap.values().iterator();
+        while (storageMap.size() > maxSize && leastRecentlyUsed.hasNext()) {
+            final ExpiringContainer evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            sizeEvictions.incrementAndGet();
+            log.debug("Evicted endpoint data reference for {} because the storage is full", evicted.storageId());
+        }
     }
 
     /**
-     * Stores the data reference with its creation date.
+     * Overwritten and evicted references stay in the expiration queue until they expire.
+     * The queue is rebuilt from the stored references once it holds twice as many entries.
      */
-    @lombok.Value
-    private static final class ExpiringContainer {
-        private final Instant creationTimestamp;
-        private final EndpointDataReference dataReference;
+    private void compactExpirationQueue() {
+        if (expirationQueue.size() > 2 * maxSize) {
+            expirationQueue.clear();
+            expirationQueue.addAll(storageMap.values());
+        }
     }
 
-}
+    /**
+     * Stores the data reference with its storage expiration.
+     *
+     * @param storageId  the assetId or contractAgreementId
+     * @param expiration the time after which the reference is removed
+     * @param reference  the stored reference
+     */
+    private record ExpiringContainer(String storageId, Instant expiration, StoredEndpointDataReference reference) {
+    }
 
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import java.util.Optional;
+
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.model.StoredEndpointDataReference;
+
+/**
+ * Store for endpoint data references, keyed either by assetId or contractAgreementId.
+ * {@link EndpointDataReferenceStorage} keeps the references in memory of the IRS instance,
+ * {@link SharedEndpointDataReferenceStore} shares them between all IRS instances.
+ */
+public interface EndpointDataReferenceStore {
+
+    void put(String storageId, EndpointDataReference dataReference);
+
+    /**
+     * Returns the stored reference together with its decoded token expiration.
+     *
+     * @param storageId the assetId or contractAgreementId
+     * @return the stored reference, empty if there is none
+     */
+    Optional<StoredEndpointDataReference> getStored(String storageId);
+
+    default Optional<EndpointDataReference> get(final String storageId) {
+        return getStored(storageId).map(StoredEndpointDataReference::dataReference);
+    }
+}
@@ -0,0 +1,127 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.eclipse.tractusx.irs.edc.client.util.Masker;
+import org.springframework.stereotype.Service;
+
+/**
+ * Coalesces concurrent negotiations for the same asset of the same provider, so all callers share
+ * the endpoint data reference of a single in-flight negotiation instead of each starting its own
+ * catalog request, contract negotiation and transfer process.
+ */
+@Slf4j
+@Service("irsEdcClientNegotiationCoalescer")
+public class NegotiationCoalescer implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "edc.negotiation";
+
+    private final ConcurrentMap<NegotiationKey, CompletableFuture<EndpointDataReference>> inFlightNegotiations =
+            new ConcurrentHashMap<>();
+    private final AtomicLong startedNegotiations = new AtomicLong();
+    private final AtomicLong deduplicatedNegotiations = new AtomicLong();
+
+    /**
+     * Returns the in-flight negotiation for the asset if there is one, otherwise starts the
+     * negotiation. The negotiation is started on the calling thread; if starting it fails, the
+     * exception is thrown to this caller and all callers which joined in the meantime receive a
+     * failed future.
+     *
+     * @param connectorEndpoint the EDC connector of the provider
+     * @param assetId           the asset to negotiate
+     * @param bpn               the BPN of the provider
+     * @param negotiation       starts the negotiation and returns its endpoint data reference
+     * @return the endpoint data reference of the shared negotiation
+     * @throws EdcClientException if starting the negotiation failed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public CompletableFuture<EndpointDataReference> coalesce(final String connectorEndpoint, final String assetId,
+            final String bpn, final NegotiationStarter negotiation) throws EdcClientException {
+        final NegotiationKey key = new NegotiationKey(connectorEndpoint, assetId, bpn);
+        final CompletableFuture<EndpointDataReference> shared = new CompletableFuture<>();
+        final CompletableFuture<EndpointDataReference> inFlight = inFlightNegotiations.putIfAbsent(key, shared);
+        if (inFlight != null) {
+            deduplicatedNegotiations.incrementAndGet();
+            log.info("Joining in-flight negotiation for asset id {}", Masker.mask(assetId));
+            return inFlight;
+        }
+
+        startedNegotiations.incrementAndGet();
+        final CompletableFuture<EndpointDataReference> started;
+        try {
+            started = negotiation.start();
+        } catch (EdcClientException | RuntimeException e) {
+            inFlightNegotiations.remove(key, shared);
+            shared.completeExceptionally(e);
+            throw e;
+        }
+        started.whenComplete((dataReference, throwable) -> {
+            inFlightNegotiations.remove(key, shared);
+            if (throwable == null) {
+                shared.complete(dataReference);
+            } else {
+                shared.completeExceptionally(throwable);
+            }
+        });
+        return shared;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", startedNegotiations, AtomicLong::get)
+                       .description("Number of requested endpoint data reference negotiations")
+                       .tag("result", "started")
+                       .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", deduplicatedNegotiations, AtomicLong::get)
+                       .description("Number of requested endpoint data reference negotiations")
+                       .tag("result", "deduplicated")
+                       .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".inflight", inFlightNegotiations, ConcurrentMap::size)
+             .description("Number of in-flight endpoint data reference negotiations")
+             .register(registry);
+    }
+
+    /**
+     * Starts a negotiation.
+     */
+    @FunctionalInterface
+    public interface NegotiationStarter {
+        CompletableFuture<EndpointDataReference> start() throws EdcClientException;
+    }
+
+    private record NegotiationKey(String connectorEndpoint, String assetId, String bpn) {
+    }
+}
@@ -28,9 +28,11 @@ import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import lombok.Builder;
@@ -50,6 +52,13 @@ public class PollingJob<T> {
     private Supplier<Optional<T>> action;
     private String description;
     private Duration pollInterval;
+    /**
+     * Optional upper bound of the poll interval. If set together with a backoff multiplier greater
+     * than one, the interval starts at the poll interval and grows by the multiplier after every
+     * unsuccessful poll.
+     */
+    private Duration maxPollInterval;
+    private double backoffMultiplier;
 
     public CompletableFuture<T> schedule() {
         enforceRequiredParameters();
@@ -61,6 +70,15 @@ public class PollingJob<T> {
         final Runnable actionWithTimeoutAndErrorHandling = wrapWithErrorHandler(wrapWithTimeout(actionToUse),
                 completableFuture);
 
+        if (isAdaptive()) {
+            final AtomicReference<Future<?>> nextPoll = new AtomicReference<>();
+            completableFuture.whenComplete((result, thrown) -> Optional.ofNullable(nextPoll.get())
+                                                                       .ifPresent(poll -> poll.cancel(true)));
+            scheduleAdaptive(actionWithTimeoutAndErrorHandling, completableFuture, Duration.ZERO, pollInterval,
+                    nextPoll);
+            return completableFuture;
+        }
+
         final ScheduledFuture<?> scheduledFuture = scheduler.scheduleWithFixedDelay(actionWithTimeoutAndErrorHandling,
                 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
 
@@ -70,6 +88,35 @@ public class PollingJob<T> {
 
     }
 
+    private boolean isAdaptive() {
+        return maxPollInterval != null && maxPollInterval.compareTo(pollInterval) > 0 && backoffMultiplier > 1;
+    }
+
+    /**
+     * Schedules a single poll. The next poll is only scheduled after this one has finished without
+     * a result, so the delay between two polls grows independently of how long the poll itself
+     * takes.
+     */
+    private void scheduleAdaptive(final Runnable action, final CompletableFuture<T> completableFuture,
+            final Duration delay, final Duration nextInterval, final AtomicReference<Future<?>> nextPoll) {
+        final Runnable poll = () -> {
+            action.run();
+            if (!completableFuture.isDone()) {
+                scheduleAdaptive(action, completableFuture, nextInterval, increase(nextInterval), nextPoll);
+            }
+        };
+        nextPoll.set(scheduler.schedule(wrapWithErrorHandler(poll, completableFuture), delay.toMillis(),
+                TimeUnit.MILLISECONDS));
+        if (completableFuture.isDone()) {
+            nextPoll.get().cancel(true);
+        }
+    }
+
+    private Duration increase(final Duration interval) {
+        final long increased = (long) (interval.toMillis() * backoffMultiplier);
+        return Duration.ofMillis(Math.min(increased, maxPollInterval.toMillis()));
+    }
+
     private Runnable wrapWithErrorHandler(final Runnable action, final CompletableFuture<T> completableFuture) {
         return RunnableDecorator.withErrorHandler(action, completableFuture::completeExceptionally);
     }
@@ -0,0 +1,219 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.data.JsonParseException;
+import org.eclipse.tractusx.irs.data.StringMapper;
+import org.eclipse.tractusx.irs.edc.client.configuration.EndpointDataReferenceBlobstoreConfiguration;
+import org.eclipse.tractusx.irs.edc.client.configuration.EndpointDataReferenceStoreConfiguration;
+import org.eclipse.tractusx.irs.edc.client.model.StoredEndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.util.Masker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Endpoint data reference store shared between all IRS instances through a blob store, so a
+ * contract negotiated by one instance is reused by the others. References are kept in the blob
+ * store until their token expires, references without token until the storage duration of the local
+ * storage passed. Expired references are deleted from the blob store when read and by a periodic
+ * cleanup. The in-memory {@link EndpointDataReferenceStorage} is used as near cache.
+ * <p>
+ * References are encrypted by the {@link EndpointDataReferenceCipher} before they are written to the
+ * blob store, so the tokens are never stored in plaintext. All IRS instances sharing the blob store
+ * must use the same key.
+ * References missing in the blob store are not read again for a short time, so polling for a
+ * reference does not read the blob store on every attempt.
+ */
+@Slf4j
+@Primary
+@Service("irsEdcClientSharedEndpointDataReferenceStore")
+@ConditionalOnProperty(prefix = "irs-edc-client.controlplane.datareference.storage", name = "type",
+                       havingValue = "blob")
+public class SharedEndpointDataReferenceStore implements EndpointDataReferenceStore {
+
+    /* package */ static final String BLOB_PREFIX = "edr-";
+
+    private final EndpointDataReferenceStorage localStorage;
+    private final BlobPersistence blobStore;
+    private final EndpointDataReferenceCipher cipher;
+    private final Duration missCacheDuration;
+    private final Clock clock;
+    private final Map<String, Instant> remoteMisses = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SharedEndpointDataReferenceStore(final EndpointDataReferenceStorage localStorage,
+            @Qualifier(EndpointDataReferenceStoreConfiguration.EDR_BLOB_PERSISTENCE) final BlobPersistence blobStore,
+            final EndpointDataReferenceBlobstoreConfiguration config,
+            @Value("${irs-edc-client.controlplane.datareference.storage.miss-cache-duration:PT5S}") final Duration missCacheDuration) {
+        this(localStorage, blobStore, EndpointDataReferenceCipher.fromKey(config.getEncryptionKey()),
+                missCacheDuration, Clock.systemUTC());
+    }
+
+    /* package */ SharedEndpointDataReferenceStore(final EndpointDataReferenceStorage localStorage,
+            final BlobPersistence blobStore, final EndpointDataReferenceCipher cipher, final Duration missCacheDuration,
+            final Clock clock) {
+        this.localStorage = localStorage;
+        this.blobStore = blobStore;
+        this.cipher = cipher;
+        this.missCacheDuration = missCacheDuration;
+        this.clock = clock;
+    }
+
+    @Override
+    public void put(final String storageId, final EndpointDataReference dataReference) {
+        localStorage.put(storageId, dataReference);
+        remoteMisses.remove(storageId);
+        final Instant tokenExpiration = StoredEndpointDataReference.from(dataReference).tokenExpiration();
+        final Instant expiration = tokenExpiration == null
+                ? clock.instant().plus(localStorage.getStorageDuration())
+                : tokenExpiration;
+        try {
+            final SharedEntry entry = new SharedEntry(cipher.encrypt(storageId, dataReference), expiration);
+            blobStore.putBlob(blobName(storageId), StringMapper.mapToString(entry).getBytes(StandardCharsets.UTF_8));
+        } catch (final BlobPersistenceException | GeneralSecurityException e) {
+            log.warn("Could not share endpoint data reference for {}, it is only stored locally",
+                    Masker.mask(storageId), e);
+        }
+    }
+
+    /**
+     * Returns the locally stored reference if its token is still valid. Otherwise, the reference is
+     * read from the blob store, because another IRS instance may have negotiated it in the
+     * meantime, unless the blob store did not hold it a moment ago.
+     *
+     * @param storageId the assetId or contractAgreementId
+     * @return the stored reference, empty if there is none
+     */
+    @Override
+    public Optional<StoredEndpointDataReference> getStored(final String storageId) {
+        final Instant now = clock.instant();
+        final Optional<StoredEndpointDataReference> local = localStorage.getStored(storageId);
+        if (local.isPresent() && !local.get().isTokenExpired(now)) {
+            return local;
+        }
+        if (isRecentRemoteMiss(storageId, now)) {
+            return local;
+        }
+
+        final Optional<SharedEntry> shared = readSharedEntry(storageId);
+        if (shared.isPresent() && now.isBefore(shared.get().expiration())) {
+            final Optional<EndpointDataReference> dataReference = cipher.decrypt(storageId,
+                    shared.get().dataReference());
+            if (dataReference.isPresent()) {
+                log.debug("Endpoint data reference for {} found in shared store", Masker.mask(storageId));
+                localStorage.put(storageId, dataReference.get());
+                return localStorage.getStored(storageId);
+            }
+        } else if (shared.isPresent()) {
+            deleteSharedEntry(blobName(storageId));
+        }
+        remoteMisses.put(storageId, now.plus(missCacheDuration));
+        return local;
+    }
+
+    /**
+     * Removes expired remote misses and deletes the expired references from the blob store.
+     */
+    @Scheduled(fixedDelayString = "${irs-edc-client.controlplane.datareference.storage.persistence.cleanup-interval:PT1H}")
+    public void cleanup() {
+        final Instant now = clock.instant();
+        remoteMisses.values().removeIf(until -> !now.isBefore(until));
+        try {
+            blobStore.getAllBlobs().forEach((blobName, blob) -> {
+                if (blobName.startsWith(BLOB_PREFIX) && isExpired(blob, now)) {
+                    deleteSharedEntry(blobName);
+                }
+            });
+        } catch (final BlobPersistenceException e) {
+            log.warn("Could not clean up shared endpoint data references", e);
+        }
+    }
+
+    private boolean isRecentRemoteMiss(final String storageId, final Instant now) {
+        final Instant until = remoteMisses.get(storageId);
+        return until != null && now.isBefore(until);
+    }
+
+    private static boolean isExpired(final byte[] blob, final Instant now) {
+        try {
+            return !now.isBefore(toSharedEntry(blob).expiration());
+        } catch (final JsonParseException e) {
+            return true;
+        }
+    }
+
+    private Optional<SharedEntry> readSharedEntry(final String storageId) {
+        try {
+            return blobStore.getBlob(blobName(storageId)).map(SharedEndpointDataReferenceStore::toSharedEntry);
+        } catch (final BlobPersistenceException | JsonParseException e) {
+            log.warn("Could not read shared endpoint data reference for {}", Masker.mask(storageId), e);
+            return Optional.empty();
+        }
+    }
+
+    private void deleteSharedEntry(final String blobName) {
+        try {
+            blobStore.delete(blobName, List.of());
+        } catch (final BlobPersistenceException e) {
+            log.warn("Could not delete expired shared endpoint data reference", e);
+        }
+    }
+
+    private static SharedEntry toSharedEntry(final byte[] blob) {
+        return StringMapper.mapFromString(new String(blob, StandardCharsets.UTF_8), SharedEntry.class);
+    }
+
+    private static String blobName(final String storageId) {
+        return BLOB_PREFIX + storageId;
+    }
+
+    /**
+     * Endpoint data reference as stored in the blob store.
+     *
+     * @param dataReference the encrypted endpoint data reference, Base64 encoded IV followed by the
+     *                      ciphertext
+     * @param expiration    the time after which the reference is no longer shared
+     */
+    /* package */ record SharedEntry(String dataReference, Instant expiration) {
+    }
+}
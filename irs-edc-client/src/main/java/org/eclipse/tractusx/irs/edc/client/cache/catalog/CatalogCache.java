@@ -0,0 +1,190 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.edc.client.EdcConfiguration;
+import org.eclipse.tractusx.irs.edc.client.EdcConfiguration.ControlplaneConfig.CatalogCacheConfig;
+import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache for the transformed catalog items of EDC providers, keyed by provider URL and catalog filter.
+ * Entries expire after the TTL configured for the provider, if the cache exceeds its maximum size,
+ * the least recently used entry is evicted.
+ */
+@Slf4j
+@Component("irsEdcClientCatalogCache")
+public class CatalogCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "edc.catalog.cache";
+
+    private final Lock lock = new ReentrantLock();
+    @SuppressWarnings("PMD.UseConcurrentHashMap") // guarded by the lock, access order is needed for the eviction
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final CatalogCacheConfig config;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public CatalogCache(final EdcConfiguration config) {
+        this(config.getControlplane().getCatalogCache(), Clock.systemUTC());
+    }
+
+    public CatalogCache(final CatalogCacheConfig config, final Clock clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached catalog items for the provider and filter, or loads and caches them.
+     * Empty catalogs are not cached, so newly offered assets are found on the next request.
+     *
+     * @param providerUrl the provider control plane URL
+     * @param filterKey   the catalog filter key
+     * @param filterValue the catalog filter value
+     * @param loader      requests and transforms the catalog
+     * @return the catalog items
+     */
+    public List<CatalogItem> get(final String providerUrl, final String filterKey, final String filterValue,
+            final Supplier<List<CatalogItem>> loader) {
+        final Duration ttl = config.getTtl(providerUrl);
+        if (ttl.isZero() || ttl.isNegative() || config.getMaxSize() <= 0) {
+            return loader.get();
+        }
+
+        final CacheKey key = new CacheKey(providerUrl, filterKey, filterValue);
+        final Instant now = clock.instant();
+        lock.lock();
+        try {
+            final CacheEntry entry = entries.get(key);
+            if (entry != null && now.isBefore(entry.expiration())) {
+                hits.incrementAndGet();
+                return entry.catalogItems();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.incrementAndGet();
+        final List<CatalogItem> catalogItems = loader.get();
+        if (!catalogItems.isEmpty()) {
+            put(key, new CacheEntry(List.copyOf(catalogItems), now.plus(ttl)));
+        }
+        return catalogItems;
+    }
+
+    /**
+     * Removes all cached catalogs of the provider, e.g. after a negotiation with this provider failed.
+     *
+     * @param providerUrl the provider control plane URL
+     */
+    public void invalidate(final String providerUrl) {
+        lock.lock();
+        try {
+            if (entries.keySet().removeIf(key -> key.providerUrl().equals(providerUrl))) {
+                log.info("Invalidated cached catalogs of provider {}", providerUrl);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                       .description("Number of catalog cache lookups")
+                       .tag("result", "hit")
+                       .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                       .description("Number of catalog cache lookups")
+                       .tag("result", "miss")
+                       .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                       .description("Number of catalogs evicted because the cache is full")
+                       .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, CatalogCache::hitRatio)
+             .description("Ratio of catalog cache lookups served from the cache")
+             .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, CatalogCache::size)
+             .description("Number of cached catalogs")
+             .register(registry);
+    }
+
+    private double hitRatio() {
+        final long hitCount = hits.get();
+        final long requestCount = hitCount + misses.get();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    private void put(final CacheKey key, final CacheEntry entry) {
+        lock.lock();
+        try {
+            entries.put(key, entry);
+            final Iterator<CacheEntry> leastRecentlyUsed = entries.values().iterator();
+            while (entries.size() > config.getMaxSize() && leastRecentlyUsed.hasNext()) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record CacheKey(String providerUrl, String filterKey, String filterValue) {
+    }
+
+    private record CacheEntry(List<CatalogItem> catalogItems, Instant expiration) {
+    }
+}
@@ -29,10 +29,9 @@ import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
-import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStore;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus.TokenStatus;
-import org.eclipse.tractusx.irs.edc.client.model.EDRAuthCode;
-import org.jetbrains.annotations.NotNull;
+import org.eclipse.tractusx.irs.edc.client.model.StoredEndpointDataReference;
 import org.springframework.stereotype.Service;
 
 /**
@@ -44,14 +43,14 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EndpointDataReferenceCacheService {
 
-    private final EndpointDataReferenceStorage endpointDataReferenceStorage;
+    private final EndpointDataReferenceStore endpointDataReferenceStorage;
 
     /**
      * Returns {@link org.eclipse.edc.spi.types.domain.edr.EndpointDataReference}
-     * for assetId from {@link org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage}
+     * for assetId from {@link org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStore}
      *
      * @param assetId key for
-     *                {@link org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage}
+     *                {@link org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStore}
      * @return {@link org.eclipse.edc.spi.types.domain.edr.EndpointDataReference}
      * and {@link EndpointDataReferenceStatus.TokenStatus}
      * describing token status
@@ -59,21 +58,19 @@ public class EndpointDataReferenceCacheService {
     public EndpointDataReferenceStatus getEndpointDataReference(final String assetId) {
 
         log.info("Retrieving dataReference from storage for assetId {}", assetId);
-        final Optional<EndpointDataReference> endpointDataReferenceOptional = endpointDataReferenceStorage.get(assetId);
+        final Optional<StoredEndpointDataReference> storedReference = endpointDataReferenceStorage.getStored(
+                assetId);
 
-        if (endpointDataReferenceOptional.isPresent()) {
-            final String authCode = endpointDataReferenceOptional.get().getAuthCode();
-            if (authCode != null) {
-                final EndpointDataReference endpointDataReference = endpointDataReferenceOptional.get();
-                if (isTokenExpired(authCode)) {
-                    log.info("Endpoint data reference with expired token and id: {} for assetId: {} found in storage.",
-                            endpointDataReference.getId(), assetId);
-                    return new EndpointDataReferenceStatus(endpointDataReference, TokenStatus.EXPIRED);
-                } else {
-                    log.info("Endpoint data reference with id: {} for assetId: {} found in storage.",
-                            endpointDataReference.getId(), assetId);
-                    return new EndpointDataReferenceStatus(endpointDataReference, TokenStatus.VALID);
-                }
+        if (storedReference.isPresent() && storedReference.get().hasToken()) {
+            final EndpointDataReference endpointDataReference = storedReference.get().dataReference();
+            if (storedReference.get().isTokenExpired(Instant.now())) {
+                log.info("Endpoint data reference with expired token and id: {} for assetId: {} found in storage.",
+                        endpointDataReference.getId(), assetId);
+                return new EndpointDataReferenceStatus(endpointDataReference, TokenStatus.EXPIRED);
+            } else {
+                log.info("Endpoint data reference with id: {} for assetId: {} found in storage.",
+                        endpointDataReference.getId(), assetId);
+                return new EndpointDataReferenceStatus(endpointDataReference, TokenStatus.VALID);
             }
         }
 
@@ -90,15 +87,4 @@ public class EndpointDataReferenceCacheService {
         endpointDataReferenceStorage.put(assetId, endpointDataReference);
     }
 
-    private static boolean isTokenExpired(final @NotNull String authCode) {
-        final Instant tokenExpirationInstant = extractTokenExpiration(authCode);
-        return Instant.now().isAfter(tokenExpirationInstant);
-    }
-
-    private static Instant extractTokenExpiration(final String token) {
-        return Instant.ofEpochSecond(EDRAuthCode.fromAuthCodeToken(token).getExp());
-    }
-
 }
-
-
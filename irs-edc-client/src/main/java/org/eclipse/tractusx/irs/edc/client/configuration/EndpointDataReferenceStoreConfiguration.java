@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.configuration;
+
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.common.persistence.MinioBlobPersistence;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Config for the store of endpoint data references shared between IRS instances.
+ */
+@Configuration
+public class EndpointDataReferenceStoreConfiguration {
+
+    public static final String EDR_BLOB_PERSISTENCE = "EndpointDataReferencePersistence";
+
+    @Profile("!test")
+    @Bean(EDR_BLOB_PERSISTENCE)
+    @ConditionalOnProperty(prefix = "irs-edc-client.controlplane.datareference.storage", name = "type",
+                           havingValue = "blob")
+    public BlobPersistence endpointDataReferenceBlobStore(final EndpointDataReferenceBlobstoreConfiguration config)
+            throws BlobPersistenceException {
+        return new MinioBlobPersistence(config.getEndpoint(), config.getAccessKey(), config.getSecretKey(),
+                config.getBucketName(), config.getDaysToLive());
+    }
+}
@@ -0,0 +1,71 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.model;
+
+import java.time.Instant;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+
+/**
+ * A stored endpoint data reference together with the expiration of its token,
+ * which is decoded once when the reference is stored.
+ *
+ * @param dataReference   the endpoint data reference
+ * @param tokenExpiration the expiration of the auth code token, null if the reference has no auth
+ *                        code
+ */
+@Slf4j
+public record StoredEndpointDataReference(EndpointDataReference dataReference, Instant tokenExpiration) {
+
+    /**
+     * Decodes the token expiration of the data reference. An auth code which cannot be decoded is
+     * treated as expired, so a new data reference will be negotiated.
+     *
+     * @param dataReference the endpoint data reference
+     * @return the stored endpoint data reference
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public static StoredEndpointDataReference from(final EndpointDataReference dataReference) {
+        final String authCode = dataReference.getAuthCode();
+        if (authCode == null) {
+            return new StoredEndpointDataReference(dataReference, null);
+        }
+        try {
+            return new StoredEndpointDataReference(dataReference,
+                    Instant.ofEpochSecond(EDRAuthCode.fromAuthCodeToken(authCode).getExp()));
+        } catch (final RuntimeException e) {
+            log.warn("Unable to decode auth code of endpoint data reference with id {}", dataReference.getId(), e);
+            return new StoredEndpointDataReference(dataReference, Instant.EPOCH);
+        }
+    }
+
+    public boolean hasToken() {
+        return tokenExpiration != null;
+    }
+
+    public boolean isTokenExpired(final Instant now) {
+        return hasToken() && now.isAfter(tokenExpiration);
+    }
+}
@@ -0,0 +1,165 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.policy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.OrConstraint;
+
+/**
+ * Accepted policy compiled into hash sets of its constraints, so checking a catalog offer constraint
+ * is a set lookup per atomic constraint instead of a comparison with every accepted constraint.
+ */
+@Slf4j
+/* package */ final class AcceptedConstraintsMatcher {
+
+    private final List<ConstraintsIndex> permissions;
+
+    private AcceptedConstraintsMatcher(final List<ConstraintsIndex> permissions) {
+        this.permissions = permissions;
+    }
+
+    /**
+     * Compiles the constraints of all permissions of the accepted policy.
+     *
+     * @param acceptedPolicy the accepted policy
+     * @return the matcher
+     */
+    /* package */ static AcceptedConstraintsMatcher compile(final Policy acceptedPolicy) {
+        return new AcceptedConstraintsMatcher(acceptedPolicy.getPermissions()
+                                                            .stream()
+                                                            .map(Permission::getConstraint)
+                                                            .map(ConstraintsIndex::from)
+                                                            .toList());
+    }
+
+    /**
+     * Checks whether every constraint is accepted by at least one permission of the accepted policy.
+     *
+     * @param constraints the constraints of the catalog offer
+     * @return true if all constraints are accepted
+     */
+    /* package */ boolean hasAllConstraint(final List<Constraint> constraints) {
+        return constraints.stream().allMatch(this::isAccepted);
+    }
+
+    private boolean isAccepted(final Constraint constraint) {
+        for (final ConstraintsIndex permission : permissions) {
+            if (permission.accepts(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Key of an atomic constraint.
+     *
+     * @param leftOperand  the left operand
+     * @param operator     the operator
+     * @param rightOperand the right operand
+     */
+    private record ConstraintKey(String leftOperand, Operator operator, String rightOperand) {
+
+        /* package */ static Optional<ConstraintKey> from(final AtomicConstraint atomicConstraint) {
+            if (atomicConstraint.getLeftExpression() instanceof LiteralExpression left
+                    && atomicConstraint.getRightExpression() instanceof LiteralExpression right) {
+                return Optional.of(new ConstraintKey(left.asString(), atomicConstraint.getOperator(),
+                        right.asString()));
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The "and" and "or" constraints of a single permission.
+     *
+     * @param and keys of the "and" constraints
+     * @param or  keys of the "or" constraints
+     * @param any keys of all constraints
+     */
+    @SuppressWarnings("PMD.ShortVariable")
+    private record ConstraintsIndex(Set<ConstraintKey> and, Set<ConstraintKey> or, Set<ConstraintKey> any) {
+
+        /* package */ static ConstraintsIndex from(final Constraints constraints) {
+            final Set<ConstraintKey> and = toKeys(constraints == null ? null : constraints.getAnd());
+            final Set<ConstraintKey> or = toKeys(constraints == null ? null : constraints.getOr());
+            final Set<ConstraintKey> any = new HashSet<>(and);
+            any.addAll(or);
+            return new ConstraintsIndex(and, or, Set.copyOf(any));
+        }
+
+        /* package */ boolean accepts(final Constraint constraint) {
+            if (constraint instanceof AtomicConstraint atomicConstraint) {
+                return ConstraintKey.from(atomicConstraint).map(any::contains).orElse(false);
+            }
+            if (constraint instanceof AndConstraint andConstraint) {
+                return andConstraint.getConstraints().stream().allMatch(c -> isContained(c, and));
+            }
+            if (constraint instanceof OrConstraint orConstraint) {
+                return orConstraint.getConstraints().stream().anyMatch(c -> isContained(c, or));
+            }
+            return false;
+        }
+
+        private static boolean isContained(final Constraint constraint, final Set<ConstraintKey> keys) {
+            return constraint instanceof AtomicConstraint atomicConstraint && ConstraintKey.from(atomicConstraint)
+                                                                                           .map(keys::contains)
+                                                                                           .orElse(false);
+        }
+
+        private static Set<ConstraintKey> toKeys(
+                final List<org.eclipse.tractusx.irs.edc.client.policy.Constraint> acceptedConstraints) {
+            final Set<ConstraintKey> keys = new HashSet<>();
+            if (acceptedConstraints != null) {
+                acceptedConstraints.forEach(
+                        acceptedConstraint -> toOperator(acceptedConstraint).ifPresent(operator -> keys.add(
+                                new ConstraintKey(acceptedConstraint.getLeftOperand(), operator,
+                                        acceptedConstraint.getRightOperand()))));
+            }
+            return Set.copyOf(keys);
+        }
+
+        private static Optional<Operator> toOperator(
+                final org.eclipse.tractusx.irs.edc.client.policy.Constraint acceptedConstraint) {
+            final OperatorType operatorType = acceptedConstraint.getOperator().getOperatorType();
+            try {
+                return Optional.of(Operator.valueOf(operatorType.name()));
+            } catch (final IllegalArgumentException e) {
+                log.warn("Operator {} of accepted constraint {} is not supported for policy checks", operatorType,
+                        acceptedConstraint.getLeftOperand());
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -25,77 +25,29 @@ package org.eclipse.tractusx.irs.edc.client.policy;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.edc.policy.model.AndConstraint;
-import org.eclipse.edc.policy.model.AtomicConstraint;
 import org.eclipse.edc.policy.model.Constraint;
-import org.eclipse.edc.policy.model.Operator;
-import org.eclipse.edc.policy.model.OrConstraint;
 import org.springframework.stereotype.Service;
 
 /**
  * Check and validate Constraint from Policy in Catalog
  * fetch from EDC providers against accepted Policies.
+ * Accepted policies are compiled once into a {@link AcceptedConstraintsMatcher}, which is kept as
+ * long as the policy instance is in use.
  */
 @Slf4j
 @Service
 public class ConstraintCheckerService {
 
-    public boolean hasAllConstraint(final Policy acceptedPolicy, final List<Constraint> constraints) {
-        final List<Constraints> acceptedConstraintsList = acceptedPolicy.getPermissions()
-                                                                        .stream()
-                                                                        .map(Permission::getConstraint)
-                                                                        .toList();
-
-        return constraints.stream().allMatch(constraint -> isValidOnList(constraint, acceptedConstraintsList));
-    }
-
-    private boolean isValidOnList(final Constraint constraint, final List<Constraints> acceptedConstraintsList) {
-        return acceptedConstraintsList.stream()
-                                      .anyMatch(acceptedConstraints -> isSameAs(constraint, acceptedConstraints));
-    }
+    @SuppressWarnings("PMD.UseConcurrentHashMap") // the matchers must not keep outdated policies alive
+    private final Map<Policy, AcceptedConstraintsMatcher> matchers = Collections.synchronizedMap(new WeakHashMap<>());
 
-    private boolean isSameAs(final Constraint constraint, final Constraints acceptedConstraints) {
-        if (constraint instanceof AtomicConstraint atomicConstraint) {
-            return acceptedConstraints.getOr().stream().anyMatch(p -> isSameAs(atomicConstraint, p))
-                    || acceptedConstraints.getAnd().stream().anyMatch(p -> isSameAs(atomicConstraint, p));
-        }
-        if (constraint instanceof AndConstraint andConstraint) {
-            return andConstraint.getConstraints()
-                                .stream()
-                                .allMatch(constr -> isInList(constr, Optional.ofNullable(acceptedConstraints.getAnd())
-                                                                             .orElse(Collections.emptyList())));
-        }
-        if (constraint instanceof OrConstraint orConstraint) {
-            return orConstraint.getConstraints()
-                               .stream()
-                               .anyMatch(constr -> isInList(constr, Optional.ofNullable(acceptedConstraints.getOr())
-                                                                            .orElse(Collections.emptyList())));
-        }
-        return false;
-    }
-
-    private boolean isInList(final Constraint constraint,
-            final List<org.eclipse.tractusx.irs.edc.client.policy.Constraint> acceptedConstraints) {
-        if (constraint instanceof AtomicConstraint atomicConstraint) {
-            return acceptedConstraints.stream().anyMatch(ac -> isSameAs(atomicConstraint, ac));
-        } else {
-            return false;
-        }
-    }
-
-    private boolean isSameAs(final AtomicConstraint atomicConstraint,
-            final org.eclipse.tractusx.irs.edc.client.policy.Constraint acceptedConstraint) {
-        return AtomicConstraintValidator.builder()
-                                        .atomicConstraint(atomicConstraint)
-                                        .leftExpressionValue(acceptedConstraint.getLeftOperand())
-                                        .rightExpressionValue(acceptedConstraint.getRightOperand())
-                                        .expectedOperator(Operator.valueOf(
-                                                acceptedConstraint.getOperator().getOperatorType().name()))
-                                        .build()
-                                        .isValid();
+    public boolean hasAllConstraint(final Policy acceptedPolicy, final List<Constraint> constraints) {
+        return matchers.computeIfAbsent(acceptedPolicy, AcceptedConstraintsMatcher::compile)
+                       .hasAllConstraint(constraints);
     }
 
 }
@@ -29,7 +29,6 @@ import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
 import java.util.Map;
 
-import com.apicatalog.jsonld.document.JsonDocument;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.Json;
 import jakarta.json.JsonBuilderFactory;
@@ -140,14 +139,28 @@ public class EdcTransformer {
         typeTransformerRegistry.register(new JsonObjectFromDataAddressTransformer(jsonBuilderFactory));
     }
 
+    /**
+     * Transforms the JSON-LD catalog response. Catalogs with a plain prefix context, as sent by EDC
+     * providers, are expanded by {@link PrefixContextExpander}, all others by the full JSON-LD
+     * processor.
+     *
+     * @param jsonString the catalog response
+     * @param charset    the charset of the response
+     * @return the catalog
+     */
     public Catalog transformCatalog(final String jsonString, final Charset charset) {
-        final Result<JsonObject> expand;
+        final JsonObject catalog;
         try (JsonReader reader = Json.createReader(new ByteArrayInputStream(jsonString.getBytes(charset)))) {
-
-            expand = titaniumJsonLd.expand(
-                    JsonDocument.of(reader.read()).getJsonContent().orElseThrow().asJsonObject());
+            catalog = reader.readObject();
         }
-        return jsonObjectToCatalogTransformer.transform(expand.getContent(), transformerContext);
+        final JsonObject expanded = PrefixContextExpander.expand(catalog)
+                                                         .orElseGet(() -> expandFully(catalog));
+        return jsonObjectToCatalogTransformer.transform(expanded, transformerContext);
+    }
+
+    /* package */ JsonObject expandFully(final JsonObject jsonLd) {
+        final Result<JsonObject> expand = titaniumJsonLd.expand(jsonLd);
+        return expand.getContent();
     }
 
     public JsonObject transformNegotiationRequestToJson(final NegotiationRequest negotiationRequest) {
@@ -0,0 +1,230 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.transformer;
+
+import static org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration.NAMESPACE_EDC;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Expands JSON-LD documents whose context only defines namespace prefixes and optionally a
+ * vocabulary, which is the context used by EDC catalog responses. The result is the same as the
+ * JSON-LD expansion algorithm produces for such documents, but without its generic context
+ * processing. Documents using any other JSON-LD feature (remote contexts, expanded term
+ * definitions, value objects, lists, ...) are not supported and have to be expanded by a full
+ * JSON-LD processor.
+ */
+/* package */ final class PrefixContextExpander {
+
+    private static final String CONTEXT = "@context";
+    @SuppressWarnings("PMD.ShortVariable")
+    private static final String ID = "@id";
+    private static final String TYPE = "@type";
+    private static final String VALUE = "@value";
+    private static final String VOCAB = "@vocab";
+
+    /**
+     * The static factory methods of {@link Json} look up the JSON provider on every call.
+     */
+    private static final JsonBuilderFactory BUILDER_FACTORY = Json.createBuilderFactory(Map.of());
+
+    private final Map<String, String> prefixes;
+    private final String vocab;
+
+    private PrefixContextExpander(final Map<String, String> prefixes, final String vocab) {
+        this.prefixes = prefixes;
+        this.vocab = vocab;
+    }
+
+    /**
+     * Expands the document if its context is supported.
+     *
+     * @param document the compacted JSON-LD document
+     * @return the expanded document, empty if the document has to be expanded by a full JSON-LD
+     *         processor
+     */
+    /* package */ static Optional<JsonObject> expand(final JsonObject document) {
+        final JsonValue context = document.get(CONTEXT);
+        if (context == null || context.getValueType() != JsonValue.ValueType.OBJECT) {
+            return Optional.empty();
+        }
+        return fromContext(context.asJsonObject()).flatMap(expander -> expander.expandNode(document));
+    }
+
+    /**
+     * Like {@link org.eclipse.edc.jsonld.TitaniumJsonLd}, the EDC namespace is used as vocabulary
+     * if the context does not define one.
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    private static Optional<PrefixContextExpander> fromContext(final JsonObject context) {
+        final Map<String, String> prefixes = new HashMap<>();
+        String vocab = NAMESPACE_EDC;
+        for (final Map.Entry<String, JsonValue> definition : context.entrySet()) {
+            if (definition.getValue().getValueType() != JsonValue.ValueType.STRING) {
+                return Optional.empty();
+            }
+            final String iri = ((JsonString) definition.getValue()).getString();
+            if (!isNamespace(iri)) {
+                return Optional.empty();
+            }
+            if (VOCAB.equals(definition.getKey())) {
+                vocab = iri;
+            } else if (definition.getKey().startsWith("@") || definition.getKey().contains(":")) {
+                return Optional.empty();
+            } else {
+                prefixes.put(definition.getKey(), iri);
+            }
+        }
+        return Optional.of(new PrefixContextExpander(prefixes, vocab));
+    }
+
+    /**
+     * Only absolute IRIs ending with a delimiter can be used as prefix without further processing.
+     */
+    private static boolean isNamespace(final String iri) {
+        return iri.contains("://") && (iri.endsWith("/") || iri.endsWith("#"));
+    }
+
+    private Optional<JsonObject> expandNode(final JsonObject node) {
+        final JsonObjectBuilder builder = BUILDER_FACTORY.createObjectBuilder();
+        for (final Map.Entry<String, JsonValue> property : node.entrySet()) {
+            if (!CONTEXT.equals(property.getKey()) && !addProperty(builder, property.getKey(), property.getValue())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(builder.build());
+    }
+
+    /**
+     * Adds the expanded property to the node. Properties which do not expand to an IRI are dropped.
+     *
+     * @param builder the builder of the expanded node
+     * @param key     the compacted property key
+     * @param value   the compacted property value
+     * @return false if the property is not supported
+     */
+    private boolean addProperty(final JsonObjectBuilder builder, final String key, final JsonValue value) {
+        if (ID.equals(key)) {
+            if (value.getValueType() != JsonValue.ValueType.STRING) {
+                return false;
+            }
+            builder.add(ID, expandIri(((JsonString) value).getString(), false));
+            return true;
+        }
+        if (TYPE.equals(key)) {
+            final Optional<JsonArray> types = expandTypes(value);
+            types.ifPresent(expandedTypes -> builder.add(TYPE, expandedTypes));
+            return types.isPresent();
+        }
+        if (key.startsWith("@")) {
+            return false;
+        }
+        final String expandedKey = expandIri(key, true);
+        if (expandedKey.contains(":") && value.getValueType() != JsonValue.ValueType.NULL) {
+            final JsonArrayBuilder values = BUILDER_FACTORY.createArrayBuilder();
+            if (!addValues(values, value)) {
+                return false;
+            }
+            builder.add(expandedKey, values);
+        }
+        return true;
+    }
+
+    private Optional<JsonArray> expandTypes(final JsonValue value) {
+        final JsonArrayBuilder types = BUILDER_FACTORY.createArrayBuilder();
+        if (value.getValueType() == JsonValue.ValueType.STRING) {
+            types.add(expandIri(((JsonString) value).getString(), true));
+        } else if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+            for (final JsonValue type : value.asJsonArray()) {
+                if (type.getValueType() != JsonValue.ValueType.STRING) {
+                    return Optional.empty();
+                }
+                types.add(expandIri(((JsonString) type).getString(), true));
+            }
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(types.build());
+    }
+
+    private boolean addValues(final JsonArrayBuilder values, final JsonValue value) {
+        switch (value.getValueType()) {
+            case NULL -> {
+                return true;
+            }
+            case ARRAY -> {
+                for (final JsonValue element : value.asJsonArray()) {
+                    if (!addValues(values, element)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            case OBJECT -> {
+                final JsonObject object = value.asJsonObject();
+                if (object.containsKey(CONTEXT) || object.containsKey(VALUE)) {
+                    return false;
+                }
+                final Optional<JsonObject> node = expandNode(object);
+                node.ifPresent(values::add);
+                return node.isPresent();
+            }
+            default -> {
+                values.add(BUILDER_FACTORY.createObjectBuilder().add(VALUE, value));
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Expands compact IRIs using the prefixes. Vocabulary relative IRIs (keys and types) are
+     * additionally expanded by term and by the vocabulary.
+     */
+    private String expandIri(final String value, final boolean vocabRelative) {
+        if (vocabRelative && prefixes.containsKey(value)) {
+            return prefixes.get(value);
+        }
+        final int colon = value.indexOf(':');
+        if (colon > 0) {
+            final String suffix = value.substring(colon + 1);
+            final String namespace = prefixes.get(value.substring(0, colon));
+            if (namespace != null && !suffix.startsWith("//")) {
+                return namespace + suffix;
+            }
+            return value;
+        }
+        return vocabRelative ? vocab + value : value;
+    }
+}
@@ -30,7 +30,11 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
@@ -66,6 +70,9 @@ class ContractNegotiationServiceTest {
 
     @Mock
     private PolicyCheckerService policyCheckerService;
+    @Spy
+    private AsyncPollingService pollingService = new AsyncPollingService(Clock.systemUTC(),
+            Executors.newSingleThreadScheduledExecutor());
 
     private static Policy createPolicy(final String assetId) {
         final Permission permission = Permission.Builder.newInstance().target(assetId).build();
@@ -104,6 +111,37 @@ class ContractNegotiationServiceTest {
         assertThat(result.getContractAgreementId()).isEqualTo("agreementId");
     }
 
+    @Test
+    void shouldNotBlockWhileNegotiationIsPending() throws UsagePolicyException {
+        // arrange
+        final CatalogItem catalogItem = createCatalogItem("testTarget", "offerId");
+        when(policyCheckerService.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(edcControlPlaneClient.startNegotiations(any())).thenReturn(
+                Response.builder().responseId("negotiationId").build());
+        final CompletableFuture<NegotiationResponse> pendingNegotiation = new CompletableFuture<>();
+        when(edcControlPlaneClient.getNegotiationResult(any())).thenReturn(pendingNegotiation);
+        final AtomicReference<Thread> transferProcessThread = new AtomicReference<>();
+        when(edcControlPlaneClient.startTransferProcess(any())).thenAnswer(invocation -> {
+            transferProcessThread.set(Thread.currentThread());
+            return Response.builder().responseId("transferProcessId").build();
+        });
+        when(edcControlPlaneClient.getTransferProcess(any())).thenReturn(
+                CompletableFuture.completedFuture(TransferProcessResponse.builder().build()));
+
+        // act
+        final CompletableFuture<NegotiationResponse> result = testee.negotiateAsync(CONNECTOR_URL, catalogItem,
+                new EndpointDataReferenceStatus(null, EndpointDataReferenceStatus.TokenStatus.REQUIRED_NEW), "bpn");
+
+        // assert
+        assertThat(result).isNotDone();
+        verify(edcControlPlaneClient, never()).startTransferProcess(any());
+
+        pendingNegotiation.complete(NegotiationResponse.builder().contractAgreementId("agreementId").build());
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                          .matches(response -> "agreementId".equals(response.getContractAgreementId()));
+        assertThat(transferProcessThread.get()).isNotSameAs(Thread.currentThread());
+    }
+
     @Test
     void shouldThrowErrorWhenRetrievingNegotiationResult() {
         // arrange
@@ -35,6 +35,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 
+import org.eclipse.tractusx.irs.edc.client.cache.catalog.CatalogCache;
 import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,7 +53,7 @@ class EDCCatalogFacadeTest {
     void setUp() {
         controlPlaneClient = mock(EdcControlPlaneClient.class);
         edcConfig.getControlplane().setCatalogPageSize(DEFAULT_PAGE_SIZE);
-        edcCatalogFacade = new EDCCatalogFacade(controlPlaneClient, edcConfig);
+        edcCatalogFacade = new EDCCatalogFacade(controlPlaneClient, edcConfig, new CatalogCache(edcConfig));
     }
 
     @Test
@@ -110,4 +111,36 @@ class EDCCatalogFacadeTest {
         verify(controlPlaneClient, times(1)).getCatalog(any(), anyInt());
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldServeRepeatedFilterRequestsFromCache() {
+        // arrange
+        final String connectorUrl = "testConnector";
+        when(controlPlaneClient.getCatalogWithFilter(connectorUrl, "key", "value")).thenReturn(
+                createCatalog("asset", 1));
+
+        // act
+        final List<CatalogItem> first = edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "key", "value");
+        final List<CatalogItem> second = edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "key", "value");
+
+        // assert
+        assertThat(second).isEqualTo(first).hasSize(1);
+        verify(controlPlaneClient, times(1)).getCatalogWithFilter(any(), any(), any());
+    }
+
+    @Test
+    void shouldRequestCatalogAgainAfterInvalidation() {
+        // arrange
+        final String connectorUrl = "testConnector";
+        when(controlPlaneClient.getCatalogWithFilter(connectorUrl, "key", "value")).thenReturn(
+                createCatalog("asset", 1));
+        edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "key", "value");
+
+        // act
+        edcCatalogFacade.invalidateCatalogs(connectorUrl);
+        edcCatalogFacade.fetchCatalogByFilter(connectorUrl, "key", "value");
+
+        // assert
+        verify(controlPlaneClient, times(2)).getCatalogWithFilter(any(), any(), any());
+    }
+
+}
@@ -32,7 +32,8 @@ import org.junit.jupiter.api.Test;
 
 class EdcCallbackControllerTest {
 
-    private final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1));
+    private final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1),
+            100);
     private final EdcCallbackController testee = new EdcCallbackController(storage);
 
     @Test
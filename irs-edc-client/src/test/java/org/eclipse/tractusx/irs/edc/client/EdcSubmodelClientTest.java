@@ -127,7 +127,7 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         when(config.getSubmodel().getRequestTtl()).thenReturn(Duration.ofMinutes(10));
 
         testee = new EdcSubmodelClientImpl(config, contractNegotiationService, edcDataPlaneClient, pollingService,
-                retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                retryRegistry, catalogFacade, endpointDataReferenceCacheService, new NegotiationCoalescer());
     }
 
     @Test
@@ -393,9 +393,10 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         final String agreementId = "agreementId";
         when(catalogFacade.fetchCatalogByFilter(any(), any(), any())).thenReturn(
                 List.of(CatalogItem.builder().itemId("asset-id").build()));
-        when(contractNegotiationService.negotiate(any(), any(),
+        when(contractNegotiationService.negotiateAsync(any(), any(),
                 eq(new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW)), any())).thenReturn(
-                NegotiationResponse.builder().contractAgreementId(agreementId).build());
+                CompletableFuture.completedFuture(
+                        NegotiationResponse.builder().contractAgreementId(agreementId).build()));
         final EndpointDataReference expected = mock(EndpointDataReference.class);
         when(endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(agreementId)).thenReturn(
                 Optional.ofNullable(expected));
@@ -420,9 +421,10 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         when(config.getControlplane().getProviderSuffix()).thenReturn(PROVIDER_SUFFIX);
         when(catalogFacade.fetchCatalogByFilter(any(), any(), any())).thenReturn(
                 List.of(CatalogItem.builder().itemId("asset-id").build()));
-        when(contractNegotiationService.negotiate(any(), any(),
-                eq(new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW)), any())).thenThrow(
-                new ContractNegotiationException(new RuntimeException("contract negotiation failed")));
+        when(contractNegotiationService.negotiateAsync(any(), any(),
+                eq(new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW)), any())).thenReturn(
+                CompletableFuture.failedFuture(
+                        new ContractNegotiationException(new RuntimeException("contract negotiation failed"))));
 
         // act & assert
         try {
@@ -446,9 +448,10 @@ class EdcSubmodelClientTest extends LocalTestDataConfigurationAware {
         final String agreementId = "agreementId";
         when(catalogFacade.fetchCatalogByFilter(any(), any(), any())).thenReturn(
                 List.of(CatalogItem.builder().itemId("asset-id").build()));
-        when(contractNegotiationService.negotiate(any(), any(),
+        when(contractNegotiationService.negotiateAsync(any(), any(),
                 eq(new EndpointDataReferenceStatus(null, TokenStatus.REQUIRED_NEW)), any())).thenReturn(
-                NegotiationResponse.builder().contractAgreementId(agreementId).build());
+                CompletableFuture.completedFuture(
+                        NegotiationResponse.builder().contractAgreementId(agreementId).build()));
         final EndpointDataReference expected = mock(EndpointDataReference.class);
         when(endpointDataReferenceCacheService.getEndpointDataReferenceFromStorage(agreementId)).thenReturn(
                 Optional.ofNullable(expected));
@@ -0,0 +1,176 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.junit.jupiter.api.Test;
+
+class EndpointDataReferenceStorageTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2023-11-01T10:00:00Z"));
+    private final EndpointDataReferenceStorage storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1), 2,
+            clock);
+
+    @Test
+    void shouldReturnStoredReference() {
+        // arrange
+        final EndpointDataReference reference = reference("1");
+
+        // act
+        storage.put("assetId", reference);
+
+        // assert
+        assertThat(storage.get("assetId")).contains(reference);
+        assertThat(storage.getStored("assetId")).hasValueSatisfying(
+                stored -> assertThat(stored.hasToken()).isFalse());
+    }
+
+    @Test
+    void shouldNotReturnReferenceAfterStorageDuration() {
+        // arrange
+        storage.put("assetId", reference("1"));
+
+        // act
+        clock.advance(Duration.ofMinutes(2));
+
+        // assert
+        assertThat(storage.get("assetId")).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveExpiredReferencesOnCleanup() {
+        // arrange
+        storage.put("first", reference("1"));
+        clock.advance(Duration.ofSeconds(30));
+        storage.put("second", reference("2"));
+
+        // act
+        clock.advance(Duration.ofSeconds(45));
+        storage.cleanup();
+
+        // assert
+        assertThat(storage.size()).isEqualTo(1);
+        assertThat(storage.get("second")).isPresent();
+    }
+
+    @Test
+    void shouldKeepOverwrittenReferenceUntilItsOwnExpiration() {
+        // arrange
+        storage.put("assetId", reference("1"));
+        clock.advance(Duration.ofSeconds(45));
+        final EndpointDataReference overwritten = reference("2");
+        storage.put("assetId", overwritten);
+
+        // act
+        clock.advance(Duration.ofSeconds(30));
+        storage.cleanup();
+
+        // assert
+        assertThat(storage.get("assetId")).contains(overwritten);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedReferenceWhenFull() {
+        // arrange
+        storage.put("first", reference("1"));
+        storage.put("second", reference("2"));
+        storage.get("first");
+
+        // act
+        storage.put("third", reference("3"));
+
+        // assert
+        assertThat(storage.size()).isEqualTo(2);
+        assertThat(storage.get("second")).isEmpty();
+        assertThat(storage.get("first")).isPresent();
+        assertThat(storage.get("third")).isPresent();
+    }
+
+    @Test
+    void shouldRecordMetrics() {
+        // arrange
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        storage.bindTo(registry);
+        storage.put("first", reference("1"));
+        storage.put("second", reference("2"));
+        storage.put("third", reference("3"));
+
+        // act
+        storage.get("third");
+        storage.get("first");
+
+        // assert
+        assertThat(registry.get("edc.edr.storage.requests").tag("result", "hit").functionCounter().count()).isEqualTo(
+                1);
+        assertThat(registry.get("edc.edr.storage.requests").tag("result", "miss").functionCounter().count()).isEqualTo(
+                1);
+        assertThat(registry.get("edc.edr.storage.evictions").tag("cause", "size").functionCounter().count()).isEqualTo(
+                1);
+        assertThat(registry.get("edc.edr.storage.size").gauge().value()).isEqualTo(2);
+    }
+
+    private static EndpointDataReference reference(final String id) {
+        return EndpointDataReference.Builder.newInstance().id(id).endpoint("test").build();
+    }
+
+    /**
+     * Clock which can be advanced manually.
+     */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
+import org.junit.jupiter.api.Test;
+
+class NegotiationCoalescerTest {
+
+    private final NegotiationCoalescer testee = new NegotiationCoalescer();
+    private final AtomicInteger startedNegotiations = new AtomicInteger();
+
+    @Test
+    void shouldShareInFlightNegotiationForSameAsset() throws Exception {
+        // arrange
+        final CompletableFuture<EndpointDataReference> negotiation = new CompletableFuture<>();
+        final EndpointDataReference reference = reference();
+
+        // act
+        final var first = testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> start(negotiation));
+        final var second = testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> start(negotiation));
+        negotiation.complete(reference);
+
+        // assert
+        assertThat(startedNegotiations).hasValue(1);
+        assertThat(first.get()).isSameAs(reference);
+        assertThat(second.get()).isSameAs(reference);
+    }
+
+    @Test
+    void shouldNotShareNegotiationsOfDifferentProviders() throws EdcClientException {
+        // act
+        testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> start(new CompletableFuture<>()));
+        testee.coalesce("connector", "assetId", "BPNL00000000OTHR", () -> start(new CompletableFuture<>()));
+        testee.coalesce("otherConnector", "assetId", "BPNL00000000TEST", () -> start(new CompletableFuture<>()));
+
+        // assert
+        assertThat(startedNegotiations).hasValue(3);
+    }
+
+    @Test
+    void shouldStartNewNegotiationAfterCompletion() throws EdcClientException {
+        // arrange
+        testee.coalesce("connector", "assetId", "BPNL00000000TEST",
+                () -> start(CompletableFuture.failedFuture(new IllegalStateException("failed"))));
+
+        // act
+        testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> start(new CompletableFuture<>()));
+
+        // assert
+        assertThat(startedNegotiations).hasValue(2);
+    }
+
+    @Test
+    void shouldFailJoinedCallersWhenNegotiationCannotBeStarted() throws EdcClientException {
+        // arrange
+        final CompletableFuture<CompletableFuture<EndpointDataReference>> joined = new CompletableFuture<>();
+
+        // act
+        assertThatThrownBy(() -> testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> {
+            joined.complete(testee.coalesce("connector", "assetId", "BPNL00000000TEST",
+                    () -> start(new CompletableFuture<>())));
+            throw new EdcClientException("catalog is empty");
+        })).isInstanceOf(EdcClientException.class);
+
+        // assert
+        assertThat(joined.join()).isCompletedExceptionally();
+        testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> start(new CompletableFuture<>()));
+        assertThat(startedNegotiations).hasValue(1);
+    }
+
+    @Test
+    void shouldCountDeduplicatedNegotiations() throws EdcClientException {
+        // arrange
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        testee.bindTo(registry);
+
+        // act
+        for (int i = 0; i < 3; i++) {
+            testee.coalesce("connector", "assetId", "BPNL00000000TEST", () -> start(new CompletableFuture<>()));
+        }
+
+        // assert
+        assertThat(registry.get("edc.negotiation.requests").tag("result", "started").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("edc.negotiation.requests").tag("result", "deduplicated").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("edc.negotiation.inflight").gauge().value()).isEqualTo(1);
+    }
+
+    private CompletableFuture<EndpointDataReference> start(final CompletableFuture<EndpointDataReference> future) {
+        startedNegotiations.incrementAndGet();
+        return future;
+    }
+
+    private static EndpointDataReference reference() {
+        return EndpointDataReference.Builder.newInstance().endpoint("test").build();
+    }
+}
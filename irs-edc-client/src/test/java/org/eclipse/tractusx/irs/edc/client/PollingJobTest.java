@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.irs.common.util.concurrent.TimerWheelScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PollingJobTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "polling-executor"));
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunActionOnIoExecutorOfTimerWheel() throws Exception {
+        final TimerWheelScheduler timerWheel = new TimerWheelScheduler("polling", Duration.ofMillis(10), 64,
+                executor);
+        final AsyncPollingService pollingService = new AsyncPollingService(Clock.systemUTC(), timerWheel);
+        final AtomicInteger polls = new AtomicInteger();
+
+        try {
+            final String threadName = pollingService.<String>createJob()
+                                                    .action(() -> polls.incrementAndGet() < 3
+                                                            ? Optional.empty()
+                                                            : Optional.of(Thread.currentThread().getName()))
+                                                    .pollInterval(Duration.ofMillis(10))
+                                                    .build()
+                                                    .schedule()
+                                                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(threadName).isEqualTo("polling-executor");
+            assertThat(polls.get()).isEqualTo(3);
+            assertThat(pollingService.ioExecutor()).isSameAs(timerWheel);
+        } finally {
+            timerWheel.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldIncreasePollIntervalUpToMaximum() throws Exception {
+        final AsyncPollingService pollingService = new AsyncPollingService(Clock.systemUTC(), scheduler);
+        final List<Long> pollTimes = new CopyOnWriteArrayList<>();
+
+        final Integer result = pollingService.<Integer>createJob()
+                                             .action(() -> {
+                                                 pollTimes.add(System.nanoTime());
+                                                 return pollTimes.size() < 5
+                                                         ? Optional.empty()
+                                                         : Optional.of(pollTimes.size());
+                                             })
+                                             .pollInterval(Duration.ofMillis(20))
+                                             .maxPollInterval(Duration.ofMillis(80))
+                                             .backoffMultiplier(2)
+                                             .build()
+                                             .schedule()
+                                             .get(5, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo(5);
+        final List<Long> intervals = new ArrayList<>();
+        for (int i = 1; i < pollTimes.size(); i++) {
+            intervals.add(TimeUnit.NANOSECONDS.toMillis(pollTimes.get(i) - pollTimes.get(i - 1)));
+        }
+        // 20ms, 40ms, 80ms and then capped at 80ms
+        assertThat(intervals.get(0)).isGreaterThanOrEqualTo(20);
+        assertThat(intervals.get(1)).isGreaterThanOrEqualTo(40);
+        assertThat(intervals.get(2)).isGreaterThanOrEqualTo(80);
+        assertThat(intervals.get(3)).isGreaterThanOrEqualTo(80);
+    }
+}
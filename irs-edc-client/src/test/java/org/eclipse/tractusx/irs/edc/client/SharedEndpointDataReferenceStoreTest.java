@@ -0,0 +1,278 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistence;
+import org.eclipse.tractusx.irs.common.persistence.BlobPersistenceException;
+import org.eclipse.tractusx.irs.data.StringMapper;
+import org.junit.jupiter.api.Test;
+
+class SharedEndpointDataReferenceStoreTest {
+
+    private static final Instant NOW = Instant.parse("2023-11-23T12:00:00Z");
+    private static final String VALID_AUTH_CODE = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJleHAiOjk5OTk5OTk5OTksImNpZCI6InRlc3RJZCJ9.signature";
+    private static final String EXPIRED_AUTH_CODE = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJleHAiOjE2ODkwODA5OTEsImNpZCI6InRlc3RJZCJ9.signature";
+
+    private static final EndpointDataReferenceCipher CIPHER = EndpointDataReferenceCipher.fromKey(
+            Base64.getEncoder().encodeToString(new byte[32]));
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+
+    @Test
+    void shouldReuseReferenceStoredByOtherInstance() {
+        // arrange
+        final SharedEndpointDataReferenceStore instanceA = newInstance(blobStore);
+        final SharedEndpointDataReferenceStore instanceB = newInstance(blobStore);
+        final EndpointDataReference reference = reference("1", VALID_AUTH_CODE);
+
+        // act
+        instanceA.put("assetId", reference);
+        final Optional<EndpointDataReference> result = instanceB.get("assetId");
+
+        // assert
+        assertThat(result).hasValueSatisfying(stored -> {
+            assertThat(stored.getId()).isEqualTo("1");
+            assertThat(stored.getAuthCode()).isEqualTo(VALID_AUTH_CODE);
+        });
+    }
+
+    @Test
+    void shouldNotShareReferenceWithExpiredToken() {
+        // arrange
+        final SharedEndpointDataReferenceStore instanceA = newInstance(blobStore);
+        final SharedEndpointDataReferenceStore instanceB = newInstance(blobStore);
+
+        // act
+        instanceA.put("assetId", reference("1", EXPIRED_AUTH_CODE));
+
+        // assert
+        assertThat(instanceB.get("assetId")).isEmpty();
+        assertThat(instanceA.get("assetId")).isPresent();
+    }
+
+    @Test
+    void shouldPreferSharedReferenceOverLocalReferenceWithExpiredToken() {
+        // arrange
+        final SharedEndpointDataReferenceStore instanceA = newInstance(blobStore);
+        final SharedEndpointDataReferenceStore instanceB = newInstance(blobStore);
+        instanceA.put("assetId", reference("expired", EXPIRED_AUTH_CODE));
+
+        // act
+        instanceB.put("assetId", reference("refreshed", VALID_AUTH_CODE));
+
+        // assert
+        assertThat(instanceA.get("assetId")).hasValueSatisfying(
+                stored -> assertThat(stored.getId()).isEqualTo("refreshed"));
+    }
+
+    @Test
+    void shouldKeepReferenceLocallyWhenBlobStoreFails() throws BlobPersistenceException {
+        // arrange
+        final BlobPersistence failingBlobStore = mock(BlobPersistence.class);
+        doThrow(new BlobPersistenceException("test", new IllegalStateException())).when(failingBlobStore)
+                                                                                    .putBlob(anyString(), any());
+        when(failingBlobStore.getBlob(anyString())).thenThrow(
+                new BlobPersistenceException("test", new IllegalStateException()));
+        final SharedEndpointDataReferenceStore store = newInstance(failingBlobStore);
+
+        // act
+        store.put("assetId", reference("1", VALID_AUTH_CODE));
+
+        // assert
+        assertThat(store.get("assetId")).isPresent();
+        assertThat(store.get("otherAssetId")).isEmpty();
+    }
+
+    @Test
+    void shouldStoreReferenceWithTokenExpiration() throws BlobPersistenceException {
+        // arrange
+        final SharedEndpointDataReferenceStore store = newInstance(blobStore);
+
+        // act
+        store.put("assetId", reference("1", VALID_AUTH_CODE));
+
+        // assert
+        final byte[] blob = blobStore.getBlob(SharedEndpointDataReferenceStore.BLOB_PREFIX + "assetId").orElseThrow();
+        final var entry = StringMapper.mapFromString(new String(blob, StandardCharsets.UTF_8),
+                SharedEndpointDataReferenceStore.SharedEntry.class);
+        assertThat(entry.expiration()).isEqualTo(Instant.ofEpochSecond(9_999_999_999L));
+    }
+
+    @Test
+    void shouldNotStoreTokenInPlaintext() throws BlobPersistenceException {
+        // arrange
+        final SharedEndpointDataReferenceStore store = newInstance(blobStore);
+
+        // act
+        store.put("assetId", reference("1", VALID_AUTH_CODE));
+
+        // assert
+        final String blob = new String(
+                blobStore.getBlob(SharedEndpointDataReferenceStore.BLOB_PREFIX + "assetId").orElseThrow(),
+                StandardCharsets.UTF_8);
+        assertThat(blob).doesNotContain(VALID_AUTH_CODE).doesNotContain("Authorization");
+    }
+
+    @Test
+    void shouldNotReadReferenceEncryptedWithOtherKey() {
+        // arrange
+        final SharedEndpointDataReferenceStore instanceA = newInstance(blobStore);
+        final SharedEndpointDataReferenceStore instanceWithOtherKey = new SharedEndpointDataReferenceStore(
+                new EndpointDataReferenceStorage(Duration.ofMinutes(1), 100, clock), blobStore,
+                EndpointDataReferenceCipher.fromKey(Base64.getEncoder().encodeToString(new byte[16])),
+                Duration.ofSeconds(5), clock);
+
+        // act
+        instanceA.put("assetId", reference("1", VALID_AUTH_CODE));
+
+        // assert
+        assertThat(instanceWithOtherKey.get("assetId")).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteReferenceWithExpiredTokenWhenRead() throws BlobPersistenceException {
+        // arrange
+        final SharedEndpointDataReferenceStore instanceA = newInstance(blobStore);
+        final SharedEndpointDataReferenceStore instanceB = newInstance(blobStore);
+        instanceA.put("assetId", reference("1", EXPIRED_AUTH_CODE));
+
+        // act
+        instanceB.get("assetId");
+
+        // assert
+        assertThat(blobStore.getBlob(SharedEndpointDataReferenceStore.BLOB_PREFIX + "assetId")).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteReferencesWithExpiredTokenOnCleanup() throws BlobPersistenceException {
+        // arrange
+        final SharedEndpointDataReferenceStore store = newInstance(blobStore);
+        store.put("expired", reference("1", EXPIRED_AUTH_CODE));
+        store.put("valid", reference("2", VALID_AUTH_CODE));
+
+        // act
+        store.cleanup();
+
+        // assert
+        assertThat(blobStore.getBlob(SharedEndpointDataReferenceStore.BLOB_PREFIX + "expired")).isEmpty();
+        assertThat(blobStore.getBlob(SharedEndpointDataReferenceStore.BLOB_PREFIX + "valid")).isPresent();
+    }
+
+    @Test
+    void shouldNotReadBlobStoreAgainAfterRecentMiss() {
+        // arrange
+        final SharedEndpointDataReferenceStore store = newInstance(blobStore);
+
+        // act
+        store.get("assetId");
+        store.get("assetId");
+        store.put("assetId", reference("1", VALID_AUTH_CODE));
+
+        // assert
+        assertThat(blobStore.reads).isEqualTo(1);
+        assertThat(store.get("assetId")).isPresent();
+    }
+
+    @Test
+    void shouldRejectMissingOrInvalidEncryptionKey() {
+        assertThatIllegalStateException().isThrownBy(() -> EndpointDataReferenceCipher.fromKey(""));
+        assertThatIllegalStateException().isThrownBy(
+                () -> EndpointDataReferenceCipher.fromKey(Base64.getEncoder().encodeToString(new byte[8])));
+    }
+
+    private SharedEndpointDataReferenceStore newInstance(final BlobPersistence blobPersistence) {
+        return new SharedEndpointDataReferenceStore(
+                new EndpointDataReferenceStorage(Duration.ofMinutes(1), 100, clock), blobPersistence, CIPHER,
+                Duration.ofSeconds(5), clock);
+    }
+
+    private static EndpointDataReference reference(final String id, final String authCode) {
+        return EndpointDataReference.Builder.newInstance()
+                                            .id(id)
+                                            .endpoint("test")
+                                            .authKey("Authorization")
+                                            .authCode(authCode)
+                                            .build();
+    }
+
+    /**
+     * Blob store shared by the simulated IRS instances.
+     */
+    private static final class InMemoryBlobStore implements BlobPersistence {
+        private final Map<String, byte[]> blobs = new HashMap<>();
+        private int reads;
+
+        @Override
+        public void putBlob(final String targetBlobName, final byte[] blob) {
+            blobs.put(targetBlobName, blob);
+        }
+
+        @Override
+        public Optional<byte[]> getBlob(final String sourceBlobName) {
+            reads++;
+            return Optional.ofNullable(blobs.get(sourceBlobName));
+        }
+
+        @Override
+        public Map<String, byte[]> getAllBlobs() {
+            return new HashMap<>(blobs);
+        }
+
+        @Override
+        public Collection<byte[]> findBlobByPrefix(final String prefix) {
+            return blobs.entrySet()
+                        .stream()
+                        .filter(entry -> entry.getKey().startsWith(prefix))
+                        .map(Map.Entry::getValue)
+                        .toList();
+        }
+
+        @Override
+        public boolean delete(final String blobId, final List<String> processIds) {
+            return blobs.remove(blobId) != null;
+        }
+    }
+}
@@ -57,6 +57,7 @@ import org.assertj.core.api.ThrowableAssert;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.tractusx.irs.data.StringMapper;
+import org.eclipse.tractusx.irs.edc.client.cache.catalog.CatalogCache;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.configuration.JsonLdConfiguration;
 import org.eclipse.tractusx.irs.edc.client.exceptions.EdcClientException;
@@ -125,9 +126,10 @@ class SubmodelFacadeWiremockTest {
                 createEdcTransformer());
         final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate);
 
-        final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config);
+        final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config,
+                new CatalogCache(config));
 
-        storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1));
+        storage = new EndpointDataReferenceStorage(Duration.ofMinutes(1), 100);
         final EndpointDataReferenceCacheService endpointDataReferenceCacheService = new EndpointDataReferenceCacheService(
                 storage);
 
@@ -140,11 +142,12 @@ class SubmodelFacadeWiremockTest {
         final PolicyCheckerService policyCheckerService = new PolicyCheckerService(acceptedPoliciesProvider,
                 new ConstraintCheckerService());
         final ContractNegotiationService contractNegotiationService = new ContractNegotiationService(controlPlaneClient,
-                policyCheckerService, config);
+                policyCheckerService, config, pollingService);
 
         final RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
         this.edcSubmodelClient = new EdcSubmodelClientImpl(config, contractNegotiationService, dataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService,
+                new NegotiationCoalescer());
     }
 
     @Test
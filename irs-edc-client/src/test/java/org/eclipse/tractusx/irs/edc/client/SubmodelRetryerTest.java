@@ -36,6 +36,7 @@ import java.util.concurrent.Executors;
 
 import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.retry.internal.InMemoryRetryRegistry;
+import org.eclipse.tractusx.irs.edc.client.cache.catalog.CatalogCache;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
 import org.eclipse.tractusx.irs.edc.client.policy.PolicyCheckerService;
@@ -73,16 +74,18 @@ class SubmodelExponentialRetryTest {
         final EdcControlPlaneClient controlPlaneClient = new EdcControlPlaneClient(restTemplate, pollingService, config,
                 createEdcTransformer());
 
-        final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config);
+        final EDCCatalogFacade catalogFacade = new EDCCatalogFacade(controlPlaneClient, config,
+                new CatalogCache(config));
 
         final ContractNegotiationService negotiationService = new ContractNegotiationService(controlPlaneClient,
-                policyCheckerService, config);
+                policyCheckerService, config, pollingService);
         final EdcDataPlaneClient dataPlaneClient = new EdcDataPlaneClient(restTemplate);
         final EndpointDataReferenceStorage endpointDataReferenceStorage = new EndpointDataReferenceStorage(
-                Duration.ofMinutes(1));
+                Duration.ofMinutes(1), 100);
 
         final EdcSubmodelClient client = new EdcSubmodelClientImpl(config, negotiationService, dataPlaneClient,
-                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService);
+                pollingService, retryRegistry, catalogFacade, endpointDataReferenceCacheService,
+                new NegotiationCoalescer());
         testee = new EdcSubmodelFacade(client, config);
     }
 
@@ -0,0 +1,169 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.cache.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.irs.edc.client.EdcConfiguration.ControlplaneConfig.CatalogCacheConfig;
+import org.eclipse.tractusx.irs.edc.client.model.CatalogItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CatalogCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private final CatalogCacheConfig config = new CatalogCacheConfig();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        config.setTtl(Duration.ofMinutes(10));
+        config.setMaxSize(2);
+    }
+
+    @Test
+    void shouldLoadCatalogOnlyOnceWithinTtl() {
+        // arrange
+        final CatalogCache cache = cacheAt(NOW);
+
+        // act
+        cache.get("provider", "key", "value", this::load);
+        final List<CatalogItem> result = cache.get("provider", "key", "value", this::load);
+
+        // assert
+        assertThat(result).hasSize(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldLoadCatalogAgainAfterProviderTtl() {
+        // arrange
+        config.getProviderTtl().put("provider", Duration.ofMinutes(1));
+        final Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plus(Duration.ofMinutes(2)));
+        final CatalogCache cache = new CatalogCache(config, clock);
+        cache.get("provider", "key", "value", this::load);
+        cache.get("otherProvider", "key", "value", this::load);
+
+        // act
+        cache.get("provider", "key", "value", this::load);
+        cache.get("otherProvider", "key", "value", this::load);
+
+        // assert
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldNotCacheWhenTtlIsZero() {
+        // arrange
+        config.setTtl(Duration.ZERO);
+        final CatalogCache cache = cacheAt(NOW);
+
+        // act
+        cache.get("provider", "key", "value", this::load);
+        cache.get("provider", "key", "value", this::load);
+
+        // assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheEmptyCatalog() {
+        // arrange
+        final CatalogCache cache = cacheAt(NOW);
+
+        // act
+        cache.get("provider", "key", "value", this::loadEmpty);
+        cache.get("provider", "key", "value", this::loadEmpty);
+
+        // assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldInvalidateAllCatalogsOfProvider() {
+        // arrange
+        final CatalogCache cache = cacheAt(NOW);
+        cache.get("provider", "key", "first", this::load);
+        cache.get("otherProvider", "key", "first", this::load);
+
+        // act
+        cache.invalidate("provider");
+
+        // assert
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get("provider", "key", "first", this::load);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedCatalogAndRecordMetrics() {
+        // arrange
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final CatalogCache cache = cacheAt(NOW);
+        cache.bindTo(registry);
+        cache.get("provider", "key", "first", this::load);
+        cache.get("provider", "key", "second", this::load);
+        cache.get("provider", "key", "first", this::load);
+
+        // act
+        cache.get("provider", "key", "third", this::load);
+        cache.get("provider", "key", "first", this::load);
+
+        // assert
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(registry.get("edc.catalog.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("edc.catalog.cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(3);
+        assertThat(registry.get("edc.catalog.cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("edc.catalog.cache.hit.ratio").gauge().value()).isEqualTo(0.4);
+    }
+
+    private CatalogCache cacheAt(final Instant instant) {
+        return new CatalogCache(config, Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private List<CatalogItem> load() {
+        loads.incrementAndGet();
+        return List.of(CatalogItem.builder().itemId("item").build());
+    }
+
+    private List<CatalogItem> loadEmpty() {
+        loads.incrementAndGet();
+        return List.of();
+    }
+}
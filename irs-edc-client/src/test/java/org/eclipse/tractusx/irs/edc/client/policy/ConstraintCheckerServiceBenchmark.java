@@ -0,0 +1,174 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.policy;
+
+import static org.eclipse.tractusx.irs.edc.client.testutil.TestMother.createAtomicConstraint;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.OrConstraint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing the compiled constraint matcher of {@link ConstraintCheckerService} with the previous
+ * evaluator, which compared every offer constraint with every accepted constraint.
+ * Each accepted policy has the given number of constraints; the offer only matches the last accepted policy.
+ * Not executed by surefire, run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstraintCheckerServiceBenchmark {
+
+    @Param({ "10", "50" })
+    private int acceptedPolicyCount;
+
+    @Param({ "3", "10" })
+    private int constraintsPerPolicy;
+
+    private final ConstraintCheckerService constraintCheckerService = new ConstraintCheckerService();
+    private List<Policy> acceptedPolicies;
+    private List<org.eclipse.edc.policy.model.Constraint> offerConstraints;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConstraintCheckerServiceBenchmark.class.getSimpleName())
+                                       .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        acceptedPolicies = new ArrayList<>();
+        for (int policy = 0; policy < acceptedPolicyCount; policy++) {
+            final List<Constraint> constraints = new ArrayList<>();
+            for (int constraint = 0; constraint < constraintsPerPolicy; constraint++) {
+                constraints.add(new Constraint("leftOperand" + constraint, new Operator(OperatorType.EQ),
+                        "rightOperand" + policy));
+            }
+            acceptedPolicies.add(new Policy("policy" + policy, OffsetDateTime.now(), OffsetDateTime.now().plusYears(1),
+                    List.of(new Permission(PolicyType.USE, new Constraints(constraints, constraints)))));
+        }
+
+        final String matchingRightOperand = "rightOperand" + (acceptedPolicyCount - 1);
+        final List<org.eclipse.edc.policy.model.Constraint> andConstraints = new ArrayList<>();
+        for (int constraint = 0; constraint < constraintsPerPolicy; constraint++) {
+            andConstraints.add(createAtomicConstraint("leftOperand" + constraint, matchingRightOperand));
+        }
+        offerConstraints = List.of(AndConstraint.Builder.newInstance().constraints(andConstraints).build(),
+                createAtomicConstraint("leftOperand0", matchingRightOperand));
+    }
+
+    @Benchmark
+    public boolean compiledMatcher() {
+        return acceptedPolicies.stream()
+                               .anyMatch(policy -> constraintCheckerService.hasAllConstraint(policy,
+                                       offerConstraints));
+    }
+
+    @Benchmark
+    public boolean previousEvaluator() {
+        return acceptedPolicies.stream().anyMatch(policy -> hasAllConstraint(policy, offerConstraints));
+    }
+
+    // previous implementation of ConstraintCheckerService, kept as baseline
+
+    private static boolean hasAllConstraint(final Policy acceptedPolicy,
+            final List<org.eclipse.edc.policy.model.Constraint> constraints) {
+        final List<Constraints> acceptedConstraintsList = acceptedPolicy.getPermissions()
+                                                                        .stream()
+                                                                        .map(Permission::getConstraint)
+                                                                        .toList();
+
+        return constraints.stream().allMatch(constraint -> isValidOnList(constraint, acceptedConstraintsList));
+    }
+
+    private static boolean isValidOnList(final org.eclipse.edc.policy.model.Constraint constraint,
+            final List<Constraints> acceptedConstraintsList) {
+        return acceptedConstraintsList.stream()
+                                      .anyMatch(acceptedConstraints -> isSameAs(constraint, acceptedConstraints));
+    }
+
+    private static boolean isSameAs(final org.eclipse.edc.policy.model.Constraint constraint,
+            final Constraints acceptedConstraints) {
+        if (constraint instanceof AtomicConstraint atomicConstraint) {
+            return acceptedConstraints.getOr().stream().anyMatch(p -> isSameAs(atomicConstraint, p))
+                    || acceptedConstraints.getAnd().stream().anyMatch(p -> isSameAs(atomicConstraint, p));
+        }
+        if (constraint instanceof AndConstraint andConstraint) {
+            return andConstraint.getConstraints()
+                                .stream()
+                                .allMatch(constr -> isInList(constr, Optional.ofNullable(acceptedConstraints.getAnd())
+                                                                             .orElse(Collections.emptyList())));
+        }
+        if (constraint instanceof OrConstraint orConstraint) {
+            return orConstraint.getConstraints()
+                               .stream()
+                               .anyMatch(constr -> isInList(constr, Optional.ofNullable(acceptedConstraints.getOr())
+                                                                            .orElse(Collections.emptyList())));
+        }
+        return false;
+    }
+
+    private static boolean isInList(final org.eclipse.edc.policy.model.Constraint constraint,
+            final List<Constraint> acceptedConstraints) {
+        if (constraint instanceof AtomicConstraint atomicConstraint) {
+            return acceptedConstraints.stream().anyMatch(ac -> isSameAs(atomicConstraint, ac));
+        }
+        return false;
+    }
+
+    private static boolean isSameAs(final AtomicConstraint atomicConstraint, final Constraint acceptedConstraint) {
+        return AtomicConstraintValidator.builder()
+                                        .atomicConstraint(atomicConstraint)
+                                        .leftExpressionValue(acceptedConstraint.getLeftOperand())
+                                        .rightExpressionValue(acceptedConstraint.getRightOperand())
+                                        .expectedOperator(org.eclipse.edc.policy.model.Operator.valueOf(
+                                                acceptedConstraint.getOperator().getOperatorType().name()))
+                                        .build()
+                                        .isValid();
+    }
+}
@@ -202,6 +202,58 @@ class ConstraintCheckerServiceTest {
         assertThat(resultAnd).isFalse();
     }
 
+    @Test
+    void shouldAcceptAtomicConstraintFromOrConstraints() {
+        final Policy acceptedPolicy = createPolicyWithOrConstraint(
+                List.of(new Operand(TestConstants.PURPOSE, TestConstants.ID_3_1_TRACE)));
+        final AtomicConstraint simpleAtomicConstraint = createAtomicConstraint(TestConstants.PURPOSE,
+                TestConstants.ID_3_1_TRACE);
+
+        boolean result = cut.hasAllConstraint(acceptedPolicy, List.of(simpleAtomicConstraint));
+
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void shouldNotAcceptNestedAndConstraint() {
+        final AtomicConstraint atomicConstraint = createAtomicConstraint(TestConstants.PURPOSE,
+                TestConstants.ID_3_1_TRACE);
+        final AndConstraint andConstraint = createAndConstraint(
+                List.of(createAndConstraint(List.of(atomicConstraint))));
+        final Policy acceptedPolicy = createPolicyWithAndConstraint(
+                List.of(new Operand(TestConstants.PURPOSE, TestConstants.ID_3_1_TRACE)));
+
+        boolean result = cut.hasAllConstraint(acceptedPolicy, List.of(andConstraint));
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldNotAcceptConstraintWithUnsupportedOperator() {
+        final Constraint unsupported = new Constraint(TestConstants.PURPOSE, new Operator(OperatorType.LTEQ),
+                TestConstants.ID_3_1_TRACE);
+        final Policy acceptedPolicy = createPolicyWithConstraint(
+                new Constraints(List.of(unsupported), new ArrayList<>()));
+        final AtomicConstraint simpleAtomicConstraint = createAtomicConstraint(TestConstants.PURPOSE,
+                TestConstants.ID_3_1_TRACE);
+
+        boolean result = cut.hasAllConstraint(acceptedPolicy, List.of(simpleAtomicConstraint));
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldEvaluateSamePolicyRepeatedly() {
+        final Policy acceptedPolicy = createPolicyWithAndConstraint(
+                List.of(new Operand(TestConstants.PURPOSE, TestConstants.ID_3_1_TRACE)));
+        final AtomicConstraint accepted = createAtomicConstraint(TestConstants.PURPOSE, TestConstants.ID_3_1_TRACE);
+        final AtomicConstraint rejected = createAtomicConstraint(TestConstants.PURPOSE, "ID 3.1 Trace Wrong");
+
+        assertThat(cut.hasAllConstraint(acceptedPolicy, List.of(accepted))).isTrue();
+        assertThat(cut.hasAllConstraint(acceptedPolicy, List.of(rejected))).isFalse();
+        assertThat(cut.hasAllConstraint(acceptedPolicy, List.of(accepted))).isTrue();
+    }
+
     private Policy createPolicyWithAndConstraint(List<Operand> operands) {
         List<Constraint> and = operands.stream()
                                        .map(operand -> new Constraint(operand.left, new Operator(OperatorType.EQ),
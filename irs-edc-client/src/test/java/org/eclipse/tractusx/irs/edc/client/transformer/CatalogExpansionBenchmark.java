@@ -0,0 +1,137 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.transformer;
+
+import static org.eclipse.tractusx.irs.edc.client.testutil.TestMother.objectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing the expansion of catalog responses by {@link PrefixContextExpander} with the full JSON-LD
+ * expansion. The catalog contains the given number of copies of the dataset of the test catalog response.
+ * The setup fails if both expansions differ.
+ * Not executed by surefire, run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogExpansionBenchmark {
+
+    @Param({ "1", "50", "500" })
+    private int datasetCount;
+
+    private final TitaniumJsonLd titaniumJsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+    private final EdcTransformer edcTransformer = new EdcTransformer(objectMapper(), titaniumJsonLd,
+            new TypeTransformerRegistryImpl());
+    private JsonObject catalog;
+    private String catalogResponse;
+    private String catalogResponseWithArrayContext;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CatalogExpansionBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final JsonObject testCatalog;
+        try (InputStream stream = Objects.requireNonNull(
+                getClass().getResourceAsStream("/__files/edc/responseCatalog.json"))) {
+            testCatalog = Json.createReader(stream).readObject();
+        }
+        final JsonObject dataset = testCatalog.getJsonObject("dcat:dataset");
+        final JsonArrayBuilder datasets = Json.createArrayBuilder();
+        for (int i = 0; i < datasetCount; i++) {
+            datasets.add(Json.createObjectBuilder(dataset)
+                             .add("@id", "dataset-" + i)
+                             .add("edc:id", "urn:uuid:asset-" + i));
+        }
+        catalog = Json.createObjectBuilder(testCatalog).add("dcat:dataset", datasets).build();
+        catalogResponse = catalog.toString();
+        catalogResponseWithArrayContext = Json.createObjectBuilder(catalog)
+                                              .add("@context",
+                                                      Json.createArrayBuilder().add(catalog.get("@context")))
+                                              .build()
+                                              .toString();
+
+        final JsonObject expanded = PrefixContextExpander.expand(read(catalogResponse)).orElseThrow();
+        if (!expanded.equals(titaniumJsonLd.expand(read(catalogResponse)).getContent())) {
+            throw new IllegalStateException("Prefix context expansion differs from full JSON-LD expansion");
+        }
+    }
+
+    @Benchmark
+    public JsonObject fullExpansion() {
+        return titaniumJsonLd.expand(catalog).getContent();
+    }
+
+    @Benchmark
+    public JsonObject prefixContextExpansion() {
+        return PrefixContextExpander.expand(catalog).orElseThrow();
+    }
+
+    @Benchmark
+    public Catalog transformCatalogWithFullExpansion() {
+        return edcTransformer.transformCatalog(catalogResponseWithArrayContext, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Catalog transformCatalogWithPrefixContextExpansion() {
+        return edcTransformer.transformCatalog(catalogResponse, StandardCharsets.UTF_8);
+    }
+
+    private static JsonObject read(final String json) {
+        return Json.createReader(new StringReader(json)).readObject();
+    }
+}
@@ -256,6 +256,22 @@ class EdcTransformerTest {
         assertThat(actualCatalog.getContractOffers()).isNull();
     }
 
+    @Test
+    void shouldDeserializeCatalogWithUnsupportedContextByFullExpansion() {
+        // Arrange
+        final String catalogAsString = getCatalogAsString().replace("\"@context\": {", "\"@context\": [ {")
+                                                           .replaceFirst("}\\s*}\\s*$", "} ] }");
+
+        // Act
+        final Catalog actualCatalog = edcTransformer.transformCatalog(catalogAsString, StandardCharsets.UTF_8);
+
+        // Assert
+        assertThat(actualCatalog.getId()).isEqualTo("78ff625c-0c05-4014-965c-bd3d0a6a0de0");
+        assertThat(actualCatalog.getDatasets()).hasSize(1);
+        assertThat(actualCatalog.getProperties()).containsEntry("https://w3id.org/edc/v0.0.1/ns/participantId",
+                "BPNL00000003CRHK");
+    }
+
     @Test
     void shouldSerializeContractOfferDescriptionToJsonObject() {
         final String offerId = "7681f966-36ea-4542-b5ea-0d0db81967de:35c78eca-db53-442c-9e01-467fc22c9434-55840861-5d7f-444b-972a-6e8b78552d8a:66131c58-32af-4df0-825d-77f7df6017c";
@@ -0,0 +1,136 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.edc.client.transformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Objects;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PrefixContextExpanderTest {
+
+    private final TitaniumJsonLd jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+
+    @Test
+    void shouldExpandCatalogResponseLikeJsonLdProcessor() throws IOException {
+        // arrange
+        final JsonObject catalog;
+        try (InputStream stream = Objects.requireNonNull(
+                getClass().getResourceAsStream("/__files/edc/responseCatalog.json"))) {
+            catalog = Json.createReader(stream).readObject();
+        }
+
+        // act
+        final var expanded = PrefixContextExpander.expand(catalog);
+
+        // assert
+        assertThat(expanded).contains(jsonLd.expand(catalog).getContent());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { """
+            {
+              "@context": { "@vocab": "https://example.com/vocab/", "ex": "https://example.com/ns#" },
+              "@id": "ex:catalog",
+              "@type": [ "ex:Catalog", "Catalog" ],
+              "name": "catalog",
+              "ex:count": 3,
+              "ex:enabled": true,
+              "ex:missing": null,
+              "ex:nested": [ [ "a", null, "b" ], { "@id": "relative-id" } ],
+              "ex:empty": [],
+              "https://example.com/absolute": { "ex:value": 1.5 },
+              "ex": "prefix as term",
+              "urn:custom": "absolute iri with unknown prefix"
+            }
+            """,
+                             """
+            { "@context": { }, "@id": "empty-context", "participantId": "BPNL00000003CRHK" }
+            """,
+                             """
+            {
+              "@context": { "dcat": "https://www.w3.org/ns/dcat/" },
+              "dcat:dataset": [ { "@id": "dcat:first", "dcat://not-a-prefix": "x" } ]
+            }
+            """
+    })
+    void shouldExpandPrefixContextsLikeJsonLdProcessor(final String document) {
+        // arrange
+        final JsonObject jsonObject = read(document);
+
+        // act
+        final var expanded = PrefixContextExpander.expand(jsonObject);
+
+        // assert
+        assertThat(expanded).contains(jsonLd.expand(jsonObject).getContent());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { """
+            { "@id": "without-context", "participantId": "BPNL00000003CRHK" }
+            """,
+                             """
+            { "@context": [ { "ex": "https://example.com/ns#" } ], "ex:name": "array context" }
+            """,
+                             """
+            { "@context": { "ex": { "@id": "https://example.com/ns#" } }, "ex:name": "term definition" }
+            """,
+                             """
+            { "@context": { "ex": "https://example.com/ns" }, "ex:name": "prefix without delimiter" }
+            """,
+                             """
+            { "@context": { "ex": "https://example.com/ns#" }, "ex:name": { "@value": "value object" } }
+            """,
+                             """
+            { "@context": { "ex": "https://example.com/ns#" }, "ex:name": { "@list": [ "list" ] } }
+            """,
+                             """
+            { "@context": { "ex": "https://example.com/ns#" }, "ex:name": { "@context": {}, "ex:n": 1 } }
+            """
+    })
+    void shouldNotExpandUnsupportedDocuments(final String document) {
+        // act
+        final var expanded = PrefixContextExpander.expand(read(document));
+
+        // assert
+        assertThat(expanded).isEmpty();
+    }
+
+    private static JsonObject read(final String document) {
+        try (JsonReader reader = Json.createReader(new StringReader(document))) {
+            return reader.readObject();
+        }
+    }
+}
@@ -29,9 +29,10 @@ import static org.mockito.Mockito.when;
 import java.util.Optional;
 
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
-import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStorage;
+import org.eclipse.tractusx.irs.edc.client.EndpointDataReferenceStore;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceCacheService;
 import org.eclipse.tractusx.irs.edc.client.cache.endpointdatareference.EndpointDataReferenceStatus;
+import org.eclipse.tractusx.irs.edc.client.model.StoredEndpointDataReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -42,7 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class EndpointDataReferenceCacheServiceTest {
 
     @Mock
-    private EndpointDataReferenceStorage endpointDataReferenceStorage;
+    private EndpointDataReferenceStore endpointDataReferenceStorage;
 
     @InjectMocks
     private EndpointDataReferenceCacheService endpointDataReferenceCacheService;
@@ -51,7 +52,7 @@ class EndpointDataReferenceCacheServiceTest {
     void shouldReturnStatusRequiredNewWhenThereIsNoRecordInCache() {
         // given
         final String assetId = "assetId";
-        when(endpointDataReferenceStorage.get(assetId)).thenReturn(Optional.empty());
+        when(endpointDataReferenceStorage.getStored(assetId)).thenReturn(Optional.empty());
 
         // when
         final EndpointDataReferenceStatus endpointDataReference = endpointDataReferenceCacheService.getEndpointDataReference(
@@ -72,7 +73,8 @@ class EndpointDataReferenceCacheServiceTest {
                                                                                           .authCode(authCode)
                                                                                           .authKey("")
                                                                                           .build();
-        when(endpointDataReferenceStorage.get(assetId)).thenReturn(Optional.of(endpointDataReferenceWithExpiredToken));
+        when(endpointDataReferenceStorage.getStored(assetId)).thenReturn(
+                Optional.of(StoredEndpointDataReference.from(endpointDataReferenceWithExpiredToken)));
 
         // when
         final EndpointDataReferenceStatus endpointDataReference = endpointDataReferenceCacheService.getEndpointDataReference(
@@ -93,7 +95,8 @@ class EndpointDataReferenceCacheServiceTest {
                                                                                                          .authCode(authCode)
                                                                                                          .authKey("")
                                                                                                          .build();
-        when(endpointDataReferenceStorage.get(assetId)).thenReturn(Optional.of(endpointDataReferenceWithExpiredToken));
+        when(endpointDataReferenceStorage.getStored(assetId)).thenReturn(
+                Optional.of(StoredEndpointDataReference.from(endpointDataReferenceWithExpiredToken)));
 
         // when
         final EndpointDataReferenceStatus endpointDataReference = endpointDataReferenceCacheService.getEndpointDataReference(
@@ -26,10 +26,12 @@ package org.eclipse.tractusx.irs.policystore.persistence;
 import static org.eclipse.tractusx.irs.policystore.config.PolicyConfiguration.POLICY_BLOB_PERSISTENCE;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
@@ -45,10 +47,17 @@ import org.springframework.stereotype.Service;
 
 /**
  * Persists and loads the policy data from the BLOB storage.
+ * Every write also replaces the version marker blob, so other IRS instances can detect changes
+ * by reading the marker instead of all policies.
  */
 @Service
 public class PolicyPersistence {
 
+    /**
+     * Name of the blob holding the version marker of the stored policies.
+     */
+    public static final String VERSION_BLOB_NAME = "policy-store-version";
+
     private final BlobPersistence policyStorePersistence;
 
     private final ObjectMapper mapper;
@@ -97,6 +106,8 @@ public class PolicyPersistence {
         writeLock(() -> {
             try {
                 policyStorePersistence.putBlob(bpn, mapper.writeValueAsBytes(modifiedPolicies));
+                policyStorePersistence.putBlob(VERSION_BLOB_NAME,
+                        UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
             } catch (BlobPersistenceException | JsonProcessingException e) {
                 throw new PolicyStoreException("Unable to store policy data", e);
             }
@@ -120,6 +131,21 @@ public class PolicyPersistence {
 
     }
 
+    /**
+     * Returns the version marker of the stored policies. The marker changes with every write.
+     *
+     * @return the version marker, empty if no policies have been written yet
+     */
+    public String readVersion() {
+        try {
+            return policyStorePersistence.getBlob(VERSION_BLOB_NAME)
+                                         .map(blob -> new String(blob, StandardCharsets.UTF_8))
+                                         .orElse("");
+        } catch (BlobPersistenceException e) {
+            throw new PolicyStoreException("Unable to read policy store version", e);
+        }
+    }
+
     /**
      * Returns all policies.
      *
@@ -127,15 +153,23 @@ public class PolicyPersistence {
      */
     public Map<String, List<Policy>> readAll() {
         try {
-            return policyStorePersistence.getAllBlobs().entrySet().stream().map(entry -> {
-                try {
-                    final String bpn = entry.getKey();
-                    return new AbstractMap.SimpleEntry<>(bpn,
-                            mapper.readerForListOf(Policy.class).<List<Policy>>readValue(entry.getValue()));
-                } catch (IOException e) {
-                    throw new PolicyStoreException(COULD_NOT_READ_POLICY_ERROR_MESSAGE, e);
-                }
-            }).collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
+            return policyStorePersistence.getAllBlobs()
+                                         .entrySet()
+                                         .stream()
+                                         .filter(entry -> !VERSION_BLOB_NAME.equals(entry.getKey()))
+                                         .map(entry -> {
+                                             try {
+                                                 final String bpn = entry.getKey();
+                                                 return new AbstractMap.SimpleEntry<>(bpn,
+                                                         mapper.readerForListOf(Policy.class)
+                                                               .<List<Policy>>readValue(entry.getValue()));
+                                             } catch (IOException e) {
+                                                 throw new PolicyStoreException(COULD_NOT_READ_POLICY_ERROR_MESSAGE,
+                                                         e);
+                                             }
+                                         })
+                                         .collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey,
+                                                 AbstractMap.SimpleEntry::getValue));
         } catch (BlobPersistenceException e) {
             throw new PolicyStoreException(COULD_NOT_READ_POLICY_ERROR_MESSAGE, e);
         }
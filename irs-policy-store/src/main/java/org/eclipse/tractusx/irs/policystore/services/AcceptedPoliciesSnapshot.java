@@ -0,0 +1,113 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.policystore.services;
+
+import static org.eclipse.tractusx.irs.common.persistence.BlobPersistence.DEFAULT_BLOB_NAME;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.tractusx.irs.edc.client.policy.AcceptedPolicy;
+import org.eclipse.tractusx.irs.edc.client.policy.Policy;
+
+/**
+ * Immutable view of all stored policies, resolved to the accepted policies of each BPN.
+ * Policies registered without a BPN are used for BPNs without own policies. If the store is empty,
+ * the policies from the configuration are used (see #199).
+ */
+/* package */ final class AcceptedPoliciesSnapshot {
+
+    private final String version;
+    private final Map<String, List<AcceptedPolicy>> policiesByBpn;
+    private final List<AcceptedPolicy> fallbackPolicies;
+    private final List<AcceptedPolicy> allPolicies;
+
+    private AcceptedPoliciesSnapshot(final String version, final Map<String, List<AcceptedPolicy>> policiesByBpn,
+            final List<AcceptedPolicy> fallbackPolicies, final List<AcceptedPolicy> allPolicies) {
+        this.version = version;
+        this.policiesByBpn = policiesByBpn;
+        this.fallbackPolicies = fallbackPolicies;
+        this.allPolicies = allPolicies;
+    }
+
+    /**
+     * Creates a snapshot of the stored policies.
+     *
+     * @param version            the version marker the stored policies were read with
+     * @param storedPolicies     the stored policies by BPN
+     * @param policiesFromConfig the policies to use if the store is empty
+     * @return the snapshot
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    /* package */ static AcceptedPoliciesSnapshot create(final String version,
+            final Map<String, List<Policy>> storedPolicies, final List<Policy> policiesFromConfig) {
+        final List<Policy> defaultPolicies = storedPolicies.getOrDefault(DEFAULT_BLOB_NAME, List.of());
+        final List<AcceptedPolicy> fallbackPolicies = toSortedAcceptedPolicies(
+                defaultPolicies.isEmpty() ? policiesFromConfig : defaultPolicies);
+
+        final Map<String, List<AcceptedPolicy>> policiesByBpn = new HashMap<>();
+        storedPolicies.forEach((bpn, policies) -> {
+            if (!policies.isEmpty()) {
+                policiesByBpn.put(bpn, toSortedAcceptedPolicies(policies));
+            }
+        });
+
+        final List<AcceptedPolicy> allPolicies = storedPolicies.isEmpty()
+                ? toAcceptedPolicies(policiesFromConfig)
+                : toAcceptedPolicies(storedPolicies.values().stream().flatMap(Collection::stream).toList());
+
+        return new AcceptedPoliciesSnapshot(version, Map.copyOf(policiesByBpn), fallbackPolicies, allPolicies);
+    }
+
+    /* package */ String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the accepted policies of the BPN, ordered by policy id.
+     *
+     * @param bpn the BPN, null for the policies of all BPNs
+     * @return the accepted policies
+     */
+    /* package */ List<AcceptedPolicy> getAcceptedPolicies(final String bpn) {
+        if (bpn == null) {
+            return allPolicies;
+        }
+        return policiesByBpn.getOrDefault(bpn, fallbackPolicies);
+    }
+
+    private static List<AcceptedPolicy> toSortedAcceptedPolicies(final List<Policy> policies) {
+        final TreeSet<Policy> sorted = new TreeSet<>(Comparator.comparing(Policy::getPolicyId));
+        sorted.addAll(policies);
+        return toAcceptedPolicies(sorted);
+    }
+
+    private static List<AcceptedPolicy> toAcceptedPolicies(final Collection<Policy> policies) {
+        return policies.stream().map(policy -> new AcceptedPolicy(policy, policy.getValidUntil())).toList();
+    }
+}
@@ -29,15 +29,13 @@ import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import jakarta.json.JsonObject;
 import lombok.extern.slf4j.Slf4j;
@@ -57,16 +55,21 @@ import org.eclipse.tractusx.irs.policystore.models.CreatePolicyRequest;
 import org.eclipse.tractusx.irs.policystore.models.UpdatePolicyRequest;
 import org.eclipse.tractusx.irs.policystore.persistence.PolicyPersistence;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Service to manage stored policies in IRS.
+ * Accepted policies are served from an in-memory snapshot of the policy store, which is replaced on
+ * every change and reconciled periodically with the version marker of the store to pick up changes
+ * of other IRS instances.
  */
 @Service
 @Slf4j
 @SuppressWarnings({ "PMD.ExcessiveImports",
-                    "PMD.TooManyMethods"
+                    "PMD.TooManyMethods",
+                    "PMD.GodClass"
 })
 public class PolicyStoreService implements AcceptedPoliciesProvider {
 
@@ -78,6 +81,9 @@ public class PolicyStoreService implements AcceptedPoliciesProvider {
 
     private final Clock clock;
 
+    private final AtomicReference<AcceptedPoliciesSnapshot> snapshot = new AtomicReference<>();
+    private final Object snapshotLock = new Object();
+
     private static final String MISSING_REQUEST_FIELD_MESSAGE =
             "Request does not contain all required fields. " + "Missing: %s";
 
@@ -130,11 +136,14 @@ public class PolicyStoreService implements AcceptedPoliciesProvider {
         validatePolicy(policy);
         policy.setCreatedOn(OffsetDateTime.now(clock));
         log.info("Registering new policy with id {}, valid until {}", policy.getPolicyId(), policy.getValidUntil());
+        final Policy registeredPolicy;
         try {
-            return persistence.save(businessPartnersNumber, policy);
+            registeredPolicy = persistence.save(businessPartnersNumber, policy);
         } catch (final PolicyStoreException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
+        refreshSnapshotAfterChange();
+        return registeredPolicy;
     }
 
     /**
@@ -216,6 +225,7 @@ public class PolicyStoreService implements AcceptedPoliciesProvider {
         } catch (final PolicyStoreException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
         }
+        refreshSnapshotAfterChange();
     }
 
     private void deletePolicyForEachBpn(final String policyId, final List<String> bpnList) {
@@ -230,13 +240,20 @@ public class PolicyStoreService implements AcceptedPoliciesProvider {
 
     public void updatePolicies(final UpdatePolicyRequest request) {
         for (final String policyId : request.policyIds()) {
-            updatePolicy(policyId, request.validUntil(),
+            replacePolicy(policyId, request.validUntil(),
                     request.businessPartnerNumbers() == null ? List.of(DEFAULT) : request.businessPartnerNumbers());
         }
+        refreshSnapshotAfterChange();
     }
 
     public void updatePolicy(final String policyId, final OffsetDateTime newValidUntil,
             final List<String> newBusinessPartnerNumbers) {
+        replacePolicy(policyId, newValidUntil, newBusinessPartnerNumbers);
+        refreshSnapshotAfterChange();
+    }
+
+    private void replacePolicy(final String policyId, final OffsetDateTime newValidUntil,
+            final List<String> newBusinessPartnerNumbers) {
 
         log.info("Updating policy with id {}", policyId);
 
@@ -283,33 +300,51 @@ public class PolicyStoreService implements AcceptedPoliciesProvider {
 
     @Override
     public List<AcceptedPolicy> getAcceptedPolicies(final String bpn) {
-
-        if (bpn == null) {
-            return getAllPolicies();
-        }
-
-        final List<Policy> storedPolicies = getStoredPolicies(List.of(bpn));
-        final Stream<Policy> result = sortByPolicyId(storedPolicies);
-        return result.map(this::toAcceptedPolicy).toList();
-
+        final AcceptedPoliciesSnapshot current = snapshot.get();
+        return (current == null ? refreshSnapshot() : current).getAcceptedPolicies(bpn);
     }
 
-    private static Stream<Policy> sortByPolicyId(final List<Policy> policies) {
-        final TreeSet<Policy> result = new TreeSet<>(Comparator.comparing(Policy::getPolicyId));
-        result.addAll(policies);
-        return result.stream();
+    /**
+     * Reloads the snapshot if the version marker of the policy store changed, e.g. by another IRS
+     * instance.
+     */
+    @Scheduled(fixedDelayString = "${policystore.snapshot.reconcileInterval:PT1M}")
+    public void reconcileSnapshot() {
+        final AcceptedPoliciesSnapshot current = snapshot.get();
+        try {
+            if (current == null || !Objects.equals(current.getVersion(), persistence.readVersion())) {
+                log.info("Policy store changed, reloading accepted policies");
+                refreshSnapshot();
+            }
+        } catch (final PolicyStoreException e) {
+            log.warn("Unable to reconcile accepted policies with the policy store, keeping current snapshot", e);
+        }
     }
 
-    private List<AcceptedPolicy> getAllPolicies() {
-        return getAllStoredPolicies().values()
-                                     .stream()
-                                     .flatMap(Collection::stream)
-                                     .map(this::toAcceptedPolicy)
-                                     .toList();
+    /**
+     * Loads all stored policies and replaces the snapshot. The version is read before the policies,
+     * so a concurrent change results in an outdated version and is picked up by the next
+     * reconciliation.
+     *
+     * @return the new snapshot
+     */
+    private AcceptedPoliciesSnapshot refreshSnapshot() {
+        synchronized (snapshotLock) {
+            final String version = persistence.readVersion();
+            final AcceptedPoliciesSnapshot loaded = AcceptedPoliciesSnapshot.create(version, persistence.readAll(),
+                    allowedPoliciesFromConfig);
+            snapshot.set(loaded);
+            return loaded;
+        }
     }
 
-    private AcceptedPolicy toAcceptedPolicy(final Policy policy) {
-        return new AcceptedPolicy(policy, policy.getValidUntil());
+    private void refreshSnapshotAfterChange() {
+        try {
+            refreshSnapshot();
+        } catch (final PolicyStoreException e) {
+            log.warn("Unable to reload accepted policies, the snapshot is reloaded on next access", e);
+            snapshot.set(null);
+        }
     }
 
     private List<Policy> createDefaultPolicyFromConfig(
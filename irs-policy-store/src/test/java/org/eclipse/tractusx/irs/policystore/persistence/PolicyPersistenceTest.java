@@ -29,11 +29,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -81,7 +83,8 @@ class PolicyPersistenceTest {
             testee.save("testBpn", policy);
 
             // ASSERT
-            verify(mockPersistence).putBlob(anyString(), any());
+            verify(mockPersistence).putBlob(eq("testBpn"), any());
+            verify(mockPersistence).putBlob(eq(PolicyPersistence.VERSION_BLOB_NAME), any());
         }
 
         @Test
@@ -93,7 +96,7 @@ class PolicyPersistenceTest {
             testee.save("default", policy);
 
             // ASSERT
-            verify(mockPersistence).putBlob(anyString(), any());
+            verify(mockPersistence).putBlob(eq("default"), any());
         }
 
         @Test
@@ -144,7 +147,8 @@ class PolicyPersistenceTest {
             testee.delete("testBpn", policyId);
 
             // ASSERT
-            verify(mockPersistence).putBlob(anyString(), any());
+            verify(mockPersistence).putBlob(eq("testBpn"), any());
+            verify(mockPersistence).putBlob(eq(PolicyPersistence.VERSION_BLOB_NAME), any());
         }
 
         @Test
@@ -201,6 +205,34 @@ class PolicyPersistenceTest {
             assertThat(readPolicies.get("bpn2")).isEmpty();
         }
 
+        @Test
+        void readAll_shouldNotReturnVersionMarker() throws BlobPersistenceException, JsonProcessingException {
+            // ARRANGE
+            final Map<String, byte[]> blobMap = new HashMap<>();
+            blobMap.put("bpn1", mapper.writeValueAsBytes(emptyList()));
+            blobMap.put(PolicyPersistence.VERSION_BLOB_NAME, "version".getBytes(StandardCharsets.UTF_8));
+            when(mockPersistence.getAllBlobs()).thenReturn(blobMap);
+
+            // ACT
+            final var readPolicies = testee.readAll();
+
+            // ASSERT
+            assertThat(readPolicies.keySet()).containsExactly("bpn1");
+        }
+
+        @Test
+        void readVersion() throws BlobPersistenceException {
+            // ARRANGE
+            when(mockPersistence.getBlob(PolicyPersistence.VERSION_BLOB_NAME)).thenReturn(
+                    Optional.of("version".getBytes(StandardCharsets.UTF_8)));
+
+            // ACT
+            final String version = testee.readVersion();
+
+            // ASSERT
+            assertThat(version).isEqualTo("version");
+        }
+
         @Test
         void readAll_withBpn_withError() throws BlobPersistenceException, JsonProcessingException {
             // ARRANGE
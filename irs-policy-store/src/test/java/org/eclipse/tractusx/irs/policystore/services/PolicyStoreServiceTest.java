@@ -311,17 +311,16 @@ class PolicyStoreServiceTest {
         void getAcceptedPolicies_whenNoPoliciesAssociatedWithTheGivenBpn_shouldReturnTheRegisteredDefaultPolicies() {
 
             // ARRANGE
-            when(persistenceMock.readAll(BPN)).thenReturn(emptyList());
 
             // policy registered without BPN should be used as default policy (see #199)
             // this overrides the configured default policy (see the previous test above)
             final String defaultPolicyId1 = "registered-default-policy-1";
             final String defaultPolicyId2 = "registered-default-policy-2";
-            when(persistenceMock.readAll("default")).thenReturn(List.of(
+            when(persistenceMock.readAll()).thenReturn(Map.of(BPN, emptyList(), "default", List.of(
                     // default policy 1
                     createPolicy(defaultPolicyId1),
                     // default policy 2
-                    createPolicy(defaultPolicyId2)));
+                    createPolicy(defaultPolicyId2))));
 
             // ACT
             final var acceptedPolicies = testee.getAcceptedPolicies(BPN);
@@ -334,6 +333,73 @@ class PolicyStoreServiceTest {
             assertThat(policyIds).containsExactlyInAnyOrder(defaultPolicyId1, defaultPolicyId2);
         }
 
+        @Test
+        void getAcceptedPolicies_shouldReturnPoliciesOfBpnSortedByPolicyId() {
+
+            // ARRANGE
+            when(persistenceMock.readAll()).thenReturn(
+                    Map.of(BPN, List.of(createPolicy("policy-b"), createPolicy("policy-a")), "default",
+                            List.of(createPolicy("default-policy"))));
+
+            // ACT
+            final var acceptedPolicies = testee.getAcceptedPolicies(BPN);
+
+            // ASSERT
+            assertThat(acceptedPolicies).extracting(AcceptedPolicy::policy)
+                                        .extracting(Policy::getPolicyId)
+                                        .containsExactly("policy-a", "policy-b");
+        }
+
+        @Test
+        void getAcceptedPolicies_shouldNotReadPolicyStoreAgain() {
+
+            // ARRANGE
+            when(persistenceMock.readAll()).thenReturn(Map.of(BPN, List.of(createPolicy("policy-a"))));
+
+            // ACT
+            testee.getAcceptedPolicies(BPN);
+            testee.getAcceptedPolicies(BPN);
+
+            // ASSERT
+            verify(persistenceMock, times(1)).readAll();
+        }
+
+        @Test
+        void getAcceptedPolicies_shouldReloadAfterVersionChanged() {
+
+            // ARRANGE
+            when(persistenceMock.readVersion()).thenReturn("v1", "v2");
+            when(persistenceMock.readAll()).thenReturn(Map.of(BPN, List.of(createPolicy("policy-a"))),
+                    Map.of(BPN, List.of(createPolicy("policy-b"))));
+            testee.getAcceptedPolicies(BPN);
+
+            // ACT
+            testee.reconcileSnapshot();
+            final var acceptedPolicies = testee.getAcceptedPolicies(BPN);
+
+            // ASSERT
+            assertThat(acceptedPolicies).extracting(AcceptedPolicy::policy)
+                                        .extracting(Policy::getPolicyId)
+                                        .containsExactly("policy-b");
+        }
+
+        @Test
+        void getAcceptedPolicies_shouldReloadAfterPolicyRegistered() {
+
+            // ARRANGE
+            when(persistenceMock.readAll()).thenReturn(Map.of(), Map.of(BPN, List.of(createPolicy("policy-a"))));
+            testee.getAcceptedPolicies(BPN);
+
+            // ACT
+            testee.doRegisterPolicy(new Policy("policy-a", null, null, createPermissions()), BPN);
+            final var acceptedPolicies = testee.getAcceptedPolicies(BPN);
+
+            // ASSERT
+            assertThat(acceptedPolicies).extracting(AcceptedPolicy::policy)
+                                        .extracting(Policy::getPolicyId)
+                                        .containsExactly("policy-a");
+        }
+
     }
 
     private Policy createPolicy(final String policyId) {
@@ -0,0 +1,59 @@
+/********************************************************************************
+ * Copyright (c) 2022,2024
+ *       2022: ZF Friedrichshafen AG
+ *       2022: ISTOS GmbH
+ *       2022,2024: Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *       2022,2023: BOSCH AG
+ * Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.irs.registryclient.discovery;
+
+import java.time.Duration;
+
+/**
+ * Cache settings of the {@link ConnectorEndpointsService}.
+ *
+ * @param ttl            time to live of discovered connector endpoints
+ * @param emptyResultTtl time to live of BPNs for which no connector endpoint was discovered
+ * @param jitter         fraction by which the time to live of each entry is randomly shortened,
+ *                       so that entries loaded together do not expire together
+ * @param refreshAhead   fraction of the time to live after which an entry that is still in use is
+ *                       refreshed
+ */
+public record ConnectorEndpointsCacheSettings(Duration ttl, Duration emptyResultTtl, double jitter,
+                                              double refreshAhead) {
+
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    private static final Duration DEFAULT_EMPTY_RESULT_TTL = Duration.ofMinutes(10);
+    private static final double DEFAULT_JITTER = 0.1;
+    private static final double DEFAULT_REFRESH_AHEAD = 0.8;
+
+    public ConnectorEndpointsCacheSettings {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("jitter must be in [0, 1), but was " + jitter);
+        }
+        if (refreshAhead <= 0 || refreshAhead > 1) {
+            throw new IllegalArgumentException("refreshAhead must be in (0, 1], but was " + refreshAhead);
+        }
+    }
+
+    public static ConnectorEndpointsCacheSettings defaults() {
+        return new ConnectorEndpointsCacheSettings(DEFAULT_TTL, DEFAULT_EMPTY_RESULT_TTL, DEFAULT_JITTER,
+                DEFAULT_REFRESH_AHEAD);
+    }
+}
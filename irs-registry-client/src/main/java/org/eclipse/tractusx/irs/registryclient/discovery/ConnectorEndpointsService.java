@@ -23,26 +23,81 @@
  ********************************************************************************/
 package org.eclipse.tractusx.irs.registryclient.discovery;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 
 /**
- * Connector Endpoints service to find connectors in Discovery Finder
+ * Connector Endpoints service to find connectors in Discovery Finder. Discovered endpoints are
+ * cached per BPN. Each entry expires on its own after a jittered time to live, BPNs without
+ * connector endpoints are cached for a shorter time. Entries which are still in use are refreshed
+ * in batches before they expire.
  */
-@Getter
-@RequiredArgsConstructor
 @Slf4j
 public class ConnectorEndpointsService {
 
+    private static final DiscoveryFinderRequest ONLY_BPN = new DiscoveryFinderRequest(List.of("bpn"));
+
     private final DiscoveryFinderClient discoveryFinderClient;
-    private static final String CONNECTOR_ENDPOINT_SERVICE_CACHE_NAME = "connector_endpoint_service_cache";
+    private final ConnectorEndpointsCacheSettings cacheSettings;
+    private final Executor executor;
+    private final Clock clock;
+    private final Map<String, CachedEndpoints> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<String>>> inFlight = new ConcurrentHashMap<>();
+
+    public ConnectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient) {
+        this(discoveryFinderClient, ConnectorEndpointsCacheSettings.defaults());
+    }
+
+    /**
+     * Creates a service which queries the discovery endpoints one after another on the calling thread.
+     *
+     * @param discoveryFinderClient the discovery finder client
+     * @param cacheSettings         the cache settings
+     */
+    public ConnectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient,
+            final ConnectorEndpointsCacheSettings cacheSettings) {
+        this(discoveryFinderClient, cacheSettings, Runnable::run);
+    }
+
+    /**
+     * Creates a service which queries the discovery endpoints in parallel.
+     *
+     * @param discoveryFinderClient the discovery finder client
+     * @param cacheSettings         the cache settings
+     * @param executor              the executor querying the discovery endpoints, should be bounded
+     *                              and dedicated to the discovery, as its tasks block on HTTP requests
+     */
+    public ConnectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient,
+            final ConnectorEndpointsCacheSettings cacheSettings, final Executor executor) {
+        this(discoveryFinderClient, cacheSettings, executor, Clock.systemUTC());
+    }
+
+    /* package */ ConnectorEndpointsService(final DiscoveryFinderClient discoveryFinderClient,
+            final ConnectorEndpointsCacheSettings cacheSettings, final Executor executor, final Clock clock) {
+        this.discoveryFinderClient = discoveryFinderClient;
+        this.cacheSettings = cacheSettings;
+        this.executor = executor;
+        this.clock = clock;
+    }
 
     /**
      * Get EDCs for BPN.
@@ -50,7 +105,7 @@ public class ConnectorEndpointsService {
      * @param bpn the BPN
      * @return list of EDC URLs
      */
-    @Cacheable(CONNECTOR_ENDPOINT_SERVICE_CACHE_NAME)
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public List<String> fetchConnectorEndpoints(final String bpn) {
 
         if (StringUtils.isBlank(bpn)) {
@@ -58,28 +113,180 @@ public class ConnectorEndpointsService {
             return List.of();
         }
 
-        log.info("Requesting connector endpoints for BPN {}", bpn);
-
-        final var onlyBpn = new DiscoveryFinderRequest(List.of("bpn"));
-        final var discoveryEndpoints = discoveryFinderClient.findDiscoveryEndpoints(onlyBpn).endpoints();
-        final var endpoints = discoveryEndpoints.stream()
-                                                .flatMap(
-                                                        discoveryEndpoint -> discoveryFinderClient.findConnectorEndpoints(
-                                                                                                          discoveryEndpoint.endpointAddress(), List.of(bpn))
-                                                                                                  .stream()
-                                                                                                  .filter(edcDiscoveryResult -> edcDiscoveryResult.bpn()
-                                                                                                                                                  .equals(bpn))
-                                                                                                  .map(EdcDiscoveryResult::connectorEndpoint))
-                                                .flatMap(List::stream)
-                                                .toList();
-
-        log.info("Discovered the following endpoints for BPN '{}': '{}'", bpn, String.join(", ", endpoints));
-        return endpoints;
+        final Optional<List<String>> cached = getCached(bpn, clock.instant());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final CompletableFuture<List<String>> discovery = new CompletableFuture<>();
+        final CompletableFuture<List<String>> running = inFlight.putIfAbsent(bpn, discovery);
+        if (running != null) {
+            log.debug("Waiting for running discovery of connector endpoints for BPN {}", bpn);
+            return join(running);
+        }
+
+        try {
+            final List<String> endpoints = discoverAndCache(List.of(bpn)).get(bpn);
+            discovery.complete(endpoints);
+            return endpoints;
+        } catch (RuntimeException e) {
+            discovery.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(bpn, discovery);
+        }
+    }
+
+    /**
+     * Get EDCs for multiple BPNs. All BPNs which are not cached are discovered together with one
+     * request per discovery endpoint, so the connector endpoints of a whole BOM level can be
+     * resolved at once.
+     *
+     * @param bpns the BPNs, blank BPNs are ignored
+     * @return EDC URLs per BPN in the order of the given BPNs, an empty list for BPNs without EDCs
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    public Map<String, List<String>> fetchConnectorEndpoints(final Collection<String> bpns) {
+        final List<String> distinctBpns = bpns.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        final Instant now = clock.instant();
+
+        final Map<String, List<String>> endpointsByBpn = new HashMap<>();
+        final List<String> uncachedBpns = new ArrayList<>();
+        distinctBpns.forEach(bpn -> getCached(bpn, now).ifPresentOrElse(
+                endpoints -> endpointsByBpn.put(bpn, endpoints), () -> uncachedBpns.add(bpn)));
+        log.debug("Found connector endpoints for {} of {} BPN(s) in cache", endpointsByBpn.size(),
+                distinctBpns.size());
+
+        if (!uncachedBpns.isEmpty()) {
+            endpointsByBpn.putAll(discoverAndCache(uncachedBpns));
+        }
+
+        final Map<String, List<String>> result = new LinkedHashMap<>();
+        distinctBpns.forEach(bpn -> result.put(bpn, endpointsByBpn.get(bpn)));
+        return result;
+    }
+
+    /**
+     * Removes expired entries and refreshes all entries which are due for refresh and were used
+     * since they have been loaded. The refresh queries the discovery endpoints once for all of
+     * these BPNs.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    @Scheduled(fixedDelayString = "${irs-edc-client.connectorEndpointService.refreshInterval:PT1M}")
+    public void refreshCacheValues() {
+        final Instant now = clock.instant();
+        cache.values().removeIf(cached -> !cached.isValidAt(now));
+
+        final List<String> dueBpns = cache.entrySet()
+                                          .stream()
+                                          .filter(entry -> entry.getValue().isDueForRefreshAt(now))
+                                          .map(Map.Entry::getKey)
+                                          .toList();
+        if (dueBpns.isEmpty()) {
+            return;
+        }
+
+        log.debug("Refreshing connector endpoints for {} BPN(s)", dueBpns.size());
+        try {
+            discoverAndCache(dueBpns);
+        } catch (RuntimeException e) {
+            log.warn("Refreshing connector endpoints failed, cached entries are used until they expire", e);
+        }
+    }
+
+    /* package */ int cacheSize() {
+        return cache.size();
+    }
+
+    private Optional<List<String>> getCached(final String bpn, final Instant now) {
+        final CachedEndpoints cached = cache.get(bpn);
+        if (cached == null || !cached.isValidAt(now)) {
+            return Optional.empty();
+        }
+        cached.lastAccess.set(now);
+        return Optional.of(cached.endpoints);
+    }
+
+    private Map<String, List<String>> discoverAndCache(final List<String> bpns) {
+        log.info("Requesting connector endpoints for BPN(s) {}", bpns);
+
+        final Map<String, List<String>> discovered = discover(bpns);
+        final Instant now = clock.instant();
+        discovered.forEach((bpn, endpoints) -> {
+            log.info("Discovered the following endpoints for BPN '{}': '{}'", bpn, String.join(", ", endpoints));
+            cache.put(bpn, new CachedEndpoints(endpoints, now,
+                    jittered(endpoints.isEmpty() ? cacheSettings.emptyResultTtl() : cacheSettings.ttl()),
+                    cacheSettings.refreshAhead()));
+        });
+        return discovered;
+    }
+
+    /**
+     * Queries all discovery endpoints in parallel. The results keep the order of the discovery
+     * endpoints.
+     */
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    private Map<String, List<String>> discover(final List<String> bpns) {
+        final var discoveryEndpoints = discoveryFinderClient.findDiscoveryEndpoints(ONLY_BPN).endpoints();
+        final var results = discoveryEndpoints.stream()
+                                              .map(discoveryEndpoint -> CompletableFuture.supplyAsync(
+                                                      () -> discoveryFinderClient.findConnectorEndpoints(
+                                                              discoveryEndpoint.endpointAddress(), bpns), executor))
+                                              .toList();
+
+        final Map<String, List<String>> endpointsByBpn = new LinkedHashMap<>();
+        bpns.forEach(bpn -> endpointsByBpn.put(bpn, List.of()));
+        results.stream()
+               .map(ConnectorEndpointsService::join)
+               .flatMap(List::stream)
+               .forEach(result -> endpointsByBpn.computeIfPresent(result.bpn(),
+                       (bpn, endpoints) -> Stream.concat(endpoints.stream(), result.connectorEndpoint().stream())
+                                                 .toList()));
+        return endpointsByBpn;
+    }
+
+    private Duration jittered(final Duration ttl) {
+        final double factor = 1 - cacheSettings.jitter() * ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis((long) (ttl.toMillis() * factor));
     }
 
-    @CacheEvict(value = CONNECTOR_ENDPOINT_SERVICE_CACHE_NAME, allEntries = true)
-    @Scheduled(fixedRateString = "${irs-edc-client.connectorEndpointService.cacheTTL}")
-    public void evictCachesValues() {
-        log.debug("Clearing \"{}\" cache.", CONNECTOR_ENDPOINT_SERVICE_CACHE_NAME);
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Connector endpoints of one BPN with their own expiration and refresh time.
+     */
+    private static final class CachedEndpoints {
+
+        private final List<String> endpoints;
+        private final Instant loadedAt;
+        private final Instant refreshAt;
+        private final Instant expiresAt;
+        private final AtomicReference<Instant> lastAccess;
+
+        /* package */ CachedEndpoints(final List<String> endpoints, final Instant loadedAt, final Duration ttl,
+                final double refreshAhead) {
+            this.endpoints = endpoints;
+            this.loadedAt = loadedAt;
+            this.refreshAt = loadedAt.plusMillis((long) (ttl.toMillis() * refreshAhead));
+            this.expiresAt = loadedAt.plus(ttl);
+            this.lastAccess = new AtomicReference<>(loadedAt);
+        }
+
+        /* package */ boolean isValidAt(final Instant instant) {
+            return instant.isBefore(expiresAt);
+        }
+
+        /* package */ boolean isDueForRefreshAt(final Instant instant) {
+            return !instant.isBefore(refreshAt) && lastAccess.get().isAfter(loadedAt);
+        }
     }
 }
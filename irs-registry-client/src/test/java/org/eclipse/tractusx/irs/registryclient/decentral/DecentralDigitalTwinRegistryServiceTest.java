@@ -30,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -96,7 +97,7 @@ class DecentralDigitalTwinRegistryServiceTest {
             final var endpointDataReference = endpointDataReference("url.to.host");
             final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
 
-            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("address"));
 
             final var endpointDataRefFutures = List.of(completedFuture(endpointDataReference));
             when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(), any())).thenReturn(
@@ -123,7 +124,7 @@ class DecentralDigitalTwinRegistryServiceTest {
             final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
 
             final List<String> connectorEndpoints = List.of("address1", "address2");
-            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(connectorEndpoints);
+            when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(connectorEndpoints);
 
             final var dataRefFutures = List.of( //
                     completedFuture(endpointDataReference("url.to.host1")), //
@@ -159,7 +160,7 @@ class DecentralDigitalTwinRegistryServiceTest {
             final var lookupShellsResponse = LookupShellsResponse.builder().result(emptyList()).build();
 
             final List<String> connectorEndpoints = List.of("address");
-            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(connectorEndpoints);
+            when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(connectorEndpoints);
 
             final var dataRefFutures = List.of(completedFuture(endpointDataReference("url.to.host")));
             when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(
@@ -226,7 +227,7 @@ class DecentralDigitalTwinRegistryServiceTest {
             final var lookupShellsResponse = LookupShellsResponse.builder()
                                                                  .result(List.of(digitalTwinRegistryKey.shellId()))
                                                                  .build();
-            when(connectorEndpointsService.fetchConnectorEndpoints(any())).thenReturn(List.of("address"));
+            when(connectorEndpointsService.fetchConnectorEndpoints(anyString())).thenReturn(List.of("address"));
             when(endpointDataForConnectorsService.createFindEndpointDataForConnectorsFutures(anyList(), any())).thenReturn(
                     dataRefFutures);
             when(decentralDigitalTwinRegistryClient.getAllAssetAdministrationShellIdsByAssetLink(any(),
@@ -24,19 +24,39 @@
 package org.eclipse.tractusx.irs.registryclient.discovery;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.web.client.RestClientException;
 
 class ConnectorEndpointsServiceTest {
 
     private final DiscoveryFinderClient essDiscoveryFinderClient = Mockito.mock(DiscoveryFinderClient.class);
     private final ConnectorEndpointsService service = new ConnectorEndpointsService(essDiscoveryFinderClient);
+    private final Clock clock = Mockito.mock(Clock.class);
+    private final ConnectorEndpointsCacheSettings cacheSettings = new ConnectorEndpointsCacheSettings(
+            Duration.ofMinutes(100), Duration.ofMinutes(10), 0, 0.8);
+    private final ConnectorEndpointsService cachingService = new ConnectorEndpointsService(essDiscoveryFinderClient,
+            cacheSettings, Runnable::run, clock);
 
     @Test
     void shouldFindConnectorEndpoints() {
@@ -59,18 +79,186 @@ class ConnectorEndpointsServiceTest {
     @Test
     void shouldReturnEmptyListOnMissingBpn() {
         // when
-        final List<String> actualConnectors = service.fetchConnectorEndpoints(null);
+        final List<String> actualConnectors = service.fetchConnectorEndpoints((String) null);
 
         // then
         assertThat(actualConnectors).isNotNull().isEmpty();
     }
 
+    @Test
+    void shouldServeConnectorEndpointsFromCache() {
+        // given
+        givenTimeIs(0);
+        givenDiscoveryEndpoint("address1");
+        given(essDiscoveryFinderClient.findConnectorEndpoints("address1", List.of("BPN123"))).willReturn(
+                List.of(createResult(List.of("connector1"))));
+
+        // when
+        cachingService.fetchConnectorEndpoints("BPN123");
+        givenTimeIs(99);
+        final List<String> actualConnectors = cachingService.fetchConnectorEndpoints("BPN123");
+
+        // then
+        assertThat(actualConnectors).containsExactly("connector1");
+        verify(essDiscoveryFinderClient, times(1)).findConnectorEndpoints(anyString(), any());
+    }
+
+    @Test
+    void shouldCacheEmptyResultForShorterTime() {
+        // given
+        givenTimeIs(0);
+        givenDiscoveryEndpoint("address1");
+        given(essDiscoveryFinderClient.findConnectorEndpoints("address1", List.of("BPN123"))).willReturn(List.of());
+
+        // when
+        cachingService.fetchConnectorEndpoints("BPN123");
+        givenTimeIs(9);
+        cachingService.fetchConnectorEndpoints("BPN123");
+        givenTimeIs(10);
+        final List<String> actualConnectors = cachingService.fetchConnectorEndpoints("BPN123");
+
+        // then
+        assertThat(actualConnectors).isEmpty();
+        verify(essDiscoveryFinderClient, times(2)).findConnectorEndpoints(anyString(), any());
+    }
+
+    @Test
+    void shouldNotCacheFailedDiscovery() {
+        // given
+        givenTimeIs(0);
+        givenDiscoveryEndpoint("address1");
+        given(essDiscoveryFinderClient.findConnectorEndpoints("address1", List.of("BPN123"))).willThrow(
+                new RestClientException("unavailable")).willReturn(List.of(createResult(List.of("connector1"))));
+
+        // when
+        assertThatThrownBy(() -> cachingService.fetchConnectorEndpoints("BPN123")).isInstanceOf(
+                RestClientException.class);
+        final List<String> actualConnectors = cachingService.fetchConnectorEndpoints("BPN123");
+
+        // then
+        assertThat(actualConnectors).containsExactly("connector1");
+    }
+
+    @Test
+    void shouldRefreshEntriesInUseInOneBatchBeforeTheyExpire() {
+        // given
+        givenTimeIs(0);
+        givenDiscoveryEndpoint("address1");
+        given(essDiscoveryFinderClient.findConnectorEndpoints(eq("address1"), any())).willReturn(
+                List.of(createResult("BPN1", List.of("connector1")), createResult("BPN2", List.of("connector2")),
+                        createResult("BPN3", List.of("connector3"))));
+        cachingService.fetchConnectorEndpoints("BPN1");
+        cachingService.fetchConnectorEndpoints("BPN2");
+        cachingService.fetchConnectorEndpoints("BPN3");
+
+        // when
+        givenTimeIs(50);
+        cachingService.fetchConnectorEndpoints("BPN1");
+        cachingService.fetchConnectorEndpoints("BPN2");
+        givenTimeIs(80);
+        cachingService.refreshCacheValues();
+        givenTimeIs(120);
+        final List<String> actualConnectors = cachingService.fetchConnectorEndpoints("BPN1");
+
+        // then
+        assertThat(actualConnectors).containsExactly("connector1");
+        verify(essDiscoveryFinderClient).findConnectorEndpoints(eq("address1"),
+                argThat(bpns -> bpns.size() == 2 && bpns.containsAll(List.of("BPN1", "BPN2"))));
+        verify(essDiscoveryFinderClient, times(4)).findConnectorEndpoints(anyString(), any());
+    }
+
+    @Test
+    void shouldRemoveExpiredEntries() {
+        // given
+        givenTimeIs(0);
+        givenDiscoveryEndpoint("address1");
+        given(essDiscoveryFinderClient.findConnectorEndpoints("address1", List.of("BPN123"))).willReturn(
+                List.of(createResult(List.of("connector1"))));
+        cachingService.fetchConnectorEndpoints("BPN123");
+
+        // when
+        givenTimeIs(100);
+        cachingService.refreshCacheValues();
+
+        // then
+        assertThat(cachingService.cacheSize()).isZero();
+        verify(essDiscoveryFinderClient, times(1)).findConnectorEndpoints(anyString(), any());
+    }
+
+    @Test
+    void shouldQueryDiscoveryEndpointsInParallel() throws InterruptedException {
+        // given
+        final var executor = Executors.newFixedThreadPool(2);
+        final var parallelService = new ConnectorEndpointsService(essDiscoveryFinderClient, cacheSettings, executor,
+                Clock.systemUTC());
+        final CountDownLatch bothCalled = new CountDownLatch(2);
+        given(essDiscoveryFinderClient.findDiscoveryEndpoints(any())).willReturn(
+                new DiscoveryResponse(List.of(createEndpoint("address1"), createEndpoint("address2"))));
+        given(essDiscoveryFinderClient.findConnectorEndpoints(anyString(), any())).willAnswer(invocation -> {
+            bothCalled.countDown();
+            // only returns if the other discovery endpoint is queried at the same time
+            final boolean parallel = bothCalled.await(5, TimeUnit.SECONDS);
+            return parallel ? List.of(createResult(List.of(invocation.getArgument(0, String.class)))) : List.of();
+        });
+
+        // when
+        final List<String> actualConnectors = parallelService.fetchConnectorEndpoints("BPN123");
+
+        // then
+        assertThat(actualConnectors).containsExactly("address1", "address2");
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldDiscoverAllUncachedBpnsWithOneRequest() {
+        // given
+        givenTimeIs(0);
+        givenDiscoveryEndpoint("address1");
+        given(essDiscoveryFinderClient.findConnectorEndpoints("address1", List.of("BPN1"))).willReturn(
+                List.of(createResult("BPN1", List.of("connector1"))));
+        given(essDiscoveryFinderClient.findConnectorEndpoints("address1", List.of("BPN3", "BPN2"))).willReturn(
+                List.of(createResult("BPN2", List.of("connector2"))));
+        cachingService.fetchConnectorEndpoints("BPN1");
+
+        // when
+        final Map<String, List<String>> actualConnectors = cachingService.fetchConnectorEndpoints(
+                List.of("BPN3", "BPN1", "BPN2", "BPN3", " "));
+
+        // then
+        assertThat(actualConnectors).containsExactly(entry("BPN3", List.of()), entry("BPN1", List.of("connector1")),
+                entry("BPN2", List.of("connector2")));
+        assertThat(cachingService.fetchConnectorEndpoints("BPN2")).containsExactly("connector2");
+        verify(essDiscoveryFinderClient, times(2)).findConnectorEndpoints(anyString(), any());
+    }
+
+    @Test
+    void shouldNotQueryDiscoveryForBlankBpn() {
+        // when
+        cachingService.fetchConnectorEndpoints(" ");
+
+        // then
+        verify(essDiscoveryFinderClient, never()).findDiscoveryEndpoints(any());
+    }
+
+    private void givenTimeIs(final long minutes) {
+        given(clock.instant()).willReturn(Instant.EPOCH.plus(Duration.ofMinutes(minutes)));
+    }
+
+    private void givenDiscoveryEndpoint(final String endpointAddress) {
+        given(essDiscoveryFinderClient.findDiscoveryEndpoints(any())).willReturn(
+                new DiscoveryResponse(List.of(createEndpoint(endpointAddress))));
+    }
+
     private DiscoveryEndpoint createEndpoint(final String endpointAddress) {
         return new DiscoveryEndpoint("test-endpoint", "desc", endpointAddress, "docs", "resId");
     }
 
     private EdcDiscoveryResult createResult(final List<String> connectors) {
-        return new EdcDiscoveryResult("BPN123", connectors);
+        return createResult("BPN123", connectors);
+    }
+
+    private EdcDiscoveryResult createResult(final String bpn, final List<String> connectors) {
+        return new EdcDiscoveryResult(bpn, connectors);
     }
 
 }
\ No newline at end of file